@@ -2,15 +2,18 @@ package io.tracee;
 
 import io.tracee.spi.TraceeBackendProvider;
 
+import java.lang.ref.WeakReference;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.*;
 
 class BackendProviderResolver {
 
-	// We should use weak references for our cache. otherwise we block class unloading.
-	private static volatile Map<ClassLoader, Set<TraceeBackendProvider>> providersPerClassloader =
-			new WeakHashMap<ClassLoader, Set<TraceeBackendProvider>>();
+	private static final Object CACHE_LOCK = new Object();
+
+	// Readers scan the current array without locking. Writers replace it under the CACHE_LOCK, so that concurrent
+	// updates can not get lost. Classloaders are only weakly referenced, otherwise we block class unloading.
+	private static volatile CacheEntry[] providersPerClassloader = new CacheEntry[0];
 
 	/**
 	 * Find correct backend provider for the current context classloader. If no context classloader is available, a
@@ -19,36 +22,35 @@ class BackendProviderResolver {
 	 * @return A bunch of TraceeBackendProvider registered and available in the current classloader
 	 */
 	public Set<TraceeBackendProvider> getBackendProviders() {
-		// Create a working copy of Cache. Reference is updated upon cache update.
-		final Map<ClassLoader, Set<TraceeBackendProvider>> cacheCopy = providersPerClassloader;
-
 		// Try to determine TraceeBackendProvider by context classloader. Fallback: use classloader of class.
-		Set<TraceeBackendProvider> providerFromContextClassLoader = getTraceeProviderFromClassloader(cacheCopy,
-				GetClassLoader.fromContext());
+		Set<TraceeBackendProvider> providerFromContextClassLoader = getTraceeProviderFromClassloader(GetClassLoader.fromContext());
 		if (!providerFromContextClassLoader.isEmpty()) {
 			return providerFromContextClassLoader;
 		} else {
-			return getTraceeProviderFromClassloader(cacheCopy, GetClassLoader.fromClass(BackendProviderResolver.class));
+			return getTraceeProviderFromClassloader(GetClassLoader.fromClass(BackendProviderResolver.class));
 		}
 	}
 
 	/**
 	 * Search for TraceeBackendProvider in the given classloader. The result is stored in a cache with the classloader
 	 * as (weak) key. If no backendProvider could be found a special type of collection is stored in cache and is returned.
+	 * Each classloader is only searched once, unless the garbage collector cleared the cached providers.
 	 *
-	 * @param cacheCopy   Working copy of the current cache (copy-on-write-cache)
 	 * @param classLoader the classloader we've to search for TraceeBackendProvider
 	 * @return A BackendProviderSet if we found at least one provider. Otherwise we return an EmptyBackendProviderSet.
 	 */
-	private Set<TraceeBackendProvider> getTraceeProviderFromClassloader(
-			final Map<ClassLoader,
-			Set<TraceeBackendProvider>> cacheCopy,
-			final ClassLoader classLoader) {
+	private Set<TraceeBackendProvider> getTraceeProviderFromClassloader(final ClassLoader classLoader) {
 		// use cache to get TraceeBackendProvider or empty results from old lookups
-		Set<TraceeBackendProvider> classLoaderProviders = cacheCopy.get(classLoader);
+		Set<TraceeBackendProvider> classLoaderProviders = lookupCache(providersPerClassloader, classLoader);
 		if (isLookupNeeded(classLoaderProviders)) {
-			classLoaderProviders = loadProviders(classLoader);
-			updatedCache(classLoader, classLoaderProviders);
+			synchronized (CACHE_LOCK) {
+				// another thread may have searched the classloader while we were waiting
+				classLoaderProviders = lookupCache(providersPerClassloader, classLoader);
+				if (isLookupNeeded(classLoaderProviders)) {
+					classLoaderProviders = loadProviders(classLoader);
+					updateCache(classLoader, classLoaderProviders);
+				}
+			}
 		}
 
 		return classLoaderProviders;
@@ -63,18 +65,33 @@ class BackendProviderResolver {
 		return classLoaderProviders == null || !(classLoaderProviders instanceof EmptyBackendProviderSet) && classLoaderProviders.isEmpty();
 	}
 
+	private static Set<TraceeBackendProvider> lookupCache(final CacheEntry[] cache, final ClassLoader classLoader) {
+		for (CacheEntry entry : cache) {
+			if (entry.isFor(classLoader)) {
+				return entry.providers;
+			}
+		}
+		return null;
+	}
+
 	/*
-	 * Helper method to update the static class cache
+	 * Helper method to update the static class cache. Must be called while holding the CACHE_LOCK.
+	 * Entries of collected classloaders are dropped on the way.
 	 */
-	private void updatedCache(final ClassLoader classLoader, final Set<TraceeBackendProvider> provider) {
-		final Map<ClassLoader, Set<TraceeBackendProvider>> copyOnWriteMap =
-				new WeakHashMap<ClassLoader, Set<TraceeBackendProvider>>(providersPerClassloader);
+	private static void updateCache(final ClassLoader classLoader, final Set<TraceeBackendProvider> provider) {
+		final CacheEntry[] cache = providersPerClassloader;
+		final List<CacheEntry> copyOnWrite = new ArrayList<CacheEntry>(cache.length + 1);
+		for (CacheEntry entry : cache) {
+			if (!entry.isFor(classLoader) && !entry.isCollected()) {
+				copyOnWrite.add(entry);
+			}
+		}
 		if (!provider.isEmpty()) {
-			copyOnWriteMap.put(classLoader, new BackendProviderSet(provider));
+			copyOnWrite.add(new CacheEntry(classLoader, new BackendProviderSet(provider)));
 		} else {
-			copyOnWriteMap.put(classLoader, new EmptyBackendProviderSet());
+			copyOnWrite.add(new CacheEntry(classLoader, new EmptyBackendProviderSet()));
 		}
-		providersPerClassloader = copyOnWriteMap;
+		providersPerClassloader = copyOnWrite.toArray(new CacheEntry[copyOnWrite.size()]);
 	}
 
 	/**
@@ -144,6 +161,28 @@ class BackendProviderResolver {
 		}
 	}
 
+	private static final class CacheEntry {
+		// null for the bootstrap classloader
+		private final WeakReference<ClassLoader> classLoader;
+		private final Set<TraceeBackendProvider> providers;
+
+		private CacheEntry(final ClassLoader classLoader, final Set<TraceeBackendProvider> providers) {
+			this.classLoader = classLoader != null ? new WeakReference<ClassLoader>(classLoader) : null;
+			this.providers = providers;
+		}
+
+		boolean isFor(final ClassLoader candidate) {
+			if (classLoader == null) {
+				return candidate == null;
+			}
+			return candidate != null && classLoader.get() == candidate;
+		}
+
+		boolean isCollected() {
+			return classLoader != null && classLoader.get() == null;
+		}
+	}
+
 	static final class EmptyBackendProviderSet extends AbstractSet<TraceeBackendProvider> {
 
 		@Override
@@ -0,0 +1,81 @@
+package io.tracee;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A context key that has been registered up front and has a stable index. Backends keep the values of registered
+ * keys in slots per thread, so {@link TraceeBackend#get(ContextKey)} and {@link TraceeBackend#put(ContextKey, String)}
+ * access them by index without hashing the key.
+ * <p/>
+ * A registered key and its name denote the same entry, e.g. {@code backend.get(ContextKey.REQUEST_ID)} returns the
+ * value that has been put with {@code backend.put(TraceeConstants.REQUEST_ID_KEY, value)}.
+ */
+public final class ContextKey {
+
+	private static final ConcurrentMap<String, ContextKey> KEYS_BY_NAME = new ConcurrentHashMap<String, ContextKey>();
+
+	private static volatile List<ContextKey> registeredKeys = Collections.emptyList();
+
+	public static final ContextKey REQUEST_ID = register(TraceeConstants.REQUEST_ID_KEY);
+	public static final ContextKey SESSION_ID = register(TraceeConstants.SESSION_ID_KEY);
+
+	private final String name;
+	private final int index;
+
+	private ContextKey(String name, int index) {
+		this.name = name;
+		this.index = index;
+	}
+
+	/**
+	 * Registers a key. Keys should be registered once, e.g. as constant, because every registered key takes a slot in
+	 * the context of every thread.
+	 *
+	 * @param name a non-null identifier
+	 * @return the new key or the key that has already been registered with that name
+	 */
+	public static synchronized ContextKey register(String name) {
+		if (name == null) throw new NullPointerException("null keys are not allowed.");
+		final ContextKey registered = KEYS_BY_NAME.get(name);
+		if (registered != null) {
+			return registered;
+		}
+		final List<ContextKey> keys = new ArrayList<ContextKey>(registeredKeys);
+		final ContextKey key = new ContextKey(name, keys.size());
+		keys.add(key);
+		registeredKeys = Collections.unmodifiableList(keys);
+		KEYS_BY_NAME.put(name, key);
+		return key;
+	}
+
+	/**
+	 * @return the registered key with the given name or {@code null} if there is none.
+	 */
+	public static ContextKey forName(String name) {
+		return name != null ? KEYS_BY_NAME.get(name) : null;
+	}
+
+	/**
+	 * @return all registered keys. The position of a key in the list is its index.
+	 */
+	public static List<ContextKey> registeredKeys() {
+		return registeredKeys;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public int getIndex() {
+		return index;
+	}
+
+	@Override
+	public String toString() {
+		return name;
+	}
+}
@@ -2,6 +2,7 @@ package io.tracee;
 
 import io.tracee.spi.TraceeBackendProvider;
 
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -9,6 +10,14 @@ import java.util.Set;
 
 public final class Tracee {
 
+	private static final BackendProviderResolver RESOLVER = new BackendProviderResolver();
+
+	/**
+	 * A provider together with the context classloader it has been resolved for. It is only replaced once its
+	 * classloader or provider has been collected, so threads with other context classloaders do not evict it.
+	 */
+	private static volatile ResolvedProvider lastResolved;
+
     private Tracee() {
 
     }
@@ -17,9 +26,10 @@ public final class Tracee {
      * Returns the TraceeBackend. There must be exactly one Tracee implementation on the classpath.
      * <p/>
      * A call to this method may initially block to lookup the implementation with a {@link java.util.ServiceLoader}.
-     * The call to this method from multiple threads with different class loader contexts may initially be slow
-     * because cache writes can overwrite each other in concurrent situations and some class loader contexts may have
-     * to be looked up multiple times. This allows the lookup mechanism to completely avoid synchronization.
+     * Each class loader context is looked up only once, later calls take the provider from a cache that is read
+     * without locking. For the context class loader that has been resolved first, a call costs a single volatile read.
+     * Other context class loaders are looked up in the per class loader cache of the resolver, which is read without
+     * locking as well.
      * <p/>
      * TODO: If you run a nested class loader environment (like a servlet container) and have the Tracee Api in a top
      * level class loader and a Tracee Implementation in a child class loader, the child class loader may not be unloaded
@@ -28,10 +38,26 @@ public final class Tracee {
      * reference to its TraceeBackendProvider.
      */
     public static TraceeBackend getBackend() {
-		return getBackend(new BackendProviderResolver());
+		final ClassLoader contextClassLoader = BackendProviderResolver.GetClassLoader.fromContext();
+		final ResolvedProvider resolved = lastResolved;
+		if (resolved != null) {
+			final TraceeBackendProvider provider = resolved.getProvider(contextClassLoader);
+			if (provider != null) {
+				return provider.provideBackend();
+			}
+		}
+		final TraceeBackendProvider provider = getBackendProvider(RESOLVER);
+		if (resolved == null || resolved.isCleared()) {
+			lastResolved = new ResolvedProvider(contextClassLoader, provider);
+		}
+		return provider.provideBackend();
     }
 
 	protected static TraceeBackend getBackend(final BackendProviderResolver resolver) {
+		return getBackendProvider(resolver).provideBackend();
+	}
+
+	private static TraceeBackendProvider getBackendProvider(final BackendProviderResolver resolver) {
 		final Set<TraceeBackendProvider> backendProviders;
 		try {
 			backendProviders = resolver.getBackendProviders();
@@ -50,6 +76,38 @@ public final class Tracee {
 			throw new TraceeException("Multiple TracEE backend providers found. Don't know which one of the following to use: "
 					+ providerClassNames);
 		}
-		return backendProviders.iterator().next().provideBackend();
+		return backendProviders.iterator().next();
+	}
+
+	/**
+	 * References the classloader and provider weakly, they are kept alive by the cache of the
+	 * {@link BackendProviderResolver} as long as they are in use.
+	 */
+	private static final class ResolvedProvider {
+		// null for the bootstrap classloader
+		private final WeakReference<ClassLoader> classLoader;
+		private final WeakReference<TraceeBackendProvider> provider;
+
+		private ResolvedProvider(final ClassLoader classLoader, final TraceeBackendProvider provider) {
+			this.classLoader = classLoader != null ? new WeakReference<ClassLoader>(classLoader) : null;
+			this.provider = new WeakReference<TraceeBackendProvider>(provider);
+		}
+
+		/**
+		 * @return the provider if it has been resolved for the given classloader and is still available, {@code null} otherwise.
+		 */
+		TraceeBackendProvider getProvider(final ClassLoader contextClassLoader) {
+			if (classLoader == null ? contextClassLoader != null : contextClassLoader == null || classLoader.get() != contextClassLoader) {
+				return null;
+			}
+			return provider.get();
+		}
+
+		/**
+		 * @return {@code true} if the classloader or the provider has been collected, so this entry can never match again.
+		 */
+		boolean isCleared() {
+			return provider.get() == null || classLoader != null && classLoader.get() == null;
+		}
 	}
 }
@@ -41,6 +41,15 @@ public interface TraceeBackend {
      */
     String get(String key);
 
+	/**
+	 * Gets the value of a registered key. Same as {@code get(key.getName())}, but the value is read from its slot
+	 * without hashing the key.
+	 * @param key a non-null registered key.
+	 * @return the stored value or {@code null} if not present.
+	 * @since 0.10
+	 */
+	String get(ContextKey key);
+
 	int size();
 
 	/**
@@ -48,6 +57,16 @@ public interface TraceeBackend {
 	 */
 	void clear();
 
+	/**
+	 * Opens a unit of work. The unit of work starts with the current context. Changes that are made until the returned
+	 * scope is closed are undone on close, so a binding that is invoked within another unit of work (e.g. a JMS
+	 * listener called on a request thread) does not wipe the context of the enclosing one like {@link #clear()} would.
+	 *
+	 * @return the scope that restores the context of the time it has been opened when it is closed
+	 * @since 0.10
+	 */
+	TraceeScope openScope();
+
     /**
      * @return {@code true} if this backend contains no context information, {@code false} otherwise.
      */
@@ -61,11 +80,18 @@ public interface TraceeBackend {
      */
     void put(String key, String value);
 
+	/**
+	 * Puts the value of a registered key into this backend. Same as {@code put(key.getName(), value)}.
+	 * @throws java.lang.NullPointerException if key or value is {@code null}
+	 * @since 0.10
+	 */
+	void put(ContextKey key, String value);
+
     void putAll(Map<? extends String, ? extends String> m);
 
 	/**
-	 * Generates a copy of the TraceeBackend. All keys known by TracEE are fetched from underlying MDC and copied to
-	 * this map.
+	 * Returns the current state of the TraceeBackend. Implementations may return a shared read-only snapshot instead
+	 * of copying their state, so callers must not modify the returned map.
 	 * @return immutable copy of the current state of the backend
 	 */
 	Map<String, String> copyToMap();
@@ -3,29 +3,58 @@ package io.tracee;
 /**
  * Abstraction interface for tracee logging.
  * It will resolve to the underlying logging system.
+ * <p/>
+ * The parameterized methods take a format with {@code {}} placeholders like SLF4J. The message is only built if the
+ * level is enabled, so callers neither have to concatenate strings nor check the level themselves. If the last
+ * argument is a {@link Throwable} without a placeholder, it is logged as exception. They have been added in 0.10, so
+ * own implementations have to implement them since then.
  */
 public interface TraceeLogger {
     void debug(final String message);
 
     void debug(final String message, final Throwable t);
 
+	void debug(final String format, final Object argument);
+
+	void debug(final String format, final Object argument1, final Object argument2);
+
+	void debug(final String format, final Object... arguments);
+
 	boolean isDebugEnabled();
 
     void error(final String message);
 
     void error(final String message, final Throwable t);
 
+	void error(final String format, final Object argument);
+
+	void error(final String format, final Object argument1, final Object argument2);
+
+	void error(final String format, final Object... arguments);
+
 	boolean isErrorEnabled();
 
     void info(final String message);
 
     void info(final String message, final Throwable t);
 
+	void info(final String format, final Object argument);
+
+	void info(final String format, final Object argument1, final Object argument2);
+
+	void info(final String format, final Object... arguments);
+
 	boolean isInfoEnabled();
 
     void warn(final String message);
 
     void warn(final String message, final Throwable t);
 
+	void warn(final String format, final Object argument);
+
+	void warn(final String format, final Object argument1, final Object argument2);
+
+	void warn(final String format, final Object... arguments);
+
 	boolean isWarnEnabled();
 }
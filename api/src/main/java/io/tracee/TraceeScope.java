@@ -0,0 +1,21 @@
+package io.tracee;
+
+import java.io.Closeable;
+
+/**
+ * A unit of work that has been opened by {@link TraceeBackend#openScope()}. Closing a scope restores the context that
+ * was present when the scope has been opened, so the context of an enclosing unit of work on the same thread survives.
+ * <p/>
+ * Scopes have to be closed on the thread that opened them and in the reverse order of opening. Use a
+ * try-with-resources statement or a finally block. Closing on another thread has no effect.
+ *
+ * @since 0.10
+ */
+public interface TraceeScope extends Closeable {
+
+	/**
+	 * Restores the context of the time the scope has been opened. Closing a scope a second time has no effect.
+	 */
+	@Override
+	void close();
+}
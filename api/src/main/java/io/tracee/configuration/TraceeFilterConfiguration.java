@@ -1,5 +1,7 @@
 package io.tracee.configuration;
 
+import io.tracee.spi.IdGenerator;
+
 import java.util.Map;
 
 public interface TraceeFilterConfiguration {
@@ -60,7 +62,8 @@ public interface TraceeFilterConfiguration {
 
 	/**
 	 * Returns a map that is a filtered copy of the given {@code unfiltered} map. It contains only keys, that
-	 * are allowed to be processed on this channel.
+	 * are allowed to be processed on this channel. If all keys are allowed, implementations may return the
+	 * {@code unfiltered} map itself, so callers must not modify the result.
 	 */
 	Map<String, String> filterDeniedParams(Map<String, String> unfiltered, Channel channel);
 
@@ -77,6 +80,14 @@ public interface TraceeFilterConfiguration {
 	 */
 	int generatedRequestIdLength();
 
+	/**
+	 * Added in 0.10.0 without a default, implementations of earlier versions have to add it. Return
+	 * {@code io.tracee.IdGenerators.random()} to keep the previous request identifiers.
+	 *
+	 * @return the generator of request identifiers.
+	 */
+	IdGenerator requestIdGenerator();
+
 
 	boolean shouldGenerateSessionId();
 
@@ -0,0 +1,17 @@
+package io.tracee.spi;
+
+/**
+ * Generates identifiers like the request id.
+ * <p/>
+ * The generator that is used for request ids is selected by the {@code requestIdGenerator} property of the TracEE
+ * configuration. Custom implementations are referenced by their class name and need a public default constructor.
+ * Implementations must be thread safe.
+ */
+public interface IdGenerator {
+
+	/**
+	 * @param length the number of characters of the generated identifier
+	 * @return a new identifier consisting of alphanumeric characters
+	 */
+	String generate(int length);
+}
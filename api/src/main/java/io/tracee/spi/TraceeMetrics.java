@@ -0,0 +1,54 @@
+package io.tracee.spi;
+
+/**
+ * Records what TracEE costs at runtime: the TPIC headers that are parsed and rendered, the context keys that are
+ * denied by the filter configuration and the time spent in the bindings.
+ * <p/>
+ * TracEE core looks up an implementation once with a {@link java.util.ServiceLoader}. Without one it uses a default
+ * implementation that keeps lock-free counters and publishes them as JMX MBean.
+ * <p/>
+ * The methods are called on every request, so implementations must not block or allocate. Implementations must be
+ * thread safe.
+ */
+public interface TraceeMetrics {
+
+	/**
+	 * The bindings whose time is recorded by {@link #bindingTime(Binding, long)}.
+	 */
+	enum Binding {
+		SERVLET, JAXRS2, JAXWS, CXF, JMS, HTTPCLIENT, HTTPCOMPONENTS, SPRINGMVC, SPRINGHTTPCLIENT
+	}
+
+	/**
+	 * A TPIC header of an incoming message has been parsed.
+	 *
+	 * @param length the length of the header, which equals its size in bytes since TPIC headers are URL encoded
+	 */
+	void headerParsed(int length);
+
+	/**
+	 * A TPIC header has been rendered for an outgoing message.
+	 *
+	 * @param length the length of the header, which equals its size in bytes since TPIC headers are URL encoded
+	 */
+	void headerRendered(int length);
+
+	/**
+	 * Context keys have been removed by the filter configuration since they may not pass a channel.
+	 *
+	 * @param count the number of removed keys
+	 */
+	void keysDenied(int count);
+
+	/**
+	 * A malformed {@code key=value} pair of a TPIC header has been skipped.
+	 */
+	void parseError();
+
+	/**
+	 * A binding has handled one of its callbacks, e.g. an incoming request or an outgoing response.
+	 *
+	 * @param nanos the time spent in the binding, not including the time of the intercepted call
+	 */
+	void bindingTime(Binding binding, long nanos);
+}
@@ -0,0 +1,40 @@
+package io.tracee;
+
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class ContextKeyTest {
+
+	@Test
+	public void wellKnownKeysAreRegistered() {
+		assertThat(ContextKey.forName(TraceeConstants.REQUEST_ID_KEY), is(sameInstance(ContextKey.REQUEST_ID)));
+		assertThat(ContextKey.forName(TraceeConstants.SESSION_ID_KEY), is(sameInstance(ContextKey.SESSION_ID)));
+	}
+
+	@Test
+	public void registeringANameTwiceReturnsTheSameKey() {
+		final ContextKey key = ContextKey.register("contextKeyTest.twice");
+		assertThat(ContextKey.register("contextKeyTest.twice"), is(sameInstance(key)));
+	}
+
+	@Test
+	public void indexIsThePositionInTheRegisteredKeys() {
+		final ContextKey key = ContextKey.register("contextKeyTest.index");
+		assertThat(ContextKey.registeredKeys().get(key.getIndex()), is(sameInstance(key)));
+	}
+
+	@Test
+	public void unregisteredNameHasNoKey() {
+		assertThat(ContextKey.forName("contextKeyTest.unregistered"), is(nullValue()));
+		assertThat(ContextKey.forName(null), is(nullValue()));
+	}
+
+	@Test(expected = NullPointerException.class)
+	public void registerRejectsNull() {
+		ContextKey.register(null);
+	}
+}
@@ -1,13 +1,23 @@
 package io.tracee;
 
 import io.tracee.spi.TraceeBackendProvider;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.mockito.Mockito;
 
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.Matchers.*;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -16,6 +26,9 @@ import static org.mockito.Mockito.when;
 
 public class TraceeTest {
 
+	@Rule
+	public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
 	@Test
 	public void constructorOfTraceeShouldBePrivate() throws Exception {
 		Constructor<Tracee> constructor = Tracee.class.getDeclaredConstructor();
@@ -86,6 +99,41 @@ public class TraceeTest {
 		assertThat(resolvedBackend, is(not(nullValue())));
 	}
 
+	@Test
+	public void backendRetrievalShouldLookupEachContextClassLoaderOnlyOnce() throws Exception {
+		final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		final ClassLoader firstClassLoader = classLoaderProviding(CountingBackendProvider.class);
+		final ClassLoader secondClassLoader = classLoaderProviding(CountingBackendProvider.class);
+		final int instancesBefore = CountingBackendProvider.INSTANCES.get();
+		try {
+			Thread.currentThread().setContextClassLoader(firstClassLoader);
+			final TraceeBackend first = Tracee.getBackend();
+			assertThat(Tracee.getBackend(), is(sameInstance(first)));
+
+			Thread.currentThread().setContextClassLoader(secondClassLoader);
+			assertThat(Tracee.getBackend(), is(not(sameInstance(first))));
+
+			Thread.currentThread().setContextClassLoader(firstClassLoader);
+			assertThat(Tracee.getBackend(), is(sameInstance(first)));
+			assertThat(CountingBackendProvider.INSTANCES.get() - instancesBefore, is(2));
+		} finally {
+			Thread.currentThread().setContextClassLoader(contextClassLoader);
+		}
+	}
+
+	private ClassLoader classLoaderProviding(Class<? extends TraceeBackendProvider> providerClass) throws IOException {
+		final File root = temporaryFolder.newFolder();
+		final File services = new File(root, "META-INF/services");
+		assertThat(services.mkdirs(), is(true));
+		final Writer writer = new OutputStreamWriter(new FileOutputStream(new File(services, TraceeBackendProvider.class.getName())), "UTF-8");
+		try {
+			writer.write(providerClass.getName());
+		} finally {
+			writer.close();
+		}
+		return new URLClassLoader(new URL[]{root.toURI().toURL()}, TraceeTest.class.getClassLoader());
+	}
+
 	private BackendProviderResolver createTestBackendResolverWith(Set<TraceeBackendProvider> backendProvider) {
 		final BackendProviderResolver testBackendProvider = Mockito.mock(BackendProviderResolver.class);
 		when(testBackendProvider.getBackendProviders()).thenReturn(backendProvider);
@@ -98,4 +146,19 @@ public class TraceeTest {
 			return Mockito.mock(TraceeBackend.class);
 		}
 	}
+
+	public static final class CountingBackendProvider implements TraceeBackendProvider {
+		static final AtomicInteger INSTANCES = new AtomicInteger();
+
+		private final TraceeBackend backend = Mockito.mock(TraceeBackend.class);
+
+		public CountingBackendProvider() {
+			INSTANCES.incrementAndGet();
+		}
+
+		@Override
+		public TraceeBackend provideBackend() {
+			return backend;
+		}
+	}
 }
@@ -1,16 +1,15 @@
 package io.tracee.backend.jbosslogging;
 
-import io.tracee.ThreadLocalHashSet;
+import io.tracee.ContextSnapshot;
+import io.tracee.ThreadLocalContext;
 import io.tracee.TraceeBackend;
 import io.tracee.spi.TraceeBackendProvider;
 
-import java.util.Set;
-
 public final class JbossLoggingTraceeBackendProvider implements TraceeBackendProvider {
 
-	private static final ThreadLocalHashSet<String> TRACEE_KEYS = new ThreadLocalHashSet<String>();
+	private static final ThreadLocal<ContextSnapshot> CONTEXT = ThreadLocalContext.create();
 
-    private final JbossLoggingTraceeBackend traceeContext = new JbossLoggingTraceeBackend(TRACEE_KEYS);
+    private final JbossLoggingTraceeBackend traceeContext = new JbossLoggingTraceeBackend(CONTEXT);
 
     @Override
     public TraceeBackend provideBackend() {
@@ -1,5 +1,6 @@
 package io.tracee.backend.jbosslogging;
 
+import io.tracee.LogMessage;
 import io.tracee.TraceeLogger;
 import org.jboss.logging.Logger;
 
@@ -22,6 +23,27 @@ final class JbossLoggingTraceeLogger implements TraceeLogger {
         logger.debug(message, t);
     }
 
+	@Override
+	public void debug(final String format, final Object argument) {
+		if (isDebugEnabled()) {
+			log(Logger.Level.DEBUG, LogMessage.format(format, argument));
+		}
+	}
+
+	@Override
+	public void debug(final String format, final Object argument1, final Object argument2) {
+		if (isDebugEnabled()) {
+			log(Logger.Level.DEBUG, LogMessage.format(format, argument1, argument2));
+		}
+	}
+
+	@Override
+	public void debug(final String format, final Object... arguments) {
+		if (isDebugEnabled()) {
+			log(Logger.Level.DEBUG, LogMessage.format(format, arguments));
+		}
+	}
+
 	@Override
 	public boolean isDebugEnabled() {
 		return logger.isDebugEnabled();
@@ -35,6 +57,27 @@ final class JbossLoggingTraceeLogger implements TraceeLogger {
         logger.error(message, t);
     }
 
+	@Override
+	public void error(final String format, final Object argument) {
+		if (isErrorEnabled()) {
+			log(Logger.Level.ERROR, LogMessage.format(format, argument));
+		}
+	}
+
+	@Override
+	public void error(final String format, final Object argument1, final Object argument2) {
+		if (isErrorEnabled()) {
+			log(Logger.Level.ERROR, LogMessage.format(format, argument1, argument2));
+		}
+	}
+
+	@Override
+	public void error(final String format, final Object... arguments) {
+		if (isErrorEnabled()) {
+			log(Logger.Level.ERROR, LogMessage.format(format, arguments));
+		}
+	}
+
 	@Override
 	public boolean isErrorEnabled() {
 		return logger.isEnabled(Logger.Level.ERROR);
@@ -48,6 +91,27 @@ final class JbossLoggingTraceeLogger implements TraceeLogger {
         logger.info(message, t);
     }
 
+	@Override
+	public void info(final String format, final Object argument) {
+		if (isInfoEnabled()) {
+			log(Logger.Level.INFO, LogMessage.format(format, argument));
+		}
+	}
+
+	@Override
+	public void info(final String format, final Object argument1, final Object argument2) {
+		if (isInfoEnabled()) {
+			log(Logger.Level.INFO, LogMessage.format(format, argument1, argument2));
+		}
+	}
+
+	@Override
+	public void info(final String format, final Object... arguments) {
+		if (isInfoEnabled()) {
+			log(Logger.Level.INFO, LogMessage.format(format, arguments));
+		}
+	}
+
 	@Override
 	public boolean isInfoEnabled() {
 		return logger.isInfoEnabled();
@@ -61,8 +125,33 @@ final class JbossLoggingTraceeLogger implements TraceeLogger {
         logger.warn(message, t);
     }
 
+	@Override
+	public void warn(final String format, final Object argument) {
+		if (isWarnEnabled()) {
+			log(Logger.Level.WARN, LogMessage.format(format, argument));
+		}
+	}
+
+	@Override
+	public void warn(final String format, final Object argument1, final Object argument2) {
+		if (isWarnEnabled()) {
+			log(Logger.Level.WARN, LogMessage.format(format, argument1, argument2));
+		}
+	}
+
+	@Override
+	public void warn(final String format, final Object... arguments) {
+		if (isWarnEnabled()) {
+			log(Logger.Level.WARN, LogMessage.format(format, arguments));
+		}
+	}
+
 	@Override
 	public boolean isWarnEnabled() {
 		return logger.isEnabled(Logger.Level.WARN);
 	}
+
+	private void log(final Logger.Level level, final LogMessage message) {
+		logger.log(level, message.getMessage(), message.getThrowable());
+	}
 }
@@ -1,6 +1,7 @@
 package io.tracee.backend.jbosslogging;
 
-import io.tracee.ThreadLocalHashSet;
+import io.tracee.ContextSnapshot;
+import io.tracee.ThreadLocalContext;
 import org.jboss.logging.MDC;
 import org.junit.Before;
 import org.junit.Test;
@@ -9,25 +10,26 @@ import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
-import static org.powermock.api.mockito.PowerMockito.when;
+import static org.mockito.Mockito.never;
 
 
 @RunWith(PowerMockRunner.class)
 @PrepareForTest(MDC.class)
 public class JbossLoggingMdcDelegationTest {
 
-	private final ThreadLocalHashSet<String> traceeKeys = new ThreadLocalHashSet<String>();
+	private final ThreadLocalContext context = new ThreadLocalContext();
 
-	private final JbossLoggingTraceeBackend unit = new JbossLoggingTraceeBackend(traceeKeys);
+	private final JbossLoggingTraceeBackend unit = new JbossLoggingTraceeBackend(context);
 
 	@Before
 	public void setup() {
-		traceeKeys.get().add("BB");
+		context.set(ContextSnapshot.copyOf(Collections.singletonMap("BB", "vBB")));
 		PowerMockito.mockStatic(MDC.class);
 	}
 
@@ -39,15 +41,15 @@ public class JbossLoggingMdcDelegationTest {
 	}
 
 	@Test
-	public void shouldReturnTrueIfKeyIsInMDC() {
-		when(MDC.get("BB")).thenReturn("vBB");
+	public void shouldReturnTrueIfKeyIsInContext() {
 		assertThat(unit.containsKey("BB"), is(true));
 	}
 
 	@Test
-	public void shouldReturnValueFromMDC() {
-		when(MDC.get("BB")).thenReturn("vBB");
+	public void shouldReturnValueFromContextWithoutReadingMDC() {
 		assertThat(unit.get("BB"), equalTo("vBB"));
+		PowerMockito.verifyStatic(never());
+		MDC.get("BB");
 	}
 
 	@Test
@@ -1,6 +1,6 @@
 package io.tracee.backend.jbosslogging;
 
-import io.tracee.ThreadLocalHashSet;
+import io.tracee.ThreadLocalContext;
 import org.junit.Test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -12,7 +12,7 @@ public class JbossLoggingTraceeBackendTest {
 
 	@Test
 	public void shouldProvideSlf4JBackend() {
-		final JbossLoggingTraceeBackend backend = new JbossLoggingTraceeBackend(new ThreadLocalHashSet<String>());
+		final JbossLoggingTraceeBackend backend = new JbossLoggingTraceeBackend(new ThreadLocalContext());
 		assertThat(backend.getLoggerFactory().getLogger(JbossLoggingTraceeBackendTest.class), is(not(nullValue())));
 	}
 }
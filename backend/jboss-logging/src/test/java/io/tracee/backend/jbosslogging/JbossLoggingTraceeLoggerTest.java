@@ -9,12 +9,20 @@ import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 public class JbossLoggingTraceeLoggerTest {
 
 	private static final String MESSAGE = "TEST";
 	private static final Exception EXCEPTION = new RuntimeException("My exception");
 
+	private static final Object UNFORMATTABLE = new Object() {
+		@Override
+		public String toString() {
+			throw new AssertionError("argument must not be formatted");
+		}
+	};
+
 	private Logger mockedLogger = mock(Logger.class);
 	private JbossLoggingTraceeLogger UNIT = new JbossLoggingTraceeLogger(mockedLogger);
 
@@ -89,4 +97,26 @@ public class JbossLoggingTraceeLoggerTest {
 		when(mockedLogger.isEnabled(eq(Logger.Level.ERROR))).thenReturn(true);
 		assertThat(UNIT.isErrorEnabled(), is(true));
 	}
+
+	@Test
+	public void logFormattedDebugMessageIfDebugIsEnabled() {
+		when(mockedLogger.isDebugEnabled()).thenReturn(true);
+		UNIT.debug("{} and {}", "A", "B");
+		verify(mockedLogger).log(Logger.Level.DEBUG, "A and B", (Throwable) null);
+	}
+
+	@Test
+	public void logFormattedErrorMessageWithTrailingException() {
+		when(mockedLogger.isEnabled(Logger.Level.ERROR)).thenReturn(true);
+		UNIT.error("Failed {}", "A", EXCEPTION);
+		verify(mockedLogger).log(Logger.Level.ERROR, "Failed A", EXCEPTION);
+	}
+
+	@Test
+	public void doNotFormatDebugMessageIfDebugIsDisabled() {
+		when(mockedLogger.isDebugEnabled()).thenReturn(false);
+		UNIT.debug("{}", UNFORMATTABLE);
+		verify(mockedLogger).isDebugEnabled();
+		verifyNoMoreInteractions(mockedLogger);
+	}
 }
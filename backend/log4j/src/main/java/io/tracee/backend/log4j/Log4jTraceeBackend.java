@@ -1,17 +1,20 @@
 package io.tracee.backend.log4j;
 
+import io.tracee.ContextSnapshot;
 import io.tracee.MDCLikeTraceeBackend;
 import io.tracee.TraceeLogger;
 import io.tracee.TraceeLoggerFactory;
 import org.apache.log4j.Logger;
 import org.apache.log4j.MDC;
 
-import java.util.Set;
+import java.util.Collection;
+import java.util.Hashtable;
+import java.util.Map;
 
 final class Log4jTraceeBackend extends MDCLikeTraceeBackend {
 
-	Log4jTraceeBackend(ThreadLocal<Set<String>> traceeKeys) {
-		super(traceeKeys, new TraceeLoggerFactory() {
+	Log4jTraceeBackend(ThreadLocal<ContextSnapshot> context) {
+		super(context, new TraceeLoggerFactory() {
 			@Override
 			public TraceeLogger getLogger(Class<?> clazz) {
 				return new Log4jTraceeLogger(Logger.getLogger(clazz));
@@ -19,15 +22,6 @@ final class Log4jTraceeBackend extends MDCLikeTraceeBackend {
 		});
 	}
 
-	@Override
-	protected String getFromMdc(String key) {
-		final Object mdcValue = MDC.get(key);
-		if (mdcValue == null) {
-			return null;
-		}
-		return String.valueOf(mdcValue);
-	}
-
 	@Override
 	protected void putToMdc(String key, String value) {
 		MDC.put(key, value);
@@ -37,4 +31,31 @@ final class Log4jTraceeBackend extends MDCLikeTraceeBackend {
 	protected void removeFromMdc(String key) {
 		MDC.remove(key);
 	}
+
+	/**
+	 * Writes to the hashtable of the current thread directly instead of looking it up for every entry. The hashtable
+	 * only exists after the first write to the MDC.
+	 */
+	@Override
+	protected void putAllToMdc(Map<String, String> entries) {
+		final Hashtable<String, Object> mdc = mdcOfCurrentThread();
+		if (mdc != null) {
+			mdc.putAll(entries);
+		} else {
+			super.putAllToMdc(entries);
+		}
+	}
+
+	@Override
+	protected void removeAllFromMdc(Collection<String> keys) {
+		final Hashtable<String, Object> mdc = mdcOfCurrentThread();
+		if (mdc != null) {
+			mdc.keySet().removeAll(keys);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Hashtable<String, Object> mdcOfCurrentThread() {
+		return (Hashtable<String, Object>) MDC.getContext();
+	}
 }
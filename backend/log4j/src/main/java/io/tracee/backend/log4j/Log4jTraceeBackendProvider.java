@@ -1,16 +1,15 @@
 package io.tracee.backend.log4j;
 
-import io.tracee.ThreadLocalHashSet;
+import io.tracee.ContextSnapshot;
+import io.tracee.ThreadLocalContext;
 import io.tracee.TraceeBackend;
 import io.tracee.spi.TraceeBackendProvider;
 
-import java.util.Set;
-
 public class Log4jTraceeBackendProvider implements TraceeBackendProvider {
 
-	private static final ThreadLocalHashSet<String> TRACEE_KEYS = new ThreadLocalHashSet<String>();
+	private static final ThreadLocal<ContextSnapshot> CONTEXT = ThreadLocalContext.create();
 
-	private final Log4jTraceeBackend log4jTraceeBackend = new Log4jTraceeBackend(TRACEE_KEYS);
+	private final Log4jTraceeBackend log4jTraceeBackend = new Log4jTraceeBackend(CONTEXT);
 
 	@Override
 	public final TraceeBackend provideBackend() {
@@ -1,6 +1,8 @@
 package io.tracee.backend.log4j;
 
+import io.tracee.LogMessage;
 import io.tracee.TraceeLogger;
+import org.apache.log4j.Level;
 import org.apache.log4j.Logger;
 import org.apache.log4j.Priority;
 
@@ -23,6 +25,27 @@ final class Log4jTraceeLogger implements TraceeLogger {
 		this.logger.debug(message, t);
 	}
 
+	@Override
+	public void debug(final String format, final Object argument) {
+		if (isDebugEnabled()) {
+			log(Level.DEBUG, LogMessage.format(format, argument));
+		}
+	}
+
+	@Override
+	public void debug(final String format, final Object argument1, final Object argument2) {
+		if (isDebugEnabled()) {
+			log(Level.DEBUG, LogMessage.format(format, argument1, argument2));
+		}
+	}
+
+	@Override
+	public void debug(final String format, final Object... arguments) {
+		if (isDebugEnabled()) {
+			log(Level.DEBUG, LogMessage.format(format, arguments));
+		}
+	}
+
 	@Override
 	public boolean isDebugEnabled() {
 		return logger.isDebugEnabled();
@@ -36,6 +59,27 @@ final class Log4jTraceeLogger implements TraceeLogger {
 		this.logger.error(message, t);
 	}
 
+	@Override
+	public void error(final String format, final Object argument) {
+		if (isErrorEnabled()) {
+			log(Level.ERROR, LogMessage.format(format, argument));
+		}
+	}
+
+	@Override
+	public void error(final String format, final Object argument1, final Object argument2) {
+		if (isErrorEnabled()) {
+			log(Level.ERROR, LogMessage.format(format, argument1, argument2));
+		}
+	}
+
+	@Override
+	public void error(final String format, final Object... arguments) {
+		if (isErrorEnabled()) {
+			log(Level.ERROR, LogMessage.format(format, arguments));
+		}
+	}
+
 	@Override
 	public boolean isErrorEnabled() {
 		return logger.isEnabledFor(Priority.ERROR);
@@ -49,6 +93,27 @@ final class Log4jTraceeLogger implements TraceeLogger {
 		this.logger.info(message, t);
 	}
 
+	@Override
+	public void info(final String format, final Object argument) {
+		if (isInfoEnabled()) {
+			log(Level.INFO, LogMessage.format(format, argument));
+		}
+	}
+
+	@Override
+	public void info(final String format, final Object argument1, final Object argument2) {
+		if (isInfoEnabled()) {
+			log(Level.INFO, LogMessage.format(format, argument1, argument2));
+		}
+	}
+
+	@Override
+	public void info(final String format, final Object... arguments) {
+		if (isInfoEnabled()) {
+			log(Level.INFO, LogMessage.format(format, arguments));
+		}
+	}
+
 	@Override
 	public boolean isInfoEnabled() {
 		return logger.isInfoEnabled();
@@ -62,10 +127,33 @@ final class Log4jTraceeLogger implements TraceeLogger {
 		this.logger.warn(message, t);
 	}
 
+	@Override
+	public void warn(final String format, final Object argument) {
+		if (isWarnEnabled()) {
+			log(Level.WARN, LogMessage.format(format, argument));
+		}
+	}
+
+	@Override
+	public void warn(final String format, final Object argument1, final Object argument2) {
+		if (isWarnEnabled()) {
+			log(Level.WARN, LogMessage.format(format, argument1, argument2));
+		}
+	}
+
+	@Override
+	public void warn(final String format, final Object... arguments) {
+		if (isWarnEnabled()) {
+			log(Level.WARN, LogMessage.format(format, arguments));
+		}
+	}
+
 	@Override
 	public boolean isWarnEnabled() {
 		return logger.isEnabledFor(Priority.WARN);
 	}
 
-
+	private void log(final Level level, final LogMessage message) {
+		logger.log(level, message.getMessage(), message.getThrowable());
+	}
 }
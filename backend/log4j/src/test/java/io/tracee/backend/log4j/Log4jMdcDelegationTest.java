@@ -1,6 +1,7 @@
 package io.tracee.backend.log4j;
 
-import io.tracee.ThreadLocalHashSet;
+import io.tracee.ContextSnapshot;
+import io.tracee.ThreadLocalContext;
 import org.apache.log4j.MDC;
 import org.junit.Before;
 import org.junit.Test;
@@ -9,24 +10,27 @@ import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Hashtable;
 import java.util.Map;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.never;
 import static org.powermock.api.mockito.PowerMockito.when;
 
 @RunWith(PowerMockRunner.class)
 @PrepareForTest(MDC.class)
 public class Log4jMdcDelegationTest {
 
-	private final ThreadLocalHashSet<String> traceeKeys = new ThreadLocalHashSet<String>();
+	private final ThreadLocalContext context = new ThreadLocalContext();
 
-	private final Log4jTraceeBackend unit = new Log4jTraceeBackend(traceeKeys);
+	private final Log4jTraceeBackend unit = new Log4jTraceeBackend(context);
 
 	@Before
 	public void setup() {
-		traceeKeys.get().add("BB");
+		context.set(ContextSnapshot.copyOf(Collections.singletonMap("BB", "vBB")));
 		PowerMockito.mockStatic(MDC.class);
 	}
 
@@ -38,15 +42,15 @@ public class Log4jMdcDelegationTest {
 	}
 
 	@Test
-	public void shouldReturnTrueIfKeyIsInMDC() {
-		when(MDC.get("BB")).thenReturn("vBB");
+	public void shouldReturnTrueIfKeyIsInContext() {
 		assertThat(unit.containsKey("BB"), is(true));
 	}
 
 	@Test
-	public void shouldReturnValueFromMDC() {
-		when(MDC.get("BB")).thenReturn("vBB");
+	public void shouldReturnValueFromContextWithoutReadingMDC() {
 		assertThat(unit.get("BB"), equalTo("vBB"));
+		PowerMockito.verifyStatic(never());
+		MDC.get("BB");
 	}
 
 	@Test
@@ -55,4 +59,39 @@ public class Log4jMdcDelegationTest {
 		PowerMockito.verifyStatic();
 		MDC.remove("BB");
 	}
+
+	@Test
+	public void shouldPutSeveralEntriesToHashtableOfMDC() {
+		final Hashtable<String, Object> mdc = new Hashtable<String, Object>();
+		when(MDC.getContext()).thenReturn(mdc);
+		final Map<String, String> entries = new HashMap<String, String>();
+		entries.put("A", "vA");
+		entries.put("B", "vB");
+		unit.putAll(entries);
+		assertThat(mdc, is(equalTo((Map<String, Object>) new HashMap<String, Object>(entries))));
+		PowerMockito.verifyStatic(never());
+		MDC.put("A", "vA");
+	}
+
+	@Test
+	public void shouldFallBackToPutIfMDCHasNoHashtableYet() {
+		final Map<String, String> entries = new HashMap<String, String>();
+		entries.put("A", "vA");
+		entries.put("B", "vB");
+		unit.putAll(entries);
+		PowerMockito.verifyStatic();
+		MDC.put("A", "vA");
+		PowerMockito.verifyStatic();
+		MDC.put("B", "vB");
+	}
+
+	@Test
+	public void shouldRemoveAllEntriesFromHashtableOfMDC() {
+		final Hashtable<String, Object> mdc = new Hashtable<String, Object>();
+		mdc.put("BB", "vBB");
+		mdc.put("foreign", "value");
+		when(MDC.getContext()).thenReturn(mdc);
+		unit.clear();
+		assertThat(mdc, is(equalTo((Map<String, Object>) Collections.<String, Object>singletonMap("foreign", "value"))));
+	}
 }
@@ -1,5 +1,6 @@
 package io.tracee.backend.log4j;
 
+import org.apache.log4j.Level;
 import org.apache.log4j.Logger;
 import org.apache.log4j.Priority;
 import org.junit.Test;
@@ -10,12 +11,20 @@ import static org.hamcrest.Matchers.is;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 public class Log4jTraceeLoggerTest {
 
 	private static final String MESSAGE = "TEST";
 	private static final Exception EXCEPTION = new RuntimeException("My exception");
 
+	private static final Object UNFORMATTABLE = new Object() {
+		@Override
+		public String toString() {
+			throw new AssertionError("argument must not be formatted");
+		}
+	};
+
 	private Logger mockedLogger = Mockito.mock(Logger.class);
 
 	private Log4jTraceeLogger UNIT = new Log4jTraceeLogger(mockedLogger);
@@ -92,4 +101,26 @@ public class Log4jTraceeLoggerTest {
 		when(mockedLogger.isEnabledFor(eq(Priority.ERROR))).thenReturn(true);
 		assertThat(UNIT.isErrorEnabled(), is(true));
 	}
+
+	@Test
+	public void logFormattedDebugMessageIfDebugIsEnabled() {
+		when(mockedLogger.isDebugEnabled()).thenReturn(true);
+		UNIT.debug("{} and {}", "A", "B");
+		verify(mockedLogger).log(Level.DEBUG, "A and B", (Throwable) null);
+	}
+
+	@Test
+	public void logFormattedErrorMessageWithTrailingException() {
+		when(mockedLogger.isEnabledFor(Priority.ERROR)).thenReturn(true);
+		UNIT.error("Failed {}", "A", EXCEPTION);
+		verify(mockedLogger).log(Level.ERROR, "Failed A", EXCEPTION);
+	}
+
+	@Test
+	public void doNotFormatDebugMessageIfDebugIsDisabled() {
+		when(mockedLogger.isDebugEnabled()).thenReturn(false);
+		UNIT.debug("{}", UNFORMATTABLE);
+		verify(mockedLogger).isDebugEnabled();
+		verifyNoMoreInteractions(mockedLogger);
+	}
 }
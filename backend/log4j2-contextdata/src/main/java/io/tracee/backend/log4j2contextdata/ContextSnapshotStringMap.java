@@ -0,0 +1,160 @@
+package io.tracee.backend.log4j2contextdata;
+
+import io.tracee.ContextSnapshot;
+import org.apache.logging.log4j.util.BiConsumer;
+import org.apache.logging.log4j.util.ReadOnlyStringMap;
+import org.apache.logging.log4j.util.SortedArrayStringMap;
+import org.apache.logging.log4j.util.StringMap;
+import org.apache.logging.log4j.util.TriConsumer;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Frozen {@link StringMap} view of a {@link ContextSnapshot}. Snapshots never change, so log events can hold the view
+ * instead of a copy of the context, even when they are handed to the appender thread of an async logger.
+ * <p/>
+ * Iterating with {@link #forEach(BiConsumer)} or {@link #forEach(TriConsumer, Object)} allocates nothing.
+ */
+final class ContextSnapshotStringMap implements StringMap {
+
+	private static final long serialVersionUID = 1L;
+
+	private static final ContextSnapshot.EntryVisitor<BiConsumer<String, Object>> BI_CONSUMER =
+			(key, value, action) -> action.accept(key, value);
+
+	private static final ContextSnapshot.EntryVisitor<TriConsumerCall> TRI_CONSUMER =
+			(key, value, call) -> call.action.accept(key, value, call.state);
+
+	/**
+	 * Carries the action and its state of {@link #forEach(TriConsumer, Object)} to the constant visitor.
+	 */
+	private static final ThreadLocal<TriConsumerCall> TRI_CONSUMER_CALLS = ThreadLocal.withInitial(TriConsumerCall::new);
+
+	private final transient ContextSnapshot snapshot;
+
+	ContextSnapshotStringMap(ContextSnapshot snapshot) {
+		this.snapshot = snapshot;
+	}
+
+	ContextSnapshot getSnapshot() {
+		return snapshot;
+	}
+
+	@Override
+	public Map<String, String> toMap() {
+		return new HashMap<>(snapshot.asMap());
+	}
+
+	@Override
+	public boolean containsKey(String key) {
+		return snapshot.containsKey(key);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <V> void forEach(BiConsumer<String, ? super V> action) {
+		snapshot.forEach(BI_CONSUMER, (BiConsumer<String, Object>) (BiConsumer) action);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <V, S> void forEach(TriConsumer<String, ? super V, S> action, S state) {
+		final TriConsumerCall call = TRI_CONSUMER_CALLS.get();
+		// the action may iterate another map of this thread
+		final TriConsumer<String, Object, Object> enclosingAction = call.action;
+		final Object enclosingState = call.state;
+		call.action = (TriConsumer<String, Object, Object>) (TriConsumer) action;
+		call.state = state;
+		try {
+			snapshot.forEach(TRI_CONSUMER, call);
+		} finally {
+			call.action = enclosingAction;
+			call.state = enclosingState;
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <V> V getValue(String key) {
+		return (V) snapshot.get(key);
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return snapshot.isEmpty();
+	}
+
+	@Override
+	public int size() {
+		return snapshot.size();
+	}
+
+	@Override
+	public void clear() {
+		throw frozen();
+	}
+
+	@Override
+	public void putAll(ReadOnlyStringMap source) {
+		throw frozen();
+	}
+
+	@Override
+	public void putValue(String key, Object value) {
+		throw frozen();
+	}
+
+	@Override
+	public void remove(String key) {
+		throw frozen();
+	}
+
+	@Override
+	public void freeze() {
+		// always frozen
+	}
+
+	@Override
+	public boolean isFrozen() {
+		return true;
+	}
+
+	private static UnsupportedOperationException frozen() {
+		return new UnsupportedOperationException("The TracEE context of a log event is read-only");
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof ReadOnlyStringMap)) {
+			return false;
+		}
+		final ReadOnlyStringMap other = (ReadOnlyStringMap) obj;
+		return size() == other.size() && snapshot.asMap().equals(other.toMap());
+	}
+
+	@Override
+	public int hashCode() {
+		return snapshot.asMap().hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return snapshot.asMap().toString();
+	}
+
+	/**
+	 * The snapshot is not serializable, events are serialized with a copy of the context.
+	 */
+	private Object writeReplace() {
+		return new SortedArrayStringMap(this);
+	}
+
+	private static final class TriConsumerCall {
+		private TriConsumer<String, Object, Object> action;
+		private Object state;
+	}
+}
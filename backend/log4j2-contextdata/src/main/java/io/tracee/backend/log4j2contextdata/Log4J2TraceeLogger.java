@@ -0,0 +1,135 @@
+package io.tracee.backend.log4j2contextdata;
+
+import io.tracee.TraceeLogger;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * TraceeLogger Abstraction for Log4J2.
+ * <p/>
+ * Same as the logger of tracee-log4j2, which can not be a dependency of this module since its backend provider would
+ * be found as well. Log4j 2.8 has overloads for one and two parameters, so this one needs no level checks to avoid the
+ * argument arrays.
+ */
+final class Log4J2TraceeLogger implements TraceeLogger {
+
+	private final Logger logger;
+
+	public Log4J2TraceeLogger(Logger logger) {
+		this.logger = logger;
+	}
+
+	public void debug(final String message) {
+		logger.debug(message);
+	}
+
+	public void debug(final String message, final Throwable t) {
+		logger.debug(message, t);
+	}
+
+	@Override
+	public void debug(final String format, final Object argument) {
+		logger.debug(format, argument);
+	}
+
+	@Override
+	public void debug(final String format, final Object argument1, final Object argument2) {
+		logger.debug(format, argument1, argument2);
+	}
+
+	@Override
+	public void debug(final String format, final Object... arguments) {
+		logger.debug(format, arguments);
+	}
+
+	@Override
+	public boolean isDebugEnabled() {
+		return logger.isDebugEnabled();
+	}
+
+	public void error(final String message) {
+		logger.error(message);
+	}
+
+	public void error(final String message, final Throwable t) {
+		logger.error(message, t);
+	}
+
+	@Override
+	public void error(final String format, final Object argument) {
+		logger.error(format, argument);
+	}
+
+	@Override
+	public void error(final String format, final Object argument1, final Object argument2) {
+		logger.error(format, argument1, argument2);
+	}
+
+	@Override
+	public void error(final String format, final Object... arguments) {
+		logger.error(format, arguments);
+	}
+
+	@Override
+	public boolean isErrorEnabled() {
+		return logger.isErrorEnabled();
+	}
+
+	public void info(final String message) {
+		logger.info(message);
+	}
+
+	public void info(final String message, final Throwable t) {
+		logger.info(message, t);
+	}
+
+	@Override
+	public void info(final String format, final Object argument) {
+		logger.info(format, argument);
+	}
+
+	@Override
+	public void info(final String format, final Object argument1, final Object argument2) {
+		logger.info(format, argument1, argument2);
+	}
+
+	@Override
+	public void info(final String format, final Object... arguments) {
+		logger.info(format, arguments);
+	}
+
+	@Override
+	public boolean isInfoEnabled() {
+		return logger.isInfoEnabled();
+	}
+
+	public void warn(final String message) {
+		logger.warn(message);
+	}
+
+	public void warn(final String message, final Throwable t) {
+		logger.warn(message, t);
+	}
+
+	@Override
+	public void warn(final String format, final Object argument) {
+		logger.warn(format, argument);
+	}
+
+	@Override
+	public void warn(final String format, final Object argument1, final Object argument2) {
+		logger.warn(format, argument1, argument2);
+	}
+
+	@Override
+	public void warn(final String format, final Object... arguments) {
+		logger.warn(format, arguments);
+	}
+
+	@Override
+	public boolean isWarnEnabled() {
+		return logger.isWarnEnabled();
+	}
+
+
+}
@@ -0,0 +1,34 @@
+package io.tracee.backend.log4j2contextdata;
+
+import io.tracee.ContextSnapshot;
+import io.tracee.MDCLikeTraceeBackend;
+import io.tracee.TraceeLogger;
+import io.tracee.TraceeLoggerFactory;
+import org.apache.logging.log4j.LogManager;
+
+/**
+ * Backend for log4j2 that does not mirror the context into the {@link org.apache.logging.log4j.ThreadContext}. Log
+ * events read the context with the {@link TraceeContextDataInjector} instead, so a write to the context is a single
+ * thread local update.
+ */
+final class Log4j2ContextDataTraceeBackend extends MDCLikeTraceeBackend {
+
+	Log4j2ContextDataTraceeBackend(ThreadLocal<ContextSnapshot> context) {
+		super(context, new TraceeLoggerFactory() {
+			@Override
+			public TraceeLogger getLogger(Class<?> clazz) {
+				return new Log4J2TraceeLogger(LogManager.getLogger(clazz));
+			}
+		});
+	}
+
+	@Override
+	protected void putToMdc(String key, String value) {
+		// log events read the context with the TraceeContextDataInjector
+	}
+
+	@Override
+	protected void removeFromMdc(String key) {
+		// log events read the context with the TraceeContextDataInjector
+	}
+}
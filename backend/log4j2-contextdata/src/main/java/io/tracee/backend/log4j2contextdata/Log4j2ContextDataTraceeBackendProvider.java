@@ -0,0 +1,42 @@
+package io.tracee.backend.log4j2contextdata;
+
+import io.tracee.ContextSnapshot;
+import io.tracee.ThreadLocalContext;
+import io.tracee.TraceeBackend;
+import io.tracee.spi.TraceeBackendProvider;
+import org.apache.logging.log4j.core.impl.ContextDataInjectorFactory;
+
+/**
+ * Provides the backend and checks that log4j2 uses the {@link TraceeContextDataInjector}. Without it, log events would
+ * not contain the context, so a missing or overridden {@code log4j2.ContextDataInjector} setting is logged as warning.
+ */
+public class Log4j2ContextDataTraceeBackendProvider implements TraceeBackendProvider {
+
+	/**
+	 * Shared with the {@link TraceeContextDataInjector} that log4j2 instantiates on its own.
+	 */
+	static final ThreadLocal<ContextSnapshot> CONTEXT = ThreadLocalContext.create();
+
+	private final TraceeBackend traceeBackend = new Log4j2ContextDataTraceeBackend(CONTEXT);
+
+	public Log4j2ContextDataTraceeBackendProvider() {
+		if (!isInjectorRegistered()) {
+			traceeBackend.getLoggerFactory().getLogger(Log4j2ContextDataTraceeBackendProvider.class).warn(
+					"log4j2 does not use the {}, log events will not contain the TracEE context. Set the system property "
+							+ "log4j2.ContextDataInjector={}", TraceeContextDataInjector.class.getSimpleName(),
+					TraceeContextDataInjector.class.getName());
+		}
+	}
+
+	/**
+	 * @return {@code true} if log4j2 creates a {@link TraceeContextDataInjector} for its log events
+	 */
+	static boolean isInjectorRegistered() {
+		return ContextDataInjectorFactory.createInjector() instanceof TraceeContextDataInjector;
+	}
+
+	@Override
+	public final TraceeBackend provideBackend() {
+		return traceeBackend;
+	}
+}
@@ -0,0 +1,90 @@
+package io.tracee.backend.log4j2contextdata;
+
+import io.tracee.ContextSnapshot;
+import org.apache.logging.log4j.ThreadContext;
+import org.apache.logging.log4j.core.ContextDataInjector;
+import org.apache.logging.log4j.core.config.Property;
+import org.apache.logging.log4j.util.ReadOnlyStringMap;
+import org.apache.logging.log4j.util.SortedArrayStringMap;
+import org.apache.logging.log4j.util.StringMap;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hands the TracEE context to log events without a copy in the {@link ThreadContext}.
+ * <p/>
+ * A log event gets a frozen view of the current {@link ContextSnapshot}. The view is created once per snapshot and
+ * thread and reused until the context changes, so logging with an unchanged context allocates nothing. This also
+ * holds for the garbage-free mode of log4j2. Properties of the logger configuration and entries that have been put
+ * into the {@link ThreadContext} directly are copied into the reusable map of the event together with the context.
+ * <p/>
+ * This module registers the injector with the {@code log4j2.ContextDataInjector} property in its
+ * {@code log4j2.component.properties}.
+ */
+public class TraceeContextDataInjector implements ContextDataInjector {
+
+	private static final ContextSnapshot.EntryVisitor<StringMap> PUT_VALUE = (key, value, target) -> target.putValue(key, value);
+
+	private final ThreadLocal<ContextSnapshot> context;
+
+	private final ThreadLocal<ContextSnapshotStringMap> views = ThreadLocal.withInitial(() -> new ContextSnapshotStringMap(ContextSnapshot.EMPTY));
+
+	public TraceeContextDataInjector() {
+		this(Log4j2ContextDataTraceeBackendProvider.CONTEXT);
+	}
+
+	TraceeContextDataInjector(ThreadLocal<ContextSnapshot> context) {
+		this.context = context;
+	}
+
+	@Override
+	public StringMap injectContextData(List<Property> properties, StringMap reusable) {
+		final ContextSnapshot snapshot = context.get();
+		final boolean hasProperties = properties != null && !properties.isEmpty();
+		if (!hasProperties && ThreadContext.isEmpty()) {
+			return viewOf(snapshot);
+		}
+		// events that held a view before come without a reusable map
+		final StringMap contextData = reusable != null && !reusable.isFrozen() ? reusable : new SortedArrayStringMap();
+		if (hasProperties) {
+			for (int i = 0; i < properties.size(); i++) {
+				final Property property = properties.get(i);
+				contextData.putValue(property.getName(), property.getValue());
+			}
+		}
+		copyThreadContextTo(contextData);
+		snapshot.forEach(PUT_VALUE, contextData);
+		return contextData;
+	}
+
+	@Override
+	public ReadOnlyStringMap rawContextData() {
+		final ContextSnapshot snapshot = context.get();
+		if (ThreadContext.isEmpty()) {
+			return viewOf(snapshot);
+		}
+		final StringMap contextData = new SortedArrayStringMap();
+		copyThreadContextTo(contextData);
+		snapshot.forEach(PUT_VALUE, contextData);
+		return contextData;
+	}
+
+	private ContextSnapshotStringMap viewOf(ContextSnapshot snapshot) {
+		final ContextSnapshotStringMap view = views.get();
+		if (view.getSnapshot() == snapshot) {
+			return view;
+		}
+		final ContextSnapshotStringMap updatedView = new ContextSnapshotStringMap(snapshot);
+		views.set(updatedView);
+		return updatedView;
+	}
+
+	private static void copyThreadContextTo(StringMap target) {
+		if (!ThreadContext.isEmpty()) {
+			for (Map.Entry<String, String> entry : ThreadContext.getImmutableContext().entrySet()) {
+				target.putValue(entry.getKey(), entry.getValue());
+			}
+		}
+	}
+}
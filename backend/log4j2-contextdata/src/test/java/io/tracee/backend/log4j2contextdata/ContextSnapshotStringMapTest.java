@@ -0,0 +1,109 @@
+package io.tracee.backend.log4j2contextdata;
+
+import io.tracee.ContextSnapshot;
+import org.apache.logging.log4j.util.BiConsumer;
+import org.apache.logging.log4j.util.SortedArrayStringMap;
+import org.apache.logging.log4j.util.TriConsumer;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class ContextSnapshotStringMapTest {
+
+	private final ContextSnapshotStringMap unit = new ContextSnapshotStringMap(ContextSnapshot.EMPTY.with("A", "vA").with("B", "vB"));
+
+	@Test
+	public void shouldReadFromSnapshot() {
+		assertThat(unit.<String>getValue("A"), is("vA"));
+		assertThat(unit.containsKey("B"), is(true));
+		assertThat(unit.containsKey("C"), is(false));
+		assertThat(unit.size(), is(2));
+		assertThat(unit.isEmpty(), is(false));
+	}
+
+	@Test
+	public void toMapShouldReturnMutableCopy() {
+		final Map<String, String> copy = unit.toMap();
+		copy.put("C", "vC");
+		assertThat(unit.containsKey("C"), is(false));
+	}
+
+	@Test
+	public void shouldIterateWithBiConsumer() {
+		final Map<String, String> visited = new HashMap<>();
+		unit.forEach((BiConsumer<String, String>) visited::put);
+		assertThat(visited, is(equalTo(unit.toMap())));
+	}
+
+	@Test
+	public void shouldIterateWithTriConsumerAndState() {
+		final List<String> visited = new ArrayList<>();
+		unit.forEach((TriConsumer<String, String, List<String>>) (key, value, state) -> state.add(key + "=" + value), visited);
+		assertThat(visited, is(equalTo(Arrays.asList("A=vA", "B=vB"))));
+	}
+
+	@Test
+	public void shouldIterateNestedWithTriConsumer() {
+		final List<String> visited = new ArrayList<>();
+		final TriConsumer<String, String, List<String>> inner = (key, value, state) -> state.add(key);
+		unit.forEach((TriConsumer<String, String, List<String>>) (key, value, state) -> {
+			state.add("outer " + key);
+			unit.forEach(inner, state);
+		}, visited);
+		assertThat(visited, is(equalTo(Arrays.asList("outer A", "A", "B", "outer B", "A", "B"))));
+	}
+
+	@Test
+	public void shouldBeFrozen() {
+		assertThat(unit.isFrozen(), is(true));
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void shouldRejectPutValue() {
+		unit.putValue("C", "vC");
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void shouldRejectRemove() {
+		unit.remove("A");
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void shouldRejectClear() {
+		unit.clear();
+	}
+
+	@Test
+	public void shouldEqualMapWithSameEntries() {
+		final SortedArrayStringMap other = new SortedArrayStringMap();
+		other.putValue("A", "vA");
+		other.putValue("B", "vB");
+		assertThat(unit.equals(other), is(true));
+		assertThat(unit.equals(new ContextSnapshotStringMap(ContextSnapshot.EMPTY.with("B", "vB").with("A", "vA"))), is(true));
+		assertThat(unit.equals(new ContextSnapshotStringMap(ContextSnapshot.EMPTY)), is(false));
+	}
+
+	@Test
+	public void shouldBeSerializedAsCopy() throws Exception {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(unit);
+		}
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			final Object copy = in.readObject();
+			assertThat(copy, is(instanceOf(SortedArrayStringMap.class)));
+			assertThat(((SortedArrayStringMap) copy).toMap(), is(equalTo(unit.toMap())));
+		}
+	}
+}
@@ -0,0 +1,22 @@
+package io.tracee.backend.log4j2contextdata;
+
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+
+public class Log4j2ContextDataTraceeBackendProviderTest {
+
+	private final Log4j2ContextDataTraceeBackendProvider unit = new Log4j2ContextDataTraceeBackendProvider();
+
+	@Test
+	public void testProvideBackend() {
+		assertThat(unit.provideBackend(), notNullValue());
+	}
+
+	@Test
+	public void injectorIsRegisteredByComponentProperties() {
+		assertThat(Log4j2ContextDataTraceeBackendProvider.isInjectorRegistered(), is(true));
+	}
+}
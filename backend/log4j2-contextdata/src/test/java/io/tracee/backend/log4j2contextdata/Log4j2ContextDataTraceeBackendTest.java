@@ -0,0 +1,36 @@
+package io.tracee.backend.log4j2contextdata;
+
+import io.tracee.ThreadLocalContext;
+import org.apache.logging.log4j.ThreadContext;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+
+public class Log4j2ContextDataTraceeBackendTest {
+
+	private final ThreadLocalContext context = new ThreadLocalContext();
+
+	private final Log4j2ContextDataTraceeBackend unit = new Log4j2ContextDataTraceeBackend(context);
+
+	@After
+	public void clearContext() {
+		unit.clear();
+	}
+
+	@Test
+	public void shouldProvideLog4j2Logger() {
+		assertThat(unit.getLoggerFactory().getLogger(Log4j2ContextDataTraceeBackendTest.class), is(not(nullValue())));
+	}
+
+	@Test
+	public void shouldKeepContextOutOfThreadContext() {
+		unit.put("A", "vA");
+		assertThat(unit.get("A"), is("vA"));
+		assertThat(context.get().get("A"), is("vA"));
+		assertThat(ThreadContext.get("A"), is(nullValue()));
+	}
+}
@@ -0,0 +1,30 @@
+package io.tracee.backend.log4j2contextdata;
+
+import io.tracee.Tracee;
+import io.tracee.TraceeBackend;
+import org.apache.logging.log4j.ThreadContext;
+import org.apache.logging.log4j.core.ContextDataInjector;
+import org.apache.logging.log4j.core.impl.ContextDataInjectorFactory;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+public class Log4j2ContextDataTraceeContextProviderIT {
+
+	@Test
+	public void testLoadProviderAndInjectContextIntoLogEvents() {
+		final TraceeBackend backend = Tracee.getBackend();
+		backend.put("FOO", "BAR");
+		assertThat(ThreadContext.get("FOO"), nullValue());
+
+		final ContextDataInjector injector = ContextDataInjectorFactory.createInjector();
+		assertThat(injector, is(instanceOf(TraceeContextDataInjector.class)));
+		assertThat(injector.rawContextData().<String>getValue("FOO"), equalTo("BAR"));
+		backend.remove("FOO");
+		assertThat(injector.rawContextData().<String>getValue("FOO"), nullValue());
+	}
+}
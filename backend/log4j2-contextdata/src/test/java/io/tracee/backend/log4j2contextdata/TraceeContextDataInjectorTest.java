@@ -0,0 +1,104 @@
+package io.tracee.backend.log4j2contextdata;
+
+import io.tracee.ContextSnapshot;
+import io.tracee.ThreadLocalContext;
+import org.apache.logging.log4j.ThreadContext;
+import org.apache.logging.log4j.core.config.Property;
+import org.apache.logging.log4j.util.SortedArrayStringMap;
+import org.apache.logging.log4j.util.StringMap;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class TraceeContextDataInjectorTest {
+
+	private final ThreadLocalContext context = new ThreadLocalContext();
+
+	private final TraceeContextDataInjector unit = new TraceeContextDataInjector(context);
+
+	private final List<Property> properties = Collections.singletonList(Property.createProperty("P", "vP"));
+
+	@Before
+	public void setUpContext() {
+		context.set(ContextSnapshot.EMPTY.with("A", "vA"));
+	}
+
+	@After
+	public void clearThreadContext() {
+		ThreadContext.clearMap();
+	}
+
+	@Test
+	public void shouldInjectFrozenViewOfContext() {
+		final StringMap contextData = unit.injectContextData(null, new SortedArrayStringMap());
+		assertThat(contextData, is(instanceOf(ContextSnapshotStringMap.class)));
+		assertThat(contextData.<String>getValue("A"), is("vA"));
+		assertThat(contextData.isFrozen(), is(true));
+	}
+
+	@Test
+	public void shouldReuseViewWhileContextIsUnchanged() {
+		final StringMap first = unit.injectContextData(null, null);
+		assertThat(unit.injectContextData(Collections.<Property>emptyList(), null), is(sameInstance(first)));
+	}
+
+	@Test
+	public void shouldCreateNewViewWhenContextChanges() {
+		final StringMap first = unit.injectContextData(null, null);
+		context.set(context.get().with("B", "vB"));
+		final StringMap second = unit.injectContextData(null, null);
+		assertThat(second, is(not(sameInstance(first))));
+		assertThat(second.<String>getValue("B"), is("vB"));
+		assertThat(first.containsKey("B"), is(false));
+	}
+
+	@Test
+	public void shouldCopyPropertiesAndContextIntoReusableMap() {
+		final StringMap reusable = new SortedArrayStringMap();
+		final StringMap contextData = unit.injectContextData(properties, reusable);
+		assertThat(contextData, is(sameInstance(reusable)));
+		assertThat(contextData.<String>getValue("P"), is("vP"));
+		assertThat(contextData.<String>getValue("A"), is("vA"));
+	}
+
+	@Test
+	public void shouldPreferContextOverPropertiesWithSameKey() {
+		context.set(context.get().with("P", "context value"));
+		final StringMap contextData = unit.injectContextData(properties, new SortedArrayStringMap());
+		assertThat(contextData.<String>getValue("P"), is("context value"));
+	}
+
+	@Test
+	public void shouldCreateMapIfReusableMapIsMissingOrFrozen() {
+		final StringMap frozen = new SortedArrayStringMap();
+		frozen.freeze();
+		assertThat(unit.injectContextData(properties, frozen).<String>getValue("A"), is("vA"));
+		assertThat(unit.injectContextData(properties, null).<String>getValue("A"), is("vA"));
+	}
+
+	@Test
+	public void shouldMergeEntriesOfThreadContext() {
+		ThreadContext.put("T", "vT");
+		final StringMap contextData = unit.injectContextData(null, new SortedArrayStringMap());
+		assertThat(contextData.<String>getValue("T"), is("vT"));
+		assertThat(contextData.<String>getValue("A"), is("vA"));
+	}
+
+	@Test
+	public void rawContextDataShouldBeViewOfContext() {
+		assertThat(unit.rawContextData(), is(sameInstance((Object) unit.injectContextData(null, null))));
+	}
+
+	@Test
+	public void rawContextDataShouldContainEntriesOfThreadContext() {
+		ThreadContext.put("T", "vT");
+		assertThat(unit.rawContextData().<String>getValue("T"), is("vT"));
+		assertThat(unit.rawContextData().<String>getValue("A"), is("vA"));
+	}
+}
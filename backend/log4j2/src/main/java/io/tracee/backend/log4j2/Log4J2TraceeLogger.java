@@ -6,6 +6,9 @@ import org.apache.logging.log4j.Logger;
 
 /**
  * TraceeLogger Abstraction for Log4J2.
+ * <p/>
+ * Log4j 2.0 only offers varargs methods for parameterized messages, so the level is checked before the argument array
+ * is created.
  */
 final class Log4J2TraceeLogger implements TraceeLogger {
 
@@ -23,6 +26,27 @@ final class Log4J2TraceeLogger implements TraceeLogger {
 		logger.debug(message, t);
 	}
 
+	@Override
+	public void debug(final String format, final Object argument) {
+		if (logger.isDebugEnabled()) {
+			logger.debug(format, argument);
+		}
+	}
+
+	@Override
+	public void debug(final String format, final Object argument1, final Object argument2) {
+		if (logger.isDebugEnabled()) {
+			logger.debug(format, argument1, argument2);
+		}
+	}
+
+	@Override
+	public void debug(final String format, final Object... arguments) {
+		if (logger.isDebugEnabled()) {
+			logger.debug(format, arguments);
+		}
+	}
+
 	@Override
 	public boolean isDebugEnabled() {
 		return logger.isDebugEnabled();
@@ -36,6 +60,27 @@ final class Log4J2TraceeLogger implements TraceeLogger {
 		logger.error(message, t);
 	}
 
+	@Override
+	public void error(final String format, final Object argument) {
+		if (logger.isErrorEnabled()) {
+			logger.error(format, argument);
+		}
+	}
+
+	@Override
+	public void error(final String format, final Object argument1, final Object argument2) {
+		if (logger.isErrorEnabled()) {
+			logger.error(format, argument1, argument2);
+		}
+	}
+
+	@Override
+	public void error(final String format, final Object... arguments) {
+		if (logger.isErrorEnabled()) {
+			logger.error(format, arguments);
+		}
+	}
+
 	@Override
 	public boolean isErrorEnabled() {
 		return logger.isErrorEnabled();
@@ -49,6 +94,27 @@ final class Log4J2TraceeLogger implements TraceeLogger {
 		logger.info(message, t);
 	}
 
+	@Override
+	public void info(final String format, final Object argument) {
+		if (logger.isInfoEnabled()) {
+			logger.info(format, argument);
+		}
+	}
+
+	@Override
+	public void info(final String format, final Object argument1, final Object argument2) {
+		if (logger.isInfoEnabled()) {
+			logger.info(format, argument1, argument2);
+		}
+	}
+
+	@Override
+	public void info(final String format, final Object... arguments) {
+		if (logger.isInfoEnabled()) {
+			logger.info(format, arguments);
+		}
+	}
+
 	@Override
 	public boolean isInfoEnabled() {
 		return logger.isInfoEnabled();
@@ -62,6 +128,27 @@ final class Log4J2TraceeLogger implements TraceeLogger {
 		logger.warn(message, t);
 	}
 
+	@Override
+	public void warn(final String format, final Object argument) {
+		if (logger.isWarnEnabled()) {
+			logger.warn(format, argument);
+		}
+	}
+
+	@Override
+	public void warn(final String format, final Object argument1, final Object argument2) {
+		if (logger.isWarnEnabled()) {
+			logger.warn(format, argument1, argument2);
+		}
+	}
+
+	@Override
+	public void warn(final String format, final Object... arguments) {
+		if (logger.isWarnEnabled()) {
+			logger.warn(format, arguments);
+		}
+	}
+
 	@Override
 	public boolean isWarnEnabled() {
 		return logger.isWarnEnabled();
@@ -1,18 +1,28 @@
 package io.tracee.backend.log4j2;
 
+import io.tracee.ContextSnapshot;
 import io.tracee.MDCLikeTraceeBackend;
 import io.tracee.TraceeLogger;
 import io.tracee.TraceeLoggerFactory;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.ThreadContext;
 
-import java.util.Set;
-
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
 
 final class Log4j2TraceeBackend extends MDCLikeTraceeBackend {
 
-	Log4j2TraceeBackend(ThreadLocal<Set<String>> traceeKeys) {
-		super(traceeKeys, new TraceeLoggerFactory() {
+	/**
+	 * {@code ThreadContext.putAll} exists since log4j 2.7 and {@code ThreadContext.removeAll} since log4j 2.8. Both
+	 * versions require Java 7, so they are looked up at runtime and this backend still compiles against older versions.
+	 */
+	private static final Method PUT_ALL = findThreadContextMethod("putAll", Map.class);
+	private static final Method REMOVE_ALL = findThreadContextMethod("removeAll", Iterable.class);
+
+	Log4j2TraceeBackend(ThreadLocal<ContextSnapshot> context) {
+		super(context, new TraceeLoggerFactory() {
 			@Override
 			public TraceeLogger getLogger(Class<?> clazz) {
 				return new Log4J2TraceeLogger(LogManager.getLogger(clazz));
@@ -20,11 +30,6 @@ final class Log4j2TraceeBackend extends MDCLikeTraceeBackend {
 		});
 	}
 
-	@Override
-	protected String getFromMdc(String key) {
-		return ThreadContext.get(key);
-	}
-
 	@Override
 	protected void putToMdc(String key, String value) {
 		ThreadContext.put(key, value);
@@ -34,4 +39,46 @@ final class Log4j2TraceeBackend extends MDCLikeTraceeBackend {
 	protected void removeFromMdc(String key) {
 		ThreadContext.remove(key);
 	}
+
+	/**
+	 * The default ThreadContext map copies itself on every write, so several entries are written at once.
+	 */
+	@Override
+	protected void putAllToMdc(Map<String, String> entries) {
+		if (PUT_ALL != null && entries.size() > 1) {
+			invokeStatic(PUT_ALL, entries);
+		} else {
+			super.putAllToMdc(entries);
+		}
+	}
+
+	@Override
+	protected void removeAllFromMdc(Collection<String> keys) {
+		if (REMOVE_ALL != null && keys.size() > 1) {
+			invokeStatic(REMOVE_ALL, keys);
+		} else {
+			super.removeAllFromMdc(keys);
+		}
+	}
+
+	private static Method findThreadContextMethod(String name, Class<?> parameterType) {
+		try {
+			return ThreadContext.class.getMethod(name, parameterType);
+		} catch (NoSuchMethodException e) {
+			return null;
+		}
+	}
+
+	private static void invokeStatic(Method method, Object argument) {
+		try {
+			method.invoke(null, argument);
+		} catch (IllegalAccessException e) {
+			throw new IllegalStateException("Unable to call ThreadContext." + method.getName(), e);
+		} catch (InvocationTargetException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw new IllegalStateException("ThreadContext." + method.getName() + " failed", e.getCause());
+		}
+	}
 }
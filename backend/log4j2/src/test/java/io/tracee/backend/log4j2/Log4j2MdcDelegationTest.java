@@ -1,7 +1,8 @@
 package io.tracee.backend.log4j2;
 
 
-import io.tracee.ThreadLocalHashSet;
+import io.tracee.ContextSnapshot;
+import io.tracee.ThreadLocalContext;
 import org.apache.logging.log4j.ThreadContext;
 import org.junit.Before;
 import org.junit.Test;
@@ -10,24 +11,25 @@ import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
-import static org.powermock.api.mockito.PowerMockito.when;
+import static org.mockito.Mockito.never;
 
 @RunWith(PowerMockRunner.class)
 @PrepareForTest(ThreadContext.class)
 public class Log4j2MdcDelegationTest {
 
-	private final ThreadLocalHashSet<String> traceeKeys = new ThreadLocalHashSet<String>();
+	private final ThreadLocalContext context = new ThreadLocalContext();
 
-	private final Log4j2TraceeBackend unit = new Log4j2TraceeBackend(traceeKeys);
+	private final Log4j2TraceeBackend unit = new Log4j2TraceeBackend(context);
 
 	@Before
 	public void setup() {
-		traceeKeys.get().add("BB");
+		context.set(ContextSnapshot.copyOf(Collections.singletonMap("BB", "vBB")));
 		PowerMockito.mockStatic(ThreadContext.class);
 	}
 
@@ -39,15 +41,15 @@ public class Log4j2MdcDelegationTest {
 	}
 
 	@Test
-	public void shouldReturnTrueIfKeyIsInMDC() {
-		when(ThreadContext.get("BB")).thenReturn("vBB");
+	public void shouldReturnTrueIfKeyIsInContext() {
 		assertThat(unit.containsKey("BB"), is(true));
 	}
 
 	@Test
-	public void shouldReturnValueFromMDC() {
-		when(ThreadContext.get("BB")).thenReturn("vBB");
+	public void shouldReturnValueFromContextWithoutReadingMDC() {
 		assertThat(unit.get("BB"), equalTo("vBB"));
+		PowerMockito.verifyStatic(never());
+		ThreadContext.get("BB");
 	}
 
 	@Test
@@ -56,4 +58,29 @@ public class Log4j2MdcDelegationTest {
 		PowerMockito.verifyStatic();
 		ThreadContext.remove("BB");
 	}
+
+	/**
+	 * The log4j version of the build has no {@code ThreadContext.putAll}, so every entry is put on its own.
+	 */
+	@Test
+	public void shouldPutEveryEntryToMDCWithoutBulkOperations() {
+		final Map<String, String> entries = new HashMap<String, String>();
+		entries.put("A", "vA");
+		entries.put("B", "vB");
+		unit.putAll(entries);
+		PowerMockito.verifyStatic();
+		ThreadContext.put("A", "vA");
+		PowerMockito.verifyStatic();
+		ThreadContext.put("B", "vB");
+	}
+
+	@Test
+	public void shouldRemoveEveryEntryFromMDCWithoutBulkOperations() {
+		unit.put("A", "vA");
+		unit.clear();
+		PowerMockito.verifyStatic();
+		ThreadContext.remove("A");
+		PowerMockito.verifyStatic();
+		ThreadContext.remove("BB");
+	}
 }
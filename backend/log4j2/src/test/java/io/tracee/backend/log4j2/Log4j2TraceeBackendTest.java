@@ -1,6 +1,6 @@
 package io.tracee.backend.log4j2;
 
-import io.tracee.ThreadLocalHashSet;
+import io.tracee.ThreadLocalContext;
 import org.junit.Test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -12,7 +12,7 @@ public class Log4j2TraceeBackendTest {
 
 	@Test
 	public void shouldProvideSlf4JBackend() {
-		final Log4j2TraceeBackend backend = new Log4j2TraceeBackend(new ThreadLocalHashSet<String>());
+		final Log4j2TraceeBackend backend = new Log4j2TraceeBackend(new ThreadLocalContext());
 		assertThat(backend.getLoggerFactory().getLogger(Log4j2TraceeBackendTest.class), is(not(nullValue())));
 	}
 }
@@ -8,12 +8,20 @@ import static org.hamcrest.Matchers.is;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 public class Log4j2TraceeLoggerTest {
 
 	private static final String MESSAGE = "TEST";
 	private static final Exception EXCEPTION = new RuntimeException("My exception");
 
+	private static final Object UNFORMATTABLE = new Object() {
+		@Override
+		public String toString() {
+			throw new AssertionError("argument must not be formatted");
+		}
+	};
+
 	private final Logger mockedLogger = mock(Logger.class);
 	private final Log4J2TraceeLogger UNIT = new Log4J2TraceeLogger(mockedLogger);
 
@@ -88,4 +96,26 @@ public class Log4j2TraceeLoggerTest {
 		when(mockedLogger.isErrorEnabled()).thenReturn(true);
 		assertThat(UNIT.isErrorEnabled(), is(true));
 	}
+
+	@Test
+	public void delegateParameterizedDebugMessageIfDebugIsEnabled() {
+		when(mockedLogger.isDebugEnabled()).thenReturn(true);
+		UNIT.debug("{} and {}", "A", "B");
+		verify(mockedLogger).debug("{} and {}", "A", "B");
+	}
+
+	@Test
+	public void delegateParameterizedErrorMessageWithTrailingException() {
+		when(mockedLogger.isErrorEnabled()).thenReturn(true);
+		UNIT.error("Failed {}", "A", EXCEPTION);
+		verify(mockedLogger).error("Failed {}", "A", EXCEPTION);
+	}
+
+	@Test
+	public void doNotDelegateParameterizedDebugMessageIfDebugIsDisabled() {
+		when(mockedLogger.isDebugEnabled()).thenReturn(false);
+		UNIT.debug("{}", UNFORMATTABLE);
+		verify(mockedLogger).isDebugEnabled();
+		verifyNoMoreInteractions(mockedLogger);
+	}
 }
@@ -0,0 +1,92 @@
+package io.tracee.backend.logback;
+
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import io.tracee.ContextSnapshot;
+import io.tracee.MDCLikeTraceeBackend;
+import io.tracee.TraceeLogger;
+import io.tracee.TraceeLoggerFactory;
+import org.slf4j.MDC;
+import org.slf4j.spi.MDCAdapter;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Backend that works on the MDC map of logback directly.
+ * <p/>
+ * The {@link LogbackMDCAdapter} copies its map on every {@code put} or {@code remove} (since logback 1.0 only once a
+ * log event has read the map). This backend applies every update of several entries, e.g. an incoming context, a
+ * merged response or a clear, as a single replacement of the map, so it is copied once per update instead of once
+ * per entry.
+ */
+class LogbackTraceeBackend extends MDCLikeTraceeBackend {
+
+	private final LogbackMDCAdapter mdcAdapter;
+
+	LogbackTraceeBackend(ThreadLocal<ContextSnapshot> context) {
+		this(context, logbackMdcAdapter());
+	}
+
+	LogbackTraceeBackend(ThreadLocal<ContextSnapshot> context, LogbackMDCAdapter mdcAdapter) {
+		super(context, new TraceeLoggerFactory() {
+			@Override
+			public TraceeLogger getLogger(Class<?> clazz) {
+				return new LogbackTraceeLogger(clazz);
+			}
+		});
+		this.mdcAdapter = mdcAdapter;
+	}
+
+	private static LogbackMDCAdapter logbackMdcAdapter() {
+		final MDCAdapter mdcAdapter = MDC.getMDCAdapter();
+		if (!(mdcAdapter instanceof LogbackMDCAdapter)) {
+			throw new IllegalStateException("tracee-logback requires logback-classic as slf4j binding, but the MDC is "
+					+ (mdcAdapter != null ? mdcAdapter.getClass().getName() : "not initialized")
+					+ ". Use tracee-slf4j for other bindings.");
+		}
+		return (LogbackMDCAdapter) mdcAdapter;
+	}
+
+	@Override
+	protected void putToMdc(String key, String value) {
+		mdcAdapter.put(key, value);
+	}
+
+	@Override
+	protected void removeFromMdc(String key) {
+		mdcAdapter.remove(key);
+	}
+
+	@Override
+	protected void putAllToMdc(Map<String, String> entries) {
+		updateMdc(Collections.<String>emptyList(), entries);
+	}
+
+	@Override
+	protected void removeAllFromMdc(Collection<String> keys) {
+		updateMdc(keys, Collections.<String, String>emptyMap());
+	}
+
+	/**
+	 * A single put or remove copies the map once, just like the replacement. Everything else installs a view of the
+	 * updated map, which the adapter copies into its new map.
+	 */
+	@Override
+	protected void updateMdc(Collection<String> removedKeys, Map<String, String> changedEntries) {
+		if (removedKeys.isEmpty() && changedEntries.size() == 1) {
+			final Map.Entry<String, String> entry = changedEntries.entrySet().iterator().next();
+			mdcAdapter.put(entry.getKey(), entry.getValue());
+		} else if (changedEntries.isEmpty() && removedKeys.size() == 1) {
+			mdcAdapter.remove(removedKeys.iterator().next());
+		} else {
+			final Map<String, String> mdc = mdcAdapter.getPropertyMap();
+			final UpdatedMdcMap updatedMdc = new UpdatedMdcMap(mdc, removedKeys, changedEntries);
+			if (updatedMdc.isEmpty()) {
+				mdcAdapter.clear();
+			} else {
+				mdcAdapter.setContextMap(updatedMdc);
+			}
+		}
+	}
+}
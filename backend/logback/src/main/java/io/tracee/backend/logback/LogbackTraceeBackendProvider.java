@@ -0,0 +1,18 @@
+package io.tracee.backend.logback;
+
+import io.tracee.ContextSnapshot;
+import io.tracee.ThreadLocalContext;
+import io.tracee.TraceeBackend;
+import io.tracee.spi.TraceeBackendProvider;
+
+public class LogbackTraceeBackendProvider implements TraceeBackendProvider {
+
+	private static final ThreadLocal<ContextSnapshot> CONTEXT = ThreadLocalContext.create();
+
+	private final LogbackTraceeBackend logbackTraceeBackend = new LogbackTraceeBackend(CONTEXT);
+
+	@Override
+	public final TraceeBackend provideBackend() {
+		return logbackTraceeBackend;
+	}
+}
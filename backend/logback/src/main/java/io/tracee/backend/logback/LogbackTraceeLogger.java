@@ -0,0 +1,137 @@
+package io.tracee.backend.logback;
+
+import io.tracee.TraceeLogger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * TraceeLogger Abstraction for SLF4J on top of logback.
+ */
+final class LogbackTraceeLogger implements TraceeLogger {
+
+    private final Logger logger;
+
+    public LogbackTraceeLogger(final Class<?> clazz) {
+        this(LoggerFactory.getLogger(clazz));
+    }
+
+	LogbackTraceeLogger(final Logger logger) {
+		this.logger = logger;
+	}
+
+    public void debug(String message) {
+        logger.debug(nullsafeString(message));
+    }
+
+    public void debug(String message, Throwable t) {
+        logger.debug(nullsafeString(message), t);
+    }
+
+	@Override
+	public void debug(String format, Object argument) {
+		logger.debug(nullsafeString(format), argument);
+	}
+
+	@Override
+	public void debug(String format, Object argument1, Object argument2) {
+		logger.debug(nullsafeString(format), argument1, argument2);
+	}
+
+	@Override
+	public void debug(String format, Object... arguments) {
+		logger.debug(nullsafeString(format), arguments);
+	}
+
+	@Override
+	public boolean isDebugEnabled() {
+		return logger.isDebugEnabled();
+	}
+
+	public void error(String message) {
+        logger.error(nullsafeString(message));
+    }
+
+    public void error(String message, Throwable t) {
+        logger.error(nullsafeString(message), t);
+    }
+
+	@Override
+	public void error(String format, Object argument) {
+		logger.error(nullsafeString(format), argument);
+	}
+
+	@Override
+	public void error(String format, Object argument1, Object argument2) {
+		logger.error(nullsafeString(format), argument1, argument2);
+	}
+
+	@Override
+	public void error(String format, Object... arguments) {
+		logger.error(nullsafeString(format), arguments);
+	}
+
+	@Override
+	public boolean isErrorEnabled() {
+		return logger.isErrorEnabled();
+	}
+
+    public void info(String message) {
+        logger.info(nullsafeString(message));
+    }
+
+    public void info(String message, Throwable t) {
+        logger.info(nullsafeString(message), t);
+    }
+
+	@Override
+	public void info(String format, Object argument) {
+		logger.info(nullsafeString(format), argument);
+	}
+
+	@Override
+	public void info(String format, Object argument1, Object argument2) {
+		logger.info(nullsafeString(format), argument1, argument2);
+	}
+
+	@Override
+	public void info(String format, Object... arguments) {
+		logger.info(nullsafeString(format), arguments);
+	}
+
+	@Override
+	public boolean isInfoEnabled() {
+		return logger.isInfoEnabled();
+	}
+
+    public void warn(String message) {
+        logger.warn(nullsafeString(message));
+    }
+
+	public void warn(String message, Throwable t) {
+        logger.warn(nullsafeString(message), t);
+    }
+
+	@Override
+	public void warn(String format, Object argument) {
+		logger.warn(nullsafeString(format), argument);
+	}
+
+	@Override
+	public void warn(String format, Object argument1, Object argument2) {
+		logger.warn(nullsafeString(format), argument1, argument2);
+	}
+
+	@Override
+	public void warn(String format, Object... arguments) {
+		logger.warn(nullsafeString(format), arguments);
+	}
+
+	@Override
+	public boolean isWarnEnabled() {
+		return logger.isWarnEnabled();
+	}
+
+	private String nullsafeString(String message) {
+		return message != null ? message : "";
+	}
+}
@@ -0,0 +1,112 @@
+package io.tracee.backend.logback;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Read-only view of the MDC map after an update. It is backed by the current map of the MDC and the update, so the
+ * updated map is only built once, when the MDC copies the view into its new map.
+ */
+final class UpdatedMdcMap extends AbstractMap<String, String> {
+
+	private final Map<String, String> mdc;
+	private final Set<String> removedKeys;
+	private final Map<String, String> changedEntries;
+	private int size = -1;
+
+	/**
+	 * @param mdc the current map of the MDC, may be {@code null} if the MDC is empty
+	 * @param removedKeys keys to remove, copied into a set unless they are one already, so that every entry of the MDC
+	 *                    is checked in constant time
+	 */
+	UpdatedMdcMap(Map<String, String> mdc, Collection<String> removedKeys, Map<String, String> changedEntries) {
+		this.mdc = mdc != null ? mdc : Collections.<String, String>emptyMap();
+		this.removedKeys = removedKeys instanceof Set ? (Set<String>) removedKeys : new HashSet<String>(removedKeys);
+		this.changedEntries = changedEntries;
+	}
+
+	@Override
+	public int size() {
+		if (size < 0) {
+			int retained = 0;
+			for (String key : mdc.keySet()) {
+				if (isRetained(key)) {
+					retained++;
+				}
+			}
+			size = retained + changedEntries.size();
+		}
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	@Override
+	public Set<Map.Entry<String, String>> entrySet() {
+		return new AbstractSet<Map.Entry<String, String>>() {
+			@Override
+			public int size() {
+				return UpdatedMdcMap.this.size();
+			}
+
+			@Override
+			public Iterator<Map.Entry<String, String>> iterator() {
+				return new UpdatedEntryIterator();
+			}
+		};
+	}
+
+	private boolean isRetained(String key) {
+		return !changedEntries.containsKey(key) && !removedKeys.contains(key);
+	}
+
+	/**
+	 * Iterates over the retained entries of the MDC first and over the changed entries afterwards.
+	 */
+	private final class UpdatedEntryIterator implements Iterator<Map.Entry<String, String>> {
+
+		private final Iterator<Map.Entry<String, String>> mdcEntries = mdc.entrySet().iterator();
+		private final Iterator<Map.Entry<String, String>> changed = changedEntries.entrySet().iterator();
+		private Map.Entry<String, String> next = advance();
+
+		private Map.Entry<String, String> advance() {
+			while (mdcEntries.hasNext()) {
+				final Map.Entry<String, String> entry = mdcEntries.next();
+				if (isRetained(entry.getKey())) {
+					return entry;
+				}
+			}
+			return changed.hasNext() ? changed.next() : null;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return next != null;
+		}
+
+		@Override
+		public Map.Entry<String, String> next() {
+			if (next == null) {
+				throw new NoSuchElementException();
+			}
+			final Map.Entry<String, String> entry = next;
+			next = advance();
+			return entry;
+		}
+
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException("the map is read-only");
+		}
+	}
+}
@@ -0,0 +1,16 @@
+package io.tracee.backend.logback;
+
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.notNullValue;
+
+public class LogbackTraceeBackendProviderTest {
+
+	private final LogbackTraceeBackendProvider unit = new LogbackTraceeBackendProvider();
+
+	@Test
+	public void testProvideBackend() {
+		assertThat(unit.provideBackend(), notNullValue());
+	}
+}
@@ -0,0 +1,93 @@
+package io.tracee.backend.logback;
+
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import io.tracee.ContextSnapshot;
+import io.tracee.ThreadLocalContext;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class LogbackTraceeBackendTest {
+
+	private final LogbackMDCAdapter mdcAdapter = new LogbackMDCAdapter();
+
+	private final LogbackTraceeBackend unit = new LogbackTraceeBackend(new ThreadLocalContext(), mdcAdapter);
+
+	@After
+	public void clearMdc() {
+		mdcAdapter.clear();
+	}
+
+	@Test
+	public void shouldProvideLogbackLogger() {
+		assertThat(unit.getLoggerFactory().getLogger(LogbackTraceeBackendTest.class), is(not(nullValue())));
+	}
+
+	@Test
+	public void shouldPutSingleEntryToMdc() {
+		unit.put("A", "vA");
+		assertThat(mdcAdapter.get("A"), is("vA"));
+	}
+
+	@Test
+	public void shouldPutSeveralEntriesWithoutChangingMapThatHasBeenRead() {
+		mdcAdapter.put("foreign", "value");
+		final Map<String, String> readMdc = mdcAdapter.getPropertyMap();
+		unit.putAll(entries("A", "vA", "B", "vB"));
+		assertThat(readMdc, is(equalTo(entries("foreign", "value"))));
+		assertThat(mdcAdapter.getPropertyMap(), is(not(sameInstance(readMdc))));
+		assertThat(mdcAdapter.getPropertyMap(), is(equalTo(entries("A", "vA", "B", "vB", "foreign", "value"))));
+	}
+
+	@Test
+	public void shouldInstallUpdatedMapAsPlainMapOfMdc() {
+		unit.putAll(entries("A", "vA", "B", "vB"));
+		assertThat(mdcAdapter.getPropertyMap(), is(not(instanceOf(UpdatedMdcMap.class))));
+	}
+
+	@Test
+	public void shouldClearAndKeepForeignEntries() {
+		unit.putAll(entries("A", "vA", "B", "vB"));
+		mdcAdapter.put("foreign", "value");
+		final Map<String, String> readMdc = mdcAdapter.getPropertyMap();
+		unit.clear();
+		assertThat(readMdc, is(equalTo(entries("A", "vA", "B", "vB", "foreign", "value"))));
+		assertThat(mdcAdapter.getPropertyMap(), is(equalTo(entries("foreign", "value"))));
+	}
+
+	@Test
+	public void shouldClearMdcIfNoEntryRemains() {
+		unit.putAll(entries("A", "vA", "B", "vB"));
+		unit.clear();
+		assertThat(mdcAdapter.getPropertyMap(), is(nullValue()));
+	}
+
+	@Test
+	public void shouldReplaceSnapshotWithoutChangingMapThatHasBeenRead() {
+		unit.putAll(entries("A", "vA", "B", "vB"));
+		final Map<String, String> readMdc = mdcAdapter.getPropertyMap();
+		unit.replaceSnapshot(ContextSnapshot.copyOf(entries("B", "vB2", "C", "vC")));
+		assertThat(readMdc, is(equalTo(entries("A", "vA", "B", "vB"))));
+		assertThat(mdcAdapter.getPropertyMap(), is(equalTo(entries("B", "vB2", "C", "vC"))));
+	}
+
+	@Test
+	public void shouldRemoveSingleEntryFromMdc() {
+		unit.putAll(entries("A", "vA", "B", "vB"));
+		unit.remove("A");
+		assertThat(mdcAdapter.getPropertyMap(), is(equalTo(entries("B", "vB"))));
+	}
+
+	private static Map<String, String> entries(String... keysAndValues) {
+		final Map<String, String> entries = new HashMap<String, String>();
+		for (int i = 0; i < keysAndValues.length; i += 2) {
+			entries.put(keysAndValues[i], keysAndValues[i + 1]);
+		}
+		return entries;
+	}
+}
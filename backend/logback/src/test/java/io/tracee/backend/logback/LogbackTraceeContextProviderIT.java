@@ -0,0 +1,34 @@
+package io.tracee.backend.logback;
+
+import io.tracee.Tracee;
+import io.tracee.TraceeBackend;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.nullValue;
+
+public class LogbackTraceeContextProviderIT {
+
+	private static final Logger LOG = LoggerFactory.getLogger(LogbackTraceeContextProviderIT.class);
+
+	@Test
+	public void testLoadProviderAndStoreToLogbackMdc() {
+		final TraceeBackend backend = Tracee.getBackend();
+		final Map<String, String> context = new HashMap<String, String>();
+		context.put("FOO", "BAR");
+		context.put("BAZ", "QUX");
+		backend.putAll(context);
+		assertThat(MDC.get("FOO"), equalTo("BAR"));
+		assertThat(MDC.get("BAZ"), equalTo("QUX"));
+		LOG.debug("Hi");
+		backend.clear();
+		assertThat(MDC.get("FOO"), nullValue());
+	}
+}
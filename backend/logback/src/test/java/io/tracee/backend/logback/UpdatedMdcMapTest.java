@@ -0,0 +1,54 @@
+package io.tracee.backend.logback;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class UpdatedMdcMapTest {
+
+	private final Map<String, String> mdc = new HashMap<String, String>();
+
+	@Test
+	public void shouldRetainRemoveAndChangeEntries() {
+		mdc.put("retained", "value");
+		mdc.put("removed", "value");
+		mdc.put("changed", "old value");
+		final UpdatedMdcMap unit = new UpdatedMdcMap(mdc, Arrays.asList("removed"), Collections.singletonMap("changed", "new value"));
+
+		final Map<String, String> expected = new HashMap<String, String>();
+		expected.put("retained", "value");
+		expected.put("changed", "new value");
+		assertThat(unit.size(), is(2));
+		assertThat(new HashMap<String, String>(unit), is(equalTo(expected)));
+	}
+
+	@Test
+	public void shouldAcceptMissingMdc() {
+		final UpdatedMdcMap unit = new UpdatedMdcMap(null, Collections.<String>emptyList(), Collections.singletonMap("A", "a"));
+		assertThat(new HashMap<String, String>(unit), is(equalTo(Collections.singletonMap("A", "a"))));
+	}
+
+	@Test
+	public void shouldBeEmptyIfAllEntriesAreRemoved() {
+		mdc.put("removed", "value");
+		final UpdatedMdcMap unit = new UpdatedMdcMap(mdc, Arrays.asList("removed", "unknown"), Collections.<String, String>emptyMap());
+		assertThat(unit.isEmpty(), is(true));
+		assertThat(unit.entrySet().iterator().hasNext(), is(false));
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void shouldBeReadOnly() {
+		mdc.put("A", "a");
+		final Iterator<Map.Entry<String, String>> iterator = new UpdatedMdcMap(mdc, Collections.<String>emptyList(),
+				Collections.<String, String>emptyMap()).entrySet().iterator();
+		iterator.next();
+		iterator.remove();
+	}
+}
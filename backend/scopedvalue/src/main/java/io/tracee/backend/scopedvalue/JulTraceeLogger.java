@@ -0,0 +1,167 @@
+package io.tracee.backend.scopedvalue;
+
+import io.tracee.LogMessage;
+import io.tracee.TraceeLogger;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * TraceeLogger abstraction for java.util.logging.
+ */
+final class JulTraceeLogger implements TraceeLogger {
+
+	private final Logger logger;
+
+	JulTraceeLogger(final Class<?> clazz) {
+		this.logger = Logger.getLogger(clazz.getName());
+	}
+
+	@Override
+	public void debug(final String message) {
+		logger.log(Level.FINE, message);
+	}
+
+	@Override
+	public void debug(final String message, final Throwable t) {
+		logger.log(Level.FINE, message, t);
+	}
+
+	@Override
+	public void debug(final String format, final Object argument) {
+		if (isDebugEnabled()) {
+			log(Level.FINE, LogMessage.format(format, argument));
+		}
+	}
+
+	@Override
+	public void debug(final String format, final Object argument1, final Object argument2) {
+		if (isDebugEnabled()) {
+			log(Level.FINE, LogMessage.format(format, argument1, argument2));
+		}
+	}
+
+	@Override
+	public void debug(final String format, final Object... arguments) {
+		if (isDebugEnabled()) {
+			log(Level.FINE, LogMessage.format(format, arguments));
+		}
+	}
+
+	@Override
+	public boolean isDebugEnabled() {
+		return logger.isLoggable(Level.FINE);
+	}
+
+	@Override
+	public void error(final String message) {
+		logger.log(Level.SEVERE, message);
+	}
+
+	@Override
+	public void error(final String message, final Throwable t) {
+		logger.log(Level.SEVERE, message, t);
+	}
+
+	@Override
+	public void error(final String format, final Object argument) {
+		if (isErrorEnabled()) {
+			log(Level.SEVERE, LogMessage.format(format, argument));
+		}
+	}
+
+	@Override
+	public void error(final String format, final Object argument1, final Object argument2) {
+		if (isErrorEnabled()) {
+			log(Level.SEVERE, LogMessage.format(format, argument1, argument2));
+		}
+	}
+
+	@Override
+	public void error(final String format, final Object... arguments) {
+		if (isErrorEnabled()) {
+			log(Level.SEVERE, LogMessage.format(format, arguments));
+		}
+	}
+
+	@Override
+	public boolean isErrorEnabled() {
+		return logger.isLoggable(Level.SEVERE);
+	}
+
+	@Override
+	public void info(final String message) {
+		logger.log(Level.INFO, message);
+	}
+
+	@Override
+	public void info(final String message, final Throwable t) {
+		logger.log(Level.INFO, message, t);
+	}
+
+	@Override
+	public void info(final String format, final Object argument) {
+		if (isInfoEnabled()) {
+			log(Level.INFO, LogMessage.format(format, argument));
+		}
+	}
+
+	@Override
+	public void info(final String format, final Object argument1, final Object argument2) {
+		if (isInfoEnabled()) {
+			log(Level.INFO, LogMessage.format(format, argument1, argument2));
+		}
+	}
+
+	@Override
+	public void info(final String format, final Object... arguments) {
+		if (isInfoEnabled()) {
+			log(Level.INFO, LogMessage.format(format, arguments));
+		}
+	}
+
+	@Override
+	public boolean isInfoEnabled() {
+		return logger.isLoggable(Level.INFO);
+	}
+
+	@Override
+	public void warn(final String message) {
+		logger.log(Level.WARNING, message);
+	}
+
+	@Override
+	public void warn(final String message, final Throwable t) {
+		logger.log(Level.WARNING, message, t);
+	}
+
+	@Override
+	public void warn(final String format, final Object argument) {
+		if (isWarnEnabled()) {
+			log(Level.WARNING, LogMessage.format(format, argument));
+		}
+	}
+
+	@Override
+	public void warn(final String format, final Object argument1, final Object argument2) {
+		if (isWarnEnabled()) {
+			log(Level.WARNING, LogMessage.format(format, argument1, argument2));
+		}
+	}
+
+	@Override
+	public void warn(final String format, final Object... arguments) {
+		if (isWarnEnabled()) {
+			log(Level.WARNING, LogMessage.format(format, arguments));
+		}
+	}
+
+	@Override
+	public boolean isWarnEnabled() {
+		return logger.isLoggable(Level.WARNING);
+	}
+
+	private void log(final Level level, final LogMessage message) {
+		logger.log(level, message.getMessage(), message.getThrowable());
+	}
+}
@@ -0,0 +1,101 @@
+package io.tracee.backend.scopedvalue;
+
+import io.tracee.ContextHolder;
+import io.tracee.ContextSnapshot;
+import io.tracee.TraceeScope;
+
+/**
+ * The context of the current thread.
+ * <p/>
+ * This is the implementation for JVMs without {@code java.lang.ScopedValue}: a plain thread local that is not
+ * inherited by child threads. {@link TraceeScopes} replace the state of the thread for the duration of an operation,
+ * like a binding would. The multi-release jar replaces it on Java 25 and above.
+ */
+final class ScopedContext extends ContextHolder {
+
+	private final ThreadLocal<State> state = new ThreadLocal<State>();
+
+	@Override
+	public ContextSnapshot get() {
+		final State current = state.get();
+		return current != null ? current.snapshot : ContextSnapshot.EMPTY;
+	}
+
+	@Override
+	public void set(ContextSnapshot snapshot) {
+		final State current = state.get();
+		if (current != null) {
+			current.snapshot = snapshot;
+		} else {
+			state.set(new State(snapshot, false));
+		}
+	}
+
+	@Override
+	public void remove() {
+		final State current = state.get();
+		if (current != null) {
+			current.snapshot = ContextSnapshot.EMPTY;
+			releaseIfUnused(current);
+		}
+	}
+
+	@Override
+	public TraceeScope getOpenScope() {
+		final State current = state.get();
+		return current != null ? current.openScope : null;
+	}
+
+	@Override
+	public void setOpenScope(TraceeScope scope) {
+		final State current = state.get();
+		if (current != null) {
+			current.openScope = scope;
+			releaseIfUnused(current);
+		} else if (scope != null) {
+			final State created = new State(ContextSnapshot.EMPTY, false);
+			created.openScope = scope;
+			state.set(created);
+		}
+	}
+
+	/**
+	 * Starts an operation of {@link TraceeScopes} with the given context.
+	 *
+	 * @return the state to restore by {@link #unbind(State)} when the operation returns
+	 */
+	State bind(ContextSnapshot snapshot) {
+		final State previous = state.get();
+		state.set(new State(snapshot, true));
+		return previous;
+	}
+
+	void unbind(State previous) {
+		if (previous != null) {
+			state.set(previous);
+		} else {
+			state.remove();
+		}
+	}
+
+	private void releaseIfUnused(State current) {
+		if (!current.bound && current.openScope == null && current.snapshot.isEmpty()) {
+			state.remove();
+		}
+	}
+
+	/**
+	 * The state of one thread, only accessed by that thread.
+	 */
+	static final class State {
+
+		private final boolean bound;
+		private ContextSnapshot snapshot;
+		private TraceeScope openScope;
+
+		private State(ContextSnapshot snapshot, boolean bound) {
+			this.snapshot = snapshot;
+			this.bound = bound;
+		}
+	}
+}
@@ -0,0 +1,32 @@
+package io.tracee.backend.scopedvalue;
+
+import io.tracee.ContextHolder;
+import io.tracee.MDCLikeTraceeBackend;
+import io.tracee.TraceeLogger;
+import io.tracee.TraceeLoggerFactory;
+
+/**
+ * Keeps the context in its {@link ScopedContext} only. MDCs of logging frameworks are thread locals, so there is no
+ * MDC to mirror the context to.
+ */
+class ScopedValueTraceeBackend extends MDCLikeTraceeBackend {
+
+	ScopedValueTraceeBackend(ContextHolder context) {
+		super(context, new TraceeLoggerFactory() {
+			@Override
+			public TraceeLogger getLogger(Class<?> clazz) {
+				return new JulTraceeLogger(clazz);
+			}
+		});
+	}
+
+	@Override
+	protected void putToMdc(String key, String value) {
+		// no MDC
+	}
+
+	@Override
+	protected void removeFromMdc(String key) {
+		// no MDC
+	}
+}
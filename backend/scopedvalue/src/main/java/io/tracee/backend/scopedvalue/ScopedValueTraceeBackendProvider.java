@@ -0,0 +1,16 @@
+package io.tracee.backend.scopedvalue;
+
+import io.tracee.TraceeBackend;
+import io.tracee.spi.TraceeBackendProvider;
+
+public class ScopedValueTraceeBackendProvider implements TraceeBackendProvider {
+
+	static final ScopedContext CONTEXT = new ScopedContext();
+
+	private final TraceeBackend traceeBackend = new ScopedValueTraceeBackend(CONTEXT);
+
+	@Override
+	public final TraceeBackend provideBackend() {
+		return traceeBackend;
+	}
+}
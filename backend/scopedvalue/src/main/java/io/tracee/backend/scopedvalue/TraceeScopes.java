@@ -0,0 +1,58 @@
+package io.tracee.backend.scopedvalue;
+
+import io.tracee.ContextSnapshot;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Runs operations in a scope of their own TracEE context.
+ * <p/>
+ * The scope starts with the context of the caller. Changes within the scope are not visible to the caller and are
+ * discarded when the operation returns. Scopes that bindings open within the operation are nested in it, so they
+ * restore the context of the operation when they are closed.
+ * <p/>
+ * On Java 25 and above the scope is a {@code ScopedValue} binding that is inherited by the subtasks of a
+ * {@code StructuredTaskScope}. Subtasks start with the context that the scope started with, not with later changes of
+ * the forking thread; run the forking code in a nested scope to pass such changes. Changes of a subtask stay within the
+ * subtask.
+ */
+public final class TraceeScopes {
+
+	private TraceeScopes() {
+		// hide constructor
+	}
+
+	public static void run(Runnable op) {
+		run(ScopedValueTraceeBackendProvider.CONTEXT.get(), op);
+	}
+
+	/**
+	 * Runs the operation in a scope that starts with the given context instead of the context of the caller, e.g. with a
+	 * context that has been captured by {@link io.tracee.concurrent.ContextPropagation#capture(io.tracee.TraceeBackend)}
+	 * on another thread.
+	 */
+	public static void run(ContextSnapshot context, Runnable op) {
+		final ScopedContext.State previous = ScopedValueTraceeBackendProvider.CONTEXT.bind(context);
+		try {
+			op.run();
+		} finally {
+			ScopedValueTraceeBackendProvider.CONTEXT.unbind(previous);
+		}
+	}
+
+	public static <T> T call(Callable<T> op) throws Exception {
+		return call(ScopedValueTraceeBackendProvider.CONTEXT.get(), op);
+	}
+
+	/**
+	 * Calls the operation in a scope that starts with the given context instead of the context of the caller.
+	 */
+	public static <T> T call(ContextSnapshot context, Callable<T> op) throws Exception {
+		final ScopedContext.State previous = ScopedValueTraceeBackendProvider.CONTEXT.bind(context);
+		try {
+			return op.call();
+		} finally {
+			ScopedValueTraceeBackendProvider.CONTEXT.unbind(previous);
+		}
+	}
+}
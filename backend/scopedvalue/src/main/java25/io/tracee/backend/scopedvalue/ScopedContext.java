@@ -0,0 +1,127 @@
+package io.tracee.backend.scopedvalue;
+
+import io.tracee.ContextHolder;
+import io.tracee.ContextSnapshot;
+import io.tracee.TraceeScope;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The context of the current thread.
+ * <p/>
+ * Within {@link TraceeScopes} the context is held by a {@link ScopedValue} binding of an immutable {@link Holder}, so
+ * threads of a scope never allocate thread local state for TracEE. The binding is inherited by the subtasks of a
+ * {@code StructuredTaskScope}: subtasks start with the context the binding has been created with and write into a
+ * state of their own within the holder, so their changes never leak into the scope or into other subtasks. Outside of
+ * any scope a plain thread local that is not inherited by child threads is used.
+ */
+final class ScopedContext extends ContextHolder {
+
+	static final ScopedValue<Holder> HOLDER = ScopedValue.newInstance();
+
+	private final ContextHolder unbound = ContextHolder.of(new ThreadLocal<ContextSnapshot>() {
+		@Override
+		protected ContextSnapshot initialValue() {
+			return ContextSnapshot.EMPTY;
+		}
+	});
+
+	@Override
+	public ContextSnapshot get() {
+		if (HOLDER.isBound()) {
+			final Holder holder = HOLDER.get();
+			final State state = holder.stateOfCurrentThread();
+			return state != null ? state.snapshot : holder.snapshot;
+		}
+		return unbound.get();
+	}
+
+	@Override
+	public void set(ContextSnapshot snapshot) {
+		if (HOLDER.isBound()) {
+			HOLDER.get().writableStateOfCurrentThread().snapshot = snapshot;
+		} else {
+			unbound.set(snapshot);
+		}
+	}
+
+	@Override
+	public void remove() {
+		if (HOLDER.isBound()) {
+			// an empty context, not the context of the scope
+			set(ContextSnapshot.EMPTY);
+		} else {
+			unbound.remove();
+		}
+	}
+
+	@Override
+	public TraceeScope getOpenScope() {
+		if (HOLDER.isBound()) {
+			final State state = HOLDER.get().stateOfCurrentThread();
+			return state != null ? state.openScope : null;
+		}
+		return unbound.getOpenScope();
+	}
+
+	@Override
+	public void setOpenScope(TraceeScope scope) {
+		if (HOLDER.isBound()) {
+			HOLDER.get().writableStateOfCurrentThread().openScope = scope;
+		} else {
+			unbound.setOpenScope(scope);
+		}
+	}
+
+	/**
+	 * The context of one binding. The snapshot the binding starts with never changes. Each thread of the binding writes
+	 * to a state of its own, the thread that created the binding to a dedicated one and each subtask to one that is
+	 * created on its first write.
+	 */
+	static final class Holder {
+
+		private final ContextSnapshot snapshot;
+		private final Thread owner = Thread.currentThread();
+		private final State ownerState;
+		private final ConcurrentMap<Thread, State> subtaskStates = new ConcurrentHashMap<>();
+
+		Holder(ContextSnapshot snapshot) {
+			this.snapshot = snapshot;
+			this.ownerState = new State(snapshot);
+		}
+
+		/**
+		 * @return the state of the current thread, {@code null} for a subtask that did not write yet
+		 */
+		private State stateOfCurrentThread() {
+			final Thread current = Thread.currentThread();
+			if (current == owner) {
+				return ownerState;
+			}
+			// as long as no subtask wrote, subtasks read the snapshot of the binding without a lookup
+			return subtaskStates.isEmpty() ? null : subtaskStates.get(current);
+		}
+
+		private State writableStateOfCurrentThread() {
+			final State state = stateOfCurrentThread();
+			if (state != null) {
+				return state;
+			}
+			return subtaskStates.computeIfAbsent(Thread.currentThread(), thread -> new State(snapshot));
+		}
+	}
+
+	/**
+	 * The state of one thread within a binding, only accessed by that thread.
+	 */
+	private static final class State {
+
+		private ContextSnapshot snapshot;
+		private TraceeScope openScope;
+
+		private State(ContextSnapshot snapshot) {
+			this.snapshot = snapshot;
+		}
+	}
+}
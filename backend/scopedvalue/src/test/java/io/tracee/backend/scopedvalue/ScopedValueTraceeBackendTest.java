@@ -0,0 +1,58 @@
+package io.tracee.backend.scopedvalue;
+
+import io.tracee.TraceeLogger;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class ScopedValueTraceeBackendTest {
+
+	private final ScopedValueTraceeBackend unit = new ScopedValueTraceeBackend(new ScopedContext());
+
+	@After
+	public void clear() {
+		unit.clear();
+	}
+
+	@Test
+	public void testStoredKeys() {
+		assertThat(unit.size(), is(0));
+		unit.put("FOO", "BAR");
+		assertThat(unit.get("FOO"), is("BAR"));
+		assertThat(unit.size(), is(1));
+	}
+
+	@Test
+	public void clearRemovesAllKeys() {
+		unit.put("FOO", "BAR");
+		unit.clear();
+		assertThat(unit.isEmpty(), is(true));
+	}
+
+	@Test
+	public void childThreadsDoNotInheritTheContext() throws InterruptedException {
+		unit.put("FOO", "BAR");
+		final AtomicReference<String> childValue = new AtomicReference<String>("unset");
+		final Thread child = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				childValue.set(unit.get("FOO"));
+			}
+		});
+		child.start();
+		child.join();
+		assertThat(childValue.get(), is(nullValue()));
+	}
+
+	@Test
+	public void shouldReturnTraceeBackendWithJulLogger() {
+		TraceeLogger traceeLogger = unit.getLoggerFactory().getLogger(this.getClass());
+		assertThat(traceeLogger, is(instanceOf(JulTraceeLogger.class)));
+	}
+}
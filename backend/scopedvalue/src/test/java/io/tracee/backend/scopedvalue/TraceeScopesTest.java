@@ -0,0 +1,112 @@
+package io.tracee.backend.scopedvalue;
+
+import io.tracee.ContextSnapshot;
+import io.tracee.TraceeBackend;
+import io.tracee.TraceeScope;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.concurrent.Callable;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class TraceeScopesTest {
+
+	private final TraceeBackend backend = new ScopedValueTraceeBackendProvider().provideBackend();
+
+	@After
+	public void clear() {
+		backend.clear();
+	}
+
+	@Test
+	public void scopeStartsWithContextOfCaller() throws Exception {
+		backend.put("FOO", "outer");
+		assertThat(TraceeScopes.call(readFoo()), is("outer"));
+	}
+
+	@Test
+	public void scopeStartsWithGivenContext() throws Exception {
+		backend.put("FOO", "outer");
+		final ContextSnapshot captured = ContextSnapshot.copyOf(Collections.singletonMap("FOO", "captured"));
+		assertThat(TraceeScopes.call(captured, readFoo()), is("captured"));
+		assertThat(backend.get("FOO"), is("outer"));
+	}
+
+	@Test
+	public void changesWithinScopeAreDiscarded() {
+		backend.put("FOO", "outer");
+		TraceeScopes.run(new Runnable() {
+			@Override
+			public void run() {
+				backend.put("FOO", "inner");
+				backend.put("BAR", "inner");
+			}
+		});
+		assertThat(backend.get("FOO"), is("outer"));
+		assertThat(backend.get("BAR"), is(nullValue()));
+	}
+
+	@Test
+	public void clearWithinScopeIsDiscarded() {
+		backend.put("FOO", "outer");
+		TraceeScopes.run(new Runnable() {
+			@Override
+			public void run() {
+				backend.clear();
+				assertThat(backend.get("FOO"), is(nullValue()));
+			}
+		});
+		assertThat(backend.get("FOO"), is("outer"));
+	}
+
+	@Test
+	public void nestedScopeStartsWithContextOfEnclosingScope() throws Exception {
+		final String result = TraceeScopes.call(new Callable<String>() {
+			@Override
+			public String call() throws Exception {
+				backend.put("FOO", "enclosing");
+				return TraceeScopes.call(readFoo());
+			}
+		});
+		assertThat(result, is("enclosing"));
+	}
+
+	@Test
+	public void scopeOfBindingWithinOperationIsNested() throws Exception {
+		backend.put("FOO", "outer");
+		final String result = TraceeScopes.call(new Callable<String>() {
+			@Override
+			public String call() {
+				final TraceeScope scope = backend.openScope();
+				assertThat(backend.get("FOO"), is("outer"));
+				backend.put("FOO", "inner");
+				scope.close();
+				return backend.get("FOO");
+			}
+		});
+		assertThat(result, is("outer"));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void exceptionsOfTheOperationArePropagated() throws Exception {
+		TraceeScopes.call(new Callable<String>() {
+			@Override
+			public String call() {
+				throw new IllegalStateException();
+			}
+		});
+	}
+
+	private Callable<String> readFoo() {
+		return new Callable<String>() {
+			@Override
+			public String call() {
+				return backend.get("FOO");
+			}
+		};
+	}
+}
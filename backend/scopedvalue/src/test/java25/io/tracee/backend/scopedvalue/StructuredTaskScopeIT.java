@@ -0,0 +1,96 @@
+package io.tracee.backend.scopedvalue;
+
+import io.tracee.TraceeBackend;
+import io.tracee.TraceeScope;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.StructuredTaskScope;
+import java.util.concurrent.StructuredTaskScope.Subtask;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Runs against the multi-release jar on Java 25, so the {@code ScopedValue} implementation is tested.
+ */
+public class StructuredTaskScopeIT {
+
+	private final TraceeBackend backend = new ScopedValueTraceeBackendProvider().provideBackend();
+
+	@After
+	public void clear() {
+		backend.clear();
+	}
+
+	@Test
+	public void subtasksStartWithContextOfTheScope() throws Exception {
+		backend.put("FOO", "outer");
+		assertThat(TraceeScopes.call(() -> forkAndGet(() -> backend.get("FOO"))), is("outer"));
+	}
+
+	@Test
+	public void subtasksDoNotSeeLaterChangesOfTheForkingThread() throws Exception {
+		backend.put("FOO", "outer");
+		final String result = TraceeScopes.call(() -> {
+			backend.put("FOO", "changed");
+			return forkAndGet(() -> backend.get("FOO"));
+		});
+		assertThat(result, is("outer"));
+	}
+
+	@Test
+	public void nestedScopePassesChangesToSubtasks() throws Exception {
+		final String result = TraceeScopes.call(() -> {
+			backend.put("FOO", "changed");
+			return TraceeScopes.call(() -> forkAndGet(() -> backend.get("FOO")));
+		});
+		assertThat(result, is("changed"));
+	}
+
+	@Test
+	public void changesOfSubtasksStayWithinTheSubtask() throws Exception {
+		backend.put("FOO", "outer");
+		TraceeScopes.run(() -> {
+			try (var scope = StructuredTaskScope.open()) {
+				final Subtask<String> first = scope.fork(() -> {
+					backend.put("FOO", "first");
+					return backend.get("FOO");
+				});
+				final Subtask<String> second = scope.fork(() -> {
+					backend.remove("FOO");
+					return backend.get("FOO");
+				});
+				scope.join();
+				assertThat(first.get(), is("first"));
+				assertThat(second.get(), is(nullValue()));
+				assertThat(backend.get("FOO"), is("outer"));
+			} catch (InterruptedException e) {
+				throw new IllegalStateException(e);
+			}
+		});
+		assertThat(backend.get("FOO"), is("outer"));
+	}
+
+	@Test
+	public void scopeOfBindingWithinSubtaskIsNested() throws Exception {
+		backend.put("FOO", "outer");
+		final String result = TraceeScopes.call(() -> forkAndGet(() -> {
+			final TraceeScope scope = backend.openScope();
+			backend.put("FOO", "inner");
+			scope.close();
+			return backend.get("FOO");
+		}));
+		assertThat(result, is("outer"));
+	}
+
+	private static <T> T forkAndGet(Callable<T> task) throws InterruptedException {
+		try (var scope = StructuredTaskScope.open()) {
+			final Subtask<T> subtask = scope.fork(task);
+			scope.join();
+			return subtask.get();
+		}
+	}
+}
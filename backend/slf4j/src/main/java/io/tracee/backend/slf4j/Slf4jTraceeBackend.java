@@ -1,16 +1,19 @@
 package io.tracee.backend.slf4j;
 
+import io.tracee.ContextSnapshot;
 import io.tracee.MDCLikeTraceeBackend;
 import io.tracee.TraceeLogger;
 import io.tracee.TraceeLoggerFactory;
 import org.slf4j.MDC;
 
-import java.util.Set;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 
 class Slf4jTraceeBackend extends MDCLikeTraceeBackend {
 
-	Slf4jTraceeBackend(ThreadLocal<Set<String>> traceeKeys) {
-		super(traceeKeys, new TraceeLoggerFactory() {
+	Slf4jTraceeBackend(ThreadLocal<ContextSnapshot> context) {
+		super(context, new TraceeLoggerFactory() {
 			@Override
 			public TraceeLogger getLogger(Class<?> clazz) {
 				return new Slf4jTraceeLogger(clazz);
@@ -18,11 +21,6 @@ class Slf4jTraceeBackend extends MDCLikeTraceeBackend {
 		});
 	}
 
-	@Override
-	protected String getFromMdc(String key) {
-		return MDC.get(key);
-	}
-
 	@Override
 	protected void putToMdc(String key, String value) {
 		MDC.put(key, value);
@@ -32,4 +30,37 @@ class Slf4jTraceeBackend extends MDCLikeTraceeBackend {
 	protected void removeFromMdc(String key) {
 		MDC.remove(key);
 	}
+
+	/**
+	 * Some MDC adapters (e.g. the one of logback) copy their map on every write, so several entries are written by
+	 * replacing the whole map once.
+	 */
+	@Override
+	protected void putAllToMdc(Map<String, String> entries) {
+		if (entries.size() == 1) {
+			super.putAllToMdc(entries);
+			return;
+		}
+		final Map<String, String> contextMap = copyOfMdc();
+		contextMap.putAll(entries);
+		MDC.setContextMap(contextMap);
+	}
+
+	@Override
+	protected void removeAllFromMdc(Collection<String> keys) {
+		if (keys.size() == 1) {
+			super.removeAllFromMdc(keys);
+			return;
+		}
+		final Map<String, String> contextMap = copyOfMdc();
+		if (contextMap.keySet().removeAll(keys)) {
+			MDC.setContextMap(contextMap);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<String, String> copyOfMdc() {
+		final Map<String, String> contextMap = MDC.getCopyOfContextMap();
+		return contextMap != null ? contextMap : new HashMap<String, String>();
+	}
 }
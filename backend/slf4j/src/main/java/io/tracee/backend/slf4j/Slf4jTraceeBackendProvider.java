@@ -1,14 +1,15 @@
 package io.tracee.backend.slf4j;
 
-import io.tracee.ThreadLocalHashSet;
+import io.tracee.ContextSnapshot;
+import io.tracee.ThreadLocalContext;
 import io.tracee.TraceeBackend;
 import io.tracee.spi.TraceeBackendProvider;
 
 public class Slf4jTraceeBackendProvider implements TraceeBackendProvider {
 
-	private static final ThreadLocalHashSet<String> TRACEE_KEYS = new ThreadLocalHashSet<String>();
+	private static final ThreadLocal<ContextSnapshot> CONTEXT = ThreadLocalContext.create();
 
-    private final Slf4jTraceeBackend slf4jTraceeContext = new Slf4jTraceeBackend(TRACEE_KEYS);
+    private final Slf4jTraceeBackend slf4jTraceeContext = new Slf4jTraceeBackend(CONTEXT);
 
     @Override
     public final TraceeBackend provideBackend() {
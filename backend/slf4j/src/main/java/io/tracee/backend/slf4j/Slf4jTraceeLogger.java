@@ -27,6 +27,21 @@ final class Slf4jTraceeLogger implements TraceeLogger {
         logger.debug(nullsafeString(message), t);
     }
 
+	@Override
+	public void debug(String format, Object argument) {
+		logger.debug(nullsafeString(format), argument);
+	}
+
+	@Override
+	public void debug(String format, Object argument1, Object argument2) {
+		logger.debug(nullsafeString(format), argument1, argument2);
+	}
+
+	@Override
+	public void debug(String format, Object... arguments) {
+		logger.debug(nullsafeString(format), arguments);
+	}
+
 	@Override
 	public boolean isDebugEnabled() {
 		return logger.isDebugEnabled();
@@ -40,6 +55,21 @@ final class Slf4jTraceeLogger implements TraceeLogger {
         logger.error(nullsafeString(message), t);
     }
 
+	@Override
+	public void error(String format, Object argument) {
+		logger.error(nullsafeString(format), argument);
+	}
+
+	@Override
+	public void error(String format, Object argument1, Object argument2) {
+		logger.error(nullsafeString(format), argument1, argument2);
+	}
+
+	@Override
+	public void error(String format, Object... arguments) {
+		logger.error(nullsafeString(format), arguments);
+	}
+
 	@Override
 	public boolean isErrorEnabled() {
 		return logger.isErrorEnabled();
@@ -53,6 +83,21 @@ final class Slf4jTraceeLogger implements TraceeLogger {
         logger.info(nullsafeString(message), t);
     }
 
+	@Override
+	public void info(String format, Object argument) {
+		logger.info(nullsafeString(format), argument);
+	}
+
+	@Override
+	public void info(String format, Object argument1, Object argument2) {
+		logger.info(nullsafeString(format), argument1, argument2);
+	}
+
+	@Override
+	public void info(String format, Object... arguments) {
+		logger.info(nullsafeString(format), arguments);
+	}
+
 	@Override
 	public boolean isInfoEnabled() {
 		return logger.isInfoEnabled();
@@ -66,6 +111,21 @@ final class Slf4jTraceeLogger implements TraceeLogger {
         logger.warn(nullsafeString(message), t);
     }
 
+	@Override
+	public void warn(String format, Object argument) {
+		logger.warn(nullsafeString(format), argument);
+	}
+
+	@Override
+	public void warn(String format, Object argument1, Object argument2) {
+		logger.warn(nullsafeString(format), argument1, argument2);
+	}
+
+	@Override
+	public void warn(String format, Object... arguments) {
+		logger.warn(nullsafeString(format), arguments);
+	}
+
 	@Override
 	public boolean isWarnEnabled() {
 		return logger.isWarnEnabled();
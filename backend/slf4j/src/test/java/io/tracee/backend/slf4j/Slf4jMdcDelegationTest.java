@@ -1,6 +1,7 @@
 package io.tracee.backend.slf4j;
 
-import io.tracee.ThreadLocalHashSet;
+import io.tracee.ContextSnapshot;
+import io.tracee.ThreadLocalContext;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -9,22 +10,27 @@ import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 import org.slf4j.MDC;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.never;
 import static org.powermock.api.mockito.PowerMockito.when;
 
 @RunWith(PowerMockRunner.class)
 @PrepareForTest(MDC.class)
 public class Slf4jMdcDelegationTest {
 
-	private final ThreadLocalHashSet<String> traceeKeys = new ThreadLocalHashSet<String>();
+	private final ThreadLocalContext context = new ThreadLocalContext();
 
-	private final Slf4jTraceeBackend unit = new Slf4jTraceeBackend(traceeKeys);
+	private final Slf4jTraceeBackend unit = new Slf4jTraceeBackend(context);
 
 	@Before
 	public void setup() {
-		traceeKeys.get().add("BB");
+		context.set(ContextSnapshot.copyOf(Collections.singletonMap("BB", "vBB")));
 		PowerMockito.mockStatic(MDC.class);
 	}
 
@@ -36,15 +42,15 @@ public class Slf4jMdcDelegationTest {
 	}
 
 	@Test
-	public void shouldReturnTrueIfKeyIsInMDC() {
-		when(MDC.get("BB")).thenReturn("vBB");
+	public void shouldReturnTrueIfKeyIsInContext() {
 		assertThat(unit.containsKey("BB"), is(true));
 	}
 
 	@Test
-	public void shouldReturnValueFromMDC() {
-		when(MDC.get("BB")).thenReturn("vBB");
+	public void shouldReturnValueFromContextWithoutReadingMDC() {
 		assertThat(unit.get("BB"), equalTo("vBB"));
+		PowerMockito.verifyStatic(never());
+		MDC.get("BB");
 	}
 
 	@Test
@@ -53,4 +59,38 @@ public class Slf4jMdcDelegationTest {
 		PowerMockito.verifyStatic();
 		MDC.remove("BB");
 	}
+
+	@Test
+	public void shouldReplaceMDCOnceWhenPuttingSeveralEntries() {
+		final Map<String, String> mdc = new HashMap<String, String>();
+		mdc.put("foreign", "value");
+		when(MDC.getCopyOfContextMap()).thenReturn(mdc);
+		final Map<String, String> entries = new HashMap<String, String>();
+		entries.put("A", "vA");
+		entries.put("B", "vB");
+		unit.putAll(entries);
+
+		final Map<String, String> expected = new HashMap<String, String>(entries);
+		expected.put("foreign", "value");
+		PowerMockito.verifyStatic();
+		MDC.setContextMap(expected);
+		PowerMockito.verifyStatic(never());
+		MDC.put("A", "vA");
+	}
+
+	@Test
+	public void shouldReplaceMDCOnceWhenRemovingSeveralEntries() {
+		unit.put("A", "vA");
+		final Map<String, String> mdc = new HashMap<String, String>();
+		mdc.put("foreign", "value");
+		mdc.put("A", "vA");
+		mdc.put("BB", "vBB");
+		when(MDC.getCopyOfContextMap()).thenReturn(mdc);
+		unit.clear();
+
+		PowerMockito.verifyStatic();
+		MDC.setContextMap(Collections.singletonMap("foreign", "value"));
+		PowerMockito.verifyStatic(never());
+		MDC.remove("A");
+	}
 }
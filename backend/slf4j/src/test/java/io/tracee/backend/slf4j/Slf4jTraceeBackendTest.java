@@ -1,6 +1,6 @@
 package io.tracee.backend.slf4j;
 
-import io.tracee.ThreadLocalHashSet;
+import io.tracee.ThreadLocalContext;
 import org.junit.Test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -12,7 +12,7 @@ public class Slf4jTraceeBackendTest {
 
 	@Test
 	public void shouldProvideSlf4JBackend() {
-		final Slf4jTraceeBackend backend = new Slf4jTraceeBackend(new ThreadLocalHashSet<String>());
+		final Slf4jTraceeBackend backend = new Slf4jTraceeBackend(new ThreadLocalContext());
 		assertThat(backend.getLoggerFactory().getLogger(Slf4jTraceeBackendTest.class), is(not(nullValue())));
 	}
 }
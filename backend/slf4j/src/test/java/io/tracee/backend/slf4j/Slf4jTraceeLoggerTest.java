@@ -96,4 +96,22 @@ public class Slf4jTraceeLoggerTest {
 		when(mockedLogger.isErrorEnabled()).thenReturn(true);
 		assertThat(UNIT.isErrorEnabled(), is(true));
 	}
+
+	@Test
+	public void delegateParameterizedDebugMessageToLogger() {
+		UNIT.debug("{}", "A");
+		verify(mockedLogger).debug("{}", "A");
+	}
+
+	@Test
+	public void delegateParameterizedInfoMessageWithTwoArgumentsToLogger() {
+		UNIT.info("{} and {}", "A", "B");
+		verify(mockedLogger).info("{} and {}", "A", "B");
+	}
+
+	@Test
+	public void delegateParameterizedErrorMessageWithTrailingExceptionToLogger() {
+		UNIT.error("Failed {} and {}", "A", "B", EXCEPTION);
+		verify(mockedLogger).error("Failed {} and {}", new Object[]{"A", "B", EXCEPTION});
+	}
 }
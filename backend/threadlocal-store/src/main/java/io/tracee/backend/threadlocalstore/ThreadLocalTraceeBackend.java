@@ -1,40 +1,32 @@
 package io.tracee.backend.threadlocalstore;
 
+import io.tracee.ContextSnapshot;
 import io.tracee.MDCLikeTraceeBackend;
-import io.tracee.ThreadLocalHashSet;
 import io.tracee.TraceeLogger;
 import io.tracee.TraceeLoggerFactory;
 
+/**
+ * Backend for applications without a supported logging framework. There is no MDC to mirror the context to, so the
+ * thread local context is the only storage and every read or write is a single thread local lookup.
+ */
 class ThreadLocalTraceeBackend extends MDCLikeTraceeBackend {
 
-	private final ThreadLocalMap<String, String> threadLocalMap;
-
-	public ThreadLocalTraceeBackend(ThreadLocalHashSet<String> traceeKeys) {
-		super(traceeKeys, new TraceeLoggerFactory() {
+	public ThreadLocalTraceeBackend(ThreadLocal<ContextSnapshot> context) {
+		super(context, new TraceeLoggerFactory() {
 			@Override
 			public TraceeLogger getLogger(Class<?> clazz) {
 				return new ThreadLocalTraceeLogger(clazz);
 			}
 		});
-		this.threadLocalMap = new ThreadLocalMap<String, String>();
-	}
-
-	@Override
-	protected String getFromMdc(String key) {
-		return threadLocalMap.get().get(key);
 	}
 
 	@Override
 	protected void putToMdc(String key, String value) {
-		threadLocalMap.get().put(key, value);
+		// the context is the only storage
 	}
 
 	@Override
 	protected void removeFromMdc(String key) {
-		threadLocalMap.get().remove(key);
-	}
-
-	ThreadLocalMap<String, String> getThreadLocalMap() {
-		return threadLocalMap;
+		// the context is the only storage
 	}
 }
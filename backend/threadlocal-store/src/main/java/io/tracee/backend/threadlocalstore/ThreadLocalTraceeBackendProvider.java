@@ -1,14 +1,15 @@
 package io.tracee.backend.threadlocalstore;
 
-import io.tracee.ThreadLocalHashSet;
+import io.tracee.ContextSnapshot;
+import io.tracee.ThreadLocalContext;
 import io.tracee.TraceeBackend;
 import io.tracee.spi.TraceeBackendProvider;
 
 public class ThreadLocalTraceeBackendProvider implements TraceeBackendProvider {
 
-	private static final ThreadLocalHashSet<String> TRACEE_KEYS = new ThreadLocalHashSet<String>();
+	private static final ThreadLocal<ContextSnapshot> CONTEXT = ThreadLocalContext.create();
 
-	private final TraceeBackend traceeBackend = new ThreadLocalTraceeBackend(TRACEE_KEYS);
+	private final TraceeBackend traceeBackend = new ThreadLocalTraceeBackend(CONTEXT);
 
 	@Override
 	public final TraceeBackend provideBackend() {
@@ -1,5 +1,6 @@
 package io.tracee.backend.threadlocalstore;
 
+import io.tracee.LogMessage;
 import io.tracee.TraceeLogger;
 
 /**
@@ -22,6 +23,10 @@ final class ThreadLocalTraceeLogger implements TraceeLogger {
         this.createLogEntry(level, message, null);
     }
 
+    private void createLogEntry(final LEVEL level, final LogMessage message) {
+		this.createLogEntry(level, message.getMessage(), message.getThrowable());
+	}
+
     private void createLogEntry(final LEVEL level, final String message, final Throwable t) {
 		System.err.println(buildLogString(level, message));
         if (t != null) {
@@ -43,6 +48,21 @@ final class ThreadLocalTraceeLogger implements TraceeLogger {
         // drop debug message
     }
 
+	@Override
+	public void debug(final String format, final Object argument) {
+		// drop debug message
+	}
+
+	@Override
+	public void debug(final String format, final Object argument1, final Object argument2) {
+		// drop debug message
+	}
+
+	@Override
+	public void debug(final String format, final Object... arguments) {
+		// drop debug message
+	}
+
 	@Override
 	public boolean isDebugEnabled() {
 		return false;
@@ -56,6 +76,21 @@ final class ThreadLocalTraceeLogger implements TraceeLogger {
         this.createLogEntry(LEVEL.ERROR, message, t);
     }
 
+	@Override
+	public void error(final String format, final Object argument) {
+		this.createLogEntry(LEVEL.ERROR, LogMessage.format(format, argument));
+	}
+
+	@Override
+	public void error(final String format, final Object argument1, final Object argument2) {
+		this.createLogEntry(LEVEL.ERROR, LogMessage.format(format, argument1, argument2));
+	}
+
+	@Override
+	public void error(final String format, final Object... arguments) {
+		this.createLogEntry(LEVEL.ERROR, LogMessage.format(format, arguments));
+	}
+
 	@Override
 	public boolean isErrorEnabled() {
 		return true;
@@ -69,6 +104,21 @@ final class ThreadLocalTraceeLogger implements TraceeLogger {
         // drop info message
     }
 
+	@Override
+	public void info(final String format, final Object argument) {
+		// drop info message
+	}
+
+	@Override
+	public void info(final String format, final Object argument1, final Object argument2) {
+		// drop info message
+	}
+
+	@Override
+	public void info(final String format, final Object... arguments) {
+		// drop info message
+	}
+
 	@Override
 	public boolean isInfoEnabled() {
 		return false;
@@ -82,6 +132,21 @@ final class ThreadLocalTraceeLogger implements TraceeLogger {
         this.createLogEntry(LEVEL.WARN, message, t);
     }
 
+	@Override
+	public void warn(final String format, final Object argument) {
+		this.createLogEntry(LEVEL.WARN, LogMessage.format(format, argument));
+	}
+
+	@Override
+	public void warn(final String format, final Object argument1, final Object argument2) {
+		this.createLogEntry(LEVEL.WARN, LogMessage.format(format, argument1, argument2));
+	}
+
+	@Override
+	public void warn(final String format, final Object... arguments) {
+		this.createLogEntry(LEVEL.WARN, LogMessage.format(format, arguments));
+	}
+
 	@Override
 	public boolean isWarnEnabled() {
 		return true;
@@ -1,17 +1,21 @@
 package io.tracee.backend.threadlocalstore;
 
-import io.tracee.ThreadLocalHashSet;
+import io.tracee.ContextSnapshot;
+import io.tracee.ThreadLocalContext;
 import io.tracee.TraceeLogger;
 import org.junit.Test;
 
+import java.util.Collections;
+
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 
 public class ThreadLocalTraceeBackendTest {
 
-    private ThreadLocalTraceeBackend unit = new ThreadLocalTraceeBackend(new ThreadLocalHashSet<String>());
+    private ThreadLocalTraceeBackend unit = new ThreadLocalTraceeBackend(new ThreadLocalContext());
 
     @Test
     public void testStoredKeys() {
@@ -33,4 +37,45 @@ public class ThreadLocalTraceeBackendTest {
 		TraceeLogger traceeLogger = unit.getLoggerFactory().getLogger(this.getClass());
 		assertThat(traceeLogger, is(instanceOf(ThreadLocalTraceeLogger.class)));
 	}
+
+	@Test
+	public void shouldReturnTrueIfKeyIsInContext() {
+		final ThreadLocalContext context = new ThreadLocalContext();
+		context.set(ContextSnapshot.copyOf(Collections.singletonMap("BB", "vBB")));
+		assertThat(new ThreadLocalTraceeBackend(context).containsKey("BB"), is(true));
+	}
+
+	@Test
+	public void removeDropsKeyFromContext() {
+		unit.put("FOO", "BAR");
+		unit.remove("FOO");
+		assertThat(unit.containsKey("FOO"), is(false));
+		assertThat(unit.isEmpty(), is(true));
+	}
+
+	@Test
+	public void childThreadSeesContextIfContextIsInherited() throws InterruptedException {
+		assertThat(valueSeenByChildThread(ThreadLocalContext.create(true)), is("BAR"));
+	}
+
+	@Test
+	public void childThreadStartsEmptyIfContextIsNotInherited() throws InterruptedException {
+		assertThat(valueSeenByChildThread(ThreadLocalContext.create(false)), is(nullValue()));
+	}
+
+	private String valueSeenByChildThread(ThreadLocal<ContextSnapshot> context) throws InterruptedException {
+		final ThreadLocalTraceeBackend backend = new ThreadLocalTraceeBackend(context);
+		backend.put("FOO", "BAR");
+		final String[] seen = new String[1];
+		final Thread child = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				seen[0] = backend.get("FOO");
+			}
+		});
+		child.start();
+		child.join();
+		backend.clear();
+		return seen[0];
+	}
 }
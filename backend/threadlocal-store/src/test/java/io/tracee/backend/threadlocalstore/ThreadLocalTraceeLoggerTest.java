@@ -14,6 +14,7 @@ import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Mockito.*;
+import static org.mockito.Matchers.endsWith;
 
 public class ThreadLocalTraceeLoggerTest {
 
@@ -119,4 +120,29 @@ public class ThreadLocalTraceeLoggerTest {
 	public void returnTrueBecauseErrorLoggingIsAlwaysEnabled() {
 		MatcherAssert.assertThat(UNIT.isErrorEnabled(), is(true));
 	}
+
+	@Test
+	public void parameterizedDebugShouldBeDiscardedWithoutFormatting() throws Exception {
+		UNIT.debug("{}", new Object() {
+			@Override
+			public String toString() {
+				throw new AssertionError("argument must not be formatted");
+			}
+		});
+		verify(System.err, never()).println(anyString());
+	}
+
+	@Test
+	public void parameterizedErrorShouldBeLoggedFormatted() throws Exception {
+		UNIT.error("{} and {}", "A", "B");
+		verify(System.err).println(endsWith(":A and B"));
+	}
+
+	@Test
+	public void parameterizedWarnWithTrailingThrowableShouldBeLoggedWithStacktrace() throws Exception {
+		final Error t = mock(Error.class);
+		UNIT.warn("Failed {}", "A", t);
+		verify(System.err).println(endsWith(":Failed A"));
+		verify(t).printStackTrace(System.err);
+	}
 }
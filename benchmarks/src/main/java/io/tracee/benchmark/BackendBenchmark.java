@@ -0,0 +1,128 @@
+package io.tracee.benchmark;
+
+import io.tracee.ContextKey;
+import io.tracee.TraceeBackend;
+import io.tracee.TraceeConstants;
+import io.tracee.backend.jbosslogging.JbossLoggingTraceeBackendProvider;
+import io.tracee.backend.log4j.Log4jTraceeBackendProvider;
+import io.tracee.backend.log4j2.Log4j2TraceeBackendProvider;
+import io.tracee.backend.log4j2contextdata.Log4j2ContextDataTraceeBackendProvider;
+import io.tracee.backend.logback.LogbackTraceeBackendProvider;
+import io.tracee.backend.slf4j.Slf4jTraceeBackendProvider;
+import io.tracee.backend.threadlocalstore.ThreadLocalTraceeBackendProvider;
+import io.tracee.spi.TraceeBackendProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the basic context operations of every {@link io.tracee.MDCLikeTraceeBackend}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BackendBenchmark {
+
+	@Param({"slf4j", "logback", "log4j", "log4j2", "log4j2-contextdata", "jboss-logging", "threadlocal-store"})
+	public String backendName;
+
+	@Param({"1", "4", "16"})
+	public int contextSize;
+
+	private TraceeBackend backend;
+	private Map<String, String> context;
+	private String existingKey;
+	private int putCounter;
+
+	private final String[] values = {"value-a", "value-b"};
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		backend = provider(backendName).provideBackend();
+		context = ContextFixture.context(contextSize);
+		existingKey = context.keySet().iterator().next();
+	}
+
+	@Setup(Level.Iteration)
+	public void fillContext() {
+		backend.clear();
+		backend.putAll(context);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		backend.clear();
+	}
+
+	/**
+	 * Alternates the value so that every put really changes the context.
+	 */
+	@Benchmark
+	public void put() {
+		backend.put("benchmark.key", values[putCounter++ & 1]);
+	}
+
+	@Benchmark
+	public String get() {
+		return backend.get(existingKey);
+	}
+
+	@Benchmark
+	public String getRequestIdByName() {
+		return backend.get(TraceeConstants.REQUEST_ID_KEY);
+	}
+
+	@Benchmark
+	public String getRequestIdByContextKey() {
+		return backend.get(ContextKey.REQUEST_ID);
+	}
+
+	@Benchmark
+	public Map<String, String> copyToMap() {
+		return backend.copyToMap();
+	}
+
+	/**
+	 * Clearing alone would leave an empty context after the first call, so the context is filled again.
+	 */
+	@Benchmark
+	public void putAllAndClear() {
+		backend.putAll(context);
+		backend.clear();
+	}
+
+	static TraceeBackendProvider provider(String backendName) {
+		if ("slf4j".equals(backendName)) {
+			return new Slf4jTraceeBackendProvider();
+		} else if ("logback".equals(backendName)) {
+			return new LogbackTraceeBackendProvider();
+		} else if ("log4j".equals(backendName)) {
+			return new Log4jTraceeBackendProvider();
+		} else if ("log4j2".equals(backendName)) {
+			return new Log4j2TraceeBackendProvider();
+		} else if ("log4j2-contextdata".equals(backendName)) {
+			return new Log4j2ContextDataTraceeBackendProvider();
+		} else if ("jboss-logging".equals(backendName)) {
+			return new JbossLoggingTraceeBackendProvider();
+		} else if ("threadlocal-store".equals(backendName)) {
+			return new ThreadLocalTraceeBackendProvider();
+		}
+		throw new IllegalArgumentException("Unknown backend " + backendName);
+	}
+}
@@ -0,0 +1,115 @@
+package io.tracee.benchmark;
+
+import io.tracee.TraceeBackend;
+import io.tracee.backend.threadlocalstore.ThreadLocalTraceeBackendProvider;
+import io.tracee.binding.completablefuture.TraceeCompletionStage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Measures chains of dependent stages built on {@link TraceeCompletionStage} compared to plain
+ * {@link CompletableFuture}s. Divide the difference by the chain length to get the overhead per stage.
+ * <p/>
+ * The synchronous chains run on the benchmark thread and show the cost of capturing and installing the context alone.
+ * The asynchronous chains hop to a pool thread for every stage.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CompletionStageBenchmark {
+
+	@Param({"1", "10", "100"})
+	public int chainLength;
+
+	@Param({"4"})
+	public int contextSize;
+
+	private TraceeBackend backend;
+
+	private ExecutorService pool;
+
+	private final Function<Integer, Integer> increment = new Function<Integer, Integer>() {
+		@Override
+		public Integer apply(Integer value) {
+			return value + 1;
+		}
+	};
+
+	@Setup
+	public void setUp() {
+		backend = new ThreadLocalTraceeBackendProvider().provideBackend();
+		backend.putAll(ContextFixture.context(contextSize));
+		pool = Executors.newSingleThreadExecutor();
+	}
+
+	@TearDown
+	public void tearDown() {
+		pool.shutdownNow();
+		backend.clear();
+	}
+
+	@Benchmark
+	public Integer synchronousChain() throws ExecutionException, InterruptedException {
+		final CompletableFuture<Integer> trigger = new CompletableFuture<Integer>();
+		CompletionStage<Integer> stage = trigger;
+		for (int i = 0; i < chainLength; i++) {
+			stage = stage.thenApply(increment);
+		}
+		trigger.complete(0);
+		return stage.toCompletableFuture().get();
+	}
+
+	@Benchmark
+	public Integer synchronousTraceeChain() throws ExecutionException, InterruptedException {
+		final CompletableFuture<Integer> trigger = new CompletableFuture<Integer>();
+		CompletionStage<Integer> stage = TraceeCompletionStage.of(trigger, backend);
+		for (int i = 0; i < chainLength; i++) {
+			stage = stage.thenApply(increment);
+		}
+		trigger.complete(0);
+		return stage.toCompletableFuture().get();
+	}
+
+	@Benchmark
+	public Integer asynchronousChain() throws ExecutionException, InterruptedException {
+		final CompletableFuture<Integer> trigger = new CompletableFuture<Integer>();
+		CompletionStage<Integer> stage = trigger;
+		for (int i = 0; i < chainLength; i++) {
+			stage = stage.thenApplyAsync(increment, pool);
+		}
+		trigger.complete(0);
+		return stage.toCompletableFuture().get();
+	}
+
+	@Benchmark
+	public Integer asynchronousTraceeChain() throws ExecutionException, InterruptedException {
+		final CompletableFuture<Integer> trigger = new CompletableFuture<Integer>();
+		CompletionStage<Integer> stage = TraceeCompletionStage.of(trigger, backend);
+		for (int i = 0; i < chainLength; i++) {
+			stage = stage.thenApplyAsync(increment, pool);
+		}
+		trigger.complete(0);
+		return stage.toCompletableFuture().get();
+	}
+}
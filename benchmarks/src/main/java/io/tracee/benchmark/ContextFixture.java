@@ -0,0 +1,32 @@
+package io.tracee.benchmark;
+
+import io.tracee.TraceeConstants;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Builds TracEE contexts of a given size that look like real world contexts.
+ */
+final class ContextFixture {
+
+	private ContextFixture() {
+	}
+
+	/**
+	 * @return a context that contains the request and session id plus additional custom entries.
+	 */
+	static Map<String, String> context(int size) {
+		final Map<String, String> context = new HashMap<String, String>();
+		if (size > 0) {
+			context.put(TraceeConstants.REQUEST_ID_KEY, "0f8fad5bd9cb469fa16570867728950e");
+		}
+		if (size > 1) {
+			context.put(TraceeConstants.SESSION_ID_KEY, "7c9e6679742540de944be07fc1f90ae7");
+		}
+		for (int i = 2; i < size; i++) {
+			context.put("custom.key" + i, "custom value " + i);
+		}
+		return context;
+	}
+}
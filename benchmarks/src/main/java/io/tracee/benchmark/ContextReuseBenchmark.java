@@ -0,0 +1,85 @@
+package io.tracee.benchmark;
+
+import io.tracee.ContextKey;
+import io.tracee.ThreadLocalContext;
+import io.tracee.TraceeBackend;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the request cycle of a pooled thread, which fills the context and clears it at the end, with the thread
+ * local entry being removed or kept by {@value ThreadLocalContext#REUSE_PROPERTY}. Run it with the GC profiler (see
+ * {@link TraceeBenchmarks}) to compare the allocation rate per cycle.
+ * <p/>
+ * Like {@link ThreadCreationBenchmark} the property is set as system property before the provider is created.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ContextReuseBenchmark {
+
+	@Param({"slf4j", "logback", "threadlocal-store"})
+	public String backendName;
+
+	@Param({"false", "true"})
+	public boolean reuse;
+
+	@Param({"1", "4"})
+	public int contextSize;
+
+	private TraceeBackend backend;
+	private Map<String, String> context;
+	private String requestId;
+
+	@Setup
+	public void setUp() {
+		System.setProperty(ThreadLocalContext.REUSE_PROPERTY, String.valueOf(reuse));
+		backend = BackendBenchmark.provider(backendName).provideBackend();
+		context = ContextFixture.context(contextSize);
+		requestId = context.values().iterator().next();
+	}
+
+	@TearDown
+	public void tearDown() {
+		backend.clear();
+		System.clearProperty(ThreadLocalContext.REUSE_PROPERTY);
+	}
+
+	@Benchmark
+	public void putAllAndClear() {
+		backend.putAll(context);
+		backend.clear();
+	}
+
+	@Benchmark
+	public void putRequestIdAndClear() {
+		backend.put(ContextKey.REQUEST_ID, requestId);
+		backend.clear();
+	}
+
+	/**
+	 * A request that never fills the context, e.g. a filter that clears the context and reads the request id of the
+	 * next request.
+	 */
+	@Benchmark
+	public String clearAndGet() {
+		backend.clear();
+		return backend.get(ContextKey.REQUEST_ID);
+	}
+}
@@ -0,0 +1,90 @@
+package io.tracee.benchmark;
+
+import io.tracee.ContextSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the flat array storage of {@link ContextSnapshot} with the copy-on-write {@link HashMap} it replaced. The
+ * {@code hashMap*} benchmarks do what a snapshot did before: a read-only view of a {@link HashMap} that is copied on
+ * every write.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ContextSnapshotBenchmark {
+
+	@Param({"2", "6", "16"})
+	public int contextSize;
+
+	private ContextSnapshot snapshot;
+	private Map<String, String> hashMap;
+	private String existingKey;
+	private int putCounter;
+
+	private final String[] values = {"value-a", "value-b"};
+
+	@Setup
+	public void setUp() {
+		final Map<String, String> context = ContextFixture.context(contextSize);
+		snapshot = ContextSnapshot.copyOf(context);
+		hashMap = Collections.unmodifiableMap(new HashMap<String, String>(context));
+		// an equal but not identical key, like a key that has been parsed from a header
+		existingKey = new String(context.keySet().iterator().next());
+	}
+
+	@Benchmark
+	public String snapshotGet() {
+		return snapshot.get(existingKey);
+	}
+
+	@Benchmark
+	public String hashMapGet() {
+		return hashMap.get(existingKey);
+	}
+
+	/**
+	 * Alternates the value so that every put really changes the context.
+	 */
+	@Benchmark
+	public ContextSnapshot snapshotPut() {
+		return snapshot.with("benchmark.key", values[putCounter++ & 1]);
+	}
+
+	@Benchmark
+	public Map<String, String> hashMapPut() {
+		final Map<String, String> copy = new HashMap<String, String>(hashMap);
+		copy.put("benchmark.key", values[putCounter++ & 1]);
+		return Collections.unmodifiableMap(copy);
+	}
+
+	/**
+	 * A mutable copy, as it is made by the filter configuration before rendering a context.
+	 */
+	@Benchmark
+	public Map<String, String> snapshotCopy() {
+		return new HashMap<String, String>(snapshot.asMap());
+	}
+
+	@Benchmark
+	public Map<String, String> hashMapCopy() {
+		return new HashMap<String, String>(hashMap);
+	}
+}
@@ -0,0 +1,105 @@
+package io.tracee.benchmark;
+
+import io.tracee.TraceeBackend;
+import io.tracee.TraceeConstants;
+import io.tracee.backend.threadlocalstore.ThreadLocalTraceeBackendProvider;
+import io.tracee.concurrent.TraceeExecutors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead of {@link TraceeExecutors} compared to the unwrapped executors.
+ * <p/>
+ * The pool benchmarks submit a task and wait for its result. The direct benchmarks run the task on the calling thread
+ * and therefore show the cost of capturing and installing the context alone.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ExecutorBenchmark {
+
+	@Param({"1", "4", "16"})
+	public int contextSize;
+
+	private TraceeBackend backend;
+
+	private ExecutorService pool;
+	private ExecutorService wrappedPool;
+
+	private final Executor direct = new Executor() {
+		@Override
+		public void execute(Runnable command) {
+			command.run();
+		}
+	};
+	private Executor wrappedDirect;
+
+	private final Callable<String> callable = new Callable<String>() {
+		@Override
+		public String call() {
+			return backend.get(TraceeConstants.REQUEST_ID_KEY);
+		}
+	};
+
+	private final Runnable runnable = new Runnable() {
+		@Override
+		public void run() {
+			backend.get(TraceeConstants.REQUEST_ID_KEY);
+		}
+	};
+
+	@Setup
+	public void setUp() {
+		backend = new ThreadLocalTraceeBackendProvider().provideBackend();
+		pool = Executors.newSingleThreadExecutor();
+		wrappedPool = TraceeExecutors.wrap(pool, backend);
+		wrappedDirect = TraceeExecutors.wrap(direct, backend);
+		backend.putAll(ContextFixture.context(contextSize));
+	}
+
+	@TearDown
+	public void tearDown() {
+		pool.shutdownNow();
+		backend.clear();
+	}
+
+	@Benchmark
+	public String submitToPool() throws ExecutionException, InterruptedException {
+		return pool.submit(callable).get();
+	}
+
+	@Benchmark
+	public String submitToWrappedPool() throws ExecutionException, InterruptedException {
+		return wrappedPool.submit(callable).get();
+	}
+
+	@Benchmark
+	public void executeDirectly() {
+		direct.execute(runnable);
+	}
+
+	@Benchmark
+	public void executeWrappedDirectly() {
+		wrappedDirect.execute(runnable);
+	}
+}
@@ -0,0 +1,64 @@
+package io.tracee.benchmark;
+
+import io.tracee.backend.threadlocalstore.ThreadLocalTraceeBackendProvider;
+import io.tracee.configuration.PropertiesBasedTraceeFilterConfiguration;
+import io.tracee.configuration.PropertyChain;
+import io.tracee.configuration.TraceeFilterConfiguration;
+import io.tracee.configuration.TraceeFilterConfiguration.Channel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link PropertiesBasedTraceeFilterConfiguration#filterDeniedParams(Map, Channel)} for typical kinds of
+ * channel patterns.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FilterConfigurationBenchmark {
+
+	private static final Channel CHANNEL = Channel.OutgoingRequest;
+
+	@Param({"1", "4", "16"})
+	public int contextSize;
+
+	/**
+	 * The patterns of the benchmarked channel. They are separated by {@code ;} since {@code ,} separates
+	 * JMH parameter values.
+	 */
+	@Param({".*", "traceeRequestId;traceeSessionId", "tracee.*;custom.*", "tracee[A-Z][a-z]+Id;custom\\.key[0-9]+"})
+	public String patterns;
+
+	private TraceeFilterConfiguration configuration;
+	private Map<String, String> context;
+
+	@Setup
+	public void setUp() {
+		final Properties properties = new Properties();
+		properties.setProperty("tracee.default." + CHANNEL.name(), patterns.replace(';', ','));
+		configuration = new PropertiesBasedTraceeFilterConfiguration(
+				new ThreadLocalTraceeBackendProvider().provideBackend().getLoggerFactory(), PropertyChain.build(properties));
+		context = ContextFixture.context(contextSize);
+	}
+
+	@Benchmark
+	public Map<String, String> filterDeniedParams() {
+		return configuration.filterDeniedParams(context, CHANNEL);
+	}
+}
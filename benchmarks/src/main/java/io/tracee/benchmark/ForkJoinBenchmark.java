@@ -0,0 +1,141 @@
+package io.tracee.benchmark;
+
+import io.tracee.TraceeBackend;
+import io.tracee.backend.threadlocalstore.ThreadLocalTraceeBackendProvider;
+import io.tracee.binding.forkjoin.TraceeForkJoin;
+import io.tracee.binding.forkjoin.TraceeRecursiveTask;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sums an array by recursively forking tasks, with plain {@link RecursiveTask}s and with {@link TraceeRecursiveTask}s.
+ * The number of forks is {@code size / threshold}, so the difference per fork is the overhead of capturing and
+ * installing the context.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ForkJoinBenchmark {
+
+	@Param({"65536"})
+	public int size;
+
+	@Param({"16", "1024"})
+	public int threshold;
+
+	@Param({"4"})
+	public int contextSize;
+
+	private TraceeBackend backend;
+	private ForkJoinPool pool;
+	private long[] values;
+
+	@Setup
+	public void setUp() {
+		backend = new ThreadLocalTraceeBackendProvider().provideBackend();
+		backend.putAll(ContextFixture.context(contextSize));
+		pool = TraceeForkJoin.newPool(Runtime.getRuntime().availableProcessors(), backend);
+		values = new long[size];
+		for (int i = 0; i < size; i++) {
+			values[i] = i;
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		pool.shutdownNow();
+		backend.clear();
+	}
+
+	@Benchmark
+	public long recursiveTask() {
+		return pool.invoke(new SumTask(values, 0, size, threshold));
+	}
+
+	@Benchmark
+	public long traceeRecursiveTask() {
+		return pool.invoke(new TraceeSumTask(backend, values, 0, size, threshold));
+	}
+
+	private static long sum(long[] values, int from, int to) {
+		long sum = 0;
+		for (int i = from; i < to; i++) {
+			sum += values[i];
+		}
+		return sum;
+	}
+
+	private static final class SumTask extends RecursiveTask<Long> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final long[] values;
+		private final int from;
+		private final int to;
+		private final int threshold;
+
+		private SumTask(long[] values, int from, int to, int threshold) {
+			this.values = values;
+			this.from = from;
+			this.to = to;
+			this.threshold = threshold;
+		}
+
+		@Override
+		protected Long compute() {
+			if (to - from <= threshold) {
+				return sum(values, from, to);
+			}
+			final int middle = (from + to) >>> 1;
+			final SumTask left = new SumTask(values, from, middle, threshold);
+			left.fork();
+			return new SumTask(values, middle, to, threshold).compute() + left.join();
+		}
+	}
+
+	private static final class TraceeSumTask extends TraceeRecursiveTask<Long> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final long[] values;
+		private final int from;
+		private final int to;
+		private final int threshold;
+
+		private TraceeSumTask(TraceeBackend backend, long[] values, int from, int to, int threshold) {
+			super(backend);
+			this.values = values;
+			this.from = from;
+			this.to = to;
+			this.threshold = threshold;
+		}
+
+		@Override
+		protected Long computeInContext() {
+			if (to - from <= threshold) {
+				return sum(values, from, to);
+			}
+			final int middle = (from + to) >>> 1;
+			final TraceeSumTask left = new TraceeSumTask(getBackend(), values, from, middle, threshold);
+			left.fork();
+			return new TraceeSumTask(getBackend(), values, middle, to, threshold).computeInContext() + left.join();
+		}
+	}
+}
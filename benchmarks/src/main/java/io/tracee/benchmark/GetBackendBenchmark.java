@@ -0,0 +1,105 @@
+package io.tracee.benchmark;
+
+import io.tracee.Tracee;
+import io.tracee.TraceeBackend;
+import io.tracee.backend.threadlocalstore.ThreadLocalTraceeBackendProvider;
+import io.tracee.spi.TraceeBackendProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.URL;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Tracee#getBackend()} once the provider has been resolved, compared to calling the provider directly.
+ * <p/>
+ * The benchmarks jar contains all backends, so every benchmark thread uses a context classloader that only exposes
+ * the threadlocal-store provider to the {@link java.util.ServiceLoader}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GetBackendBenchmark {
+
+	private static final String SERVICES_FILE = "META-INF/services/" + TraceeBackendProvider.class.getName();
+
+	private final TraceeBackendProvider provider = new ThreadLocalTraceeBackendProvider();
+
+	private ClassLoader previousContextClassLoader;
+
+	@Setup
+	public void setUp() throws IOException {
+		previousContextClassLoader = Thread.currentThread().getContextClassLoader();
+		Thread.currentThread().setContextClassLoader(new SingleProviderClassLoader(ThreadLocalTraceeBackendProvider.class,
+				GetBackendBenchmark.class.getClassLoader()));
+		// resolve the provider before measuring
+		Tracee.getBackend();
+	}
+
+	@TearDown
+	public void tearDown() {
+		Thread.currentThread().setContextClassLoader(previousContextClassLoader);
+	}
+
+	@Benchmark
+	public TraceeBackend getBackend() {
+		return Tracee.getBackend();
+	}
+
+	@Benchmark
+	@Threads(4)
+	public TraceeBackend getBackendContended() {
+		return Tracee.getBackend();
+	}
+
+	@Benchmark
+	public TraceeBackend provideBackendDirectly() {
+		return provider.provideBackend();
+	}
+
+	private static final class SingleProviderClassLoader extends ClassLoader {
+
+		private final URL servicesFile;
+
+		private SingleProviderClassLoader(Class<? extends TraceeBackendProvider> providerClass, ClassLoader parent) throws IOException {
+			super(parent);
+			final File file = File.createTempFile("tracee-benchmark", ".services");
+			file.deleteOnExit();
+			final Writer writer = new OutputStreamWriter(new FileOutputStream(file), "UTF-8");
+			try {
+				writer.write(providerClass.getName());
+			} finally {
+				writer.close();
+			}
+			servicesFile = file.toURI().toURL();
+		}
+
+		@Override
+		public Enumeration<URL> getResources(String name) throws IOException {
+			if (SERVICES_FILE.equals(name)) {
+				return Collections.enumeration(Collections.singletonList(servicesFile));
+			}
+			return super.getResources(name);
+		}
+	}
+}
@@ -0,0 +1,58 @@
+package io.tracee.benchmark;
+
+import io.tracee.TraceeLoggerFactory;
+import io.tracee.backend.threadlocalstore.ThreadLocalTraceeBackendProvider;
+import io.tracee.transport.HttpHeaderTransport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures rendering and parsing of the TPIC http header.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HttpHeaderTransportBenchmark {
+
+	@Param({"1", "4", "16"})
+	public int contextSize;
+
+	private HttpHeaderTransport transport;
+	private Map<String, String> context;
+	private List<String> header;
+
+	@Setup
+	public void setUp() {
+		final TraceeLoggerFactory loggerFactory = new ThreadLocalTraceeBackendProvider().provideBackend().getLoggerFactory();
+		transport = new HttpHeaderTransport(loggerFactory);
+		context = ContextFixture.context(contextSize);
+		header = Collections.singletonList(transport.render(context));
+	}
+
+	@Benchmark
+	public String render() {
+		return transport.render(context);
+	}
+
+	@Benchmark
+	public Map<String, String> parse() {
+		return transport.parse(header);
+	}
+}
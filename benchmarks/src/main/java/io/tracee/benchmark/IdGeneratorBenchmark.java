@@ -0,0 +1,85 @@
+package io.tracee.benchmark;
+
+import io.tracee.IdGenerators;
+import io.tracee.backend.threadlocalstore.ThreadLocalTraceeBackendProvider;
+import io.tracee.spi.IdGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the builtin request id generators, single threaded and under contention.
+ * <p/>
+ * The per character benchmarks generate ids the way TracEE did before the generators were pluggable, with one random
+ * draw per character, as baseline for the random generator.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdGeneratorBenchmark {
+
+	private static final char[] ALPHANUMERICS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789".toCharArray();
+
+	private static final int LENGTH = 32;
+
+	@State(Scope.Benchmark)
+	public static class Generator {
+
+		@Param({IdGenerators.RANDOM, IdGenerators.COUNTER, IdGenerators.TIME_ORDERED})
+		public String generatorName;
+
+		private IdGenerator generator;
+
+		@Setup
+		public void setUp() {
+			generator = IdGenerators.forName(generatorName,
+					new ThreadLocalTraceeBackendProvider().provideBackend().getLoggerFactory().getLogger(IdGeneratorBenchmark.class));
+		}
+	}
+
+	@Benchmark
+	public String generate(Generator state) {
+		return state.generator.generate(LENGTH);
+	}
+
+	@Benchmark
+	@Threads(4)
+	public String generateContended(Generator state) {
+		return state.generator.generate(LENGTH);
+	}
+
+	@Benchmark
+	public String generatePerCharacter() {
+		return perCharacter();
+	}
+
+	@Benchmark
+	@Threads(4)
+	public String generatePerCharacterContended() {
+		return perCharacter();
+	}
+
+	private static String perCharacter() {
+		final Random random = ThreadLocalRandom.current();
+		final char[] chars = new char[LENGTH];
+		for (int i = 0; i < LENGTH; i++) {
+			chars[i] = ALPHANUMERICS[random.nextInt(ALPHANUMERICS.length)];
+		}
+		return new String(chars);
+	}
+}
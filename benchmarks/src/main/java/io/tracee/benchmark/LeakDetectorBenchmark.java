@@ -0,0 +1,83 @@
+package io.tracee.benchmark;
+
+import io.tracee.ContextKey;
+import io.tracee.ContextLeakDetector;
+import io.tracee.TraceeBackend;
+import io.tracee.TraceeScope;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead of the {@link ContextLeakDetector} on a unit of work of a binding, for every mode of
+ * {@value ContextLeakDetector#MODE_PROPERTY}.
+ * <p/>
+ * The detector reads its mode once, so like in {@link ThreadCreationBenchmark} the property is set as system property
+ * before the detector is used for the first time in the fork.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LeakDetectorBenchmark {
+
+	@Param({"off", "log", "clear"})
+	public String mode;
+
+	@Param({"slf4j", "threadlocal-store"})
+	public String backendName;
+
+	private TraceeBackend backend;
+	private ContextLeakDetector detector;
+	private Map<String, String> context;
+	private String requestId;
+
+	@Setup
+	public void setUp() {
+		System.setProperty(ContextLeakDetector.MODE_PROPERTY, mode);
+		backend = BackendBenchmark.provider(backendName).provideBackend();
+		detector = ContextLeakDetector.getInstance();
+		context = ContextFixture.context(4);
+		requestId = context.get(ContextKey.REQUEST_ID.getName());
+	}
+
+	@TearDown
+	public void tearDown() {
+		backend.clear();
+		System.clearProperty(ContextLeakDetector.MODE_PROPERTY);
+	}
+
+	/**
+	 * A unit of work that cleans up, which is all the detector costs in production.
+	 */
+	@Benchmark
+	public void unitOfWork() {
+		final TraceeScope scope = detector.openScope(backend, LeakDetectorBenchmark.class);
+		backend.put(ContextKey.REQUEST_ID, requestId);
+		scope.close();
+	}
+
+	/**
+	 * A unit of work that starts with a leaked context and leaks its own scope, too. Every unit of work closes the
+	 * leaked scope of the previous one and, unless the mode is {@code off}, reports it.
+	 */
+	@Benchmark
+	public void leakedUnitOfWork() {
+		backend.putAll(context);
+		detector.openScope(backend, LeakDetectorBenchmark.class);
+	}
+}
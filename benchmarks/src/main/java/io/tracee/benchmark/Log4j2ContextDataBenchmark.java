@@ -0,0 +1,120 @@
+package io.tracee.benchmark;
+
+import io.tracee.TraceeBackend;
+import io.tracee.backend.log4j2.Log4j2TraceeBackendProvider;
+import io.tracee.backend.log4j2contextdata.Log4j2ContextDataTraceeBackendProvider;
+import io.tracee.backend.log4j2contextdata.TraceeContextDataInjector;
+import org.apache.logging.log4j.core.ContextDataInjector;
+import org.apache.logging.log4j.core.impl.ThreadContextDataInjector;
+import org.apache.logging.log4j.util.SortedArrayStringMap;
+import org.apache.logging.log4j.util.StringMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures what a log event costs to pick up the context: the {@link TraceeContextDataInjector} of
+ * tracee-log4j2-contextdata against the injectors of log4j2 that read the context mirrored into the ThreadContext by
+ * tracee-log4j2. The {@code gc.alloc.rate.norm} of the GC profiler is the allocation per log event.
+ * <p/>
+ * The {@code *AfterPut} benchmarks change the context before every log event, which includes the mirroring into the
+ * ThreadContext and the creation of a new view by the TracEE injector.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class Log4j2ContextDataBenchmark {
+
+	/**
+	 * The ThreadContext map of tracee-log4j2: the copy-on-write default or the garbage-free map of log4j2.
+	 */
+	@Param({"copy-on-write", "garbage-free"})
+	public String threadContextMap;
+
+	@Param({"4", "16"})
+	public int contextSize;
+
+	private TraceeBackend log4j2Backend;
+	private ContextDataInjector threadContextInjector;
+
+	private TraceeBackend contextDataBackend;
+	private ContextDataInjector traceeInjector;
+
+	/**
+	 * The map of a reused log event in garbage-free mode.
+	 */
+	private final StringMap reusable = new SortedArrayStringMap();
+	private int putCounter;
+
+	private final String[] values = {"value-a", "value-b"};
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		// every trial runs in its own fork, so the ThreadContext has not been initialized yet
+		if ("garbage-free".equals(threadContextMap)) {
+			System.setProperty("log4j2.threadContextMap", "org.apache.logging.log4j.spi.GarbageFreeSortedArrayThreadContextMap");
+			threadContextInjector = new ThreadContextDataInjector.ForGarbageFreeThreadContextMap();
+		} else {
+			System.setProperty("log4j2.threadContextMap", "org.apache.logging.log4j.spi.CopyOnWriteSortedArrayThreadContextMap");
+			threadContextInjector = new ThreadContextDataInjector.ForCopyOnWriteThreadContextMap();
+		}
+		final Map<String, String> context = ContextFixture.context(contextSize);
+		log4j2Backend = new Log4j2TraceeBackendProvider().provideBackend();
+		log4j2Backend.putAll(context);
+
+		contextDataBackend = new Log4j2ContextDataTraceeBackendProvider().provideBackend();
+		contextDataBackend.putAll(context);
+		traceeInjector = new TraceeContextDataInjector();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		log4j2Backend.clear();
+		contextDataBackend.clear();
+	}
+
+	@Benchmark
+	public StringMap threadContextInjector() {
+		reusable.clear();
+		return threadContextInjector.injectContextData(null, reusable);
+	}
+
+	@Benchmark
+	public StringMap traceeInjector() {
+		reusable.clear();
+		return traceeInjector.injectContextData(null, reusable);
+	}
+
+	/**
+	 * Alternates the value so that every put really changes the context.
+	 */
+	@Benchmark
+	public StringMap threadContextInjectorAfterPut() {
+		log4j2Backend.put("benchmark.key", values[putCounter++ & 1]);
+		reusable.clear();
+		return threadContextInjector.injectContextData(null, reusable);
+	}
+
+	@Benchmark
+	public StringMap traceeInjectorAfterPut() {
+		contextDataBackend.put("benchmark.key", values[putCounter++ & 1]);
+		reusable.clear();
+		return traceeInjector.injectContextData(null, reusable);
+	}
+}
@@ -0,0 +1,81 @@
+package io.tracee.benchmark;
+
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import io.tracee.TraceeBackend;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.MDC;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares tracee-logback with tracee-slf4j on top of logback for the context updates of a request: the incoming
+ * context is put, a log event reads the MDC, the context of a response is merged, another log event reads the MDC and
+ * the context is cleared at the end. After a log event has read the MDC, the {@link LogbackMDCAdapter} copies its map
+ * on the next write.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LogbackBenchmark {
+
+	@Param({"slf4j", "logback"})
+	public String backendName;
+
+	@Param({"4", "8", "16"})
+	public int contextSize;
+
+	private TraceeBackend backend;
+	private LogbackMDCAdapter mdcAdapter;
+	private Map<String, String> incomingContext;
+	private Map<String, String> responseContext;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		backend = BackendBenchmark.provider(backendName).provideBackend();
+		mdcAdapter = (LogbackMDCAdapter) MDC.getMDCAdapter();
+		incomingContext = ContextFixture.context(contextSize);
+		// a response usually brings back most of the context unchanged plus a few new entries
+		responseContext = new HashMap<String, String>(incomingContext);
+		responseContext.put("response.key1", "response value 1");
+		responseContext.put("response.key2", "response value 2");
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		backend.clear();
+	}
+
+	@Benchmark
+	public Map<String, String> request() {
+		backend.putAll(incomingContext);
+		logEvent();
+		backend.putAll(responseContext);
+		final Map<String, String> mdc = logEvent();
+		backend.clear();
+		return mdc;
+	}
+
+	/**
+	 * A log event takes the map of the MDC, just like a {@code ch.qos.logback.classic.spi.LoggingEvent} does.
+	 */
+	private Map<String, String> logEvent() {
+		return mdcAdapter.getPropertyMap();
+	}
+}
@@ -0,0 +1,60 @@
+package io.tracee.benchmark;
+
+import io.tracee.metrics.DefaultTraceeMetrics;
+import io.tracee.spi.TraceeMetrics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures what recording to the {@link DefaultTraceeMetrics} adds to a binding callback, single threaded and with
+ * all threads recording to the same metrics. {@link #nanoTime()} is the part of a binding time that is not recorded.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MetricsBenchmark {
+
+	private final DefaultTraceeMetrics metrics = new DefaultTraceeMetrics();
+
+	@Benchmark
+	public long nanoTime() {
+		return System.nanoTime();
+	}
+
+	@Benchmark
+	public void bindingTime() {
+		final long start = System.nanoTime();
+		metrics.bindingTime(TraceeMetrics.Binding.SERVLET, System.nanoTime() - start);
+	}
+
+	@Benchmark
+	@Threads(4)
+	public void bindingTimeContended() {
+		final long start = System.nanoTime();
+		metrics.bindingTime(TraceeMetrics.Binding.SERVLET, System.nanoTime() - start);
+	}
+
+	@Benchmark
+	public void headerParsed() {
+		metrics.headerParsed(64);
+	}
+
+	@Benchmark
+	@Threads(4)
+	public void headerParsedContended() {
+		metrics.headerParsed(64);
+	}
+}
@@ -0,0 +1,55 @@
+package io.tracee.benchmark;
+
+import io.tracee.transport.SoapHeaderTransport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.xml.bind.JAXBException;
+import javax.xml.soap.MessageFactory;
+import javax.xml.soap.SOAPException;
+import javax.xml.soap.SOAPHeader;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a round trip of the TPIC soap header: the context is rendered into a fresh soap header and parsed back.
+ * The creation of the soap message is part of the measurement, as it is for every real message.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SoapHeaderTransportBenchmark {
+
+	@Param({"1", "4", "16"})
+	public int contextSize;
+
+	private SoapHeaderTransport transport;
+	private MessageFactory messageFactory;
+	private Map<String, String> context;
+
+	@Setup
+	public void setUp() throws SOAPException {
+		transport = new SoapHeaderTransport();
+		messageFactory = MessageFactory.newInstance();
+		context = ContextFixture.context(contextSize);
+	}
+
+	@Benchmark
+	public Map<String, String> roundTrip() throws SOAPException, JAXBException {
+		final SOAPHeader soapHeader = messageFactory.createMessage().getSOAPHeader();
+		transport.renderSoapHeader(context, soapHeader);
+		return transport.parseSoapHeader(soapHeader);
+	}
+}
@@ -0,0 +1,73 @@
+package io.tracee.benchmark;
+
+import io.tracee.ThreadLocalContext;
+import io.tracee.TraceeBackend;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures starting and joining a thread while the creating thread holds a context, with and without inheritance of
+ * the context.
+ * <p/>
+ * The backend providers read {@value ThreadLocalContext#INHERITABLE_PROPERTY} once when they are loaded. JMH runs
+ * every parameter combination in a fresh fork, so the property is set as system property before the provider is
+ * created.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ThreadCreationBenchmark {
+
+	@Param({"slf4j", "log4j", "log4j2", "jboss-logging", "threadlocal-store"})
+	public String backendName;
+
+	@Param({"true", "false"})
+	public boolean inheritable;
+
+	@Param({"4", "16"})
+	public int contextSize;
+
+	private TraceeBackend backend;
+
+	private final Runnable noop = new Runnable() {
+		@Override
+		public void run() {
+			// only the thread start is measured
+		}
+	};
+
+	@Setup
+	public void setUp() {
+		System.setProperty(ThreadLocalContext.INHERITABLE_PROPERTY, String.valueOf(inheritable));
+		backend = BackendBenchmark.provider(backendName).provideBackend();
+		backend.putAll(ContextFixture.context(contextSize));
+	}
+
+	@TearDown
+	public void tearDown() {
+		backend.clear();
+		System.clearProperty(ThreadLocalContext.INHERITABLE_PROPERTY);
+	}
+
+	@Benchmark
+	public void startThread() throws InterruptedException {
+		final Thread thread = new Thread(noop);
+		thread.start();
+		thread.join();
+	}
+}
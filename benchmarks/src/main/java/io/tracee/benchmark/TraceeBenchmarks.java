@@ -0,0 +1,35 @@
+package io.tracee.benchmark;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+
+/**
+ * Runs the TracEE benchmarks with the GC profiler attached, so that every result reports throughput as well as
+ * allocation rate. Accepts the usual JMH command line options, e.g. {@code -p contextSize=4 BackendBenchmark}. Options
+ * that list benchmarks or print help, like {@code -l} and {@code -h}, are handed to the JMH launcher.
+ */
+public final class TraceeBenchmarks {
+
+	private TraceeBenchmarks() {
+	}
+
+	public static void main(String[] args) throws RunnerException, CommandLineOptionException, IOException {
+		final CommandLineOptions options = new CommandLineOptions(args);
+		if (options.shouldHelp() || options.shouldList() || options.shouldListWithParams()
+				|| options.shouldListProfilers() || options.shouldListResultFormats()) {
+			Main.main(args);
+			return;
+		}
+		new Runner(new OptionsBuilder()
+				.parent(options)
+				.addProfiler(GCProfiler.class)
+				.build()).run();
+	}
+}
@@ -0,0 +1,117 @@
+package io.tracee.benchmark;
+
+import io.tracee.ContextSnapshot;
+import io.tracee.TraceeBackend;
+import io.tracee.TraceeConstants;
+import io.tracee.backend.scopedvalue.ScopedValueTraceeBackendProvider;
+import io.tracee.backend.scopedvalue.TraceeScopes;
+import io.tracee.backend.threadlocalstore.ThreadLocalTraceeBackendProvider;
+import io.tracee.concurrent.ContextPropagation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Starts a virtual thread per task and writes and reads a request id in each of them, compared between the
+ * threadlocal-store backend and the scopedvalue backend. Run it with the GC profiler to compare the allocations of
+ * both backends per batch of threads.
+ * <p/>
+ * The benchmark thread holds a context that reaches every task with both backends: the threadlocal-store backend
+ * copies the inheritable state into every new thread, while the scopedvalue backend runs each task in a scope that
+ * starts with the context captured from the benchmark thread. Requires Java 21 or above; the scopedvalue backend only
+ * uses {@code ScopedValue} on Java 25 and above, when built with {@code -Pjava25}.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class VirtualThreadBenchmark {
+
+	@Param({"threadlocal-store", "scopedvalue"})
+	public String backendName;
+
+	@Param({"1000000"})
+	public int threadCount;
+
+	@Param({"4"})
+	public int contextSize;
+
+	private TraceeBackend backend;
+	private Runnable task;
+
+	@Setup
+	public void setUp() {
+		if ("scopedvalue".equals(backendName)) {
+			backend = new ScopedValueTraceeBackendProvider().provideBackend();
+			backend.putAll(ContextFixture.context(contextSize));
+			final ContextSnapshot parentContext = ContextPropagation.capture(backend);
+			final Runnable requestTask = requestTask(backend, parentContext);
+			task = new Runnable() {
+				@Override
+				public void run() {
+					TraceeScopes.run(parentContext, requestTask);
+				}
+			};
+		} else {
+			backend = new ThreadLocalTraceeBackendProvider().provideBackend();
+			backend.putAll(ContextFixture.context(contextSize));
+			task = requestTask(backend, ContextPropagation.capture(backend));
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		backend.clear();
+	}
+
+	@Benchmark
+	public void startVirtualThreads() throws InterruptedException {
+		final ExecutorService executor = newVirtualThreadPerTaskExecutor();
+		for (int i = 0; i < threadCount; i++) {
+			executor.execute(task);
+		}
+		executor.shutdown();
+		executor.awaitTermination(1, TimeUnit.MINUTES);
+	}
+
+	/**
+	 * Fails if the task does not see the context of the benchmark thread, so both backends are compared on equal terms.
+	 */
+	private static Runnable requestTask(final TraceeBackend backend, final ContextSnapshot parentContext) {
+		final String parentKey = parentContext.asMap().keySet().iterator().next();
+		return new Runnable() {
+			@Override
+			public void run() {
+				if (backend.get(parentKey) == null) {
+					throw new IllegalStateException("Task does not see the context of the benchmark thread");
+				}
+				backend.put(TraceeConstants.REQUEST_ID_KEY, "0f8fad5bd9cb469fa16570867728950e");
+				backend.get(TraceeConstants.REQUEST_ID_KEY);
+				backend.clear();
+			}
+		};
+	}
+
+	private static ExecutorService newVirtualThreadPerTaskExecutor() {
+		try {
+			return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		} catch (Exception e) {
+			throw new IllegalStateException("Virtual threads require Java 21 or above", e);
+		}
+	}
+}
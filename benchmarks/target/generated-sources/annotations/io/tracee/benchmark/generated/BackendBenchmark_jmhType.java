@@ -0,0 +1,4 @@
+package io.tracee.benchmark.generated;
+public class BackendBenchmark_jmhType extends BackendBenchmark_jmhType_B3 {
+}
+
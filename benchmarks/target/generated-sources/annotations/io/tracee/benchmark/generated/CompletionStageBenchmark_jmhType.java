@@ -0,0 +1,4 @@
+package io.tracee.benchmark.generated;
+public class CompletionStageBenchmark_jmhType extends CompletionStageBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package io.tracee.benchmark.generated;
+public class ContextReuseBenchmark_jmhType extends ContextReuseBenchmark_jmhType_B3 {
+}
+
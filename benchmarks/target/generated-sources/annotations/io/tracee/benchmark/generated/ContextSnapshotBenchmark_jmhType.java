@@ -0,0 +1,4 @@
+package io.tracee.benchmark.generated;
+public class ContextSnapshotBenchmark_jmhType extends ContextSnapshotBenchmark_jmhType_B3 {
+}
+
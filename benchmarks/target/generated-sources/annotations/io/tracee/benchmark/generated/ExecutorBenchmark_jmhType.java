@@ -0,0 +1,4 @@
+package io.tracee.benchmark.generated;
+public class ExecutorBenchmark_jmhType extends ExecutorBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package io.tracee.benchmark.generated;
+public class FilterConfigurationBenchmark_jmhType extends FilterConfigurationBenchmark_jmhType_B3 {
+}
+
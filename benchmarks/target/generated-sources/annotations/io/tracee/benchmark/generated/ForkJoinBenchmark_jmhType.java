@@ -0,0 +1,4 @@
+package io.tracee.benchmark.generated;
+public class ForkJoinBenchmark_jmhType extends ForkJoinBenchmark_jmhType_B3 {
+}
+
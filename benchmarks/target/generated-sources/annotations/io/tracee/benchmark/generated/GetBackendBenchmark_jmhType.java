@@ -0,0 +1,4 @@
+package io.tracee.benchmark.generated;
+public class GetBackendBenchmark_jmhType extends GetBackendBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package io.tracee.benchmark.generated;
+public class HttpHeaderTransportBenchmark_jmhType extends HttpHeaderTransportBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package io.tracee.benchmark.generated;
+public class IdGeneratorBenchmark_Generator_jmhType extends IdGeneratorBenchmark_Generator_jmhType_B3 {
+}
+
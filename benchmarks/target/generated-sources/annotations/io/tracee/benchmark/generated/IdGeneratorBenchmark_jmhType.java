@@ -0,0 +1,4 @@
+package io.tracee.benchmark.generated;
+public class IdGeneratorBenchmark_jmhType extends IdGeneratorBenchmark_jmhType_B3 {
+}
+
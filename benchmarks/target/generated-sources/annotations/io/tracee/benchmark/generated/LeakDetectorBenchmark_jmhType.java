@@ -0,0 +1,4 @@
+package io.tracee.benchmark.generated;
+public class LeakDetectorBenchmark_jmhType extends LeakDetectorBenchmark_jmhType_B3 {
+}
+
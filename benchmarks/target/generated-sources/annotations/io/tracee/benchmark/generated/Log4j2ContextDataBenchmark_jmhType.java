@@ -0,0 +1,4 @@
+package io.tracee.benchmark.generated;
+public class Log4j2ContextDataBenchmark_jmhType extends Log4j2ContextDataBenchmark_jmhType_B3 {
+}
+
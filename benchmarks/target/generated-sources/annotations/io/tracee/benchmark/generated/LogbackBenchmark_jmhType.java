@@ -0,0 +1,4 @@
+package io.tracee.benchmark.generated;
+public class LogbackBenchmark_jmhType extends LogbackBenchmark_jmhType_B3 {
+}
+
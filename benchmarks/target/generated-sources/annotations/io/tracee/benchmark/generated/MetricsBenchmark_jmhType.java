@@ -0,0 +1,4 @@
+package io.tracee.benchmark.generated;
+public class MetricsBenchmark_jmhType extends MetricsBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package io.tracee.benchmark.generated;
+public class SoapHeaderTransportBenchmark_jmhType extends SoapHeaderTransportBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package io.tracee.benchmark.generated;
+public class ThreadCreationBenchmark_jmhType extends ThreadCreationBenchmark_jmhType_B3 {
+}
+
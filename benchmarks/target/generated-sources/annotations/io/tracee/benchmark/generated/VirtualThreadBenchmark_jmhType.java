@@ -0,0 +1,4 @@
+package io.tracee.benchmark.generated;
+public class VirtualThreadBenchmark_jmhType extends VirtualThreadBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,93 @@
+package io.tracee.binding.completablefuture;
+
+import io.tracee.ContextSnapshot;
+import io.tracee.TraceeBackend;
+import io.tracee.concurrent.ContextPropagation;
+
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Wraps the functions of a stage, so that they run with the given context on whatever thread completes the stage.
+ * <p/>
+ * Installing the context is a reference comparison if the thread already runs with it, which is the case for
+ * dependent stages that run synchronously on the thread of the previous stage.
+ */
+final class ContextualFunctions {
+
+	private ContextualFunctions() {
+		// hide constructor
+	}
+
+	static Runnable runnable(final TraceeBackend backend, final ContextSnapshot snapshot, final Runnable action) {
+		return () -> {
+			final ContextSnapshot previous = ContextPropagation.install(backend, snapshot);
+			try {
+				action.run();
+			} finally {
+				ContextPropagation.install(backend, previous);
+			}
+		};
+	}
+
+	static <U> Supplier<U> supplier(final TraceeBackend backend, final ContextSnapshot snapshot, final Supplier<U> supplier) {
+		return () -> {
+			final ContextSnapshot previous = ContextPropagation.install(backend, snapshot);
+			try {
+				return supplier.get();
+			} finally {
+				ContextPropagation.install(backend, previous);
+			}
+		};
+	}
+
+	static <T> Consumer<T> consumer(final TraceeBackend backend, final ContextSnapshot snapshot, final Consumer<? super T> action) {
+		return t -> {
+			final ContextSnapshot previous = ContextPropagation.install(backend, snapshot);
+			try {
+				action.accept(t);
+			} finally {
+				ContextPropagation.install(backend, previous);
+			}
+		};
+	}
+
+	static <T, U> BiConsumer<T, U> biConsumer(final TraceeBackend backend, final ContextSnapshot snapshot,
+											  final BiConsumer<? super T, ? super U> action) {
+		return (t, u) -> {
+			final ContextSnapshot previous = ContextPropagation.install(backend, snapshot);
+			try {
+				action.accept(t, u);
+			} finally {
+				ContextPropagation.install(backend, previous);
+			}
+		};
+	}
+
+	static <T, R> Function<T, R> function(final TraceeBackend backend, final ContextSnapshot snapshot,
+										  final Function<? super T, ? extends R> fn) {
+		return t -> {
+			final ContextSnapshot previous = ContextPropagation.install(backend, snapshot);
+			try {
+				return fn.apply(t);
+			} finally {
+				ContextPropagation.install(backend, previous);
+			}
+		};
+	}
+
+	static <T, U, R> BiFunction<T, U, R> biFunction(final TraceeBackend backend, final ContextSnapshot snapshot,
+													final BiFunction<? super T, ? super U, ? extends R> fn) {
+		return (t, u) -> {
+			final ContextSnapshot previous = ContextPropagation.install(backend, snapshot);
+			try {
+				return fn.apply(t, u);
+			} finally {
+				ContextPropagation.install(backend, previous);
+			}
+		};
+	}
+}
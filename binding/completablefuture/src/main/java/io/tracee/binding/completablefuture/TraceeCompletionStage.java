@@ -0,0 +1,300 @@
+package io.tracee.binding.completablefuture;
+
+import io.tracee.ContextSnapshot;
+import io.tracee.Tracee;
+import io.tracee.TraceeBackend;
+import io.tracee.concurrent.ContextPropagation;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static io.tracee.binding.completablefuture.ContextualFunctions.biConsumer;
+import static io.tracee.binding.completablefuture.ContextualFunctions.biFunction;
+import static io.tracee.binding.completablefuture.ContextualFunctions.consumer;
+import static io.tracee.binding.completablefuture.ContextualFunctions.function;
+import static io.tracee.binding.completablefuture.ContextualFunctions.runnable;
+import static io.tracee.binding.completablefuture.ContextualFunctions.supplier;
+
+/**
+ * A {@link CompletionStage} whose functions run with the TracEE context of the thread that created their stage.
+ * <p/>
+ * The context is captured as immutable snapshot whenever a dependent stage is created and installed while its function
+ * runs, regardless of whether it runs on the completing thread, the {@link java.util.concurrent.ForkJoinPool#commonPool()}
+ * or a custom executor. The previous context of that thread is restored afterwards. All dependent stages are
+ * TraceeCompletionStages as well, so whole pipelines are covered once their first stage is.
+ * <p/>
+ * Start pipelines with {@link #supplyAsync(Supplier)}, {@link #runAsync(Runnable)} or adopt an existing stage
+ * with {@link #of(CompletionStage)}.
+ */
+public final class TraceeCompletionStage<T> implements CompletionStage<T> {
+
+	private final CompletableFuture<T> delegate;
+	private final TraceeBackend backend;
+
+	private TraceeCompletionStage(CompletableFuture<T> delegate, TraceeBackend backend) {
+		this.delegate = delegate;
+		this.backend = backend;
+	}
+
+	public static <T> TraceeCompletionStage<T> of(CompletionStage<T> stage) {
+		return of(stage, Tracee.getBackend());
+	}
+
+	public static <T> TraceeCompletionStage<T> of(CompletionStage<T> stage, TraceeBackend backend) {
+		if (stage instanceof TraceeCompletionStage && ((TraceeCompletionStage<T>) stage).backend == backend) {
+			return (TraceeCompletionStage<T>) stage;
+		}
+		return new TraceeCompletionStage<T>(stage.toCompletableFuture(), backend);
+	}
+
+	public static <U> TraceeCompletionStage<U> supplyAsync(Supplier<U> supplier) {
+		final TraceeBackend backend = Tracee.getBackend();
+		return new TraceeCompletionStage<U>(CompletableFuture.supplyAsync(supplier(backend, snapshot(backend), supplier)), backend);
+	}
+
+	public static <U> TraceeCompletionStage<U> supplyAsync(Supplier<U> supplier, Executor executor) {
+		return supplyAsync(supplier, executor, Tracee.getBackend());
+	}
+
+	public static <U> TraceeCompletionStage<U> supplyAsync(Supplier<U> supplier, Executor executor, TraceeBackend backend) {
+		return new TraceeCompletionStage<U>(CompletableFuture.supplyAsync(supplier(backend, snapshot(backend), supplier), executor), backend);
+	}
+
+	public static TraceeCompletionStage<Void> runAsync(Runnable runnable) {
+		final TraceeBackend backend = Tracee.getBackend();
+		return new TraceeCompletionStage<Void>(CompletableFuture.runAsync(runnable(backend, snapshot(backend), runnable)), backend);
+	}
+
+	public static TraceeCompletionStage<Void> runAsync(Runnable runnable, Executor executor) {
+		return runAsync(runnable, executor, Tracee.getBackend());
+	}
+
+	public static TraceeCompletionStage<Void> runAsync(Runnable runnable, Executor executor, TraceeBackend backend) {
+		return new TraceeCompletionStage<Void>(CompletableFuture.runAsync(runnable(backend, snapshot(backend), runnable), executor), backend);
+	}
+
+	private static ContextSnapshot snapshot(TraceeBackend backend) {
+		return ContextPropagation.capture(backend);
+	}
+
+	private ContextSnapshot snapshot() {
+		return ContextPropagation.capture(backend);
+	}
+
+	private <U> TraceeCompletionStage<U> stage(CompletableFuture<U> future) {
+		return new TraceeCompletionStage<U>(future, backend);
+	}
+
+	@Override
+	public <U> TraceeCompletionStage<U> thenApply(Function<? super T, ? extends U> fn) {
+		return stage(delegate.thenApply(function(backend, snapshot(), fn)));
+	}
+
+	@Override
+	public <U> TraceeCompletionStage<U> thenApplyAsync(Function<? super T, ? extends U> fn) {
+		return stage(delegate.thenApplyAsync(function(backend, snapshot(), fn)));
+	}
+
+	@Override
+	public <U> TraceeCompletionStage<U> thenApplyAsync(Function<? super T, ? extends U> fn, Executor executor) {
+		return stage(delegate.thenApplyAsync(function(backend, snapshot(), fn), executor));
+	}
+
+	@Override
+	public TraceeCompletionStage<Void> thenAccept(Consumer<? super T> action) {
+		return stage(delegate.thenAccept(consumer(backend, snapshot(), action)));
+	}
+
+	@Override
+	public TraceeCompletionStage<Void> thenAcceptAsync(Consumer<? super T> action) {
+		return stage(delegate.thenAcceptAsync(consumer(backend, snapshot(), action)));
+	}
+
+	@Override
+	public TraceeCompletionStage<Void> thenAcceptAsync(Consumer<? super T> action, Executor executor) {
+		return stage(delegate.thenAcceptAsync(consumer(backend, snapshot(), action), executor));
+	}
+
+	@Override
+	public TraceeCompletionStage<Void> thenRun(Runnable action) {
+		return stage(delegate.thenRun(runnable(backend, snapshot(), action)));
+	}
+
+	@Override
+	public TraceeCompletionStage<Void> thenRunAsync(Runnable action) {
+		return stage(delegate.thenRunAsync(runnable(backend, snapshot(), action)));
+	}
+
+	@Override
+	public TraceeCompletionStage<Void> thenRunAsync(Runnable action, Executor executor) {
+		return stage(delegate.thenRunAsync(runnable(backend, snapshot(), action), executor));
+	}
+
+	@Override
+	public <U, V> TraceeCompletionStage<V> thenCombine(CompletionStage<? extends U> other,
+													   BiFunction<? super T, ? super U, ? extends V> fn) {
+		return stage(delegate.thenCombine(other, biFunction(backend, snapshot(), fn)));
+	}
+
+	@Override
+	public <U, V> TraceeCompletionStage<V> thenCombineAsync(CompletionStage<? extends U> other,
+															BiFunction<? super T, ? super U, ? extends V> fn) {
+		return stage(delegate.thenCombineAsync(other, biFunction(backend, snapshot(), fn)));
+	}
+
+	@Override
+	public <U, V> TraceeCompletionStage<V> thenCombineAsync(CompletionStage<? extends U> other,
+															BiFunction<? super T, ? super U, ? extends V> fn, Executor executor) {
+		return stage(delegate.thenCombineAsync(other, biFunction(backend, snapshot(), fn), executor));
+	}
+
+	@Override
+	public <U> TraceeCompletionStage<Void> thenAcceptBoth(CompletionStage<? extends U> other,
+														  BiConsumer<? super T, ? super U> action) {
+		return stage(delegate.thenAcceptBoth(other, biConsumer(backend, snapshot(), action)));
+	}
+
+	@Override
+	public <U> TraceeCompletionStage<Void> thenAcceptBothAsync(CompletionStage<? extends U> other,
+															   BiConsumer<? super T, ? super U> action) {
+		return stage(delegate.thenAcceptBothAsync(other, biConsumer(backend, snapshot(), action)));
+	}
+
+	@Override
+	public <U> TraceeCompletionStage<Void> thenAcceptBothAsync(CompletionStage<? extends U> other,
+															   BiConsumer<? super T, ? super U> action, Executor executor) {
+		return stage(delegate.thenAcceptBothAsync(other, biConsumer(backend, snapshot(), action), executor));
+	}
+
+	@Override
+	public TraceeCompletionStage<Void> runAfterBoth(CompletionStage<?> other, Runnable action) {
+		return stage(delegate.runAfterBoth(other, runnable(backend, snapshot(), action)));
+	}
+
+	@Override
+	public TraceeCompletionStage<Void> runAfterBothAsync(CompletionStage<?> other, Runnable action) {
+		return stage(delegate.runAfterBothAsync(other, runnable(backend, snapshot(), action)));
+	}
+
+	@Override
+	public TraceeCompletionStage<Void> runAfterBothAsync(CompletionStage<?> other, Runnable action, Executor executor) {
+		return stage(delegate.runAfterBothAsync(other, runnable(backend, snapshot(), action), executor));
+	}
+
+	@Override
+	public <U> TraceeCompletionStage<U> applyToEither(CompletionStage<? extends T> other, Function<? super T, U> fn) {
+		return stage(delegate.applyToEither(other, function(backend, snapshot(), fn)));
+	}
+
+	@Override
+	public <U> TraceeCompletionStage<U> applyToEitherAsync(CompletionStage<? extends T> other, Function<? super T, U> fn) {
+		return stage(delegate.applyToEitherAsync(other, function(backend, snapshot(), fn)));
+	}
+
+	@Override
+	public <U> TraceeCompletionStage<U> applyToEitherAsync(CompletionStage<? extends T> other, Function<? super T, U> fn,
+														   Executor executor) {
+		return stage(delegate.applyToEitherAsync(other, function(backend, snapshot(), fn), executor));
+	}
+
+	@Override
+	public TraceeCompletionStage<Void> acceptEither(CompletionStage<? extends T> other, Consumer<? super T> action) {
+		return stage(delegate.acceptEither(other, consumer(backend, snapshot(), action)));
+	}
+
+	@Override
+	public TraceeCompletionStage<Void> acceptEitherAsync(CompletionStage<? extends T> other, Consumer<? super T> action) {
+		return stage(delegate.acceptEitherAsync(other, consumer(backend, snapshot(), action)));
+	}
+
+	@Override
+	public TraceeCompletionStage<Void> acceptEitherAsync(CompletionStage<? extends T> other, Consumer<? super T> action,
+														 Executor executor) {
+		return stage(delegate.acceptEitherAsync(other, consumer(backend, snapshot(), action), executor));
+	}
+
+	@Override
+	public TraceeCompletionStage<Void> runAfterEither(CompletionStage<?> other, Runnable action) {
+		return stage(delegate.runAfterEither(other, runnable(backend, snapshot(), action)));
+	}
+
+	@Override
+	public TraceeCompletionStage<Void> runAfterEitherAsync(CompletionStage<?> other, Runnable action) {
+		return stage(delegate.runAfterEitherAsync(other, runnable(backend, snapshot(), action)));
+	}
+
+	@Override
+	public TraceeCompletionStage<Void> runAfterEitherAsync(CompletionStage<?> other, Runnable action, Executor executor) {
+		return stage(delegate.runAfterEitherAsync(other, runnable(backend, snapshot(), action), executor));
+	}
+
+	@Override
+	public <U> TraceeCompletionStage<U> thenCompose(Function<? super T, ? extends CompletionStage<U>> fn) {
+		return stage(delegate.thenCompose(function(backend, snapshot(), fn)));
+	}
+
+	@Override
+	public <U> TraceeCompletionStage<U> thenComposeAsync(Function<? super T, ? extends CompletionStage<U>> fn) {
+		return stage(delegate.thenComposeAsync(function(backend, snapshot(), fn)));
+	}
+
+	@Override
+	public <U> TraceeCompletionStage<U> thenComposeAsync(Function<? super T, ? extends CompletionStage<U>> fn,
+														 Executor executor) {
+		return stage(delegate.thenComposeAsync(function(backend, snapshot(), fn), executor));
+	}
+
+	@Override
+	public TraceeCompletionStage<T> exceptionally(Function<Throwable, ? extends T> fn) {
+		return stage(delegate.exceptionally(function(backend, snapshot(), fn)));
+	}
+
+	@Override
+	public TraceeCompletionStage<T> whenComplete(BiConsumer<? super T, ? super Throwable> action) {
+		return stage(delegate.whenComplete(biConsumer(backend, snapshot(), action)));
+	}
+
+	@Override
+	public TraceeCompletionStage<T> whenCompleteAsync(BiConsumer<? super T, ? super Throwable> action) {
+		return stage(delegate.whenCompleteAsync(biConsumer(backend, snapshot(), action)));
+	}
+
+	@Override
+	public TraceeCompletionStage<T> whenCompleteAsync(BiConsumer<? super T, ? super Throwable> action, Executor executor) {
+		return stage(delegate.whenCompleteAsync(biConsumer(backend, snapshot(), action), executor));
+	}
+
+	@Override
+	public <U> TraceeCompletionStage<U> handle(BiFunction<? super T, Throwable, ? extends U> fn) {
+		return stage(delegate.handle(biFunction(backend, snapshot(), fn)));
+	}
+
+	@Override
+	public <U> TraceeCompletionStage<U> handleAsync(BiFunction<? super T, Throwable, ? extends U> fn) {
+		return stage(delegate.handleAsync(biFunction(backend, snapshot(), fn)));
+	}
+
+	@Override
+	public <U> TraceeCompletionStage<U> handleAsync(BiFunction<? super T, Throwable, ? extends U> fn, Executor executor) {
+		return stage(delegate.handleAsync(biFunction(backend, snapshot(), fn), executor));
+	}
+
+	/**
+	 * @return the underlying future. Stages that are created from it directly do not propagate the context.
+	 */
+	@Override
+	public CompletableFuture<T> toCompletableFuture() {
+		return delegate;
+	}
+
+	@Override
+	public String toString() {
+		return delegate.toString();
+	}
+}
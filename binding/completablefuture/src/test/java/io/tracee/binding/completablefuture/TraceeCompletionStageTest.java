@@ -0,0 +1,114 @@
+package io.tracee.binding.completablefuture;
+
+import io.tracee.TraceeBackend;
+import io.tracee.backend.threadlocalstore.ThreadLocalTraceeBackendProvider;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class TraceeCompletionStageTest {
+
+	private final TraceeBackend backend = new ThreadLocalTraceeBackendProvider().provideBackend();
+
+	private ExecutorService pool;
+
+	@Before
+	public void createPoolWithStaleContext() throws Exception {
+		// the worker thread inherits the context of the thread that creates it
+		backend.put("request", "A");
+		pool = Executors.newSingleThreadExecutor();
+		pool.submit(() -> { }).get();
+		backend.put("request", "B");
+	}
+
+	@After
+	public void shutdownPool() {
+		pool.shutdownNow();
+		backend.clear();
+	}
+
+	@Test
+	public void supplyAsyncRunsWithContextOfCaller() throws Exception {
+		assertThat(TraceeCompletionStage.supplyAsync(this::readRequest, pool, backend).toCompletableFuture().get(), is("B"));
+	}
+
+	@Test
+	public void supplyAsyncRestoresContextOfWorker() throws Exception {
+		TraceeCompletionStage.supplyAsync(this::readRequest, pool, backend).toCompletableFuture().get();
+		assertThat(pool.submit(this::readRequest).get(), is("A"));
+	}
+
+	@Test
+	public void asyncStageRunsWithContextOfItsCreation() throws Exception {
+		final CompletableFuture<String> trigger = new CompletableFuture<String>();
+		final CompletableFuture<String> result = TraceeCompletionStage.of(trigger, backend)
+				.thenApplyAsync(value -> value + readRequest(), pool).toCompletableFuture();
+		backend.put("request", "C");
+		trigger.complete("value");
+		assertThat(result.get(), is("valueB"));
+	}
+
+	@Test
+	public void synchronousStageRunsWithContextOfItsCreationOnCompletingThread() throws Exception {
+		final CompletableFuture<String> trigger = new CompletableFuture<String>();
+		final CompletableFuture<String> result = TraceeCompletionStage.of(trigger, backend)
+				.thenApply(value -> readRequest()).toCompletableFuture();
+		pool.submit(() -> trigger.complete("value")).get();
+		assertThat(result.get(), is("B"));
+		assertThat(pool.submit(this::readRequest).get(), is("A"));
+	}
+
+	@Test
+	public void everyStageOfAChainCarriesTheContextOfItsCreation() throws Exception {
+		final CompletableFuture<String> trigger = new CompletableFuture<String>();
+		final TraceeCompletionStage<String> first = TraceeCompletionStage.of(trigger, backend)
+				.thenApplyAsync(value -> value + readRequest(), pool);
+		backend.put("request", "C");
+		final CompletableFuture<String> result = first
+				.thenApplyAsync(value -> value + readRequest())
+				.thenCombine(CompletableFuture.completedFuture("-"), (value, other) -> value + other + readRequest())
+				.toCompletableFuture();
+		trigger.complete("");
+		assertThat(result.get(), is("BC-C"));
+	}
+
+	@Test
+	public void composedStageRunsWithContextOfItsCreation() throws Exception {
+		final CompletableFuture<String> result = TraceeCompletionStage.supplyAsync(this::readRequest, pool, backend)
+				.thenCompose(value -> CompletableFuture.completedFuture(value + readRequest()))
+				.toCompletableFuture();
+		assertThat(result.get(), is("BB"));
+	}
+
+	@Test
+	public void exceptionallyRunsWithContextOfItsCreation() throws Exception {
+		final CompletableFuture<String> result = TraceeCompletionStage.<String>supplyAsync(() -> {
+			throw new IllegalStateException();
+		}, pool, backend).exceptionally(e -> readRequest()).toCompletableFuture();
+		assertThat(result.get(), is("B"));
+	}
+
+	@Test
+	public void handleRunsWithContextOfItsCreation() throws Exception {
+		final CompletableFuture<String> result = TraceeCompletionStage.supplyAsync(() -> "value", pool, backend)
+				.handleAsync((value, e) -> value + readRequest(), pool).toCompletableFuture();
+		assertThat(result.get(), is("valueB"));
+	}
+
+	@Test
+	public void adoptingATraceeCompletionStageReturnsIt() {
+		final TraceeCompletionStage<String> stage = TraceeCompletionStage.of(new CompletableFuture<String>(), backend);
+		assertThat(TraceeCompletionStage.of(stage, backend) == stage, is(true));
+	}
+
+	private String readRequest() {
+		return backend.get("request");
+	}
+}
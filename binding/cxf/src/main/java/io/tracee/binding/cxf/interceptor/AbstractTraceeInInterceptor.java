@@ -4,6 +4,8 @@ import io.tracee.TraceeBackend;
 import io.tracee.TraceeConstants;
 import io.tracee.TraceeLogger;
 import io.tracee.configuration.TraceeFilterConfiguration;
+import io.tracee.metrics.Metrics;
+import io.tracee.spi.TraceeMetrics;
 import io.tracee.transport.HttpHeaderTransport;
 import io.tracee.transport.SoapHeaderTransport;
 import org.apache.cxf.binding.soap.SoapMessage;
@@ -46,6 +48,7 @@ abstract class AbstractTraceeInInterceptor extends AbstractPhaseInterceptor<Mess
 
 	@Override
 	public void handleMessage(Message message) throws Fault {
+		final long start = System.nanoTime();
 		if (shouldHandleMessage(message)) {
 			final TraceeFilterConfiguration filterConfiguration = backend.getConfiguration(profile);
 
@@ -62,6 +65,7 @@ abstract class AbstractTraceeInInterceptor extends AbstractPhaseInterceptor<Mess
 				}
 			}
 		}
+		Metrics.get().bindingTime(TraceeMetrics.Binding.CXF, System.nanoTime() - start);
 	}
 
 	private void handleHttpMessage(Message message, TraceeFilterConfiguration filterConfiguration) {
@@ -4,6 +4,9 @@ import io.tracee.TraceeBackend;
 import io.tracee.TraceeConstants;
 import io.tracee.TraceeLogger;
 import io.tracee.configuration.TraceeFilterConfiguration;
+import io.tracee.metrics.Metrics;
+import io.tracee.spi.TraceeMetrics;
+import io.tracee.transport.HttpHeaderRenderCache;
 import io.tracee.transport.HttpHeaderTransport;
 
 import io.tracee.transport.jaxb.TpicMap;
@@ -43,14 +46,14 @@ abstract class AbstractTraceeOutInterceptor extends AbstractPhaseInterceptor<Mes
 
 	@Override
 	public void handleMessage(Message message) throws Fault {
+		final long start = System.nanoTime();
 		if (shouldHandleMessage(message)) {
 			final TraceeFilterConfiguration filterConfiguration = backend.getConfiguration(profile);
 			if (!backend.isEmpty() && filterConfiguration.shouldProcessContext(channel)) {
-                final Map<String, String> filteredParams = filterConfiguration.filterDeniedParams(backend.copyToMap(), channel);
-
 				logger.debug("Interceptor handles message!");
                 if (message instanceof SoapMessage) {
                     final SoapMessage soapMessage = (SoapMessage) message;
+                    final Map<String, String> filteredParams = filterConfiguration.filterDeniedParams(backend.copyToMap(), channel);
 
                     addSoapHeader(filteredParams, soapMessage);
                 } else {
@@ -60,11 +63,12 @@ abstract class AbstractTraceeOutInterceptor extends AbstractPhaseInterceptor<Mes
                         message.put(Message.PROTOCOL_HEADERS, responseHeaders);
                     }
 
-                    final String contextAsHeader = httpSerializer.render(filteredParams);
+                    final String contextAsHeader = HttpHeaderRenderCache.getInstance().render(httpSerializer, backend, filterConfiguration, channel);
                     responseHeaders.put(TraceeConstants.HTTP_HEADER_NAME, Arrays.asList(contextAsHeader));
                 }
             }
 		}
+		Metrics.get().bindingTime(TraceeMetrics.Binding.CXF, System.nanoTime() - start);
 	}
 
 	private void addSoapHeader(Map<String, String> filteredParams, SoapMessage soapMessage) {
@@ -73,7 +77,7 @@ abstract class AbstractTraceeOutInterceptor extends AbstractPhaseInterceptor<Mes
 					new JAXBDataBinding(TpicMap.class));
 			soapMessage.getHeaders().add(tpicHeader);
 		} catch (JAXBException e) {
-			logger.warn("Error occured during TracEE soap header creation: " + e.getMessage());
+			logger.warn("Error occured during TracEE soap header creation: {}", e.getMessage());
 			logger.debug("Detailed exception", e);
 		}
 	}
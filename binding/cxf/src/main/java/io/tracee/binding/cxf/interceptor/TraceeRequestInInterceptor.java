@@ -1,8 +1,11 @@
 package io.tracee.binding.cxf.interceptor;
 
+import io.tracee.ContextLeakDetector;
 import io.tracee.TraceeBackend;
+import io.tracee.TraceeScope;
 import io.tracee.Utilities;
 import org.apache.cxf.interceptor.Fault;
+import org.apache.cxf.message.Exchange;
 import org.apache.cxf.message.Message;
 import org.apache.cxf.message.MessageUtils;
 import org.apache.cxf.phase.Phase;
@@ -21,6 +24,10 @@ public class TraceeRequestInInterceptor extends AbstractTraceeInInterceptor {
 
 	@Override
 	public void handleMessage(Message message) throws Fault {
+		final Exchange exchange = message.getExchange();
+		if (exchange != null && shouldHandleMessage(message)) {
+			exchange.put(TraceeScope.class, ContextLeakDetector.getInstance().openScope(backend, TraceeRequestInInterceptor.class));
+		}
 		super.handleMessage(message);
 		if (shouldHandleMessage(message)) {
 			Utilities.generateRequestIdIfNecessary(backend);
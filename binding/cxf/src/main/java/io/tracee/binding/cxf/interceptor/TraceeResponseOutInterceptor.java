@@ -1,7 +1,10 @@
 package io.tracee.binding.cxf.interceptor;
 
 import io.tracee.TraceeBackend;
+import io.tracee.TraceeScope;
+import io.tracee.Utilities;
 import org.apache.cxf.interceptor.Fault;
+import org.apache.cxf.message.Exchange;
 import org.apache.cxf.message.Message;
 import org.apache.cxf.message.MessageUtils;
 import org.apache.cxf.phase.Phase;
@@ -22,7 +25,8 @@ public class TraceeResponseOutInterceptor extends AbstractTraceeOutInterceptor {
 	public void handleMessage(Message message) throws Fault {
 		super.handleMessage(message);
 		if (shouldHandleMessage(message)) {
-			backend.clear();
+			final Exchange exchange = message.getExchange();
+			Utilities.closeScopeOrClear(backend, exchange != null ? exchange.remove(TraceeScope.class.getName()) : null);
 		}
 	}
 
@@ -3,14 +3,18 @@ package io.tracee.binding.cxf.interceptor;
 import io.tracee.SimpleTraceeBackend;
 import io.tracee.TraceeBackend;
 import io.tracee.TraceeConstants;
+import io.tracee.TraceeScope;
 import io.tracee.transport.HttpHeaderTransport;
 
 import org.apache.cxf.helpers.CastUtils;
+import org.apache.cxf.message.Exchange;
+import org.apache.cxf.message.ExchangeImpl;
 import org.apache.cxf.message.Message;
 import org.apache.cxf.message.MessageImpl;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -47,4 +51,15 @@ public class OutgoingMessageTest {
 		final Map<String, String> traceeContext = httpSerializer.parse(headers.get(TraceeConstants.HTTP_HEADER_NAME));
 		assertThat(traceeContext.get("myContextKey"), is("contextValue2"));
 	}
+
+	@Test
+	public void restoreContextOfScopeOpenedForRequest() {
+		backend.put("outerKey", "outerValue");
+		final Exchange exchange = new ExchangeImpl();
+		exchange.put(TraceeScope.class, backend.openScope());
+		message.setExchange(exchange);
+		backend.put("myContextKey", "contextValue2");
+		outInterceptor.handleMessage(message);
+		assertThat(backend.copyToMap(), is(Collections.singletonMap("outerKey", "outerValue")));
+	}
 }
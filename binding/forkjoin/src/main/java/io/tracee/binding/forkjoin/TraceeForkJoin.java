@@ -0,0 +1,121 @@
+package io.tracee.binding.forkjoin;
+
+import io.tracee.ContextSnapshot;
+import io.tracee.Tracee;
+import io.tracee.TraceeBackend;
+import io.tracee.concurrent.ContextPropagation;
+import io.tracee.concurrent.TraceeExecutors;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinPool.ForkJoinWorkerThreadFactory;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Propagates the TracEE context into {@link ForkJoinPool}s.
+ * <p/>
+ * Workers of pools created by {@link #newPool(int)} start with an empty context, so they never show a leftover of
+ * the thread that happened to trigger their creation. Runnables and callables submitted to these pools run with the
+ * context of the submitting thread. Tasks carry the context of the thread that created them, either by extending
+ * {@link TraceeRecursiveTask} or {@link TraceeRecursiveAction} or by {@link #adapt(Callable)}.
+ * <p/>
+ * The subtasks of parallel streams are created by the stream itself, so the context is carried by the functions of the
+ * stream instead: {@code pool.submit(() -> list.parallelStream().map(TraceeForkJoin.function(this::process))...)}.
+ */
+public final class TraceeForkJoin {
+
+	private TraceeForkJoin() {
+		// hide constructor
+	}
+
+	public static ForkJoinPool newPool(int parallelism) {
+		return newPool(parallelism, Tracee.getBackend());
+	}
+
+	public static ForkJoinPool newPool(int parallelism, TraceeBackend backend) {
+		return new TraceeForkJoinPool(parallelism, backend);
+	}
+
+	/**
+	 * @return a factory of workers that start with an empty context
+	 */
+	public static ForkJoinWorkerThreadFactory workerThreadFactory(final TraceeBackend backend) {
+		return pool -> new TraceeForkJoinWorkerThread(pool, backend);
+	}
+
+	public static <T> ForkJoinTask<T> adapt(Callable<T> task) {
+		return ForkJoinTask.adapt(TraceeExecutors.wrapTask(task));
+	}
+
+	public static <T> ForkJoinTask<T> adapt(Callable<T> task, TraceeBackend backend) {
+		return ForkJoinTask.adapt(TraceeExecutors.wrapTask(task, backend));
+	}
+
+	public static ForkJoinTask<?> adapt(Runnable task) {
+		return ForkJoinTask.adapt(TraceeExecutors.wrapTask(task));
+	}
+
+	public static ForkJoinTask<?> adapt(Runnable task, TraceeBackend backend) {
+		return ForkJoinTask.adapt(TraceeExecutors.wrapTask(task, backend));
+	}
+
+	/**
+	 * @return a function that applies {@code fn} with the current context
+	 */
+	public static <T, R> Function<T, R> function(Function<T, R> fn) {
+		return function(fn, Tracee.getBackend());
+	}
+
+	public static <T, R> Function<T, R> function(final Function<T, R> fn, final TraceeBackend backend) {
+		final ContextSnapshot snapshot = ContextPropagation.capture(backend);
+		return t -> {
+			final ContextSnapshot previous = ContextPropagation.install(backend, snapshot);
+			try {
+				return fn.apply(t);
+			} finally {
+				ContextPropagation.install(backend, previous);
+			}
+		};
+	}
+
+	/**
+	 * @return a predicate that tests with the current context
+	 */
+	public static <T> Predicate<T> predicate(Predicate<T> predicate) {
+		return predicate(predicate, Tracee.getBackend());
+	}
+
+	public static <T> Predicate<T> predicate(final Predicate<T> predicate, final TraceeBackend backend) {
+		final ContextSnapshot snapshot = ContextPropagation.capture(backend);
+		return t -> {
+			final ContextSnapshot previous = ContextPropagation.install(backend, snapshot);
+			try {
+				return predicate.test(t);
+			} finally {
+				ContextPropagation.install(backend, previous);
+			}
+		};
+	}
+
+	/**
+	 * @return a consumer that accepts with the current context
+	 */
+	public static <T> Consumer<T> consumer(Consumer<T> consumer) {
+		return consumer(consumer, Tracee.getBackend());
+	}
+
+	public static <T> Consumer<T> consumer(final Consumer<T> consumer, final TraceeBackend backend) {
+		final ContextSnapshot snapshot = ContextPropagation.capture(backend);
+		return t -> {
+			final ContextSnapshot previous = ContextPropagation.install(backend, snapshot);
+			try {
+				consumer.accept(t);
+			} finally {
+				ContextPropagation.install(backend, previous);
+			}
+		};
+	}
+}
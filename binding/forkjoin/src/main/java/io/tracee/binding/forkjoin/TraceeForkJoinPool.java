@@ -0,0 +1,80 @@
+package io.tracee.binding.forkjoin;
+
+import io.tracee.TraceeBackend;
+import io.tracee.concurrent.TraceeExecutors;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * A pool of workers that start with an empty context. Runnables and callables that are submitted to the pool run
+ * with the context of the thread that submitted them, including parallel streams that are started by them.
+ * {@link ForkJoinTask}s are passed on as they are and carry their own context, see {@link TraceeRecursiveTask}.
+ */
+final class TraceeForkJoinPool extends ForkJoinPool {
+
+	private final TraceeBackend backend;
+
+	TraceeForkJoinPool(int parallelism, TraceeBackend backend) {
+		super(parallelism, TraceeForkJoin.workerThreadFactory(backend), null, false);
+		this.backend = backend;
+	}
+
+	@Override
+	public void execute(Runnable task) {
+		super.execute(task instanceof ForkJoinTask ? task : TraceeExecutors.wrapTask(task, backend));
+	}
+
+	@Override
+	public ForkJoinTask<?> submit(Runnable task) {
+		return super.submit(task instanceof ForkJoinTask ? task : TraceeExecutors.wrapTask(task, backend));
+	}
+
+	@Override
+	public <T> ForkJoinTask<T> submit(Runnable task, T result) {
+		return super.submit(TraceeExecutors.wrapTask(task, backend), result);
+	}
+
+	@Override
+	public <T> ForkJoinTask<T> submit(Callable<T> task) {
+		return super.submit(TraceeExecutors.wrapTask(task, backend));
+	}
+
+	@Override
+	public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks) {
+		return super.invokeAll(wrapAll(tasks));
+	}
+
+	@Override
+	public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks, long timeout, TimeUnit unit)
+			throws InterruptedException {
+		return super.invokeAll(wrapAll(tasks), timeout, unit);
+	}
+
+	@Override
+	public <T> T invokeAny(Collection<? extends Callable<T>> tasks) throws InterruptedException, ExecutionException {
+		return super.invokeAny(wrapAll(tasks));
+	}
+
+	@Override
+	public <T> T invokeAny(Collection<? extends Callable<T>> tasks, long timeout, TimeUnit unit)
+			throws InterruptedException, ExecutionException, TimeoutException {
+		return super.invokeAny(wrapAll(tasks), timeout, unit);
+	}
+
+	private <T> List<Callable<T>> wrapAll(Collection<? extends Callable<T>> tasks) {
+		final List<Callable<T>> wrappedTasks = new ArrayList<Callable<T>>(tasks.size());
+		for (Callable<T> task : tasks) {
+			wrappedTasks.add(TraceeExecutors.wrapTask(task, backend));
+		}
+		return wrappedTasks;
+	}
+}
@@ -0,0 +1,36 @@
+package io.tracee.binding.forkjoin;
+
+import io.tracee.ContextSnapshot;
+import io.tracee.TraceeBackend;
+import io.tracee.concurrent.ContextPropagation;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+/**
+ * A worker that starts with an empty context instead of whatever context the thread that triggered its creation had.
+ */
+final class TraceeForkJoinWorkerThread extends ForkJoinWorkerThread {
+
+	private final TraceeBackend backend;
+
+	TraceeForkJoinWorkerThread(ForkJoinPool pool, TraceeBackend backend) {
+		super(pool);
+		this.backend = backend;
+	}
+
+	@Override
+	protected void onStart() {
+		super.onStart();
+		ContextPropagation.install(backend, ContextSnapshot.EMPTY);
+	}
+
+	@Override
+	protected void onTermination(Throwable exception) {
+		try {
+			ContextPropagation.install(backend, ContextSnapshot.EMPTY);
+		} finally {
+			super.onTermination(exception);
+		}
+	}
+}
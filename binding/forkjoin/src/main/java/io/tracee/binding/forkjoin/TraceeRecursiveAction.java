@@ -0,0 +1,50 @@
+package io.tracee.binding.forkjoin;
+
+import io.tracee.ContextSnapshot;
+import io.tracee.Tracee;
+import io.tracee.TraceeBackend;
+import io.tracee.concurrent.ContextPropagation;
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * A {@link RecursiveAction} that computes with the context of the thread that created it, typically the task that
+ * forks it. The previous context of the worker is restored once the task is done.
+ *
+ * @see TraceeRecursiveTask
+ */
+public abstract class TraceeRecursiveAction extends RecursiveAction {
+
+	private static final long serialVersionUID = 1L;
+
+	private final transient TraceeBackend backend;
+	private final transient ContextSnapshot snapshot;
+
+	protected TraceeRecursiveAction() {
+		this(Tracee.getBackend());
+	}
+
+	protected TraceeRecursiveAction(TraceeBackend backend) {
+		this.backend = backend;
+		this.snapshot = ContextPropagation.capture(backend);
+	}
+
+	@Override
+	protected final void compute() {
+		final ContextSnapshot previous = ContextPropagation.install(backend, snapshot);
+		try {
+			computeInContext();
+		} finally {
+			ContextPropagation.install(backend, previous);
+		}
+	}
+
+	/**
+	 * The main computation, see {@link RecursiveAction#compute()}.
+	 */
+	protected abstract void computeInContext();
+
+	protected final TraceeBackend getBackend() {
+		return backend;
+	}
+}
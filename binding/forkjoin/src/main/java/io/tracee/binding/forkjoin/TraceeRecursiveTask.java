@@ -0,0 +1,52 @@
+package io.tracee.binding.forkjoin;
+
+import io.tracee.ContextSnapshot;
+import io.tracee.Tracee;
+import io.tracee.TraceeBackend;
+import io.tracee.concurrent.ContextPropagation;
+
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * A {@link RecursiveTask} that computes with the context of the thread that created it, typically the task that forks
+ * it. The previous context of the worker is restored once the task is done.
+ * <p/>
+ * A task that is run by the worker that forked it finds the context already installed, so fine grained tasks only pay
+ * for installing the context when they are stolen by another worker. Pass the backend of the parent task to subtasks
+ * to avoid looking up the backend for every task.
+ */
+public abstract class TraceeRecursiveTask<V> extends RecursiveTask<V> {
+
+	private static final long serialVersionUID = 1L;
+
+	private final transient TraceeBackend backend;
+	private final transient ContextSnapshot snapshot;
+
+	protected TraceeRecursiveTask() {
+		this(Tracee.getBackend());
+	}
+
+	protected TraceeRecursiveTask(TraceeBackend backend) {
+		this.backend = backend;
+		this.snapshot = ContextPropagation.capture(backend);
+	}
+
+	@Override
+	protected final V compute() {
+		final ContextSnapshot previous = ContextPropagation.install(backend, snapshot);
+		try {
+			return computeInContext();
+		} finally {
+			ContextPropagation.install(backend, previous);
+		}
+	}
+
+	/**
+	 * The main computation, see {@link RecursiveTask#compute()}.
+	 */
+	protected abstract V computeInContext();
+
+	protected final TraceeBackend getBackend() {
+		return backend;
+	}
+}
@@ -0,0 +1,167 @@
+package io.tracee.binding.forkjoin;
+
+import io.tracee.TraceeBackend;
+import io.tracee.backend.threadlocalstore.ThreadLocalTraceeBackendProvider;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class TraceeForkJoinTest {
+
+	private static final int PARALLELISM = 4;
+
+	private final TraceeBackend backend = new ThreadLocalTraceeBackendProvider().provideBackend();
+
+	private ForkJoinPool pool;
+
+	@Before
+	public void createPoolWithWorkersStartedByStaleContext() throws Exception {
+		backend.put("request", "A");
+		pool = TraceeForkJoin.newPool(PARALLELISM, backend);
+		final CountDownLatch started = new CountDownLatch(PARALLELISM);
+		for (int i = 0; i < PARALLELISM; i++) {
+			pool.execute(() -> {
+				started.countDown();
+				try {
+					started.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			});
+		}
+		started.await();
+		backend.put("request", "B");
+	}
+
+	@After
+	public void shutdownPool() {
+		pool.shutdownNow();
+		backend.clear();
+	}
+
+	@Test
+	public void workersStartWithEmptyContext() throws Exception {
+		assertThat(readOnWorker(), is(nullValue()));
+	}
+
+	@Test
+	public void recursiveTasksComputeWithContextOfCreatorOnAllWorkers() {
+		final Set<String> requests = ConcurrentHashMap.newKeySet();
+		pool.invoke(new CollectingTask(backend, requests, 0, 1 << 12));
+		assertThat(requests, is(Collections.singleton("B")));
+	}
+
+	@Test
+	public void workersAreRestoredAfterRecursiveTasks() throws Exception {
+		pool.invoke(new CollectingTask(backend, ConcurrentHashMap.<String>newKeySet(), 0, 1 << 12));
+		assertThat(readOnWorker(), is(nullValue()));
+	}
+
+	@Test
+	public void recursiveActionComputesWithContextOfCreator() {
+		final Set<String> requests = ConcurrentHashMap.newKeySet();
+		pool.invoke(new TraceeRecursiveAction(backend) {
+			@Override
+			protected void computeInContext() {
+				requests.add(getBackend().get("request"));
+			}
+		});
+		assertThat(requests, is(Collections.singleton("B")));
+	}
+
+	@Test
+	public void adaptedCallableRunsWithContextOfCaller() {
+		assertThat(pool.invoke(TraceeForkJoin.adapt(() -> backend.get("request"), backend)), is("B"));
+	}
+
+	@Test
+	public void parallelStreamFunctionsRunWithContextOfCaller() throws Exception {
+		final List<String> requests = pool.submit(() -> IntStream.range(0, 1 << 12).boxed().parallel()
+				.filter(TraceeForkJoin.predicate(i -> backend.get("request") != null, backend))
+				.map(TraceeForkJoin.function(i -> backend.get("request"), backend))
+				.collect(Collectors.toList())).get();
+		assertThat(requests.size(), is(1 << 12));
+		assertThat(new HashSet<String>(requests), is(Collections.singleton("B")));
+	}
+
+	@Test
+	public void submittedCallableRunsWithContextOfCaller() throws Exception {
+		assertThat(pool.submit(() -> backend.get("request")).get(), is("B"));
+	}
+
+	@Test
+	public void executedRunnableRunsWithContextOfCaller() throws Exception {
+		final CompletableFuture<String> request = new CompletableFuture<String>();
+		pool.execute(() -> request.complete(backend.get("request")));
+		assertThat(request.get(), is("B"));
+	}
+
+	@Test
+	public void parallelStreamConsumerRunsWithContextOfCaller() {
+		final Set<String> requests = ConcurrentHashMap.newKeySet();
+		final List<Integer> values = new ArrayList<Integer>();
+		for (int i = 0; i < 1 << 12; i++) {
+			values.add(i);
+		}
+		values.parallelStream().forEach(TraceeForkJoin.consumer(i -> requests.add(String.valueOf(backend.get("request"))), backend));
+		assertThat(requests, is(Collections.singleton("B")));
+	}
+
+	/**
+	 * {@link ForkJoinPool#invoke} may run the task on the calling thread.
+	 */
+	private String readOnWorker() throws Exception {
+		final CompletableFuture<String> request = new CompletableFuture<String>();
+		pool.execute(new RecursiveAction() {
+			@Override
+			protected void compute() {
+				request.complete(backend.get("request"));
+			}
+		});
+		return request.get();
+	}
+
+	private static final class CollectingTask extends TraceeRecursiveTask<Integer> {
+
+		private final Set<String> requests;
+		private final int from;
+		private final int to;
+
+		private CollectingTask(TraceeBackend backend, Set<String> requests, int from, int to) {
+			super(backend);
+			this.requests = requests;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected Integer computeInContext() {
+			if (to - from <= 16) {
+				requests.add(String.valueOf(getBackend().get("request")));
+				return to - from;
+			}
+			final int middle = (from + to) >>> 1;
+			final CollectingTask left = new CollectingTask(getBackend(), requests, from, middle);
+			left.fork();
+			final int right = new CollectingTask(getBackend(), requests, middle, to).compute();
+			return left.join() + right;
+		}
+	}
+}
@@ -4,6 +4,9 @@ import io.tracee.Tracee;
 import io.tracee.TraceeBackend;
 import io.tracee.TraceeConstants;
 import io.tracee.configuration.TraceeFilterConfiguration;
+import io.tracee.metrics.Metrics;
+import io.tracee.spi.TraceeMetrics;
+import io.tracee.transport.HttpHeaderRenderCache;
 import io.tracee.transport.HttpHeaderTransport;
 import org.apache.commons.httpclient.Header;
 import org.apache.commons.httpclient.HostConfiguration;
@@ -17,7 +20,6 @@ import org.apache.commons.httpclient.params.HttpClientParams;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 import static io.tracee.configuration.TraceeFilterConfiguration.Channel.IncomingResponse;
 import static io.tracee.configuration.TraceeFilterConfiguration.Channel.OutgoingRequest;
@@ -87,16 +89,19 @@ public class TraceeHttpClientDecorator extends HttpClient {
 	}
 
 	private void preRequest(HttpMethod httpMethod) {
+		final long start = System.nanoTime();
 		final TraceeFilterConfiguration filterConfiguration = backend.getConfiguration(profile);
 		if (!backend.isEmpty() && filterConfiguration.shouldProcessContext(OutgoingRequest)) {
-			final Map<String, String> filteredParams = filterConfiguration.filterDeniedParams(backend.copyToMap(), OutgoingRequest);
-			httpMethod.setRequestHeader(TraceeConstants.HTTP_HEADER_NAME, transportSerialization.render(filteredParams));
+			final String contextHeader = HttpHeaderRenderCache.getInstance().render(transportSerialization, backend, filterConfiguration, OutgoingRequest);
+			httpMethod.setRequestHeader(TraceeConstants.HTTP_HEADER_NAME, contextHeader);
 		}
+		Metrics.get().bindingTime(TraceeMetrics.Binding.HTTPCLIENT, System.nanoTime() - start);
 	}
 
 
 	private void postResponse(HttpMethod httpMethod) {
 		if (!httpMethod.isRequestSent()) return;
+		final long start = System.nanoTime();
 		final Header[] responseHeaders = httpMethod.getResponseHeaders(TraceeConstants.HTTP_HEADER_NAME);
 		final TraceeFilterConfiguration filterConfiguration = backend.getConfiguration(profile);
 		if (responseHeaders != null && responseHeaders.length > 0 && filterConfiguration.shouldProcessContext(IncomingResponse)) {
@@ -107,6 +112,7 @@ public class TraceeHttpClientDecorator extends HttpClient {
 
 			backend.putAll(filterConfiguration.filterDeniedParams(transportSerialization.parse(stringTraceeHeaders), IncomingResponse));
 		}
+		Metrics.get().bindingTime(TraceeMetrics.Binding.HTTPCLIENT, System.nanoTime() - start);
 	}
 
 
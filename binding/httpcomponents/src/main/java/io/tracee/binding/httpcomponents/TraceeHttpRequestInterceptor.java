@@ -4,6 +4,9 @@ import io.tracee.Tracee;
 import io.tracee.TraceeBackend;
 import io.tracee.TraceeConstants;
 import io.tracee.configuration.TraceeFilterConfiguration;
+import io.tracee.metrics.Metrics;
+import io.tracee.spi.TraceeMetrics;
+import io.tracee.transport.HttpHeaderRenderCache;
 import io.tracee.transport.HttpHeaderTransport;
 import org.apache.http.HttpException;
 import org.apache.http.HttpRequest;
@@ -11,7 +14,6 @@ import org.apache.http.HttpRequestInterceptor;
 import org.apache.http.protocol.HttpContext;
 
 import java.io.IOException;
-import java.util.Map;
 
 import static io.tracee.configuration.TraceeFilterConfiguration.Channel.OutgoingRequest;
 
@@ -37,10 +39,12 @@ public class TraceeHttpRequestInterceptor implements HttpRequestInterceptor {
 
 	@Override
 	public final void process(final HttpRequest httpRequest, final HttpContext httpContext) throws HttpException, IOException {
+		final long start = System.nanoTime();
 		final TraceeFilterConfiguration filterConfiguration = backend.getConfiguration(profile);
 		if (!backend.isEmpty() && filterConfiguration.shouldProcessContext(OutgoingRequest)) {
-			final Map<String, String> filteredParams = filterConfiguration.filterDeniedParams(backend.copyToMap(), OutgoingRequest);
-			httpRequest.setHeader(TraceeConstants.HTTP_HEADER_NAME, transportSerialization.render(filteredParams));
+			final String contextHeader = HttpHeaderRenderCache.getInstance().render(transportSerialization, backend, filterConfiguration, OutgoingRequest);
+			httpRequest.setHeader(TraceeConstants.HTTP_HEADER_NAME, contextHeader);
 		}
+		Metrics.get().bindingTime(TraceeMetrics.Binding.HTTPCOMPONENTS, System.nanoTime() - start);
 	}
 }
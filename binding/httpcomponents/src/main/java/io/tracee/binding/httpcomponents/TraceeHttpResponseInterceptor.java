@@ -4,6 +4,8 @@ import io.tracee.Tracee;
 import io.tracee.TraceeBackend;
 import io.tracee.TraceeConstants;
 import io.tracee.configuration.TraceeFilterConfiguration;
+import io.tracee.metrics.Metrics;
+import io.tracee.spi.TraceeMetrics;
 import io.tracee.transport.HttpHeaderTransport;
 import org.apache.http.Header;
 import org.apache.http.HttpException;
@@ -40,6 +42,7 @@ public class TraceeHttpResponseInterceptor implements HttpResponseInterceptor {
 
 	@Override
     public final void process(HttpResponse response, HttpContext context) throws HttpException, IOException {
+		final long start = System.nanoTime();
         final TraceeFilterConfiguration filterConfiguration = backend.getConfiguration(profile);
 		final Header[] responseHeaders = response.getHeaders(TraceeConstants.HTTP_HEADER_NAME);
         if (responseHeaders != null && responseHeaders.length > 0 && filterConfiguration.shouldProcessContext(IncomingResponse)) {
@@ -49,5 +52,6 @@ public class TraceeHttpResponseInterceptor implements HttpResponseInterceptor {
 			}
 			backend.putAll(filterConfiguration.filterDeniedParams(transportSerialization.parse(stringTraceeHeaders), IncomingResponse));
 		}
+		Metrics.get().bindingTime(TraceeMetrics.Binding.HTTPCOMPONENTS, System.nanoTime() - start);
     }
 }
@@ -3,13 +3,16 @@ package io.tracee.binding.jaxrs2;
 import io.tracee.Tracee;
 import io.tracee.TraceeBackend;
 import io.tracee.TraceeConstants;
+import io.tracee.configuration.TraceeFilterConfiguration;
+import io.tracee.metrics.Metrics;
+import io.tracee.spi.TraceeMetrics;
+import io.tracee.transport.HttpHeaderRenderCache;
 import io.tracee.transport.HttpHeaderTransport;
 
 import javax.ws.rs.client.ClientRequestContext;
 import javax.ws.rs.client.ClientRequestFilter;
 import javax.ws.rs.ext.Provider;
 import java.io.IOException;
-import java.util.Map;
 
 import static io.tracee.configuration.TraceeFilterConfiguration.Channel.OutgoingRequest;
 
@@ -31,9 +34,12 @@ public class TraceeClientRequestFilter implements ClientRequestFilter {
 
 	@Override
 	public final void filter(final ClientRequestContext requestContext) throws IOException {
-		if (!backend.isEmpty() && backend.getConfiguration().shouldProcessContext(OutgoingRequest)) {
-			final Map<String, String> filtered = backend.getConfiguration().filterDeniedParams(backend.copyToMap(), OutgoingRequest);
-			requestContext.getHeaders().putSingle(TraceeConstants.HTTP_HEADER_NAME, transportSerialization.render(filtered));
+		final long start = System.nanoTime();
+		final TraceeFilterConfiguration filterConfiguration = backend.getConfiguration();
+		if (!backend.isEmpty() && filterConfiguration.shouldProcessContext(OutgoingRequest)) {
+			final String contextHeader = HttpHeaderRenderCache.getInstance().render(transportSerialization, backend, filterConfiguration, OutgoingRequest);
+			requestContext.getHeaders().putSingle(TraceeConstants.HTTP_HEADER_NAME, contextHeader);
 		}
+		Metrics.get().bindingTime(TraceeMetrics.Binding.JAXRS2, System.nanoTime() - start);
 	}
 }
@@ -3,6 +3,8 @@ package io.tracee.binding.jaxrs2;
 import io.tracee.Tracee;
 import io.tracee.TraceeBackend;
 import io.tracee.TraceeConstants;
+import io.tracee.metrics.Metrics;
+import io.tracee.spi.TraceeMetrics;
 import io.tracee.transport.HttpHeaderTransport;
 
 import javax.ws.rs.client.ClientRequestContext;
@@ -33,10 +35,12 @@ public class TraceeClientResponseFilter implements ClientResponseFilter {
 
 	@Override
     public final void filter(final ClientRequestContext requestContext, final ClientResponseContext responseContext) throws IOException {
+		final long start = System.nanoTime();
         final List<String> serializedHeaders = responseContext.getHeaders().get(TraceeConstants.HTTP_HEADER_NAME);
         if (serializedHeaders != null && backend.getConfiguration().shouldProcessContext(IncomingResponse)) {
 			final Map<String, String> parsed = transportSerialization.parse(serializedHeaders);
 			backend.putAll(backend.getConfiguration().filterDeniedParams(parsed, IncomingResponse));
 		}
+		Metrics.get().bindingTime(TraceeMetrics.Binding.JAXRS2, System.nanoTime() - start);
     }
 }
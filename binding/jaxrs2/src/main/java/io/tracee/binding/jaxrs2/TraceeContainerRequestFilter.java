@@ -1,9 +1,12 @@
 package io.tracee.binding.jaxrs2;
 
+import io.tracee.ContextLeakDetector;
 import io.tracee.Tracee;
 import io.tracee.TraceeBackend;
 import io.tracee.TraceeConstants;
 import io.tracee.Utilities;
+import io.tracee.metrics.Metrics;
+import io.tracee.spi.TraceeMetrics;
 import io.tracee.transport.HttpHeaderTransport;
 
 import javax.ws.rs.container.ContainerRequestContext;
@@ -18,6 +21,8 @@ import static io.tracee.configuration.TraceeFilterConfiguration.Channel.Incoming
 @Provider
 public class TraceeContainerRequestFilter implements ContainerRequestFilter {
 
+	static final String SCOPE_PROPERTY = TraceeContainerRequestFilter.class.getName() + ".scope";
+
 	private final TraceeBackend backend;
 	private final HttpHeaderTransport transportSerialization;
 
@@ -33,6 +38,8 @@ public class TraceeContainerRequestFilter implements ContainerRequestFilter {
 
 	@Override
 	public final void filter(final ContainerRequestContext containerRequestContext) throws IOException {
+		final long start = System.nanoTime();
+		containerRequestContext.setProperty(SCOPE_PROPERTY, ContextLeakDetector.getInstance().openScope(backend, TraceeContainerRequestFilter.class));
 
 		if (backend.getConfiguration().shouldProcessContext(IncomingRequest)) {
 			final List<String> serializedTraceeHeaders = containerRequestContext.getHeaders().get(TraceeConstants.HTTP_HEADER_NAME);
@@ -43,5 +50,6 @@ public class TraceeContainerRequestFilter implements ContainerRequestFilter {
 		}
 
 		Utilities.generateRequestIdIfNecessary(backend);
+		Metrics.get().bindingTime(TraceeMetrics.Binding.JAXRS2, System.nanoTime() - start);
 	}
 }
@@ -3,6 +3,11 @@ package io.tracee.binding.jaxrs2;
 import io.tracee.Tracee;
 import io.tracee.TraceeBackend;
 import io.tracee.TraceeConstants;
+import io.tracee.Utilities;
+import io.tracee.configuration.TraceeFilterConfiguration;
+import io.tracee.metrics.Metrics;
+import io.tracee.spi.TraceeMetrics;
+import io.tracee.transport.HttpHeaderRenderCache;
 import io.tracee.transport.HttpHeaderTransport;
 
 import javax.ws.rs.container.ContainerRequestContext;
@@ -10,7 +15,6 @@ import javax.ws.rs.container.ContainerResponseContext;
 import javax.ws.rs.container.ContainerResponseFilter;
 import javax.ws.rs.ext.Provider;
 import java.io.IOException;
-import java.util.Map;
 
 import static io.tracee.configuration.TraceeFilterConfiguration.Channel.OutgoingResponse;
 
@@ -33,12 +37,18 @@ public class TraceeContainerResponseFilter implements ContainerResponseFilter {
 	@Override
 	public final void filter(final ContainerRequestContext requestContext,
 							 final ContainerResponseContext responseContext) throws IOException {
-
-		if (backend.getConfiguration().shouldProcessContext(OutgoingResponse)) {
-			final Map<String, String> filtered = backend.getConfiguration().filterDeniedParams(backend.copyToMap(), OutgoingResponse);
-			responseContext.getHeaders().putSingle(TraceeConstants.HTTP_HEADER_NAME, transportSerialization.render(filtered));
+		final long start = System.nanoTime();
+		final TraceeFilterConfiguration filterConfiguration = backend.getConfiguration();
+		if (filterConfiguration.shouldProcessContext(OutgoingResponse)) {
+			final String contextHeader = HttpHeaderRenderCache.getInstance().render(transportSerialization, backend, filterConfiguration, OutgoingResponse);
+			responseContext.getHeaders().putSingle(TraceeConstants.HTTP_HEADER_NAME, contextHeader);
 		}
 
-		backend.clear();
+		final Object scope = requestContext != null ? requestContext.getProperty(TraceeContainerRequestFilter.SCOPE_PROPERTY) : null;
+		if (scope != null) {
+			requestContext.removeProperty(TraceeContainerRequestFilter.SCOPE_PROPERTY);
+		}
+		Utilities.closeScopeOrClear(backend, scope);
+		Metrics.get().bindingTime(TraceeMetrics.Binding.JAXRS2, System.nanoTime() - start);
 	}
 }
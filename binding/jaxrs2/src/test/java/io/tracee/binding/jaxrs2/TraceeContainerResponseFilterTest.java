@@ -7,10 +7,12 @@ import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
 
+import javax.ws.rs.container.ContainerRequestContext;
 import javax.ws.rs.container.ContainerResponseContext;
 import javax.ws.rs.core.MultivaluedHashMap;
 import javax.ws.rs.core.MultivaluedMap;
 import java.io.IOException;
+import java.util.Collections;
 
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
@@ -44,4 +46,15 @@ public class TraceeContainerResponseFilterTest {
         unit.filter(null, responseContext);
 		assertThat("backend has not been cleaned", backend.isEmpty(), is(true));
     }
+
+    @Test
+    public void testFilterRestoresContextOfEnclosingScope() throws IOException {
+        backend.openScope();
+        backend.put("outer", "value");
+        final ContainerRequestContext requestContext = Mockito.mock(ContainerRequestContext.class);
+        when(requestContext.getProperty(TraceeContainerRequestFilter.SCOPE_PROPERTY)).thenReturn(backend.openScope());
+        backend.put("random", "stuff");
+        unit.filter(requestContext, responseContext);
+        assertThat(backend.copyToMap(), is(Collections.singletonMap("outer", "value")));
+    }
 }
@@ -2,6 +2,8 @@ package io.tracee.binding.jaxws;
 
 import io.tracee.TraceeBackend;
 import io.tracee.TraceeConstants;
+import io.tracee.metrics.Metrics;
+import io.tracee.spi.TraceeMetrics;
 
 import javax.xml.namespace.QName;
 import javax.xml.ws.handler.MessageContext;
@@ -24,11 +26,13 @@ abstract class AbstractTraceeHandler implements SOAPHandler<SOAPMessageContext>
 
     @Override
     public final boolean handleMessage(final SOAPMessageContext context) {
+		final long start = System.nanoTime();
         if (this.isOutgoing(context)) {
 			this.handleOutgoing(context);
         } else {
 			this.handleIncoming(context);
         }
+		Metrics.get().bindingTime(TraceeMetrics.Binding.JAXWS, System.nanoTime() - start);
         return true;
     }
 
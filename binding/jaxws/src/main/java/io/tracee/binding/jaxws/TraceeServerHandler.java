@@ -2,6 +2,7 @@ package io.tracee.binding.jaxws;
 
 
 import io.tracee.*;
+import io.tracee.ContextLeakDetector;
 import io.tracee.transport.SoapHeaderTransport;
 
 import javax.xml.soap.*;
@@ -13,6 +14,8 @@ import static io.tracee.configuration.TraceeFilterConfiguration.Channel.Outgoing
 
 public class TraceeServerHandler extends AbstractTraceeHandler {
 
+	static final String SCOPE_PROPERTY = TraceeServerHandler.class.getName() + ".scope";
+
 	private final TraceeLogger traceeLogger;
 
 	private final SoapHeaderTransport transportSerialization;
@@ -28,6 +31,7 @@ public class TraceeServerHandler extends AbstractTraceeHandler {
 	}
 
 	protected final void handleIncoming(SOAPMessageContext context) {
+		context.put(SCOPE_PROPERTY, ContextLeakDetector.getInstance().openScope(traceeBackend, TraceeServerHandler.class));
 		final SOAPMessage soapMessage = context.getMessage();
 		try {
 			final SOAPHeader header = soapMessage.getSOAPHeader();
@@ -64,8 +68,8 @@ public class TraceeServerHandler extends AbstractTraceeHandler {
 			traceeLogger.error("TraceeServerHandler : Exception occurred during processing of outbound message.");
 			traceeLogger.debug("TraceeServerHandler : Exception occurred during processing of outbound message.", e);
 		} finally {
-			// must reset tracee context
-			traceeBackend.clear();
+			// must restore the tracee context of the enclosing unit of work
+			Utilities.closeScopeOrClear(traceeBackend, context.remove(SCOPE_PROPERTY));
 		}
 	}
 
@@ -3,6 +3,7 @@ package io.tracee.binding.jaxws;
 import io.tracee.SimpleTraceeBackend;
 import io.tracee.TraceeBackend;
 import io.tracee.TraceeConstants;
+import io.tracee.TraceeScope;
 import io.tracee.transport.SoapHeaderTransport;
 import org.junit.Before;
 import org.junit.Test;
@@ -105,6 +106,23 @@ public class TraceeServerHandlerTest {
 		verify(backend).clear();
 	}
 
+	@Test
+	public void testHandleOutgoingClosesScopeOfIncomingMessage() throws SOAPException {
+		final TraceeScope scope = mock(TraceeScope.class);
+		when(messageContext.remove(TraceeServerHandler.SCOPE_PROPERTY)).thenReturn(scope);
+		unit.handleOutgoing(messageContext);
+		verify(scope).close();
+		verify(backend, never()).clear();
+	}
+
+	@Test
+	public void testHandleIncomingOpensScope() {
+		final TraceeScope scope = mock(TraceeScope.class);
+		when(backend.openScope()).thenReturn(scope);
+		unit.handleIncoming(messageContext);
+		verify(messageContext).put(TraceeServerHandler.SCOPE_PROPERTY, scope);
+	}
+
 	@Test
 	public void handleFaults() throws SOAPException {
 		backend.put("hey", "12");
@@ -1,8 +1,12 @@
 package io.tracee.binding.jms;
 
+import io.tracee.ContextLeakDetector;
 import io.tracee.Tracee;
 import io.tracee.TraceeBackend;
 import io.tracee.TraceeConstants;
+import io.tracee.TraceeScope;
+import io.tracee.metrics.Metrics;
+import io.tracee.spi.TraceeMetrics;
 
 import javax.interceptor.AroundInvoke;
 import javax.interceptor.InvocationContext;
@@ -14,7 +18,8 @@ import java.util.Map;
 import static io.tracee.configuration.TraceeFilterConfiguration.Channel.AsyncProcess;
 
 /**
- * EJB interceptor that parses a TracEE context from message properties and cleans it after message processing.
+ * EJB interceptor that parses a TracEE context from message properties and restores the previous context after
+ * message processing. If the {@code AsyncProcess} channel is not processed, the context is not touched at all.
  */
 public final class TraceeMessageListener {
 
@@ -30,19 +35,28 @@ public final class TraceeMessageListener {
 	}
 
 	@AroundInvoke
-    public Object intercept(final InvocationContext ctx) throws Exception {
-        final boolean isMdbInvocation = isMessageListenerOnMessageMethod(ctx.getMethod());
+	public Object intercept(final InvocationContext ctx) throws Exception {
+		if (!isMessageListenerOnMessageMethod(ctx.getMethod())
+				|| !backend.getConfiguration().shouldProcessContext(AsyncProcess)) {
+			return ctx.proceed();
+		}
+		final long start = System.nanoTime();
+		final TraceeScope scope = ContextLeakDetector.getInstance().openScope(backend, TraceeMessageListener.class);
+		long listenerNanos = 0L;
 		try {
-            if (isMdbInvocation) {
-                beforeProcessing(extractMessageParameter(ctx.getParameters()));
-            }
-            return ctx.proceed();
-        } finally {
-            if (isMdbInvocation) {
-				cleanUp();
-            }
-        }
-    }
+			beforeProcessing(extractMessageParameter(ctx.getParameters()));
+			final long listenerStart = System.nanoTime();
+			try {
+				return ctx.proceed();
+			} finally {
+				listenerNanos = System.nanoTime() - listenerStart;
+			}
+		} finally {
+			scope.close();
+			// one sample per message for setup and cleanup, without the time of the listener itself
+			Metrics.get().bindingTime(TraceeMetrics.Binding.JMS, System.nanoTime() - start - listenerNanos);
+		}
+	}
 
 	@SuppressWarnings("unchecked")
     public void beforeProcessing(final Message message) throws JMSException {
@@ -56,12 +70,6 @@ public final class TraceeMessageListener {
 		}
     }
 
-    void cleanUp() {
-		if (backend.getConfiguration().shouldProcessContext(AsyncProcess)) {
-			backend.clear();
-		}
-    }
-
     Message extractMessageParameter(final Object[] parameters) {
 	    return (Message) parameters[0];
     }
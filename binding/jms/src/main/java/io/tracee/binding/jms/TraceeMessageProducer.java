@@ -3,6 +3,8 @@ package io.tracee.binding.jms;
 import io.tracee.Tracee;
 import io.tracee.TraceeBackend;
 import io.tracee.TraceeConstants;
+import io.tracee.metrics.Metrics;
+import io.tracee.spi.TraceeMetrics;
 
 import javax.jms.Destination;
 import javax.jms.JMSException;
@@ -33,11 +35,12 @@ public class TraceeMessageProducer implements MessageProducer {
      * This method is idempotent.
      */
     protected void writeTraceeContextToMessage(Message message) throws JMSException {
-
+		final long start = System.nanoTime();
 		if (!backend.isEmpty() && backend.getConfiguration().shouldProcessContext(AsyncDispatch)) {
 			final Map<String, String> filteredContext = backend.getConfiguration().filterDeniedParams(backend.copyToMap(), AsyncDispatch);
 			message.setObjectProperty(TraceeConstants.JMS_HEADER_NAME, filteredContext);
 		}
+		Metrics.get().bindingTime(TraceeMetrics.Binding.JMS, System.nanoTime() - start);
     }
 
     @Override
@@ -1,7 +1,11 @@
 package io.tracee.binding.jms;
 
 import io.tracee.SimpleTraceeBackend;
+import io.tracee.TraceeBackend;
 import io.tracee.TraceeConstants;
+import io.tracee.configuration.TraceeFilterConfiguration;
+import io.tracee.metrics.Metrics;
+import io.tracee.metrics.TraceeMetricsMXBean;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.invocation.InvocationOnMock;
@@ -10,12 +14,17 @@ import org.mockito.stubbing.Answer;
 import javax.ejb.EJB;
 import javax.interceptor.InvocationContext;
 import javax.jms.Message;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
 import static org.hamcrest.Matchers.*;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.anyMapOf;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class TraceeMessageListenerTest {
@@ -54,6 +63,56 @@ public class TraceeMessageListenerTest {
 		assertThat(backend.isEmpty(), is(true));
 	}
 
+	@Test
+	public void testRestoresEnclosingContextAfterProcessing() throws Exception {
+		backend.openScope();
+		backend.put("contextOfCaller", "yes");
+		encodedContext.put("contextFromMessage", "yes");
+		unit.intercept(invocationContext);
+		assertThat(backend.copyToMap(), is(Collections.singletonMap("contextOfCaller", "yes")));
+	}
+
+	@Test
+	public void testKeepsContextThatHasBeenPutWithoutScope() throws Exception {
+		backend.put("putWithoutScope", "yes");
+		doAnswer(new Answer<Object>() {
+			@Override
+			public Object answer(InvocationOnMock invocation) throws Throwable {
+				assertThat(backend.get("putWithoutScope"), is("yes"));
+				return null;
+			}
+		}).when(invocationContext).proceed();
+		unit.intercept(invocationContext);
+		assertThat(backend.copyToMap(), is(Collections.singletonMap("putWithoutScope", "yes")));
+	}
+
+	@Test
+	public void testDoesNotTouchContextIfAsyncProcessIsNotProcessed() throws Exception {
+		final TraceeBackend mockedBackend = mock(TraceeBackend.class);
+		final TraceeFilterConfiguration configuration = mock(TraceeFilterConfiguration.class);
+		when(mockedBackend.getConfiguration()).thenReturn(configuration);
+		when(configuration.shouldProcessContext(TraceeFilterConfiguration.Channel.AsyncProcess)).thenReturn(false);
+		doAnswer(new Answer<Object>() {
+			@Override
+			public Object answer(InvocationOnMock invocation) {
+				return null;
+			}
+		}).when(invocationContext).proceed();
+		new TraceeMessageListener(mockedBackend).intercept(invocationContext);
+		verify(invocationContext).proceed();
+		verify(mockedBackend, never()).openScope();
+		verify(mockedBackend, never()).putAll(anyMapOf(String.class, String.class));
+	}
+
+	@Test
+	public void testRecordsOneBindingTimePerMessage() throws Exception {
+		final TraceeMetricsMXBean metrics = (TraceeMetricsMXBean) Metrics.get();
+		final long invocationsBefore = metrics.getBindingInvocations().get("jms");
+		encodedContext.put("contextFromMessage", "yes");
+		unit.intercept(invocationContext);
+		assertThat(metrics.getBindingInvocations().get("jms"), is(invocationsBefore + 1));
+	}
+
 	@EJB
 	private class MdbLike {
 		public void onMessage(Message message) {
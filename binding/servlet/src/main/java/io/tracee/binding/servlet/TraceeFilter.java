@@ -4,6 +4,9 @@ import io.tracee.Tracee;
 import io.tracee.TraceeBackend;
 import io.tracee.TraceeConstants;
 import io.tracee.configuration.TraceeFilterConfiguration;
+import io.tracee.metrics.Metrics;
+import io.tracee.spi.TraceeMetrics;
+import io.tracee.transport.HttpHeaderRenderCache;
 import io.tracee.transport.HttpHeaderTransport;
 
 import javax.servlet.Filter;
@@ -15,7 +18,6 @@ import javax.servlet.ServletResponse;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.Map;
 
 import static io.tracee.configuration.TraceeFilterConfiguration.Channel.OutgoingResponse;
 
@@ -69,10 +71,12 @@ public class TraceeFilter implements Filter {
     }
 
 	private void writeContextToResponse(final HttpServletResponse response, final TraceeFilterConfiguration configuration) {
+		final long start = System.nanoTime();
 		if (!backend.isEmpty() && configuration.shouldProcessContext(OutgoingResponse)) {
-			final Map<String, String> filteredContext = backend.getConfiguration(profile).filterDeniedParams(backend.copyToMap(), OutgoingResponse);
-			response.setHeader(HTTP_HEADER_NAME, transportSerialization.render(filteredContext));
+			final String contextHeader = HttpHeaderRenderCache.getInstance().render(transportSerialization, backend, configuration, OutgoingResponse);
+			response.setHeader(HTTP_HEADER_NAME, contextHeader);
 		}
+		Metrics.get().bindingTime(TraceeMetrics.Binding.SERVLET, System.nanoTime() - start);
 	}
 
     @Override
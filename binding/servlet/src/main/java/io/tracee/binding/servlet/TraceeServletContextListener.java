@@ -0,0 +1,34 @@
+package io.tracee.binding.servlet;
+
+import io.tracee.configuration.TraceePropertiesWatcher;
+import io.tracee.metrics.Metrics;
+
+import javax.servlet.ServletContextEvent;
+import javax.servlet.ServletContextListener;
+
+/**
+ * Releases what TracEE keeps outside of the web application when the application is undeployed, so the class loader
+ * of the application can be collected on redeploys.
+ * <p/>
+ * Nothing is released if TracEE is not loaded by the class loader of the web application, e.g. if it is installed in
+ * the server and shared by several applications.
+ */
+public class TraceeServletContextListener implements ServletContextListener {
+
+	@Override
+	public void contextInitialized(ServletContextEvent servletContextEvent) {
+		// everything is initialized lazily
+	}
+
+	@Override
+	public void contextDestroyed(ServletContextEvent servletContextEvent) {
+		if (isLoadedByWebApplication()) {
+			TraceePropertiesWatcher.stopAll();
+			Metrics.shutdown();
+		}
+	}
+
+	boolean isLoadedByWebApplication() {
+		return Metrics.class.getClassLoader() == Thread.currentThread().getContextClassLoader();
+	}
+}
@@ -1,10 +1,13 @@
 package io.tracee.binding.servlet;
 
+import io.tracee.ContextLeakDetector;
 import io.tracee.Tracee;
 import io.tracee.TraceeBackend;
 import io.tracee.TraceeConstants;
 import io.tracee.Utilities;
 import io.tracee.configuration.TraceeFilterConfiguration;
+import io.tracee.metrics.Metrics;
+import io.tracee.spi.TraceeMetrics;
 import io.tracee.transport.HttpHeaderTransport;
 
 import javax.servlet.ServletRequest;
@@ -25,6 +28,8 @@ public final class TraceeServletRequestListener implements ServletRequestListene
 
 	private static final String HTTP_HEADER_NAME = TraceeConstants.HTTP_HEADER_NAME;
 
+	static final String SCOPE_ATTRIBUTE = TraceeServletRequestListener.class.getName() + ".scope";
+
 	private final TraceeBackend backend;
 
 	private final HttpHeaderTransport transportSerialization;
@@ -40,15 +45,23 @@ public final class TraceeServletRequestListener implements ServletRequestListene
 
 	@Override
 	public void requestDestroyed(final ServletRequestEvent sre) {
-		backend.clear();
+		final long start = System.nanoTime();
+		final ServletRequest servletRequest = sre.getServletRequest();
+		final Object scope = servletRequest.getAttribute(SCOPE_ATTRIBUTE);
+		servletRequest.removeAttribute(SCOPE_ATTRIBUTE);
+		Utilities.closeScopeOrClear(backend, scope);
+		Metrics.get().bindingTime(TraceeMetrics.Binding.SERVLET, System.nanoTime() - start);
 	}
 
 	@Override
 	public void requestInitialized(final ServletRequestEvent sre) {
+		final long start = System.nanoTime();
 		final ServletRequest servletRequest = sre.getServletRequest();
+		servletRequest.setAttribute(SCOPE_ATTRIBUTE, ContextLeakDetector.getInstance().openScope(backend, TraceeServletRequestListener.class));
 		if (servletRequest instanceof HttpServletRequest) {
 			httpRequestInitialized((HttpServletRequest) servletRequest);
 		}
+		Metrics.get().bindingTime(TraceeMetrics.Binding.SERVLET, System.nanoTime() - start);
 	}
 
 	private void httpRequestInitialized(final HttpServletRequest request) {
@@ -0,0 +1,63 @@
+package io.tracee.binding.servlet;
+
+import io.tracee.NoopTraceeLoggerFactory;
+import io.tracee.TraceeLogger;
+import io.tracee.configuration.PropertyChain;
+import io.tracee.configuration.TraceePropertiesWatcher;
+import io.tracee.metrics.Metrics;
+import org.junit.Test;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Properties;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class TraceeServletContextListenerTest {
+
+	private final TraceeServletContextListener unit = new TraceeServletContextListener();
+
+	private final TraceeLogger logger = new NoopTraceeLoggerFactory().getLogger(TraceeServletContextListenerTest.class);
+
+	@Test
+	public void unregistersMetricsOnUndeploy() throws Exception {
+		Metrics.get();
+		unit.contextDestroyed(null);
+		assertThat(ManagementFactory.getPlatformMBeanServer().isRegistered(new ObjectName("io.tracee:type=Metrics")),
+				is(false));
+	}
+
+	@Test
+	public void stopsPropertiesWatcherOnUndeploy() {
+		final Properties properties = new Properties();
+		properties.setProperty(TraceePropertiesWatcher.RELOAD_INTERVAL_PROPERTY, "60");
+		final TraceePropertiesWatcher.Listener listener = new TraceePropertiesWatcher.Listener() {
+			@Override
+			public void propertiesChanged(PropertyChain propertyChain) {
+			}
+		};
+		final TraceePropertiesWatcher watcher = TraceePropertiesWatcher.startIfEnabled(PropertyChain.build(properties),
+				listener, logger);
+		unit.contextDestroyed(null);
+		final TraceePropertiesWatcher restarted = TraceePropertiesWatcher.startIfEnabled(PropertyChain.build(properties),
+				listener, logger);
+		restarted.stop();
+		assertThat(restarted, is(not(sameInstance(watcher))));
+	}
+
+	@Test
+	public void keepsMetricsOfTraceeThatIsSharedByApplications() {
+		final Thread thread = Thread.currentThread();
+		final ClassLoader contextClassLoader = thread.getContextClassLoader();
+		thread.setContextClassLoader(new ClassLoader(contextClassLoader) {
+		});
+		try {
+			assertThat(unit.isLoadedByWebApplication(), is(false));
+		} finally {
+			thread.setContextClassLoader(contextClassLoader);
+		}
+	}
+}
@@ -1,8 +1,11 @@
 package io.tracee.binding.servlet;
 
+import io.tracee.ContextKey;
+import io.tracee.IdGenerators;
 import io.tracee.NoopTraceeLoggerFactory;
 import io.tracee.TraceeBackend;
 import io.tracee.TraceeConstants;
+import io.tracee.TraceeScope;
 import io.tracee.configuration.TraceeFilterConfiguration;
 import io.tracee.transport.HttpHeaderTransport;
 
@@ -23,7 +26,6 @@ import java.util.HashMap;
 
 
 import static io.tracee.TraceeConstants.REQUEST_ID_KEY;
-import static io.tracee.TraceeConstants.SESSION_ID_KEY;
 import static io.tracee.configuration.TraceeFilterConfiguration.Channel.IncomingRequest;
 import static org.mockito.Matchers.*;
 import static org.mockito.Mockito.*;
@@ -40,6 +42,7 @@ public class TraceeServletRequestListenerTest {
 	@Before
 	public void setupMocks() {
 		when(backend.getConfiguration()).thenReturn(configuration);
+		when(configuration.requestIdGenerator()).thenReturn(IdGenerators.random());
 	}
 
 	@Test
@@ -48,7 +51,7 @@ public class TraceeServletRequestListenerTest {
 		when(httpServletRequest.getHeaders(TraceeConstants.HTTP_HEADER_NAME)).thenReturn(Collections.enumeration(Arrays.asList()));
 
 		unit.requestInitialized(wrapToEvent(httpServletRequest));
-		verify(backend, atLeastOnce()).put(eq(TraceeConstants.REQUEST_ID_KEY), anyString());
+		verify(backend, atLeastOnce()).put(eq(ContextKey.REQUEST_ID), anyString());
 	}
 
 	@Test
@@ -57,7 +60,7 @@ public class TraceeServletRequestListenerTest {
 		when(httpServletRequest.getHeaders(TraceeConstants.HTTP_HEADER_NAME)).thenReturn(Collections.enumeration(Arrays.asList()));
 
 		unit.requestInitialized(wrapToEvent(httpServletRequest));
-		verify(backend, never()).put(eq(TraceeConstants.REQUEST_ID_KEY), anyString());
+		verify(backend, never()).put(eq(ContextKey.REQUEST_ID), anyString());
 	}
 
 
@@ -87,7 +90,7 @@ public class TraceeServletRequestListenerTest {
 		when(session.getId()).thenReturn("A_RANDOM_SESSION_ID");
 
 		unit.requestInitialized(wrapToEvent(httpServletRequest));
-		verify(backend, atLeastOnce()).put(eq(SESSION_ID_KEY), anyString());
+		verify(backend, atLeastOnce()).put(eq(ContextKey.SESSION_ID), anyString());
 	}
 
 	@Test
@@ -96,6 +99,23 @@ public class TraceeServletRequestListenerTest {
 		verify(backend, atLeastOnce()).clear();
 	}
 
+	@Test
+	public void testOpensScopeForRequest() {
+		final TraceeScope scope = mock(TraceeScope.class);
+		when(backend.openScope()).thenReturn(scope);
+		unit.requestInitialized(wrapToEvent(httpServletRequest));
+		verify(httpServletRequest).setAttribute(TraceeServletRequestListener.SCOPE_ATTRIBUTE, scope);
+	}
+
+	@Test
+	public void testClosesScopeAfterProcessing() {
+		final TraceeScope scope = mock(TraceeScope.class);
+		when(httpServletRequest.getAttribute(TraceeServletRequestListener.SCOPE_ATTRIBUTE)).thenReturn(scope);
+		unit.requestDestroyed(wrapToEvent(httpServletRequest));
+		verify(scope).close();
+		verify(backend, never()).clear();
+	}
+
 	private ServletRequestEvent wrapToEvent(ServletRequest req) {
 		return new ServletRequestEvent(mock(ServletContext.class), req);
 	}
@@ -1,5 +1,6 @@
 package io.tracee.binding.servlet;
 
+import io.tracee.ContextKey;
 import io.tracee.TraceeBackend;
 import io.tracee.configuration.TraceeFilterConfiguration;
 import org.junit.Before;
@@ -32,14 +33,14 @@ public class TraceeSessionListenerTest {
 	public void testWriteSessionIdToContextOnCreateIfConfigured() {
 		when(configuration.shouldGenerateSessionId()).thenReturn(true);
 		unit.sessionCreated(new HttpSessionEvent(session));
-		verify(backend, atLeastOnce()).put(eq(SESSION_ID_KEY), anyString());
+		verify(backend, atLeastOnce()).put(eq(ContextKey.SESSION_ID), anyString());
 	}
 
 	@Test
 	public void testDontWriteSessionIdToContextOnCreateIfNotConfigured() {
 		when(configuration.shouldGenerateSessionId()).thenReturn(false);
 		unit.sessionCreated(new HttpSessionEvent(session));
-		verify(backend, never()).put(eq(SESSION_ID_KEY), anyString());
+		verify(backend, never()).put(eq(ContextKey.SESSION_ID), anyString());
 	}
 
 	@Test
@@ -4,6 +4,9 @@ import io.tracee.Tracee;
 import io.tracee.TraceeBackend;
 import io.tracee.TraceeConstants;
 import io.tracee.configuration.TraceeFilterConfiguration;
+import io.tracee.metrics.Metrics;
+import io.tracee.spi.TraceeMetrics;
+import io.tracee.transport.HttpHeaderRenderCache;
 import io.tracee.transport.HttpHeaderTransport;
 
 import org.springframework.http.HttpRequest;
@@ -13,7 +16,6 @@ import org.springframework.http.client.ClientHttpResponse;
 
 import java.io.IOException;
 import java.util.List;
-import java.util.Map;
 
 import static io.tracee.configuration.TraceeFilterConfiguration.Channel.IncomingResponse;
 import static io.tracee.configuration.TraceeFilterConfiguration.Channel.OutgoingRequest;
@@ -47,14 +49,17 @@ public final class TraceeClientHttpRequestInterceptor implements ClientHttpReque
 	}
 
 	private void preRequest(final HttpRequest request) {
+		final long start = System.nanoTime();
 		final TraceeFilterConfiguration filterConfiguration = backend.getConfiguration(profile);
 		if (!backend.isEmpty() && filterConfiguration.shouldProcessContext(OutgoingRequest)) {
-			final Map<String, String> filteredParams = filterConfiguration.filterDeniedParams(backend.copyToMap(), OutgoingRequest);
-			request.getHeaders().add(TraceeConstants.HTTP_HEADER_NAME, transportSerialization.render(filteredParams));
+			final String contextHeader = HttpHeaderRenderCache.getInstance().render(transportSerialization, backend, filterConfiguration, OutgoingRequest);
+			request.getHeaders().add(TraceeConstants.HTTP_HEADER_NAME, contextHeader);
 		}
+		Metrics.get().bindingTime(TraceeMetrics.Binding.SPRINGHTTPCLIENT, System.nanoTime() - start);
 	}
 
 	private void postResponse(ClientHttpResponse response) {
+		final long start = System.nanoTime();
 		final List<String> headers = response.getHeaders().get(TraceeConstants.HTTP_HEADER_NAME);
 		if (headers != null) {
 			final TraceeFilterConfiguration filterConfiguration = backend.getConfiguration(profile);
@@ -63,5 +68,6 @@ public final class TraceeClientHttpRequestInterceptor implements ClientHttpReque
 				backend.putAll(filterConfiguration.filterDeniedParams(transportSerialization.parse(headers), IncomingResponse));
 			}
 		}
+		Metrics.get().bindingTime(TraceeMetrics.Binding.SPRINGHTTPCLIENT, System.nanoTime() - start);
 	}
 }
@@ -1,10 +1,14 @@
 package io.tracee.binding.springmvc;
 
+import io.tracee.ContextLeakDetector;
 import io.tracee.Tracee;
 import io.tracee.TraceeBackend;
 import io.tracee.TraceeConstants;
 import io.tracee.Utilities;
 import io.tracee.configuration.TraceeFilterConfiguration;
+import io.tracee.metrics.Metrics;
+import io.tracee.spi.TraceeMetrics;
+import io.tracee.transport.HttpHeaderRenderCache;
 import io.tracee.transport.HttpHeaderTransport;
 
 import org.springframework.web.servlet.HandlerInterceptor;
@@ -23,6 +27,8 @@ import static io.tracee.configuration.TraceeFilterConfiguration.Channel.Outgoing
 
 public final class TraceeInterceptor implements HandlerInterceptor {
 
+	static final String SCOPE_ATTRIBUTE = TraceeInterceptor.class.getName() + ".scope";
+
 	private final TraceeBackend backend;
 	private final HttpHeaderTransport httpHeaderSerialization;
 	private String outgoingHeaderName = TraceeConstants.HTTP_HEADER_NAME;
@@ -40,7 +46,8 @@ public final class TraceeInterceptor implements HandlerInterceptor {
 
 	@Override
 	public boolean preHandle(final HttpServletRequest request, final HttpServletResponse response, final Object o) throws Exception {
-
+		final long start = System.nanoTime();
+		request.setAttribute(SCOPE_ATTRIBUTE, ContextLeakDetector.getInstance().openScope(backend, TraceeInterceptor.class));
 		final TraceeFilterConfiguration configuration = backend.getConfiguration(profileName);
 
 		if (configuration.shouldProcessContext(IncomingRequest)) {
@@ -59,22 +66,29 @@ public final class TraceeInterceptor implements HandlerInterceptor {
 			Utilities.generateSessionIdIfNecessary(backend, session.getId());
 		}
 
+		Metrics.get().bindingTime(TraceeMetrics.Binding.SPRINGMVC, System.nanoTime() - start);
 		return true;
 	}
 
 	@Override
 	public void postHandle(HttpServletRequest request, HttpServletResponse response, Object o, ModelAndView modelAndView) throws Exception {
+		final long start = System.nanoTime();
 		final TraceeFilterConfiguration configuration = backend.getConfiguration(profileName);
 
 		if (!backend.isEmpty() && configuration.shouldProcessContext(OutgoingResponse)) {
-			final Map<String, String> filteredContext = configuration.filterDeniedParams(backend.copyToMap(), OutgoingResponse);
-			response.setHeader(outgoingHeaderName, httpHeaderSerialization.render(filteredContext));
+			final String contextHeader = HttpHeaderRenderCache.getInstance().render(httpHeaderSerialization, backend, configuration, OutgoingResponse);
+			response.setHeader(outgoingHeaderName, contextHeader);
 		}
+		Metrics.get().bindingTime(TraceeMetrics.Binding.SPRINGMVC, System.nanoTime() - start);
 	}
 
 	@Override
 	public void afterCompletion(HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse, Object o, Exception e) throws Exception {
-		backend.clear();
+		final long start = System.nanoTime();
+		final Object scope = httpServletRequest.getAttribute(SCOPE_ATTRIBUTE);
+		httpServletRequest.removeAttribute(SCOPE_ATTRIBUTE);
+		Utilities.closeScopeOrClear(backend, scope);
+		Metrics.get().bindingTime(TraceeMetrics.Binding.SPRINGMVC, System.nanoTime() - start);
 	}
 
 	public void setOutgoingHeaderName(String outgoingHeaderName) {
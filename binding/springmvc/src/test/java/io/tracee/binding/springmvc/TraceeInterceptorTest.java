@@ -42,29 +42,29 @@ public class TraceeInterceptorTest {
 	@Test
 	public void shouldSetRequestIdToBackend() throws Exception {
 		unit.preHandle(httpServletRequest, httpServletResponse, new Object());
-		verify(mockedBackend).put(eq(TraceeConstants.REQUEST_ID_KEY), anyString());
+		verify(mockedBackend).put(eq(ContextKey.REQUEST_ID), anyString());
 	}
 
 	@Test
 	public void shouldSetSessionIdToBackendHttpSessionExist() throws Exception {
 		when(httpServletRequest.getSession(anyBoolean())).thenReturn(httpServletSession);
-		when(httpServletSession.getId()).thenReturn(anyString());
+		when(httpServletSession.getId()).thenReturn("sessionId");
 		unit.preHandle(httpServletRequest, httpServletResponse, new Object());
-		verify(mockedBackend).put(eq(TraceeConstants.SESSION_ID_KEY), anyString());
+		verify(mockedBackend).put(eq(ContextKey.SESSION_ID), anyString());
 	}
 
 	@Test
 	public void shouldNotOverrideExistingRequestId() throws Exception {
-		when(mockedBackend.containsKey(eq(TraceeConstants.REQUEST_ID_KEY))).thenReturn(true);
+		when(mockedBackend.get(ContextKey.REQUEST_ID)).thenReturn("existingRequestId");
 		unit.preHandle(httpServletRequest, httpServletResponse, new Object());
-		verify(mockedBackend, never()).put(eq(TraceeConstants.REQUEST_ID_KEY), anyString());
+		verify(mockedBackend, never()).put(eq(ContextKey.REQUEST_ID), anyString());
 	}
 
 	@Test
 	public void shouldNotOverrideExistingSessionId() throws Exception {
-		when(mockedBackend.containsKey(eq(TraceeConstants.SESSION_ID_KEY))).thenReturn(true);
+		when(mockedBackend.get(ContextKey.SESSION_ID)).thenReturn("existingSessionId");
 		unit.preHandle(httpServletRequest, httpServletResponse, new Object());
-		verify(mockedBackend, never()).put(eq(TraceeConstants.SESSION_ID_KEY), anyString());
+		verify(mockedBackend, never()).put(eq(ContextKey.SESSION_ID), anyString());
 	}
 
 	@Test
@@ -131,6 +131,23 @@ public class TraceeInterceptorTest {
 		verify(mockedBackend).clear();
 	}
 
+	@Test
+	public void shouldOpenScopeForRequest() throws Exception {
+		final TraceeScope scope = mock(TraceeScope.class);
+		when(mockedBackend.openScope()).thenReturn(scope);
+		unit.preHandle(httpServletRequest, httpServletResponse, new Object());
+		verify(httpServletRequest).setAttribute(TraceeInterceptor.SCOPE_ATTRIBUTE, scope);
+	}
+
+	@Test
+	public void shouldCloseScopeAfterProcessing() throws Exception {
+		final TraceeScope scope = mock(TraceeScope.class);
+		when(httpServletRequest.getAttribute(TraceeInterceptor.SCOPE_ATTRIBUTE)).thenReturn(scope);
+		unit.afterCompletion(httpServletRequest, httpServletResponse, new Object(), null);
+		verify(scope).close();
+		verify(mockedBackend, never()).clear();
+	}
+
 	private TraceeBackend mockedBackend(TraceeFilterConfiguration filterConfiguration) {
 		final TraceeBackend backend = mock(TraceeBackend.class);
 		final NoopTraceeLoggerFactory noopTraceeLoggerFactory = new NoopTraceeLoggerFactory();
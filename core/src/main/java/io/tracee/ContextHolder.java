@@ -0,0 +1,80 @@
+package io.tracee;
+
+/**
+ * Keeps the state of the current thread for a {@link MDCLikeTraceeBackend}: the {@link ContextSnapshot} and the
+ * innermost {@link TraceeScope} that is open on the thread.
+ * <p/>
+ * Backends that keep the context in a thread local use {@link #of(ThreadLocal)}. Backends that bind the context
+ * differently, e.g. to a {@code ScopedValue}, implement the holder themselves.
+ */
+public abstract class ContextHolder {
+
+	/**
+	 * @return the context of the current thread, {@link ContextSnapshot#EMPTY} if there is none
+	 */
+	public abstract ContextSnapshot get();
+
+	public abstract void set(ContextSnapshot snapshot);
+
+	/**
+	 * Empties the context of the current thread and releases the state that is kept for it, if possible.
+	 */
+	public abstract void remove();
+
+	/**
+	 * @return the innermost scope that is open on the current thread, {@code null} if there is none
+	 */
+	public abstract TraceeScope getOpenScope();
+
+	/**
+	 * @param scope the innermost open scope, {@code null} if the outermost scope has been closed
+	 */
+	public abstract void setOpenScope(TraceeScope scope);
+
+	/**
+	 * @return a holder that keeps the context in the given thread local and the open scope in a plain thread local.
+	 */
+	public static ContextHolder of(ThreadLocal<ContextSnapshot> context) {
+		return new ThreadLocalHolder(context);
+	}
+
+	private static final class ThreadLocalHolder extends ContextHolder {
+
+		private final ThreadLocal<ContextSnapshot> context;
+
+		/**
+		 * Not inherited, since scopes belong to the thread that opened them. The entry of a thread keeps no reference
+		 * after its outermost scope has been closed.
+		 */
+		private final ThreadLocal<TraceeScope> openScope = new ThreadLocal<TraceeScope>();
+
+		private ThreadLocalHolder(ThreadLocal<ContextSnapshot> context) {
+			this.context = context;
+		}
+
+		@Override
+		public ContextSnapshot get() {
+			return context.get();
+		}
+
+		@Override
+		public void set(ContextSnapshot snapshot) {
+			context.set(snapshot);
+		}
+
+		@Override
+		public void remove() {
+			context.remove();
+		}
+
+		@Override
+		public TraceeScope getOpenScope() {
+			return openScope.get();
+		}
+
+		@Override
+		public void setOpenScope(TraceeScope scope) {
+			openScope.set(scope);
+		}
+	}
+}
@@ -0,0 +1,276 @@
+package io.tracee;
+
+import io.tracee.configuration.PropertiesBasedTraceeFilterConfiguration;
+import io.tracee.configuration.PropertyChain;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Detects contexts that are left on pooled threads because a binding missed its cleanup, e.g. a response filter that
+ * never ran. Such a context would be inherited by every later unit of work on the thread.
+ * <p/>
+ * Bindings open the scope of an incoming unit of work with {@link #openScope(TraceeBackend, Class)}. If the detector is
+ * enabled, it records the scope for the current thread until it is closed. A unit of work leaked if the thread holds
+ * context values when a new unit of work starts, and no enclosing unit of work is open. The same binding being open
+ * already counts as leaked, too, since a binding does not handle a unit of work within one of its own. The scopes of
+ * leaked units of work are closed before the new one is opened, so the new unit of work does not run within them.
+ * <p/>
+ * The detector is configured once by {@value #MODE_PROPERTY}:
+ * <ul>
+ * <li>{@code off} (default): bindings get the scope of the backend as it is, nothing is recorded.</li>
+ * <li>{@code log}: leaks are counted and logged, the first one as warning and all following ones on debug level.</li>
+ * <li>{@code clear}: like {@code log}, and a residual context that is still left is cleared before the new unit of
+ * work starts, e.g. values that have been put without a scope.</li>
+ * </ul>
+ * If enabled, recording costs a thread local lookup and a scope wrapper per unit of work. The thread local entry is
+ * removed as soon as no unit of work is open on the thread, so it does not keep the bindings and the backend alive.
+ */
+public final class ContextLeakDetector {
+
+	public static final String MODE_PROPERTY = "tracee.leakDetection";
+
+	/**
+	 * Bounds the recorded bindings per thread. Bindings rarely enclose each other more than once or twice.
+	 */
+	static final int MAX_OPEN_UNITS = 8;
+
+	enum Mode {
+		OFF, LOG, CLEAR
+	}
+
+	private final Mode mode;
+
+	private final ThreadLocal<OpenUnits> openUnits = new ThreadLocal<OpenUnits>();
+
+	private final AtomicLong leaks = new AtomicLong();
+	private final AtomicLong leakedKeys = new AtomicLong();
+	private final AtomicLong leakedBytes = new AtomicLong();
+
+	ContextLeakDetector(Mode mode) {
+		this.mode = mode;
+	}
+
+	/**
+	 * @return the detector that is shared by all bindings, configured by {@value #MODE_PROPERTY}.
+	 */
+	public static ContextLeakDetector getInstance() {
+		return InstanceHolder.INSTANCE;
+	}
+
+	static Mode modeOf(PropertyChain propertyChain) {
+		final String mode = propertyChain.getProperty(MODE_PROPERTY);
+		if (mode != null) {
+			for (Mode candidate : Mode.values()) {
+				if (candidate.name().equalsIgnoreCase(mode.trim())) {
+					return candidate;
+				}
+			}
+		}
+		return Mode.OFF;
+	}
+
+	public boolean isEnabled() {
+		return mode != Mode.OFF;
+	}
+
+	/**
+	 * Opens the scope of an incoming unit of work like {@link TraceeBackend#openScope()} does. If the detector is
+	 * enabled, scopes of units of work that leaked on the current thread are closed first and the leak is reported.
+	 *
+	 * @param binding the binding that handles the unit of work, reported as owner of a leaked context
+	 */
+	public TraceeScope openScope(TraceeBackend backend, Class<?> binding) {
+		if (mode == Mode.OFF) {
+			return backend.openScope();
+		}
+		OpenUnits units = openUnits.get();
+		if (units == null) {
+			units = new OpenUnits();
+			openUnits.set(units);
+		}
+		TraceeScope backendScope = null;
+		try {
+			final int openIndex = units.indexOf(binding);
+			if (openIndex >= 0) {
+				reportLeak(backend, binding, units.scopes[openIndex].binding);
+				units.closeFrom(openIndex);
+			} else if (units.depth == MAX_OPEN_UNITS) {
+				reportLeak(backend, binding, units.scopes[0].binding);
+				units.closeFrom(0);
+			} else if (units.depth == 0) {
+				reportLeak(backend, binding, null);
+			}
+			if (mode == Mode.CLEAR && units.depth == 0 && !backend.isEmpty()) {
+				backend.clear();
+			}
+			backendScope = backend.openScope();
+		} finally {
+			if (backendScope == null) {
+				units.releaseIfIdle();
+			}
+		}
+		if (backendScope == null) {
+			return null;
+		}
+		final TrackedScope scope = new TrackedScope(backendScope, units, binding);
+		units.open(scope);
+		return scope;
+	}
+
+	/**
+	 * @return {@code true} if units of work are recorded for the current thread
+	 */
+	boolean isTracking() {
+		return openUnits.get() != null;
+	}
+
+	/**
+	 * @return the number of units of work that started with a leaked context.
+	 */
+	public long getLeakCount() {
+		return leaks.get();
+	}
+
+	/**
+	 * @return the number of context entries that have been found in leaked contexts.
+	 */
+	public long getLeakedKeyCount() {
+		return leakedKeys.get();
+	}
+
+	/**
+	 * @return the approximate size of the keys and values in leaked contexts, counted as two bytes per character.
+	 */
+	public long getLeakedBytes() {
+		return leakedBytes.get();
+	}
+
+	private void reportLeak(TraceeBackend backend, Class<?> binding, Class<?> owner) {
+		if (mode == Mode.OFF) {
+			return;
+		}
+		final Map<String, String> residual = backend.copyToMap();
+		if (residual.isEmpty()) {
+			return;
+		}
+		long bytes = 0L;
+		for (Map.Entry<String, String> entry : residual.entrySet()) {
+			bytes += 2L * (entry.getKey().length() + entry.getValue().length());
+		}
+		leakedKeys.addAndGet(residual.size());
+		leakedBytes.addAndGet(bytes);
+		final TraceeLogger logger = backend.getLoggerFactory().getLogger(ContextLeakDetector.class);
+		final Object[] arguments = {Thread.currentThread().getName(), binding.getName(), residual.size(), bytes,
+				owner != null ? owner.getName() : "unknown"};
+		if (leaks.incrementAndGet() == 1L) {
+			logger.warn("Thread {} starts a unit of work of {} with {} residual TracEE keys ({} bytes) left by {}. " +
+					"Further leaks are logged on debug level.", arguments);
+		} else {
+			logger.debug("Thread {} starts a unit of work of {} with {} residual TracEE keys ({} bytes) left by {}",
+					arguments);
+		}
+	}
+
+	/**
+	 * The scopes of the units of work that are open on one thread, outermost first.
+	 */
+	private final class OpenUnits {
+
+		private final TrackedScope[] scopes = new TrackedScope[MAX_OPEN_UNITS];
+		private int depth;
+
+		int indexOf(Class<?> binding) {
+			for (int i = 0; i < depth; i++) {
+				if (scopes[i].binding == binding) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		void open(TrackedScope scope) {
+			scope.index = depth;
+			scopes[depth++] = scope;
+		}
+
+		/**
+		 * Closes the scopes from the given index on, innermost first, so each one restores the context it has been
+		 * opened in. Each scope is removed before it is closed, so a scope that fails to close leaves the remaining ones
+		 * recorded and consistent.
+		 */
+		void closeFrom(int index) {
+			while (depth > index) {
+				final TrackedScope scope = scopes[--depth];
+				scopes[depth] = null;
+				scope.closeScope();
+			}
+		}
+
+		/**
+		 * Removes the thread local entry of the current thread once no unit of work is open anymore. Units of another
+		 * thread, or units that have been replaced already, are left alone.
+		 */
+		void releaseIfIdle() {
+			if (depth == 0 && openUnits.get() == this) {
+				openUnits.remove();
+			}
+		}
+	}
+
+	private static final class TrackedScope implements TraceeScope {
+
+		private final Thread owner = Thread.currentThread();
+		private final OpenUnits units;
+		private final TraceeScope scope;
+		private final Class<?> binding;
+		private int index;
+		private boolean closed;
+
+		private TrackedScope(TraceeScope scope, OpenUnits units, Class<?> binding) {
+			this.scope = scope;
+			this.units = units;
+			this.binding = binding;
+		}
+
+		/**
+		 * Units of work that are nested in this one and still open are closed as well. The units of another thread are
+		 * left alone, its next unit of work closes them.
+		 */
+		@Override
+		public void close() {
+			if (closed) {
+				return;
+			}
+			if (Thread.currentThread() == owner && index < units.depth && units.scopes[index] == this) {
+				try {
+					units.closeFrom(index);
+				} finally {
+					units.releaseIfIdle();
+				}
+			} else {
+				closeScope();
+			}
+		}
+
+		private void closeScope() {
+			if (!closed) {
+				closed = true;
+				scope.close();
+			}
+		}
+	}
+
+	private static final class InstanceHolder {
+
+		private static final ContextLeakDetector INSTANCE = new ContextLeakDetector(loadMode());
+
+		private static Mode loadMode() {
+			try {
+				return modeOf(PropertiesBasedTraceeFilterConfiguration.loadPropertyChain());
+			} catch (IllegalStateException e) {
+				return Mode.OFF;
+			}
+		}
+	}
+}
@@ -0,0 +1,178 @@
+package io.tracee;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Immutable and versioned state of a TracEE context.
+ * <p/>
+ * A snapshot is never modified after creation. Writes create a new snapshot which replaces the old one wholesale.
+ * Because of that a snapshot can be handed out to callers (e.g. by {@link TraceeBackend#copyToMap()}) or to other
+ * threads without copying.
+ * <p/>
+ * Each snapshot gets a version that is unique within the JVM. Two snapshots with the same version are the same
+ * snapshot, so the version may be used as cache key for everything that is derived from the context.
+ * <p/>
+ * The values of {@link ContextKey registered keys} are additionally kept in slots by the index of their key, so
+ * {@link #get(ContextKey)} does not hash. Keys that are registered after a snapshot has been created are looked up
+ * by name until the snapshot is replaced.
+ */
+public final class ContextSnapshot {
+
+	private static final AtomicLong VERSION_SEQUENCE = new AtomicLong();
+
+	/**
+	 * The empty context. It has always version {@code 0}.
+	 */
+	public static final ContextSnapshot EMPTY = new ContextSnapshot(FlatStringMap.EMPTY, new String[0], 0L);
+
+	private final FlatStringMap entries;
+	/**
+	 * Values of the registered keys by index. Keys with an index beyond the end have been registered later.
+	 */
+	private final String[] slots;
+	private final long version;
+
+	private ContextSnapshot(FlatStringMap entries, String[] slots, long version) {
+		this.entries = entries;
+		this.slots = slots;
+		this.version = version;
+	}
+
+	private static ContextSnapshot successor(FlatStringMap updatedEntries, String[] updatedSlots) {
+		if (updatedEntries.isEmpty()) {
+			return EMPTY;
+		}
+		return new ContextSnapshot(updatedEntries, updatedSlots, VERSION_SEQUENCE.incrementAndGet());
+	}
+
+	/**
+	 * @return the slots of the updated entries, in which only the slot of the given key has changed.
+	 */
+	private String[] slotsWith(FlatStringMap updatedEntries, ContextKey key, String value) {
+		if (key == null) {
+			return slots;
+		}
+		final List<ContextKey> registeredKeys = ContextKey.registeredKeys();
+		final String[] updatedSlots = new String[Math.max(registeredKeys.size(), key.getIndex() + 1)];
+		System.arraycopy(slots, 0, updatedSlots, 0, slots.length);
+		for (int i = slots.length; i < updatedSlots.length; i++) {
+			updatedSlots[i] = updatedEntries.get(registeredKeys.get(i).getName());
+		}
+		updatedSlots[key.getIndex()] = value;
+		return updatedSlots;
+	}
+
+	private static String[] slotsOf(FlatStringMap entries) {
+		final List<ContextKey> registeredKeys = ContextKey.registeredKeys();
+		final String[] slots = new String[registeredKeys.size()];
+		for (int i = 0; i < slots.length; i++) {
+			slots[i] = entries.get(registeredKeys.get(i).getName());
+		}
+		return slots;
+	}
+
+	/**
+	 * Creates a snapshot that contains a copy of the given entries.
+	 */
+	public static ContextSnapshot copyOf(Map<? extends String, ? extends String> entries) {
+		return EMPTY.withAll(entries);
+	}
+
+	public long getVersion() {
+		return version;
+	}
+
+	/**
+	 * @return a read-only view of this snapshot. The returned map never changes.
+	 */
+	public Map<String, String> asMap() {
+		return entries;
+	}
+
+	public String get(String key) {
+		return entries.get(key);
+	}
+
+	public String get(ContextKey key) {
+		final int index = key.getIndex();
+		return index < slots.length ? slots[index] : entries.get(key.getName());
+	}
+
+	/**
+	 * Calls the visitor for every entry. Unlike iterating over {@link #asMap()} this allocates nothing, so it may be
+	 * used on paths that have to be garbage-free, e.g. for every log event.
+	 *
+	 * @param state passed to every call of the visitor, so that the visitor itself can be a constant
+	 */
+	public <S> void forEach(EntryVisitor<S> visitor, S state) {
+		entries.forEach(visitor, state);
+	}
+
+	public boolean containsKey(String key) {
+		return entries.containsKey(key);
+	}
+
+	public int size() {
+		return entries.size();
+	}
+
+	public boolean isEmpty() {
+		return entries.isEmpty();
+	}
+
+	/**
+	 * @return a snapshot that additionally contains the given entry or {@code this} if the entry is already present
+	 * with the same value.
+	 */
+	public ContextSnapshot with(String key, String value) {
+		final FlatStringMap updatedEntries = entries.with(key, value);
+		return updatedEntries == entries ? this : successor(updatedEntries, slotsWith(updatedEntries, ContextKey.forName(key), value));
+	}
+
+	/**
+	 * @return a snapshot that additionally contains the given entry or {@code this} if the entry is already present
+	 * with the same value.
+	 */
+	public ContextSnapshot with(ContextKey key, String value) {
+		final FlatStringMap updatedEntries = entries.with(key.getName(), value);
+		return updatedEntries == entries ? this : successor(updatedEntries, slotsWith(updatedEntries, key, value));
+	}
+
+	/**
+	 * @return a snapshot that additionally contains all given entries or {@code this} if all entries are already
+	 * present with the same values.
+	 * @throws NullPointerException if one of the keys or values is {@code null}
+	 */
+	public ContextSnapshot withAll(Map<? extends String, ? extends String> additionalEntries) {
+		FlatStringMap updatedEntries = entries;
+		for (Map.Entry<? extends String, ? extends String> entry : additionalEntries.entrySet()) {
+			updatedEntries = updatedEntries.with(entry.getKey(), entry.getValue());
+		}
+		return updatedEntries == entries ? this : successor(updatedEntries, slotsOf(updatedEntries));
+	}
+
+	/**
+	 * @return a snapshot without the given key or {@code this} if the key is not present.
+	 */
+	public ContextSnapshot without(String key) {
+		final FlatStringMap updatedEntries = entries.without(key);
+		return updatedEntries == entries ? this : successor(updatedEntries, slotsWith(updatedEntries, ContextKey.forName(key), null));
+	}
+
+	@Override
+	public String toString() {
+		return "ContextSnapshot{version=" + version + ", entries=" + entries + '}';
+	}
+
+	/**
+	 * Receives the entries of a snapshot from {@link #forEach(EntryVisitor, Object)}.
+	 *
+	 * @param <S> type of the state that is passed along with every entry
+	 */
+	public interface EntryVisitor<S> {
+
+		void visit(String key, String value, S state);
+	}
+}
@@ -0,0 +1,45 @@
+package io.tracee;
+
+import io.tracee.spi.IdGenerator;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates identifiers from a random node prefix followed by a counter.
+ * <p/>
+ * The node prefix is drawn once, so identifiers of different JVMs differ in their first
+ * {@value #NODE_PREFIX_LENGTH} characters. The remaining characters hold a JVM wide counter in base 36. Identifiers
+ * of one node are unique until the counter exceeds the remaining characters.
+ */
+final class CounterIdGenerator implements IdGenerator {
+
+	static final CounterIdGenerator INSTANCE = new CounterIdGenerator();
+
+	static final int NODE_PREFIX_LENGTH = 8;
+
+	private static final char[] DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ".toCharArray();
+
+	private final char[] nodePrefix;
+	private final AtomicLong counter = new AtomicLong();
+
+	CounterIdGenerator() {
+		this(RandomIdGenerator.INSTANCE.generate(NODE_PREFIX_LENGTH));
+	}
+
+	CounterIdGenerator(String nodePrefix) {
+		this.nodePrefix = nodePrefix.toCharArray();
+	}
+
+	@Override
+	public String generate(final int length) {
+		long value = counter.incrementAndGet();
+		final char[] chars = new char[length];
+		final int prefixLength = Math.min(nodePrefix.length, length);
+		System.arraycopy(nodePrefix, 0, chars, 0, prefixLength);
+		for (int i = length - 1; i >= prefixLength; i--) {
+			chars[i] = DIGITS[(int) (value % DIGITS.length)];
+			value /= DIGITS.length;
+		}
+		return new String(chars);
+	}
+}
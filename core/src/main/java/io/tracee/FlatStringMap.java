@@ -0,0 +1,235 @@
+package io.tracee;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Immutable map of strings that keeps its keys and values alternately in a single flat array.
+ * <p/>
+ * Contexts usually hold only a handful of entries. Up to {@value #LINEAR_THRESHOLD} entries are packed at the start
+ * of the array and found by a linear scan, which is faster than hashing for such sizes and keeps the insertion order.
+ * Larger maps switch to open addressing with linear probing in the same kind of array. Writes copy the array, so a
+ * write to a small map costs a single array copy instead of rebuilding a {@link java.util.HashMap}.
+ * <p/>
+ * Keys and values must not be {@code null}.
+ */
+final class FlatStringMap extends AbstractMap<String, String> {
+
+	static final int LINEAR_THRESHOLD = 8;
+
+	static final FlatStringMap EMPTY = new FlatStringMap(new String[0], 0);
+
+	/**
+	 * Keys at even indexes, each followed by its value. Empty slots of the hashed layout have a {@code null} key.
+	 */
+	private final String[] table;
+	private final int size;
+
+	private FlatStringMap(String[] table, int size) {
+		this.table = table;
+		this.size = size;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return key != null && indexOf(key) >= 0;
+	}
+
+	@Override
+	public String get(Object key) {
+		if (key == null) {
+			return null;
+		}
+		final int index = indexOf(key);
+		return index >= 0 ? table[index + 1] : null;
+	}
+
+	/**
+	 * @return a map that additionally contains the given entry or {@code this} if the entry is already present with
+	 * the same value.
+	 */
+	FlatStringMap with(String key, String value) {
+		if (key == null) throw new NullPointerException("null keys are not allowed.");
+		if (value == null) throw new NullPointerException("null values are not allowed.");
+		final int index = indexOf(key);
+		if (index >= 0) {
+			if (value.equals(table[index + 1])) {
+				return this;
+			}
+			final String[] copy = table.clone();
+			copy[index + 1] = value;
+			return new FlatStringMap(copy, size);
+		}
+
+		final int newSize = size + 1;
+		if (newSize <= LINEAR_THRESHOLD) {
+			final String[] copy = new String[table.length + 2];
+			System.arraycopy(table, 0, copy, 0, table.length);
+			copy[table.length] = key;
+			copy[table.length + 1] = value;
+			return new FlatStringMap(copy, newSize);
+		}
+		final String[] copy = isHashed() && tableLengthFor(newSize) == table.length ? table.clone() : relayout(newSize, -1);
+		insert(copy, key, value);
+		return new FlatStringMap(copy, newSize);
+	}
+
+	/**
+	 * @return a map without the given key or {@code this} if the key is not present.
+	 */
+	FlatStringMap without(Object key) {
+		final int index = key != null ? indexOf(key) : -1;
+		if (index < 0) {
+			return this;
+		}
+		final int newSize = size - 1;
+		if (newSize == 0) {
+			return EMPTY;
+		}
+		// removing an entry from a probe sequence would require moving the entries behind it, so rebuild instead
+		return new FlatStringMap(relayout(newSize, index), newSize);
+	}
+
+	/**
+	 * Visits all entries without allocating an iterator or entry objects.
+	 */
+	<S> void forEach(ContextSnapshot.EntryVisitor<S> visitor, S state) {
+		for (int i = 0; i < table.length; i += 2) {
+			if (table[i] != null) {
+				visitor.visit(table[i], table[i + 1], state);
+			}
+		}
+	}
+
+	@Override
+	public Set<Map.Entry<String, String>> entrySet() {
+		return new EntrySet();
+	}
+
+	private boolean isHashed() {
+		return size > LINEAR_THRESHOLD;
+	}
+
+	private int indexOf(Object key) {
+		if (!isHashed()) {
+			for (int i = 0; i < table.length; i += 2) {
+				final String candidate = table[i];
+				if (candidate == key || candidate.equals(key)) {
+					return i;
+				}
+			}
+			return -1;
+		}
+		final int mask = (table.length >> 1) - 1;
+		for (int slot = spread(key.hashCode()) & mask; ; slot = (slot + 1) & mask) {
+			final String candidate = table[slot << 1];
+			if (candidate == null) {
+				return -1;
+			}
+			if (candidate == key || candidate.equals(key)) {
+				return slot << 1;
+			}
+		}
+	}
+
+	/**
+	 * Copies all entries except the one at {@code skippedIndex} into a table for {@code newSize} entries.
+	 */
+	private String[] relayout(int newSize, int skippedIndex) {
+		final boolean linear = newSize <= LINEAR_THRESHOLD;
+		final String[] copy = new String[linear ? newSize * 2 : tableLengthFor(newSize)];
+		int next = 0;
+		for (int i = 0; i < table.length; i += 2) {
+			if (table[i] != null && i != skippedIndex) {
+				if (linear) {
+					copy[next++] = table[i];
+					copy[next++] = table[i + 1];
+				} else {
+					insert(copy, table[i], table[i + 1]);
+				}
+			}
+		}
+		return copy;
+	}
+
+	/**
+	 * The hashed layout is at most half full, so every probe sequence ends at an empty slot.
+	 */
+	private static int tableLengthFor(int size) {
+		int slots = 1;
+		while (slots < size * 2) {
+			slots <<= 1;
+		}
+		return slots * 2;
+	}
+
+	private static void insert(String[] hashedTable, String key, String value) {
+		final int mask = (hashedTable.length >> 1) - 1;
+		int slot = spread(key.hashCode()) & mask;
+		while (hashedTable[slot << 1] != null) {
+			slot = (slot + 1) & mask;
+		}
+		hashedTable[slot << 1] = key;
+		hashedTable[(slot << 1) + 1] = value;
+	}
+
+	private static int spread(int hashCode) {
+		return hashCode ^ (hashCode >>> 16);
+	}
+
+	private final class EntrySet extends AbstractSet<Map.Entry<String, String>> {
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public Iterator<Map.Entry<String, String>> iterator() {
+			return new Iterator<Map.Entry<String, String>>() {
+				private int next = skipEmpty(0);
+
+				@Override
+				public boolean hasNext() {
+					return next < table.length;
+				}
+
+				@Override
+				public Map.Entry<String, String> next() {
+					if (!hasNext()) {
+						throw new NoSuchElementException();
+					}
+					final Map.Entry<String, String> entry = new SimpleImmutableEntry<String, String>(table[next], table[next + 1]);
+					next = skipEmpty(next + 2);
+					return entry;
+				}
+
+				@Override
+				public void remove() {
+					throw new UnsupportedOperationException("the map is read-only");
+				}
+
+				private int skipEmpty(int index) {
+					while (index < table.length && table[index] == null) {
+						index += 2;
+					}
+					return index;
+				}
+			};
+		}
+	}
+}
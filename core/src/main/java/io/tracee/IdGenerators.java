@@ -0,0 +1,78 @@
+package io.tracee;
+
+import io.tracee.spi.IdGenerator;
+
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * Resolves the {@link IdGenerator} that is configured by name.
+ * <p/>
+ * Builtin generators are:
+ * <ul>
+ * <li>{@value #RANDOM} - random alphanumeric identifiers (default)</li>
+ * <li>{@value #COUNTER} - a random node prefix followed by a counter</li>
+ * <li>{@value #TIME_ORDERED} - identifiers that sort by their creation time</li>
+ * </ul>
+ * Any other name is treated as class name of a custom {@link IdGenerator} with a public no-arg constructor.
+ */
+public final class IdGenerators {
+
+	public static final String RANDOM = "random";
+	public static final String COUNTER = "counter";
+	public static final String TIME_ORDERED = "timeOrdered";
+
+	private IdGenerators() {
+		// hide constructor
+	}
+
+	public static IdGenerator random() {
+		return RandomIdGenerator.INSTANCE;
+	}
+
+	/**
+	 * @param name   name of a builtin generator or class name of a custom generator. {@code null} selects the
+	 *               default generator.
+	 * @param logger used to report a generator that can not be created
+	 * @return the named generator or the default generator if the named one is not available
+	 */
+	public static IdGenerator forName(final String name, final TraceeLogger logger) {
+		if (Utilities.isNullOrEmptyString(name) || RANDOM.equals(name.trim())) {
+			return RandomIdGenerator.INSTANCE;
+		}
+		final String trimmedName = name.trim();
+		if (COUNTER.equals(trimmedName)) {
+			return CounterIdGenerator.INSTANCE;
+		}
+		if (TIME_ORDERED.equals(trimmedName)) {
+			return TimeOrderedIdGenerator.INSTANCE;
+		}
+		try {
+			return loadClass(trimmedName).asSubclass(IdGenerator.class).getConstructor().newInstance();
+		} catch (NoSuchMethodException e) {
+			logger.error("Can not create IdGenerator '{}'. It has no public no-arg constructor -- Use random ids", trimmedName);
+			return RandomIdGenerator.INSTANCE;
+		} catch (InvocationTargetException e) {
+			return fallBack(trimmedName, e.getCause(), logger);
+		} catch (Exception e) {
+			return fallBack(trimmedName, e, logger);
+		}
+	}
+
+	private static IdGenerator fallBack(final String className, final Throwable cause, final TraceeLogger logger) {
+		logger.error("Can not create IdGenerator '{}'. Message: {} -- Use random ids", className, cause.getMessage());
+		logger.debug("Detailed Exception cause: {}", cause.getMessage(), cause);
+		return RandomIdGenerator.INSTANCE;
+	}
+
+	private static Class<?> loadClass(final String className) throws ClassNotFoundException {
+		final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		if (contextClassLoader != null) {
+			try {
+				return Class.forName(className, true, contextClassLoader);
+			} catch (ClassNotFoundException e) {
+				// try our own classloader
+			}
+		}
+		return Class.forName(className);
+	}
+}
@@ -0,0 +1,95 @@
+package io.tracee;
+
+import java.util.Arrays;
+
+/**
+ * A message that has been built from a pattern with {@code {}} placeholders, as it is passed to the parameterized
+ * methods of {@link TraceeLogger}. Loggers of logging systems without such methods format it only after they have
+ * checked that the level is enabled.
+ * <p/>
+ * The placeholders are replaced by the arguments in order, surplus placeholders are kept. A placeholder that is
+ * preceded by a backslash is kept as {@code {}}, a double backslash before a placeholder is written as a single
+ * backslash followed by the argument. If the last argument is a {@link Throwable} that has not been used by a
+ * placeholder, it is the {@link #getThrowable() throwable} of the message.
+ */
+public final class LogMessage {
+
+	private static final String PLACEHOLDER = "{}";
+	private static final char ESCAPE = '\\';
+
+	private final String message;
+	private final Throwable throwable;
+
+	private LogMessage(String message, Throwable throwable) {
+		this.message = message;
+		this.throwable = throwable;
+	}
+
+	public static LogMessage format(String pattern, Object argument) {
+		return format(pattern, new Object[]{argument});
+	}
+
+	public static LogMessage format(String pattern, Object argument1, Object argument2) {
+		return format(pattern, new Object[]{argument1, argument2});
+	}
+
+	public static LogMessage format(String pattern, Object... arguments) {
+		if (arguments == null || arguments.length == 0) {
+			return new LogMessage(pattern != null ? pattern : "", null);
+		}
+		if (pattern == null) {
+			return new LogMessage("", trailingThrowable(arguments, 0));
+		}
+		final StringBuilder sb = new StringBuilder(pattern.length() + 16 * arguments.length);
+		int start = 0;
+		int used = 0;
+		while (used < arguments.length) {
+			final int placeholder = pattern.indexOf(PLACEHOLDER, start);
+			if (placeholder < 0) {
+				break;
+			}
+			if (isEscaped(pattern, placeholder)) {
+				if (isEscaped(pattern, placeholder - 1)) {
+					sb.append(pattern, start, placeholder - 1);
+					appendArgument(sb, arguments[used++]);
+				} else {
+					sb.append(pattern, start, placeholder - 1).append(PLACEHOLDER);
+				}
+			} else {
+				sb.append(pattern, start, placeholder);
+				appendArgument(sb, arguments[used++]);
+			}
+			start = placeholder + PLACEHOLDER.length();
+		}
+		sb.append(pattern, start, pattern.length());
+		return new LogMessage(sb.toString(), trailingThrowable(arguments, used));
+	}
+
+	public String getMessage() {
+		return message;
+	}
+
+	/**
+	 * @return the throwable that has been passed as last argument or {@code null}.
+	 */
+	public Throwable getThrowable() {
+		return throwable;
+	}
+
+	private static boolean isEscaped(String pattern, int index) {
+		return index > 0 && pattern.charAt(index - 1) == ESCAPE;
+	}
+
+	private static void appendArgument(StringBuilder sb, Object argument) {
+		if (argument instanceof Object[]) {
+			sb.append(Arrays.deepToString((Object[]) argument));
+		} else {
+			sb.append(argument);
+		}
+	}
+
+	private static Throwable trailingThrowable(Object[] arguments, int used) {
+		final Object last = arguments[arguments.length - 1];
+		return used < arguments.length && last instanceof Throwable ? (Throwable) last : null;
+	}
+}
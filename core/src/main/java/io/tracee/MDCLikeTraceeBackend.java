@@ -3,26 +3,51 @@ package io.tracee;
 import io.tracee.configuration.PropertiesBasedTraceeFilterConfiguration;
 import io.tracee.configuration.PropertyChain;
 import io.tracee.configuration.TraceeFilterConfiguration;
+import io.tracee.configuration.TraceePropertiesWatcher;
+import io.tracee.transport.HttpHeaderRenderCache;
 
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static io.tracee.configuration.TraceeFilterConfiguration.*;
 
-
+/**
+ * Base class for backends that expose the TracEE context to a MDC-like structure of a logging framework.
+ * <p/>
+ * The context itself is kept as an immutable {@link ContextSnapshot} per thread. Every write replaces the snapshot
+ * wholesale, so reads and {@link #copyToMap()} never copy. The MDC of the logging framework is only a mirror of the
+ * snapshot and is never read by this class.
+ */
 public abstract class MDCLikeTraceeBackend implements TraceeBackend {
 
-	// Use #getPropertyChain to retrieve/get the chain
-	private PropertyChain _lazyPropertyChain = null;
-
 	private final TraceeLoggerFactory loggerFactory;
 
-	private final ThreadLocal<Set<String>> traceeKeys;
+	private final ContextHolder context;
+
+	/**
+	 * The loaded properties and the configurations of all profiles that have been used so far. Reloaded properties
+	 * are published by replacing the whole state at once. Use #getConfigurationState to retrieve it.
+	 */
+	private volatile ConfigurationState configurationState;
+
+	private final Object configurationLock = new Object();
+
+	/**
+	 * Reloads the configuration for the properties watcher. Guarded by #configurationLock.
+	 */
+	private TraceePropertiesWatcher.Listener reloadListener;
 
-	private Map<String, TraceeFilterConfiguration> configurationCache = new ConcurrentHashMap<String, TraceeFilterConfiguration>();
+	/**
+	 * The watcher that notifies the #reloadListener, {@code null} if reloading is disabled. Guarded by
+	 * #configurationLock.
+	 */
+	private TraceePropertiesWatcher propertiesWatcher;
 
 	/**
 	 * Lazily initializes the configuration for this MDCLikeTraceeBackend.
@@ -32,112 +57,260 @@ public abstract class MDCLikeTraceeBackend implements TraceeBackend {
 		return getConfiguration(null);
 	}
 
+	/**
+	 * The configuration of a profile is created once as an immutable snapshot of the properties. If reloading is
+	 * enabled by {@value TraceePropertiesWatcher#RELOAD_INTERVAL_PROPERTY}, the snapshots are replaced when the
+	 * properties change.
+	 */
 	@Override
 	public final TraceeFilterConfiguration getConfiguration(String profileName) {
 		if (profileName == null) {
 			profileName = Profile.DEFAULT;
 		}
-		TraceeFilterConfiguration filterConfiguration = configurationCache.get(profileName);
-		if (filterConfiguration == null) {
-			filterConfiguration = new PropertiesBasedTraceeFilterConfiguration(loggerFactory, getPropertyChain(), profileName);
-			configurationCache.put(profileName, filterConfiguration);
+		return getConfigurationState().getConfiguration(profileName, loggerFactory);
+	}
+
+	private ConfigurationState getConfigurationState() {
+		final ConfigurationState state = configurationState;
+		if (state != null) {
+			return state;
+		}
+		synchronized (configurationLock) {
+			if (configurationState == null) {
+				final PropertyChain propertyChain = PropertiesBasedTraceeFilterConfiguration.loadPropertyChain();
+				configurationState = new ConfigurationState(propertyChain);
+				reloadListener = new TraceePropertiesWatcher.Listener() {
+					@Override
+					public void propertiesChanged(PropertyChain reloadedPropertyChain) {
+						reloadConfiguration(reloadedPropertyChain);
+					}
+				};
+				propertiesWatcher = TraceePropertiesWatcher.startIfEnabled(propertyChain, reloadListener,
+						loggerFactory.getLogger(MDCLikeTraceeBackend.class));
+			}
+			return configurationState;
 		}
-		return filterConfiguration;
 	}
 
-	private PropertyChain getPropertyChain() {
-		if (_lazyPropertyChain == null) {
-			_lazyPropertyChain = PropertiesBasedTraceeFilterConfiguration.loadPropertyChain();
+	/**
+	 * Stops reloading the configuration of this backend, so the properties watcher thread no longer references it. The
+	 * watcher thread ends if no other backend uses it. Call it when the backend is no longer used, e.g. when an
+	 * application that brings its own TracEE is undeployed.
+	 */
+	public final void stopReloading() {
+		synchronized (configurationLock) {
+			if (propertiesWatcher != null) {
+				propertiesWatcher.removeListener(reloadListener);
+				propertiesWatcher = null;
+			}
 		}
-		return _lazyPropertyChain;
 	}
 
-	protected MDCLikeTraceeBackend(ThreadLocal<Set<String>> traceeKeys, TraceeLoggerFactory loggerFactory) {
-        this.traceeKeys = traceeKeys;
+	/**
+	 * Builds the configurations of all profiles in use from the given properties and publishes them at once. Headers
+	 * that have been rendered with the replaced configurations are dropped. Called by the properties watcher thread.
+	 */
+	final void reloadConfiguration(PropertyChain propertyChain) {
+		final ConfigurationState reloadedState = new ConfigurationState(propertyChain);
+		for (String profileName : configurationState.configurations.keySet()) {
+			reloadedState.getConfiguration(profileName, loggerFactory);
+		}
+		configurationState = reloadedState;
+		HttpHeaderRenderCache.getInstance().invalidate();
+	}
+
+	protected MDCLikeTraceeBackend(ThreadLocal<ContextSnapshot> context, TraceeLoggerFactory loggerFactory) {
+		this(ContextHolder.of(context), loggerFactory);
+	}
+
+	protected MDCLikeTraceeBackend(ContextHolder context, TraceeLoggerFactory loggerFactory) {
+		this.context = context;
 		this.loggerFactory = loggerFactory;
-    }
-
-    @Override
-    public final boolean containsKey(String key) {
-        return key != null && traceeKeys.get().contains(key) && getFromMdc(key) != null;
-    }
-
-    @Override
-    public final int size() {
-        return traceeKeys.get().size();
-    }
-
-    @Override
-    public final boolean isEmpty() {
-        return traceeKeys.get().isEmpty();
-    }
-
-    @Override
-    public final String get(String key) {
-        if ((key != null) && traceeKeys.get().contains(key))
-            return getFromMdc(key);
-        else
-            return null;
-    }
-
-    public final void put(String key, String value) {
-        if (key == null) throw new NullPointerException("null keys are not allowed.");
-        if (value == null) throw new NullPointerException("null values are not allowed.");
-        final Set<String> registeredKeys = traceeKeys.get();
-        if (!registeredKeys.contains(key)) {
-            registeredKeys.add(key);
-        }
-        putToMdc(key, value);
-    }
-
-	@Override
-    public final void remove(String key) {
-        if (key == null) throw new NullPointerException("null keys are not allowed.");
-        if (traceeKeys.get().remove(key)) {
-            removeFromMdc(key);
-        }
-    }
+	}
+
+	@Override
+	public final boolean containsKey(String key) {
+		return key != null && context.get().containsKey(key);
+	}
+
+	@Override
+	public final int size() {
+		return context.get().size();
+	}
+
+	@Override
+	public final boolean isEmpty() {
+		return context.get().isEmpty();
+	}
+
+	@Override
+	public final String get(String key) {
+		if (key != null)
+			return context.get().get(key);
+		else
+			return null;
+	}
+
+	@Override
+	public final String get(ContextKey key) {
+		return context.get().get(key);
+	}
+
+	public final void put(String key, String value) {
+		if (key == null) throw new NullPointerException("null keys are not allowed.");
+		if (value == null) throw new NullPointerException("null values are not allowed.");
+		final ContextSnapshot current = context.get();
+		final ContextSnapshot updated = current.with(key, value);
+		if (updated != current) {
+			context.set(updated);
+			putToMdc(key, value);
+		}
+	}
+
+	@Override
+	public final void put(ContextKey key, String value) {
+		if (key == null) throw new NullPointerException("null keys are not allowed.");
+		if (value == null) throw new NullPointerException("null values are not allowed.");
+		final ContextSnapshot current = context.get();
+		final ContextSnapshot updated = current.with(key, value);
+		if (updated != current) {
+			context.set(updated);
+			putToMdc(key.getName(), value);
+		}
+	}
+
+	@Override
+	public final void remove(String key) {
+		if (key == null) throw new NullPointerException("null keys are not allowed.");
+		final ContextSnapshot current = context.get();
+		final ContextSnapshot updated = current.without(key);
+		if (updated != current) {
+			context.set(updated);
+			removeFromMdc(key);
+		}
+	}
 
 	@Override
 	public String getRequestId() {
-		return get(TraceeConstants.REQUEST_ID_KEY);
+		return get(ContextKey.REQUEST_ID);
 	}
 
 	@Override
 	public String getSessionId() {
-		return get(TraceeConstants.SESSION_ID_KEY);
+		return get(ContextKey.SESSION_ID);
 	}
 
 	/**
-     * Removes all tracee values from the underlying MDC and removes the thread local traceeKeys set.
-     */
-    @Override
-    public final void clear() {
-        final Set<String> keys = new HashSet<String>(traceeKeys.get());
-        for (String key : keys) {
-            remove(key);
-        }
-        traceeKeys.remove();
-    }
+	 * Removes all tracee values from the underlying MDC and removes the thread local context. A context that is created
+	 * in reuse mode (see {@link ThreadLocalContext#REUSE_PROPERTY}) is emptied instead and kept for the next request.
+	 * Scopes that are open on the thread stay open.
+	 */
+	@Override
+	public final void clear() {
+		final ContextSnapshot current = context.get();
+		if (!current.isEmpty()) {
+			removeAllFromMdc(current.asMap().keySet());
+		}
+		context.remove();
+	}
 
-    @Override
-    public final void putAll(Map<? extends String, ? extends String> entries) {
-        for (Map.Entry<? extends String, ? extends String> entry : entries.entrySet()) {
-            put(entry.getKey(), entry.getValue());
-        }
-    }
+	/**
+	 * The innermost open scope is kept per thread. A scope keeps the snapshot that is current when it is opened, so
+	 * opening never copies and values that have been put without a scope are kept. Closing installs the kept snapshot by
+	 * {@link #replaceSnapshot(ContextSnapshot)}, which only touches the MDC for keys that have been changed within the
+	 * scope and does nothing at all if the context is unchanged.
+	 */
+	@Override
+	public final TraceeScope openScope() {
+		final SnapshotScope scope = new SnapshotScope(context.get(), (SnapshotScope) context.getOpenScope());
+		context.setOpenScope(scope);
+		return scope;
+	}
 
+	/**
+	 * Only entries whose value changes are written, so merging a context that mostly contains known entries (e.g. an
+	 * incoming response) does not touch the MDC for those.
+	 */
+	@Override
+	public final void putAll(Map<? extends String, ? extends String> entries) {
+		final ContextSnapshot current = context.get();
+		Map<String, String> changedEntries = null;
+		for (Map.Entry<? extends String, ? extends String> entry : entries.entrySet()) {
+			final String key = entry.getKey();
+			final String value = entry.getValue();
+			if (key == null) throw new NullPointerException("null keys are not allowed.");
+			if (value == null) throw new NullPointerException("null values are not allowed.");
+			if (!value.equals(current.get(key))) {
+				if (changedEntries == null) {
+					changedEntries = new LinkedHashMap<String, String>();
+				}
+				changedEntries.put(key, value);
+			}
+		}
+		if (changedEntries != null) {
+			context.set(current.withAll(changedEntries));
+			putAllToMdc(changedEntries);
+		}
+	}
+
+	/**
+	 * Returns the current snapshot of the context. The returned map is read-only and shared, it is not copied.
+	 */
 	@Override
 	public Map<String, String> copyToMap() {
-		final Map<String, String> traceeMap = new HashMap<String, String>();
-		final Set<String> keys = traceeKeys.get();
-		for (String traceeKey : keys) {
-			final String value = getFromMdc(traceeKey);
-			if (value != null) {
-				traceeMap.put(traceeKey, value);
+		return context.get().asMap();
+	}
+
+	/**
+	 * @return the current immutable state of the context.
+	 */
+	public final ContextSnapshot getSnapshot() {
+		return context.get();
+	}
+
+	/**
+	 * Replaces the context of the current thread by the given snapshot and updates the MDC accordingly. This is how a
+	 * snapshot that has been captured on another thread is installed and how the previous context is restored
+	 * afterwards.
+	 *
+	 * @param snapshot the new context, not {@code null}
+	 * @return the replaced snapshot
+	 */
+	public final ContextSnapshot replaceSnapshot(ContextSnapshot snapshot) {
+		final ContextSnapshot previous = context.get();
+		if (snapshot == previous) {
+			return previous;
+		}
+		final Map<String, String> previousEntries = previous.asMap();
+		final Map<String, String> entries = snapshot.asMap();
+		List<String> removedKeys = null;
+		for (String key : previousEntries.keySet()) {
+			if (!entries.containsKey(key)) {
+				if (removedKeys == null) {
+					removedKeys = new ArrayList<String>();
+				}
+				removedKeys.add(key);
+			}
+		}
+		Map<String, String> changedEntries = null;
+		for (Map.Entry<String, String> entry : entries.entrySet()) {
+			if (!entry.getValue().equals(previousEntries.get(entry.getKey()))) {
+				if (changedEntries == null) {
+					changedEntries = new LinkedHashMap<String, String>();
+				}
+				changedEntries.put(entry.getKey(), entry.getValue());
 			}
 		}
-		return traceeMap;
+		if (removedKeys != null || changedEntries != null) {
+			updateMdc(removedKeys != null ? removedKeys : Collections.<String>emptyList(),
+					changedEntries != null ? changedEntries : Collections.<String, String>emptyMap());
+		}
+		if (snapshot.isEmpty()) {
+			context.remove();
+		} else {
+			context.set(snapshot);
+		}
+		return previous;
 	}
 
 	@Override
@@ -145,10 +318,120 @@ public abstract class MDCLikeTraceeBackend implements TraceeBackend {
 		return loggerFactory;
 	}
 
-	protected abstract String getFromMdc(String key);
-
 	protected abstract void putToMdc(String key, String value);
 
 	protected abstract void removeFromMdc(String key);
 
+	/**
+	 * Writes several entries to the MDC. Backends whose MDC copies itself on every write should override this and
+	 * write all entries at once. Calls {@link #putToMdc(String, String)} for each entry by default.
+	 *
+	 * @param entries the changed entries, never empty
+	 */
+	protected void putAllToMdc(Map<String, String> entries) {
+		for (Map.Entry<String, String> entry : entries.entrySet()) {
+			putToMdc(entry.getKey(), entry.getValue());
+		}
+	}
+
+	/**
+	 * Removes several keys from the MDC. Backends whose MDC copies itself on every write should override this and
+	 * remove all keys at once. Calls {@link #removeFromMdc(String)} for each key by default.
+	 *
+	 * @param keys the removed keys, never empty
+	 */
+	protected void removeAllFromMdc(Collection<String> keys) {
+		for (String key : keys) {
+			removeFromMdc(key);
+		}
+	}
+
+	/**
+	 * Removes and writes entries of the MDC in one go, when a whole snapshot is replaced. Backends that are able to
+	 * swap the MDC at once should override this. Calls {@link #removeAllFromMdc(Collection)} and
+	 * {@link #putAllToMdc(Map)} by default.
+	 *
+	 * @param removedKeys    the removed keys, may be empty
+	 * @param changedEntries the changed entries, may be empty
+	 */
+	protected void updateMdc(Collection<String> removedKeys, Map<String, String> changedEntries) {
+		if (!removedKeys.isEmpty()) {
+			removeAllFromMdc(removedKeys);
+		}
+		if (!changedEntries.isEmpty()) {
+			putAllToMdc(changedEntries);
+		}
+	}
+
+
+	private final class SnapshotScope implements TraceeScope {
+
+		private final Thread owner = Thread.currentThread();
+
+		/**
+		 * The context to restore on close.
+		 */
+		private final ContextSnapshot enclosing;
+		private final SnapshotScope enclosingScope;
+		private boolean closed;
+
+		private SnapshotScope(ContextSnapshot enclosing, SnapshotScope enclosingScope) {
+			this.enclosing = enclosing;
+			this.enclosingScope = enclosingScope;
+		}
+
+		/**
+		 * Closing on another thread does nothing, since the context of that thread is not the one of this scope. A scope
+		 * whose enclosing scope has been closed already is left alone, too. Closing an enclosing scope before its nested
+		 * ones ends the nested ones as well.
+		 */
+		@Override
+		public void close() {
+			if (closed) {
+				return;
+			}
+			closed = true;
+			if (Thread.currentThread() != owner) {
+				loggerFactory.getLogger(MDCLikeTraceeBackend.class).debug("Ignoring close of a TracEE scope that has been " +
+						"opened by thread {}", owner.getName());
+				return;
+			}
+			if (!isOpen()) {
+				return;
+			}
+			replaceSnapshot(enclosing);
+			context.setOpenScope(enclosingScope);
+		}
+
+		private boolean isOpen() {
+			for (SnapshotScope scope = (SnapshotScope) context.getOpenScope(); scope != null; scope = scope.enclosingScope) {
+				if (scope == this) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	private static final class ConfigurationState {
+		private final PropertyChain propertyChain;
+		private final ConcurrentMap<String, TraceeFilterConfiguration> configurations =
+				new ConcurrentHashMap<String, TraceeFilterConfiguration>();
+
+		private ConfigurationState(PropertyChain propertyChain) {
+			this.propertyChain = propertyChain;
+		}
+
+		TraceeFilterConfiguration getConfiguration(String profileName, TraceeLoggerFactory loggerFactory) {
+			TraceeFilterConfiguration filterConfiguration = configurations.get(profileName);
+			if (filterConfiguration == null) {
+				filterConfiguration = new PropertiesBasedTraceeFilterConfiguration(loggerFactory, propertyChain, profileName);
+				final TraceeFilterConfiguration concurrentlyCreated = configurations.putIfAbsent(profileName, filterConfiguration);
+				if (concurrentlyCreated != null) {
+					filterConfiguration = concurrentlyCreated;
+				}
+			}
+			return filterConfiguration;
+		}
+	}
 }
@@ -0,0 +1,44 @@
+package io.tracee;
+
+import io.tracee.spi.IdGenerator;
+
+import java.util.Random;
+
+/**
+ * Generates random identifiers of the characters {@code A-Z} and {@code 0-9}.
+ * <p/>
+ * Each random 64-bit draw is turned into eleven characters. Draws beyond the largest multiple of 36<sup>11</sup>
+ * are rejected, so every character is uniformly distributed.
+ */
+final class RandomIdGenerator implements IdGenerator {
+
+	static final RandomIdGenerator INSTANCE = new RandomIdGenerator();
+
+	private static final char[] ALPHANUMERICS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789".toCharArray();
+
+	private static final int CHARS_PER_DRAW = 11;
+	/**
+	 * 36<sup>11</sup>, the number of distinct values of eleven characters.
+	 */
+	private static final long VALUES_PER_DRAW = 131621703842267136L;
+	private static final long DRAW_BOUND = (Long.MAX_VALUE / VALUES_PER_DRAW) * VALUES_PER_DRAW;
+
+	@Override
+	public String generate(final int length) {
+		final Random random = ThreadLocalRandom.current();
+		final char[] chars = new char[length];
+		int i = 0;
+		while (i < length) {
+			long draw;
+			do {
+				draw = random.nextLong() >>> 1;
+			} while (draw >= DRAW_BOUND);
+			draw %= VALUES_PER_DRAW;
+			for (int j = 0; j < CHARS_PER_DRAW && i < length; j++) {
+				chars[i++] = ALPHANUMERICS[(int) (draw % ALPHANUMERICS.length)];
+				draw /= ALPHANUMERICS.length;
+			}
+		}
+		return new String(chars);
+	}
+}
@@ -0,0 +1,182 @@
+package io.tracee;
+
+import io.tracee.configuration.PropertiesBasedTraceeFilterConfiguration;
+import io.tracee.configuration.PropertyChain;
+import io.tracee.metrics.StripedCounters;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caches the hashes of raw session ids, so that requests of an existing session do not hash the session id again.
+ * <p/>
+ * The cache is split into segments that are each guarded by their own lock and evict their least recently used
+ * entries, so it never holds more than the configured number of session ids. Entries expire after the configured
+ * time to avoid keeping raw session ids of long gone sessions in memory.
+ * <p/>
+ * The shared instance is configured by the global properties {@value #SIZE_PROPERTY} (a size of {@code 0} disables
+ * caching) and {@value #EXPIRY_SECONDS_PROPERTY} (a value of {@code 0} disables expiry).
+ */
+public final class SessionIdHashCache {
+
+	static final String SIZE_PROPERTY = "tracee.sessionIdHashCache.size";
+	static final String EXPIRY_SECONDS_PROPERTY = "tracee.sessionIdHashCache.expirySeconds";
+
+	static final int DEFAULT_SIZE = 1024;
+	static final long DEFAULT_EXPIRY_SECONDS = 1800;
+
+	private static final int MAX_SEGMENTS = 16;
+
+	private static final int HITS = 0;
+	private static final int MISSES = 1;
+
+	private final Segment[] segments;
+	private final long expiryNanos;
+
+	private final StripedCounters counters = new StripedCounters(2);
+
+	/**
+	 * @return the cache that is used by {@link Utilities#generateSessionIdIfNecessary(TraceeBackend, String)}.
+	 */
+	public static SessionIdHashCache getInstance() {
+		return DefaultHolder.INSTANCE;
+	}
+
+	/**
+	 * @param maxSize       the maximum number of cached session ids. {@code 0} disables caching.
+	 * @param expirySeconds the number of seconds after that a cached hash is computed again. {@code 0} disables expiry.
+	 */
+	SessionIdHashCache(final int maxSize, final long expirySeconds) {
+		this(maxSize, expirySeconds, TimeUnit.SECONDS);
+	}
+
+	SessionIdHashCache(final int maxSize, final long expiry, final TimeUnit expiryUnit) {
+		int segmentCount = 1;
+		while (segmentCount < MAX_SEGMENTS && segmentCount * 2 <= maxSize) {
+			segmentCount <<= 1;
+		}
+		final int segmentSize = Math.max(0, maxSize) / segmentCount;
+		segments = new Segment[segmentSize > 0 ? segmentCount : 0];
+		for (int i = 0; i < segments.length; i++) {
+			segments[i] = new Segment(segmentSize);
+		}
+		expiryNanos = expiry > 0 ? expiryUnit.toNanos(expiry) : 0;
+	}
+
+	static SessionIdHashCache fromProperties(final PropertyChain propertyChain) {
+		return new SessionIdHashCache(
+				(int) parseOrDefault(propertyChain.getProperty(SIZE_PROPERTY), DEFAULT_SIZE),
+				parseOrDefault(propertyChain.getProperty(EXPIRY_SECONDS_PROPERTY), DEFAULT_EXPIRY_SECONDS));
+	}
+
+	/**
+	 * @return the same value as {@link Utilities#createAlphanumericHash(String, int)}.
+	 */
+	public String hash(final String sessionId, final int length) {
+		if (segments.length == 0) {
+			return Utilities.createAlphanumericHash(sessionId, length);
+		}
+
+		final Segment segment = segmentFor(sessionId);
+		final long now = System.nanoTime();
+		final CachedHash cached;
+		synchronized (segment) {
+			cached = segment.get(sessionId);
+		}
+		if (cached != null && cached.length == length && (expiryNanos == 0 || now - cached.createdAt < expiryNanos)) {
+			counters.increment(HITS);
+			return cached.hash;
+		}
+
+		counters.increment(MISSES);
+		final String hash = Utilities.createAlphanumericHash(sessionId, length);
+		final CachedHash entry = new CachedHash(hash, length, now);
+		synchronized (segment) {
+			segment.put(sessionId, entry);
+		}
+		return hash;
+	}
+
+	/**
+	 * @return the number of hashes that have been served from the cache.
+	 */
+	public long getHitCount() {
+		return counters.sum(HITS);
+	}
+
+	/**
+	 * @return the number of hashes that had to be computed.
+	 */
+	public long getMissCount() {
+		return counters.sum(MISSES);
+	}
+
+	int size() {
+		int size = 0;
+		for (Segment segment : segments) {
+			synchronized (segment) {
+				size += segment.size();
+			}
+		}
+		return size;
+	}
+
+	private Segment segmentFor(final String sessionId) {
+		int h = sessionId.hashCode();
+		h ^= (h >>> 16);
+		return segments[h & (segments.length - 1)];
+	}
+
+	private static long parseOrDefault(final String value, final long defaultValue) {
+		if (value == null) {
+			return defaultValue;
+		}
+		try {
+			return Long.parseLong(value.trim());
+		} catch (NumberFormatException e) {
+			return defaultValue;
+		}
+	}
+
+	private static final class CachedHash {
+		private final String hash;
+		private final int length;
+		private final long createdAt;
+
+		private CachedHash(String hash, int length, long createdAt) {
+			this.hash = hash;
+			this.length = length;
+			this.createdAt = createdAt;
+		}
+	}
+
+	private static final class Segment extends LinkedHashMap<String, CachedHash> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final int maxSize;
+
+		private Segment(int maxSize) {
+			super(16, 0.75f, true);
+			this.maxSize = maxSize;
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, CachedHash> eldest) {
+			return size() > maxSize;
+		}
+	}
+
+	private static final class DefaultHolder {
+		private static final SessionIdHashCache INSTANCE = create();
+
+		private static SessionIdHashCache create() {
+			try {
+				return fromProperties(PropertiesBasedTraceeFilterConfiguration.loadPropertyChain());
+			} catch (IllegalStateException e) {
+				return new SessionIdHashCache(DEFAULT_SIZE, DEFAULT_EXPIRY_SECONDS);
+			}
+		}
+	}
+}
@@ -0,0 +1,116 @@
+package io.tracee;
+
+import io.tracee.configuration.PropertiesBasedTraceeFilterConfiguration;
+import io.tracee.configuration.PropertyChain;
+
+/**
+ * A thread local {@link ContextSnapshot} that is handed down to a child thread upon creation.
+ * <p/>
+ * Since snapshots are immutable the child thread shares the snapshot of its parent instead of copying it.
+ * <p/>
+ * Backend providers create their context with {@link #create()}, which honours the global properties
+ * {@value #INHERITABLE_PROPERTY} and {@value #REUSE_PROPERTY}. If the former is {@code false} new threads start with an
+ * empty context and the context has to be propagated explicitly, e.g. with {@link io.tracee.concurrent.TraceeExecutors}.
+ * <p/>
+ * If the latter is {@code true}, {@link #remove()} keeps the thread local entry of the current thread and empties
+ * it, so clearing the context at the end of each request neither removes nor re-creates an entry of the thread local
+ * map of a pooled thread. The kept entry references TracEE classes until the thread dies, so only enable it if TracEE
+ * is loaded by the class loader of the server or if the pooled threads do not outlive the application.
+ */
+public final class ThreadLocalContext extends InheritableThreadLocal<ContextSnapshot> {
+
+	public static final String INHERITABLE_PROPERTY = "tracee.threadLocal.inheritable";
+
+	public static final String REUSE_PROPERTY = "tracee.threadLocal.reuse";
+
+	private final boolean reuse;
+
+	public ThreadLocalContext() {
+		this(false);
+	}
+
+	private ThreadLocalContext(boolean reuse) {
+		this.reuse = reuse;
+	}
+
+	/**
+	 * @return an inheritable or a plain thread local that may be reused, as configured by {@value #INHERITABLE_PROPERTY}
+	 * and {@value #REUSE_PROPERTY}
+	 */
+	public static ThreadLocal<ContextSnapshot> create() {
+		boolean inheritable;
+		boolean reuse;
+		try {
+			final PropertyChain propertyChain = PropertiesBasedTraceeFilterConfiguration.loadPropertyChain();
+			inheritable = isInheritable(propertyChain);
+			reuse = isReused(propertyChain);
+		} catch (IllegalStateException e) {
+			inheritable = true;
+			reuse = false;
+		}
+		return create(inheritable, reuse);
+	}
+
+	public static ThreadLocal<ContextSnapshot> create(boolean inheritable) {
+		return create(inheritable, false);
+	}
+
+	public static ThreadLocal<ContextSnapshot> create(boolean inheritable, boolean reuse) {
+		return inheritable ? new ThreadLocalContext(reuse) : new NonInheritableContext(reuse);
+	}
+
+	static boolean isInheritable(PropertyChain propertyChain) {
+		final String inheritable = propertyChain.getProperty(INHERITABLE_PROPERTY);
+		return inheritable == null || !"false".equalsIgnoreCase(inheritable.trim());
+	}
+
+	static boolean isReused(PropertyChain propertyChain) {
+		final String reuse = propertyChain.getProperty(REUSE_PROPERTY);
+		return reuse != null && "true".equalsIgnoreCase(reuse.trim());
+	}
+
+	@Override
+	protected ContextSnapshot childValue(ContextSnapshot parentValue) {
+		return parentValue;
+	}
+
+	@Override
+	protected ContextSnapshot initialValue() {
+		return ContextSnapshot.EMPTY;
+	}
+
+	/**
+	 * Empties the context of the current thread. In reuse mode the entry is kept with the shared empty snapshot.
+	 */
+	@Override
+	public void remove() {
+		if (reuse) {
+			set(ContextSnapshot.EMPTY);
+		} else {
+			super.remove();
+		}
+	}
+
+	private static final class NonInheritableContext extends ThreadLocal<ContextSnapshot> {
+
+		private final boolean reuse;
+
+		private NonInheritableContext(boolean reuse) {
+			this.reuse = reuse;
+		}
+
+		@Override
+		protected ContextSnapshot initialValue() {
+			return ContextSnapshot.EMPTY;
+		}
+
+		@Override
+		public void remove() {
+			if (reuse) {
+				set(ContextSnapshot.EMPTY);
+			} else {
+				super.remove();
+			}
+		}
+	}
+}
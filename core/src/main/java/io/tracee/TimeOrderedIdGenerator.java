@@ -0,0 +1,50 @@
+package io.tracee;
+
+import io.tracee.spi.IdGenerator;
+
+import java.util.Random;
+
+/**
+ * Generates identifiers that sort by their creation time, similar to a ULID.
+ * <p/>
+ * The first {@value #TIME_LENGTH} characters hold the current time in milliseconds, the remaining characters are
+ * random. Both parts use the Crockford base32 alphabet whose characters are in ascending ASCII order, so the
+ * lexicographic order of identifiers follows their creation time. Identifiers of the same millisecond are ordered
+ * randomly. Identifiers that are not longer than the time part consist of the (truncated) time only and are not
+ * unique.
+ */
+final class TimeOrderedIdGenerator implements IdGenerator {
+
+	static final TimeOrderedIdGenerator INSTANCE = new TimeOrderedIdGenerator();
+
+	static final int TIME_LENGTH = 10;
+
+	private static final char[] CROCKFORD_BASE32 = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+	private static final int BITS_PER_CHAR = 5;
+	private static final int CHARS_PER_DRAW = 12;
+	private static final int CHAR_MASK = 0x1F;
+
+	@Override
+	public String generate(final int length) {
+		final char[] chars = new char[length];
+		long time = System.currentTimeMillis();
+		for (int i = TIME_LENGTH - 1; i >= 0; i--) {
+			if (i < length) {
+				chars[i] = CROCKFORD_BASE32[(int) (time & CHAR_MASK)];
+			}
+			time >>>= BITS_PER_CHAR;
+		}
+
+		final Random random = ThreadLocalRandom.current();
+		int i = TIME_LENGTH;
+		while (i < length) {
+			long draw = random.nextLong();
+			for (int j = 0; j < CHARS_PER_DRAW && i < length; j++) {
+				chars[i++] = CROCKFORD_BASE32[(int) (draw & CHAR_MASK)];
+				draw >>>= BITS_PER_CHAR;
+			}
+		}
+		return new String(chars);
+	}
+}
@@ -1,17 +1,32 @@
 package io.tracee;
 
+import io.tracee.configuration.TraceeFilterConfiguration;
+
 import java.nio.charset.Charset;
-import java.nio.charset.UnsupportedCharsetException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
-import java.util.Random;
 
 public final class Utilities {
 
-	private static final char[] ALPHANUMERICS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789".toCharArray();
-
 	public static final Charset CHARSET_UTF8 = Charset.forName("UTF-8");
 
+	private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+	/**
+	 * Holds a digest per thread, since looking it up is expensive and digests are not thread safe. It is
+	 * {@code null} if SHA-256 is not available.
+	 */
+	private static final ThreadLocal<MessageDigest> SHA256 = new ThreadLocal<MessageDigest>() {
+		@Override
+		protected MessageDigest initialValue() {
+			try {
+				return MessageDigest.getInstance("SHA-256");
+			} catch (NoSuchAlgorithmException e) {
+				return null;
+			}
+		}
+	};
+
 	private Utilities() {
 		// hide constructor
 	}
@@ -21,43 +36,41 @@ public final class Utilities {
 	}
 
 	/**
-	 * Creates a random Strings consisting of alphanumeric characters with a length of 32.
+	 * Creates a random Strings consisting of alphanumeric characters with the given length.
 	 */
 	public static String createRandomAlphanumeric(final int length) {
-		final Random r = ThreadLocalRandom.current();
-		final char[] randomChars = new char[length];
-		for (int i = 0; i < length; ++i) {
-			randomChars[i] = ALPHANUMERICS[r.nextInt(ALPHANUMERICS.length)];
-		}
-		return new String(randomChars);
+		return RandomIdGenerator.INSTANCE.generate(length);
 	}
 
 	/**
 	 * Creates a alphanumeric projection with a given length of the given object using its {@link Object#hashCode()}.
 	 */
 	public static String createAlphanumericHash(final String str, final int length) {
-		try {
-			final MessageDigest md = MessageDigest.getInstance("SHA-256");
-			final byte[] digest = md.digest(str.getBytes(CHARSET_UTF8));
-			// To human
-			final StringBuilder sb = new StringBuilder();
-			for (final byte b : digest) {
-				if (b < 16) sb.append("0");
-				sb.append(Integer.toHexString(b & 0xff));
-			}
-			// repeat if to small
-			while (sb.length() < length) {
-				sb.append(sb.toString());
-			}
-			// truncation and return
-			return sb.delete(length, sb.length()).toString();
-		} catch (NoSuchAlgorithmException e) {
+		final MessageDigest md = SHA256.get();
+		if (md == null) {
 			// Preferred hash algorithm is not available. We generate random string.
 			return createRandomAlphanumeric(length);
-		} catch (UnsupportedCharsetException e) {
-			// We should handle such error like the NoSuchAlgorithmException
-			return createRandomAlphanumeric(length);
 		}
+		final byte[] digest = md.digest(str.getBytes(CHARSET_UTF8));
+		// To human. Bytes with the highest bit set get an additional leading zero to stay compatible with the
+		// hashes of earlier versions.
+		final char[] hex = new char[digest.length * 3];
+		int hexLength = 0;
+		for (final byte b : digest) {
+			if (b < 16) {
+				hex[hexLength++] = '0';
+			}
+			if (b < 0 || b >= 16) {
+				hex[hexLength++] = HEX_DIGITS[(b >> 4) & 0xF];
+			}
+			hex[hexLength++] = HEX_DIGITS[b & 0xF];
+		}
+		// repeat if to small and truncate
+		final char[] hash = new char[length];
+		for (int i = 0; i < length; i += hexLength) {
+			System.arraycopy(hex, 0, hash, i, Math.min(hexLength, length - i));
+		}
+		return new String(hash);
 	}
 
 	/**
@@ -66,20 +79,42 @@ public final class Utilities {
 	 * @param backend Currently used TraceeBackend
 	 */
 	public static void generateRequestIdIfNecessary(final TraceeBackend backend) {
-		if (backend != null && !backend.containsKey(TraceeConstants.REQUEST_ID_KEY) && backend.getConfiguration().shouldGenerateRequestId()) {
-			backend.put(TraceeConstants.REQUEST_ID_KEY, Utilities.createRandomAlphanumeric(backend.getConfiguration().generatedRequestIdLength()));
+		if (backend != null && backend.get(ContextKey.REQUEST_ID) == null) {
+			final TraceeFilterConfiguration configuration = backend.getConfiguration();
+			if (configuration.shouldGenerateRequestId()) {
+				backend.put(ContextKey.REQUEST_ID, configuration.requestIdGenerator().generate(configuration.generatedRequestIdLength()));
+			}
 		}
 	}
 
 	/**
-	 * Generate session id hash if it doesn't exist in TraceeBackend and configuration asks for one
+	 * Generate session id hash if it doesn't exist in TraceeBackend and configuration asks for one. Hashes of known
+	 * session ids are taken from the {@link SessionIdHashCache}.
 	 *
 	 * @param backend Currently used TraceeBackend
 	 * @param sessionId Current http sessionId
 	 */
 	public static void generateSessionIdIfNecessary(final TraceeBackend backend, final String sessionId) {
-		if (backend != null && !backend.containsKey(TraceeConstants.SESSION_ID_KEY) && backend.getConfiguration().shouldGenerateSessionId()) {
-			backend.put(TraceeConstants.SESSION_ID_KEY, Utilities.createAlphanumericHash(sessionId, backend.getConfiguration().generatedSessionIdLength()));
+		if (backend != null && backend.get(ContextKey.SESSION_ID) == null) {
+			final TraceeFilterConfiguration configuration = backend.getConfiguration();
+			if (configuration.shouldGenerateSessionId()) {
+				backend.put(ContextKey.SESSION_ID, SessionIdHashCache.getInstance().hash(sessionId, configuration.generatedSessionIdLength()));
+			}
+		}
+	}
+
+	/**
+	 * Ends the unit of work of a binding. The scope that has been opened at its start restores the enclosing context.
+	 * If no scope has been opened, e.g. because the binding has been installed partially, the backend is cleared.
+	 *
+	 * @param backend Currently used TraceeBackend
+	 * @param scope   the scope that has been stored at the start of the unit of work or {@code null}
+	 */
+	public static void closeScopeOrClear(final TraceeBackend backend, final Object scope) {
+		if (scope instanceof TraceeScope) {
+			((TraceeScope) scope).close();
+		} else {
+			backend.clear();
 		}
 	}
 }
@@ -0,0 +1,47 @@
+package io.tracee.concurrent;
+
+import io.tracee.ContextSnapshot;
+import io.tracee.MDCLikeTraceeBackend;
+import io.tracee.TraceeBackend;
+
+/**
+ * Captures the context of the submitting thread and installs it in the executing thread.
+ * <p/>
+ * For {@link MDCLikeTraceeBackend}s the current immutable snapshot is shared, so capturing does not copy anything.
+ * Other backends are copied on capture and refilled on install.
+ * <p/>
+ * Use {@link TraceeExecutors} for executors. This class is meant for integrations with other asynchronous APIs.
+ */
+public final class ContextPropagation {
+
+	private ContextPropagation() {
+		// hide constructor
+	}
+
+	/**
+	 * @return the context of the current thread
+	 */
+	public static ContextSnapshot capture(final TraceeBackend backend) {
+		if (backend instanceof MDCLikeTraceeBackend) {
+			return ((MDCLikeTraceeBackend) backend).getSnapshot();
+		}
+		return ContextSnapshot.copyOf(backend.copyToMap());
+	}
+
+	/**
+	 * Makes {@code snapshot} the context of the current thread.
+	 *
+	 * @return the context that has been replaced, to be restored by another call of this method
+	 */
+	public static ContextSnapshot install(final TraceeBackend backend, final ContextSnapshot snapshot) {
+		if (backend instanceof MDCLikeTraceeBackend) {
+			return ((MDCLikeTraceeBackend) backend).replaceSnapshot(snapshot);
+		}
+		final ContextSnapshot previous = ContextSnapshot.copyOf(backend.copyToMap());
+		backend.clear();
+		if (!snapshot.isEmpty()) {
+			backend.putAll(snapshot.asMap());
+		}
+		return previous;
+	}
+}
@@ -0,0 +1,37 @@
+package io.tracee.concurrent;
+
+import io.tracee.ContextSnapshot;
+import io.tracee.TraceeBackend;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Calls the delegate with the context that has been current when this callable was created.
+ */
+final class TraceeCallable<V> implements Callable<V> {
+
+	private final Callable<V> delegate;
+	private final TraceeBackend backend;
+	private final ContextSnapshot snapshot;
+
+	TraceeCallable(Callable<V> delegate, TraceeBackend backend) {
+		this.delegate = delegate;
+		this.backend = backend;
+		this.snapshot = ContextPropagation.capture(backend);
+	}
+
+	@Override
+	public V call() throws Exception {
+		final ContextSnapshot previous = ContextPropagation.install(backend, snapshot);
+		try {
+			return delegate.call();
+		} finally {
+			ContextPropagation.install(backend, previous);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return delegate.toString();
+	}
+}
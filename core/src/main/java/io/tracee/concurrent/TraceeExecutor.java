@@ -0,0 +1,44 @@
+package io.tracee.concurrent;
+
+import io.tracee.TraceeBackend;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+
+/**
+ * Executes tasks with the context of the thread that submitted them.
+ */
+class TraceeExecutor implements Executor {
+
+	private final Executor delegate;
+	protected final TraceeBackend backend;
+
+	TraceeExecutor(Executor delegate, TraceeBackend backend) {
+		this.delegate = delegate;
+		this.backend = backend;
+	}
+
+	@Override
+	public void execute(Runnable command) {
+		delegate.execute(wrap(command));
+	}
+
+	final Runnable wrap(Runnable task) {
+		return new TraceeRunnable(task, backend);
+	}
+
+	final <T> Callable<T> wrap(Callable<T> task) {
+		return new TraceeCallable<T>(task, backend);
+	}
+
+	final <T> List<Callable<T>> wrapAll(Collection<? extends Callable<T>> tasks) {
+		final List<Callable<T>> wrappedTasks = new ArrayList<Callable<T>>(tasks.size());
+		for (Callable<T> task : tasks) {
+			wrappedTasks.add(wrap(task));
+		}
+		return wrappedTasks;
+	}
+}
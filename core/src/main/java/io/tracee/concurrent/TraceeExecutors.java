@@ -0,0 +1,97 @@
+package io.tracee.concurrent;
+
+import io.tracee.Tracee;
+import io.tracee.TraceeBackend;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Decorates executors, so that their tasks run with the TracEE context of the thread that submitted them.
+ * <p/>
+ * The context is captured as immutable snapshot when a task is submitted, installed in the worker thread while the
+ * task runs and the previous context of the worker is restored afterwards. Pooled threads therefore never see the
+ * stale context of the request that happened to create them.
+ * <p/>
+ * If the context is not inherited by new threads (see {@link io.tracee.ThreadLocalContext#INHERITABLE_PROPERTY}), use
+ * {@link #wrapTask(Runnable)} for tasks that run in threads of their own and {@link #wrapThreadFactory(ThreadFactory)}
+ * for components whose threads should start with the context of the thread that created them. Tasks and thread
+ * factories have methods of their own, since a lambda would fit the executor, task and thread factory overloads alike.
+ */
+public final class TraceeExecutors {
+
+	private TraceeExecutors() {
+		// hide constructor
+	}
+
+	public static Executor wrap(Executor executor) {
+		return wrap(executor, Tracee.getBackend());
+	}
+
+	public static Executor wrap(Executor executor, TraceeBackend backend) {
+		return new TraceeExecutor(executor, backend);
+	}
+
+	public static ExecutorService wrap(ExecutorService executorService) {
+		return wrap(executorService, Tracee.getBackend());
+	}
+
+	public static ExecutorService wrap(ExecutorService executorService, TraceeBackend backend) {
+		return new TraceeExecutorService(executorService, backend);
+	}
+
+	public static ScheduledExecutorService wrap(ScheduledExecutorService scheduledExecutorService) {
+		return wrap(scheduledExecutorService, Tracee.getBackend());
+	}
+
+	public static ScheduledExecutorService wrap(ScheduledExecutorService scheduledExecutorService, TraceeBackend backend) {
+		return new TraceeScheduledExecutorService(scheduledExecutorService, backend);
+	}
+
+	/**
+	 * @return a task that runs {@code task} with the current context, e.g.
+	 * {@code new Thread(TraceeExecutors.wrapTask(task))}
+	 */
+	public static Runnable wrapTask(Runnable task) {
+		return wrapTask(task, Tracee.getBackend());
+	}
+
+	public static Runnable wrapTask(Runnable task, TraceeBackend backend) {
+		return new TraceeRunnable(task, backend);
+	}
+
+	/**
+	 * @return a task that calls {@code task} with the current context
+	 */
+	public static <T> Callable<T> wrapTask(Callable<T> task) {
+		return wrapTask(task, Tracee.getBackend());
+	}
+
+	public static <T> Callable<T> wrapTask(Callable<T> task, TraceeBackend backend) {
+		return new TraceeCallable<T>(task, backend);
+	}
+
+	/**
+	 * The context is captured when a thread is created and stays installed for the whole lifetime of that thread. A
+	 * pooled thread therefore runs every task with the context of the request that happened to create it. Use the
+	 * factory for threads that serve a single purpose, and {@link #wrap(ExecutorService)} for thread pools, which installs
+	 * the context of the submitting thread for each task instead.
+	 *
+	 * @return a thread factory whose threads start with the context of the thread that created them
+	 */
+	public static ThreadFactory wrapThreadFactory(ThreadFactory threadFactory) {
+		return wrapThreadFactory(threadFactory, Tracee.getBackend());
+	}
+
+	public static ThreadFactory wrapThreadFactory(final ThreadFactory threadFactory, final TraceeBackend backend) {
+		return new ThreadFactory() {
+			@Override
+			public Thread newThread(Runnable runnable) {
+				return threadFactory.newThread(new TraceeRunnable(runnable, backend));
+			}
+		};
+	}
+}
@@ -0,0 +1,35 @@
+package io.tracee.concurrent;
+
+import io.tracee.ContextSnapshot;
+import io.tracee.TraceeBackend;
+
+/**
+ * Runs the delegate with the context that has been current when this runnable was created.
+ */
+final class TraceeRunnable implements Runnable {
+
+	private final Runnable delegate;
+	private final TraceeBackend backend;
+	private final ContextSnapshot snapshot;
+
+	TraceeRunnable(Runnable delegate, TraceeBackend backend) {
+		this.delegate = delegate;
+		this.backend = backend;
+		this.snapshot = ContextPropagation.capture(backend);
+	}
+
+	@Override
+	public void run() {
+		final ContextSnapshot previous = ContextPropagation.install(backend, snapshot);
+		try {
+			delegate.run();
+		} finally {
+			ContextPropagation.install(backend, previous);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return delegate.toString();
+	}
+}
@@ -0,0 +1,250 @@
+package io.tracee.configuration;
+
+import io.tracee.TraceeLogger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringTokenizer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Compiled form of a comma separated list of parameter name patterns as found in the channel properties.
+ * <p/>
+ * Patterns are sorted into the cheapest structure that is able to decide them:
+ * <ul>
+ * <li>plain names go into a hash set,</li>
+ * <li>{@code prefix.*} patterns go into a prefix trie,</li>
+ * <li>all remaining patterns are combined into a single regular expression.</li>
+ * </ul>
+ * Verdicts are memoized per parameter name. The memo is bounded, names beyond the bound are decided without caching.
+ */
+final class ParamFilter {
+
+	static final int MAX_CACHED_VERDICTS = 256;
+
+	private static final String MATCH_ALL = ".*";
+	private static final String REGEX_META_CHARACTERS = ".[]{}()*+?^$|\\";
+	private static final Pattern BACK_REFERENCE = Pattern.compile("\\\\(?:[1-9]|k<)");
+
+	private final boolean acceptsAll;
+	private final Set<String> names;
+	private final PrefixNode prefixes;
+	private final Pattern[] patterns;
+
+	private final Map<String, Boolean> verdicts = new ConcurrentHashMap<String, Boolean>();
+
+	private ParamFilter(boolean acceptsAll, Set<String> names, PrefixNode prefixes, Pattern[] patterns) {
+		this.acceptsAll = acceptsAll;
+		this.names = names;
+		this.prefixes = prefixes;
+		this.patterns = patterns;
+	}
+
+	/**
+	 * Compiles the given property value. Patterns that are no valid regular expressions are logged and ignored.
+	 *
+	 * @param propertyValue comma separated patterns, may be {@code null}
+	 */
+	static ParamFilter compile(final String propertyValue, final TraceeLogger logger) {
+		final Set<String> names = new HashSet<String>();
+		final List<String> prefixList = new ArrayList<String>();
+		final List<Pattern> patternList = new ArrayList<Pattern>();
+
+		if (propertyValue != null) {
+			final StringTokenizer tokenizer = new StringTokenizer(propertyValue, ",");
+			while (tokenizer.hasMoreTokens()) {
+				final String trimmedString = tokenizer.nextToken().trim();
+				if (trimmedString.isEmpty()) {
+					continue;
+				}
+				if (MATCH_ALL.equals(trimmedString)) {
+					return new ParamFilter(true, null, null, null);
+				}
+				final String name = unescapeLiteral(trimmedString);
+				if (name != null) {
+					names.add(name);
+					continue;
+				}
+				if (trimmedString.endsWith(MATCH_ALL)) {
+					final String prefix = unescapeLiteral(trimmedString.substring(0, trimmedString.length() - MATCH_ALL.length()));
+					if (prefix != null) {
+						prefixList.add(prefix);
+						continue;
+					}
+				}
+				try {
+					patternList.add(Pattern.compile(trimmedString));
+				} catch (PatternSyntaxException e) {
+					logger.error("Can not compile pattern '{}'. Message: {} -- Ignore pattern", trimmedString, e.getMessage());
+					logger.debug("Detailed Exception cause: {}", e.getMessage(), e);
+				}
+			}
+		}
+
+		return new ParamFilter(false,
+				names.isEmpty() ? Collections.<String>emptySet() : names,
+				prefixList.isEmpty() ? null : PrefixNode.of(prefixList),
+				combine(patternList));
+	}
+
+	boolean accepts(final String paramName) {
+		if (acceptsAll) {
+			return true;
+		}
+		final Boolean cachedVerdict = verdicts.get(paramName);
+		if (cachedVerdict != null) {
+			return cachedVerdict;
+		}
+		final boolean verdict = decide(paramName);
+		if (verdicts.size() < MAX_CACHED_VERDICTS) {
+			verdicts.put(paramName, verdict);
+		}
+		return verdict;
+	}
+
+	/**
+	 * @return the given map itself if all parameters are accepted, a filtered copy otherwise.
+	 */
+	Map<String, String> filter(final Map<String, String> unfiltered) {
+		if (acceptsAll) {
+			return unfiltered;
+		}
+		Map<String, String> filtered = null;
+		int acceptedSoFar = 0;
+		for (Map.Entry<String, String> entry : unfiltered.entrySet()) {
+			if (accepts(entry.getKey())) {
+				if (filtered == null) {
+					acceptedSoFar++;
+				} else {
+					filtered.put(entry.getKey(), entry.getValue());
+				}
+			} else if (filtered == null) {
+				filtered = copyFirstEntries(unfiltered, acceptedSoFar);
+			}
+		}
+		return filtered == null ? unfiltered : filtered;
+	}
+
+	private boolean decide(final String paramName) {
+		if (names.contains(paramName)) {
+			return true;
+		}
+		if (prefixes != null && prefixes.matchesPrefixOf(paramName)) {
+			return true;
+		}
+		for (Pattern pattern : patterns) {
+			if (pattern.matcher(paramName).matches()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static Map<String, String> copyFirstEntries(final Map<String, String> source, final int count) {
+		final Map<String, String> copy = new HashMap<String, String>(source.size());
+		final Iterator<Map.Entry<String, String>> iterator = source.entrySet().iterator();
+		for (int i = 0; i < count; i++) {
+			final Map.Entry<String, String> entry = iterator.next();
+			copy.put(entry.getKey(), entry.getValue());
+		}
+		return copy;
+	}
+
+	/**
+	 * Combines all patterns into a single alternation. Patterns with back references would change their meaning
+	 * within the alternation and are kept apart.
+	 */
+	private static Pattern[] combine(final List<Pattern> patternList) {
+		if (patternList.size() < 2) {
+			return patternList.toArray(new Pattern[patternList.size()]);
+		}
+		final StringBuilder alternation = new StringBuilder();
+		for (Pattern pattern : patternList) {
+			if (BACK_REFERENCE.matcher(pattern.pattern()).find()) {
+				return patternList.toArray(new Pattern[patternList.size()]);
+			}
+			if (alternation.length() > 0) {
+				alternation.append('|');
+			}
+			alternation.append("(?:").append(pattern.pattern()).append(')');
+		}
+		try {
+			return new Pattern[]{Pattern.compile(alternation.toString())};
+		} catch (PatternSyntaxException e) {
+			return patternList.toArray(new Pattern[patternList.size()]);
+		}
+	}
+
+	/**
+	 * @return the literal text that the given pattern matches or {@code null} if the pattern is a real regular
+	 * expression. Escaped meta characters like {@code \.} are part of a literal.
+	 */
+	private static String unescapeLiteral(final String pattern) {
+		final StringBuilder literal = new StringBuilder(pattern.length());
+		for (int i = 0; i < pattern.length(); i++) {
+			char c = pattern.charAt(i);
+			if (c == '\\') {
+				if (++i == pattern.length()) {
+					return null;
+				}
+				c = pattern.charAt(i);
+				if (REGEX_META_CHARACTERS.indexOf(c) < 0) {
+					return null;
+				}
+			} else if (REGEX_META_CHARACTERS.indexOf(c) >= 0) {
+				return null;
+			}
+			literal.append(c);
+		}
+		return literal.toString();
+	}
+
+	/**
+	 * Node of a character trie over all configured prefixes.
+	 */
+	private static final class PrefixNode {
+
+		private final Map<Character, PrefixNode> children = new HashMap<Character, PrefixNode>(4);
+		private boolean terminal;
+
+		static PrefixNode of(final List<String> prefixes) {
+			final PrefixNode root = new PrefixNode();
+			for (String prefix : prefixes) {
+				PrefixNode node = root;
+				for (int i = 0; i < prefix.length(); i++) {
+					final Character c = prefix.charAt(i);
+					PrefixNode child = node.children.get(c);
+					if (child == null) {
+						child = new PrefixNode();
+						node.children.put(c, child);
+					}
+					node = child;
+				}
+				node.terminal = true;
+			}
+			return root;
+		}
+
+		boolean matchesPrefixOf(final String paramName) {
+			PrefixNode node = this;
+			for (int i = 0; i < paramName.length(); i++) {
+				if (node.terminal) {
+					return true;
+				}
+				node = node.children.get(paramName.charAt(i));
+				if (node == null) {
+					return false;
+				}
+			}
+			return node.terminal;
+		}
+	}
+}
@@ -1,24 +1,24 @@
 package io.tracee.configuration;
 
+import io.tracee.IdGenerators;
 import io.tracee.TraceeLogger;
 import io.tracee.TraceeLoggerFactory;
 import io.tracee.Utilities;
+import io.tracee.metrics.Metrics;
+import io.tracee.spi.IdGenerator;
+import io.tracee.spi.TraceeMetrics;
 
+import java.io.File;
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Properties;
-import java.util.StringTokenizer;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.regex.Pattern;
-import java.util.regex.PatternSyntaxException;
 
 /**
  * A TraceeFilterConfiguration that is based on a {@link PropertyChain}.
  * The default property chain may be obtained by the {@link #loadPropertyChain()} method.
+ * <p/>
+ * The configuration is an immutable snapshot of the properties: they are read, parsed and compiled once when the
+ * configuration is created. Later changes of the underlying properties are not reflected.
  */
 public final class PropertiesBasedTraceeFilterConfiguration implements TraceeFilterConfiguration {
 
@@ -27,27 +27,37 @@ public final class PropertiesBasedTraceeFilterConfiguration implements TraceeFil
 	static final String TRACEE_DEFAULT_PROFILE_PREFIX = TRACEE_CONFIG_PREFIX + Profile.DEFAULT + ".";
 	static final String GENERATE_REQUEST_ID = "requestIdLength";
 	static final String GENERATE_SESSION_ID = "sessionIdLength";
+	static final String REQUEST_ID_GENERATOR = "requestIdGenerator";
 
-	private final PropertyChain propertyChain;
-	private final String profileName;
-
-	private final Map<String, List<Pattern>> patternCache = new ConcurrentHashMap<String, List<Pattern>>();
-
-	private final TraceeLogger logger;
+	private final ParamFilter[] paramFilters;
+	private final boolean[] processContext;
+	private final int requestIdLength;
+	private final int sessionIdLength;
+	private final IdGenerator requestIdGenerator;
+	private final TraceeMetrics metrics;
 
 	/**
 	 * Loads a layered property chain based on:
 	 * <ol>
 	 * <li>System properties</li>
+	 * <li>entries of the file named by {@value TraceePropertiesFileLoader#EXTERNAL_PROPERTIES_FILE_PROPERTY}, if the
+	 * property is set</li>
 	 * <li>merged entries from all {@code /META-INF/tracee.properties} files on the classpath (loaded in undefined order)</li>
 	 * <li>merged entries from all {@code /META-INF/tracee.default.properties} files on the classpath (loaded in undefined order)</li>
 	 * </ol>
 	 */
 	public static PropertyChain loadPropertyChain() {
 		try {
-			final Properties traceeDefaultFileProperties = new TraceePropertiesFileLoader().loadTraceeProperties(TraceePropertiesFileLoader.TRACEE_DEFAULT_PROPERTIES_FILE);
-			final Properties traceeFileProperties = new TraceePropertiesFileLoader().loadTraceeProperties(TraceePropertiesFileLoader.TRACEE_PROPERTIES_FILE);
-			return PropertyChain.build(System.getProperties(), traceeFileProperties, traceeDefaultFileProperties);
+			final TraceePropertiesFileLoader loader = new TraceePropertiesFileLoader();
+			final Properties traceeDefaultFileProperties = loader.loadTraceeProperties(TraceePropertiesFileLoader.TRACEE_DEFAULT_PROPERTIES_FILE);
+			final Properties traceeFileProperties = loader.loadTraceeProperties(TraceePropertiesFileLoader.TRACEE_PROPERTIES_FILE);
+			final PropertyChain propertyChain = PropertyChain.build(System.getProperties(), traceeFileProperties, traceeDefaultFileProperties);
+			final String externalPropertiesFile = propertyChain.getProperty(TraceePropertiesFileLoader.EXTERNAL_PROPERTIES_FILE_PROPERTY);
+			if (Utilities.isNullOrEmptyString(externalPropertiesFile)) {
+				return propertyChain;
+			}
+			final Properties externalProperties = loader.loadExternalProperties(new File(externalPropertiesFile.trim()));
+			return PropertyChain.build(System.getProperties(), externalProperties, traceeFileProperties, traceeDefaultFileProperties);
 		} catch (IOException ioe) {
 			throw new IllegalStateException("Could not load TraceeProperties: " + ioe.getMessage(), ioe);
 		}
@@ -59,12 +69,28 @@ public final class PropertiesBasedTraceeFilterConfiguration implements TraceeFil
 
 	public PropertiesBasedTraceeFilterConfiguration(TraceeLoggerFactory loggerFactory, PropertyChain propertyChain,
 													String profileName) {
-		logger = loggerFactory.getLogger(PropertiesBasedTraceeFilterConfiguration.class);
-		this.propertyChain = propertyChain;
-		this.profileName = profileName;
+		this(loggerFactory, propertyChain, profileName, Metrics.get());
+	}
+
+	PropertiesBasedTraceeFilterConfiguration(TraceeLoggerFactory loggerFactory, PropertyChain propertyChain,
+											 String profileName, TraceeMetrics metrics) {
+		this.metrics = metrics;
+		final TraceeLogger logger = loggerFactory.getLogger(PropertiesBasedTraceeFilterConfiguration.class);
+		final Channel[] channels = Channel.values();
+		paramFilters = new ParamFilter[channels.length];
+		processContext = new boolean[channels.length];
+		for (Channel channel : channels) {
+			final String messageTypePropertyValue = getProfiledOrDefaultProperty(propertyChain, profileName, channel.name());
+			processContext[channel.ordinal()] = !Utilities.isNullOrEmptyString(messageTypePropertyValue);
+			paramFilters[channel.ordinal()] = ParamFilter.compile(messageTypePropertyValue, logger);
+		}
+		requestIdLength = parseIntOrZero(getProfiledOrDefaultProperty(propertyChain, profileName, GENERATE_REQUEST_ID));
+		sessionIdLength = parseIntOrZero(getProfiledOrDefaultProperty(propertyChain, profileName, GENERATE_SESSION_ID));
+		requestIdGenerator = IdGenerators.forName(getProfiledOrDefaultProperty(propertyChain, profileName, REQUEST_ID_GENERATOR), logger);
 	}
 
-	private String getProfiledOrDefaultProperty(final String propertyName) {
+	private static String getProfiledOrDefaultProperty(final PropertyChain propertyChain, final String profileName,
+													   final String propertyName) {
 		if (profileName != null && !Profile.DEFAULT.equals(profileName)) {
 			final String profiledProperty = propertyChain.getProperty(PROFILED_PREFIX + profileName + '.' + propertyName);
 			if (profiledProperty != null)
@@ -75,99 +101,56 @@ public final class PropertiesBasedTraceeFilterConfiguration implements TraceeFil
 
 	@Override
 	public boolean shouldProcessParam(String paramName, Channel channel) {
-		final String messageTypePropertyValue = getProfiledOrDefaultProperty(channel.name());
-		final List<Pattern> patterns = retrievePatternsForPropertyValue(messageTypePropertyValue);
-		return anyPatternMatchesParamName(patterns, paramName);
+		return paramFilters[channel.ordinal()].accepts(paramName);
 	}
 
 	@Override
 	public boolean shouldProcessContext(final Channel channel) {
-		final String messageTypePropertyValue = getProfiledOrDefaultProperty(channel.name());
-		return !Utilities.isNullOrEmptyString(messageTypePropertyValue);
+		return processContext[channel.ordinal()];
 	}
 
 	@Override
 	public boolean shouldGenerateRequestId() {
-		return generatedRequestIdLength() > 0;
+		return requestIdLength > 0;
 	}
 
 	@Override
 	public int generatedRequestIdLength() {
-		return parseIntOrZero(getProfiledOrDefaultProperty(GENERATE_REQUEST_ID));
+		return requestIdLength;
+	}
+
+	@Override
+	public IdGenerator requestIdGenerator() {
+		return requestIdGenerator;
 	}
 
 	@Override
 	public boolean shouldGenerateSessionId() {
-		return generatedSessionIdLength() > 0;
+		return sessionIdLength > 0;
 	}
 
 	@Override
 	public int generatedSessionIdLength() {
-		return parseIntOrZero(getProfiledOrDefaultProperty(GENERATE_SESSION_ID));
+		return sessionIdLength;
 	}
 
+	/**
+	 * Returns the {@code unfiltered} map itself if all of its parameters may be processed on the channel.
+	 */
 	@Override
 	public Map<String, String> filterDeniedParams(final Map<String, String> unfiltered, final Channel channel) {
-		final Map<String, String> filtered = new HashMap<String, String>(unfiltered.size());
-		for (Map.Entry<String, String> entry : unfiltered.entrySet()) {
-			if (shouldProcessParam(entry.getKey(), channel)) {
-				filtered.put(entry.getKey(), entry.getValue());
-			}
+		final Map<String, String> filtered = paramFilters[channel.ordinal()].filter(unfiltered);
+		if (filtered != unfiltered) {
+			metrics.keysDenied(unfiltered.size() - filtered.size());
 		}
 		return filtered;
 	}
 
-	private int parseIntOrZero(String intString) {
+	private static int parseIntOrZero(String intString) {
 		try {
 			return Integer.parseInt(intString);
 		} catch (NumberFormatException nfe) {
 			return 0;
 		}
 	}
-
-	private boolean anyPatternMatchesParamName(Iterable<Pattern> patterns, String paramName) {
-		for (Pattern pattern : patterns) {
-			if (patternMatchesParamName(pattern, paramName))
-				return true;
-		}
-		return false;
-	}
-
-	private boolean patternMatchesParamName(Pattern pattern, String paramName) {
-		return ".*".equals(pattern.pattern()) || pattern.matcher(paramName).matches();
-	}
-
-	private List<Pattern> retrievePatternsForPropertyValue(final String propertyValue) {
-		if (propertyValue == null) {
-			return Collections.emptyList();
-		}
-		final List<Pattern> patterns = patternCache.get(propertyValue);
-		if (patterns != null) {
-			return patterns;
-		}
-
-		final List<Pattern> unmodPatterns = Collections.unmodifiableList(extractPatterns(propertyValue));
-		patternCache.put(propertyValue, unmodPatterns);
-		return unmodPatterns;
-	}
-
-	private List<Pattern> extractPatterns(final String propertyValue) {
-		if (propertyValue == null)
-			return Collections.emptyList();
-
-		final List<Pattern> trimmedPatterns = new ArrayList<Pattern>();
-		final StringTokenizer tokenizer = new StringTokenizer(propertyValue, ",");
-		while (tokenizer.hasMoreTokens()) {
-			final String trimmedString = tokenizer.nextToken().trim();
-			if (!trimmedString.isEmpty()) {
-				try {
-					trimmedPatterns.add(Pattern.compile(trimmedString));
-				} catch (PatternSyntaxException e) {
-					logger.error("Can not compile pattern '" + trimmedString + "'. Message: " + e.getMessage() + " -- Ignore pattern");
-					logger.debug("Detailed Exception cause: " + e.getMessage(), e);
-				}
-			}
-		}
-		return trimmedPatterns;
-	}
 }
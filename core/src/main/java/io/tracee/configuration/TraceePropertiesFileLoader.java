@@ -1,15 +1,25 @@
 package io.tracee.configuration;
 
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URISyntaxException;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.Enumeration;
+import java.util.List;
 import java.util.Properties;
 
 public final class TraceePropertiesFileLoader {
 
 	public static final String TRACEE_PROPERTIES_FILE = "META-INF/tracee.properties";
 	public static final String TRACEE_DEFAULT_PROPERTIES_FILE = "META-INF/tracee.default.properties";
+	/**
+	 * Property that names a properties file outside of the classpath. Its entries take precedence over the entries of
+	 * all {@code META-INF/tracee.properties} files.
+	 */
+	public static final String EXTERNAL_PROPERTIES_FILE_PROPERTY = "tracee.externalPropertiesFile";
 
 	public Properties loadTraceeProperties(String traceePropertiesFile) throws IOException {
 		final Properties propertiesFromFile = new Properties();
@@ -32,4 +42,44 @@ public final class TraceePropertiesFileLoader {
 
 		return propertiesFromFile;
 	}
+
+	/**
+	 * Loads the given file. A file that does not exist results in empty properties, so that it may be created later.
+	 */
+	public Properties loadExternalProperties(File externalPropertiesFile) throws IOException {
+		final Properties propertiesFromFile = new Properties();
+		if (!externalPropertiesFile.isFile()) {
+			return propertiesFromFile;
+		}
+		final InputStream stream = new FileInputStream(externalPropertiesFile);
+		try {
+			propertiesFromFile.load(stream);
+		} finally {
+			try {
+				stream.close();
+			} catch (IOException ignored) { }
+		}
+		return propertiesFromFile;
+	}
+
+	/**
+	 * @return the files of all {@code traceePropertiesFile} resources that are located in the file system. Resources
+	 * within archives are skipped.
+	 */
+	public List<File> findTraceePropertiesFiles(String traceePropertiesFile) throws IOException {
+		final List<File> files = new ArrayList<File>();
+		final ClassLoader loader = Thread.currentThread().getContextClassLoader();
+		final Enumeration<URL> traceePropertyFiles = loader.getResources(traceePropertiesFile);
+		while (traceePropertyFiles.hasMoreElements()) {
+			final URL url = traceePropertyFiles.nextElement();
+			if ("file".equals(url.getProtocol())) {
+				try {
+					files.add(new File(url.toURI()));
+				} catch (URISyntaxException e) {
+					files.add(new File(url.getPath()));
+				}
+			}
+		}
+		return files;
+	}
 }
@@ -0,0 +1,214 @@
+package io.tracee.configuration;
+
+import io.tracee.TraceeLogger;
+import io.tracee.Utilities;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Polls the file based {@code META-INF/tracee.properties} resources and the external properties file for changes and
+ * loads a new {@link PropertyChain} if any of them changed.
+ * <p/>
+ * Watching is enabled by the global property {@value #RELOAD_INTERVAL_PROPERTY}. The files are polled by a single
+ * daemon thread, so loading new properties never happens on a request thread. Properties within archives can not
+ * change and are not watched.
+ * <p/>
+ * All listeners of the same files share one watcher, the interval of the first one is used. The watcher thread stops
+ * when the last listener is removed or by {@link #stopAll()}, which applications that bring their own TracEE call when
+ * they are undeployed, since the thread keeps their class loader.
+ */
+public final class TraceePropertiesWatcher {
+
+	/**
+	 * Seconds between two checks for changed files. {@code 0} disables reloading.
+	 */
+	public static final String RELOAD_INTERVAL_PROPERTY = "tracee.reload.intervalSeconds";
+
+	public interface Listener {
+
+		/**
+		 * Called by the watcher thread with the newly loaded properties.
+		 */
+		void propertiesChanged(PropertyChain propertyChain);
+	}
+
+	/**
+	 * The running watchers by their watched files. Guarded by the class.
+	 */
+	private static final Map<List<File>, TraceePropertiesWatcher> RUNNING = new HashMap<List<File>, TraceePropertiesWatcher>();
+
+	private final List<File> watchedFiles;
+	private final List<Listener> listeners = new CopyOnWriteArrayList<Listener>();
+	private final TraceeLogger logger;
+	private final ScheduledExecutorService executor;
+
+	private long[] fingerprint;
+
+	/**
+	 * Starts watching if the {@code propertyChain} enables reloading. If the same files are watched already, the
+	 * listener is added to the running watcher.
+	 *
+	 * @return the watcher that notifies the listener or {@code null} if reloading is disabled
+	 */
+	public static TraceePropertiesWatcher startIfEnabled(PropertyChain propertyChain, Listener listener, TraceeLogger logger) {
+		final long intervalSeconds = parseLongOrZero(propertyChain.getProperty(RELOAD_INTERVAL_PROPERTY));
+		if (intervalSeconds <= 0) {
+			return null;
+		}
+		final List<File> watchedFiles = new ArrayList<File>();
+		try {
+			watchedFiles.addAll(new TraceePropertiesFileLoader().findTraceePropertiesFiles(TraceePropertiesFileLoader.TRACEE_PROPERTIES_FILE));
+		} catch (IOException e) {
+			logger.error("Can not find TracEE properties files to watch. Message: {}", e.getMessage());
+			logger.debug("Detailed Exception cause: {}", e.getMessage(), e);
+		}
+		final String externalPropertiesFile = propertyChain.getProperty(TraceePropertiesFileLoader.EXTERNAL_PROPERTIES_FILE_PROPERTY);
+		if (!Utilities.isNullOrEmptyString(externalPropertiesFile)) {
+			watchedFiles.add(new File(externalPropertiesFile.trim()));
+		}
+		synchronized (TraceePropertiesWatcher.class) {
+			final TraceePropertiesWatcher running = RUNNING.get(watchedFiles);
+			if (running != null) {
+				running.addListener(listener);
+				return running;
+			}
+			final TraceePropertiesWatcher watcher = new TraceePropertiesWatcher(watchedFiles, listener, logger,
+					intervalSeconds, TimeUnit.SECONDS);
+			RUNNING.put(watchedFiles, watcher);
+			return watcher;
+		}
+	}
+
+	/**
+	 * Stops all watchers of this TracEE, e.g. when the application that brings it is undeployed.
+	 */
+	public static void stopAll() {
+		final List<TraceePropertiesWatcher> watchers;
+		synchronized (TraceePropertiesWatcher.class) {
+			watchers = new ArrayList<TraceePropertiesWatcher>(RUNNING.values());
+		}
+		for (TraceePropertiesWatcher watcher : watchers) {
+			watcher.stop();
+		}
+	}
+
+	TraceePropertiesWatcher(List<File> watchedFiles, Listener listener, TraceeLogger logger, long interval, TimeUnit unit) {
+		this.watchedFiles = watchedFiles;
+		this.listeners.add(listener);
+		this.logger = logger;
+		this.fingerprint = fingerprint(watchedFiles);
+		this.executor = Executors.newSingleThreadScheduledExecutor(new WatcherThreadFactory());
+		executor.scheduleWithFixedDelay(new Runnable() {
+			@Override
+			public void run() {
+				checkForChanges();
+			}
+		}, interval, interval, unit);
+	}
+
+	void addListener(Listener listener) {
+		listeners.add(listener);
+	}
+
+	/**
+	 * Stops notifying the listener. The watcher stops if no other listener is left.
+	 */
+	public void removeListener(Listener listener) {
+		listeners.remove(listener);
+		synchronized (TraceePropertiesWatcher.class) {
+			if (listeners.isEmpty()) {
+				stop();
+			}
+		}
+	}
+
+	/**
+	 * Stops watching for all listeners. Already running checks are interrupted.
+	 */
+	public void stop() {
+		synchronized (TraceePropertiesWatcher.class) {
+			if (RUNNING.get(watchedFiles) == this) {
+				RUNNING.remove(watchedFiles);
+			}
+		}
+		executor.shutdownNow();
+	}
+
+	void checkForChanges() {
+		final long[] currentFingerprint = fingerprint(watchedFiles);
+		if (Arrays.equals(fingerprint, currentFingerprint)) {
+			return;
+		}
+		final PropertyChain propertyChain;
+		try {
+			propertyChain = PropertiesBasedTraceeFilterConfiguration.loadPropertyChain();
+		} catch (RuntimeException e) {
+			logger.error("Can not reload TracEE properties. Message: {} -- Keep current configuration", e.getMessage());
+			logger.debug("Detailed Exception cause: {}", e.getMessage(), e);
+			return;
+		}
+		fingerprint = currentFingerprint;
+		logger.info("TracEE properties changed. Reload configuration.");
+		for (Listener listener : listeners) {
+			try {
+				listener.propertiesChanged(propertyChain);
+			} catch (RuntimeException e) {
+				// an exception would stop the scheduled checks
+				logger.error("Can not apply reloaded TracEE properties. Message: {}", e.getMessage());
+				logger.debug("Detailed Exception cause: {}", e.getMessage(), e);
+			}
+		}
+	}
+
+	/**
+	 * Modification time and length of each watched file. Both are {@code 0} for files that do not exist.
+	 */
+	private static long[] fingerprint(List<File> files) {
+		final long[] fingerprint = new long[files.size() * 2];
+		for (int i = 0; i < files.size(); i++) {
+			final File file = files.get(i);
+			fingerprint[2 * i] = file.lastModified();
+			fingerprint[2 * i + 1] = file.length();
+		}
+		return fingerprint;
+	}
+
+	private static long parseLongOrZero(String longString) {
+		if (longString == null) {
+			return 0;
+		}
+		try {
+			return Long.parseLong(longString.trim());
+		} catch (NumberFormatException nfe) {
+			return 0;
+		}
+	}
+
+	/**
+	 * Creates the daemon thread that keeps the context classloader of the thread that started watching, so that
+	 * reloading finds the same properties files.
+	 */
+	private static final class WatcherThreadFactory implements ThreadFactory {
+
+		private final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			final Thread thread = new Thread(runnable, "tracee-properties-watcher");
+			thread.setDaemon(true);
+			thread.setContextClassLoader(contextClassLoader);
+			return thread;
+		}
+	}
+}
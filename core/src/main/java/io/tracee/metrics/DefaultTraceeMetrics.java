@@ -0,0 +1,137 @@
+package io.tracee.metrics;
+
+import io.tracee.spi.TraceeMetrics;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Lock-free {@link TraceeMetrics} that is used if no other implementation is registered.
+ * <p/>
+ * Counters are striped over threads and binding times are counted in a {@link LatencyHistogram} per binding, so
+ * recording is a few uncontended atomic adds without allocation.
+ */
+public final class DefaultTraceeMetrics implements TraceeMetrics, TraceeMetricsMXBean {
+
+	private static final int HEADERS_PARSED = 0;
+	private static final int BYTES_IN = 1;
+	private static final int HEADERS_RENDERED = 2;
+	private static final int BYTES_OUT = 3;
+	private static final int DENIED_KEYS = 4;
+	private static final int PARSE_ERRORS = 5;
+	private static final int COUNTER_COUNT = 6;
+
+	private static final Binding[] BINDINGS = Binding.values();
+
+	private final StripedCounters counters = new StripedCounters(COUNTER_COUNT);
+
+	private final LatencyHistogram[] bindingLatencies = new LatencyHistogram[BINDINGS.length];
+
+	public DefaultTraceeMetrics() {
+		for (int i = 0; i < bindingLatencies.length; i++) {
+			bindingLatencies[i] = new LatencyHistogram();
+		}
+	}
+
+	@Override
+	public void headerParsed(int length) {
+		counters.increment(HEADERS_PARSED);
+		counters.add(BYTES_IN, length);
+	}
+
+	@Override
+	public void headerRendered(int length) {
+		counters.increment(HEADERS_RENDERED);
+		counters.add(BYTES_OUT, length);
+	}
+
+	@Override
+	public void keysDenied(int count) {
+		counters.add(DENIED_KEYS, count);
+	}
+
+	@Override
+	public void parseError() {
+		counters.increment(PARSE_ERRORS);
+	}
+
+	@Override
+	public void bindingTime(Binding binding, long nanos) {
+		bindingLatencies[binding.ordinal()].record(nanos);
+	}
+
+	@Override
+	public long getHeadersParsed() {
+		return counters.sum(HEADERS_PARSED);
+	}
+
+	@Override
+	public long getBytesIn() {
+		return counters.sum(BYTES_IN);
+	}
+
+	@Override
+	public long getHeadersRendered() {
+		return counters.sum(HEADERS_RENDERED);
+	}
+
+	@Override
+	public long getBytesOut() {
+		return counters.sum(BYTES_OUT);
+	}
+
+	@Override
+	public long getDeniedKeys() {
+		return counters.sum(DENIED_KEYS);
+	}
+
+	@Override
+	public long getParseErrors() {
+		return counters.sum(PARSE_ERRORS);
+	}
+
+	@Override
+	public Map<String, Long> getBindingInvocations() {
+		final Map<String, Long> invocations = new LinkedHashMap<String, Long>();
+		for (Binding binding : BINDINGS) {
+			invocations.put(nameOf(binding), bindingLatencies[binding.ordinal()].getCount());
+		}
+		return invocations;
+	}
+
+	@Override
+	public Map<String, Long> getBindingNanos() {
+		final Map<String, Long> nanos = new LinkedHashMap<String, Long>();
+		for (Binding binding : BINDINGS) {
+			nanos.put(nameOf(binding), bindingLatencies[binding.ordinal()].getTotalNanos());
+		}
+		return nanos;
+	}
+
+	@Override
+	public long[] getLatencyBucketBounds() {
+		return LatencyHistogram.bucketBounds();
+	}
+
+	@Override
+	public Map<String, long[]> getBindingLatencyHistograms() {
+		final Map<String, long[]> histograms = new LinkedHashMap<String, long[]>();
+		for (Binding binding : BINDINGS) {
+			histograms.put(nameOf(binding), bindingLatencies[binding.ordinal()].getBucketCounts());
+		}
+		return histograms;
+	}
+
+	@Override
+	public void reset() {
+		counters.reset();
+		for (LatencyHistogram histogram : bindingLatencies) {
+			histogram.reset();
+		}
+	}
+
+	private static String nameOf(Binding binding) {
+		return binding.name().toLowerCase(Locale.ENGLISH);
+	}
+}
@@ -0,0 +1,71 @@
+package io.tracee.metrics;
+
+/**
+ * Counts latencies in {@value #BUCKET_COUNT} fixed buckets whose bounds double from bucket to bucket.
+ * <p/>
+ * The first bucket holds latencies below {@code 2^}{@value #FIRST_BOUND_SHIFT} nanoseconds (128 ns), bucket {@code i}
+ * holds latencies below {@code 2^(}{@value #FIRST_BOUND_SHIFT}{@code + i)} nanoseconds and the last bucket holds all
+ * latencies from about half a second on. Recording a latency picks its bucket by counting the leading zeros and adds
+ * to two striped counters, so it neither locks nor allocates.
+ */
+final class LatencyHistogram {
+
+	static final int BUCKET_COUNT = 24;
+
+	static final int FIRST_BOUND_SHIFT = 7;
+
+	private static final int TOTAL_NANOS = BUCKET_COUNT;
+
+	private final StripedCounters counters = new StripedCounters(BUCKET_COUNT + 1);
+
+	/**
+	 * @return the upper bounds of the buckets in nanoseconds, exclusive, the last bound is {@link Long#MAX_VALUE}
+	 */
+	static long[] bucketBounds() {
+		final long[] bounds = new long[BUCKET_COUNT];
+		for (int bucket = 0; bucket < BUCKET_COUNT - 1; bucket++) {
+			bounds[bucket] = 1L << (FIRST_BOUND_SHIFT + bucket);
+		}
+		bounds[BUCKET_COUNT - 1] = Long.MAX_VALUE;
+		return bounds;
+	}
+
+	static int bucketOf(long nanos) {
+		if (nanos <= 0L) {
+			return 0;
+		}
+		final int bucket = 64 - Long.numberOfLeadingZeros(nanos >>> FIRST_BOUND_SHIFT);
+		return bucket < BUCKET_COUNT ? bucket : BUCKET_COUNT - 1;
+	}
+
+	void record(long nanos) {
+		counters.increment(bucketOf(nanos));
+		if (nanos > 0L) {
+			counters.add(TOTAL_NANOS, nanos);
+		}
+	}
+
+	long[] getBucketCounts() {
+		final long[] counts = new long[BUCKET_COUNT];
+		for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+			counts[bucket] = counters.sum(bucket);
+		}
+		return counts;
+	}
+
+	long getCount() {
+		long count = 0L;
+		for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+			count += counters.sum(bucket);
+		}
+		return count;
+	}
+
+	long getTotalNanos() {
+		return counters.sum(TOTAL_NANOS);
+	}
+
+	void reset() {
+		counters.reset();
+	}
+}
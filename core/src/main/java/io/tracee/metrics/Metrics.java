@@ -0,0 +1,130 @@
+package io.tracee.metrics;
+
+import io.tracee.configuration.PropertiesBasedTraceeFilterConfiguration;
+import io.tracee.configuration.PropertyChain;
+import io.tracee.spi.TraceeMetrics;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+import java.lang.management.ManagementFactory;
+import java.util.Iterator;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * Provides the {@link TraceeMetrics} that TracEE records to.
+ * <p/>
+ * The first implementation that is registered as {@code META-INF/services/io.tracee.spi.TraceeMetrics} in the class
+ * loader of TracEE core is used. Without one, a {@link DefaultTraceeMetrics} is created and registered at the
+ * platform MBean server as {@value #OBJECT_NAME}. If that name is taken by the TracEE of another application, the name
+ * is qualified by the identity of the class loader. The MBean keeps the class loader of TracEE, so applications that
+ * bring their own TracEE have to call {@link #shutdown()} when they are undeployed, which the servlet binding does.
+ * The registration is skipped if {@value #JMX_PROPERTY} is {@code false}.
+ */
+public final class Metrics {
+
+	public static final String JMX_PROPERTY = "tracee.metrics.jmx";
+
+	static final String OBJECT_NAME = "io.tracee:type=Metrics";
+
+	/**
+	 * The name of the registered MBean, {@code null} if none is registered.
+	 */
+	private static volatile ObjectName registeredName;
+
+	private Metrics() {
+	}
+
+	/**
+	 * @return the metrics that are shared by all bindings.
+	 */
+	public static TraceeMetrics get() {
+		return InstanceHolder.INSTANCE;
+	}
+
+	/**
+	 * Unregisters the MBean of the metrics from the platform MBean server, so it no longer keeps the class loader of
+	 * TracEE. Metrics are still recorded afterwards, they are just not visible. Does nothing if no MBean is registered.
+	 */
+	public static void shutdown() {
+		final ObjectName name = registeredName;
+		if (name != null) {
+			registeredName = null;
+			unregister(ManagementFactory.getPlatformMBeanServer(), name);
+		}
+	}
+
+	/**
+	 * @return the first registered implementation or {@code null} if there is none that can be loaded.
+	 */
+	static TraceeMetrics lookup(ClassLoader classLoader) {
+		try {
+			final Iterator<TraceeMetrics> implementations = ServiceLoader.load(TraceeMetrics.class, classLoader).iterator();
+			return implementations.hasNext() ? implementations.next() : null;
+		} catch (ServiceConfigurationError e) {
+			return null;
+		}
+	}
+
+	static boolean isJmxEnabled(PropertyChain propertyChain) {
+		final String jmx = propertyChain.getProperty(JMX_PROPERTY);
+		return jmx == null || !"false".equalsIgnoreCase(jmx.trim());
+	}
+
+	/**
+	 * @return the name the metrics have been registered with
+	 */
+	static ObjectName register(MBeanServer server, DefaultTraceeMetrics metrics) throws JMException {
+		final StandardMBean mbean = new StandardMBean(metrics, TraceeMetricsMXBean.class, true);
+		try {
+			return server.registerMBean(mbean, new ObjectName(OBJECT_NAME)).getObjectName();
+		} catch (InstanceAlreadyExistsException e) {
+			final String loader = Integer.toHexString(System.identityHashCode(Metrics.class.getClassLoader()));
+			return server.registerMBean(mbean, new ObjectName(OBJECT_NAME + ",loader=" + loader)).getObjectName();
+		}
+	}
+
+	static void unregister(MBeanServer server, ObjectName name) {
+		try {
+			server.unregisterMBean(name);
+		} catch (JMException ignored) {
+			// unregistered by someone else
+		} catch (SecurityException ignored) {
+			// the MBean server does not allow to unregister
+		}
+	}
+
+	private static final class InstanceHolder {
+
+		private static final TraceeMetrics INSTANCE = load();
+
+		private static TraceeMetrics load() {
+			final TraceeMetrics registered = lookup(Metrics.class.getClassLoader());
+			if (registered != null) {
+				return registered;
+			}
+			final DefaultTraceeMetrics metrics = new DefaultTraceeMetrics();
+			if (jmxEnabled()) {
+				try {
+					registeredName = register(ManagementFactory.getPlatformMBeanServer(), metrics);
+				} catch (JMException ignored) {
+					// the metrics are recorded anyway, they are just not visible
+				} catch (SecurityException ignored) {
+					// see above
+				}
+			}
+			return metrics;
+		}
+
+		private static boolean jmxEnabled() {
+			try {
+				return isJmxEnabled(PropertiesBasedTraceeFilterConfiguration.loadPropertyChain());
+			} catch (IllegalStateException e) {
+				return true;
+			}
+		}
+	}
+}
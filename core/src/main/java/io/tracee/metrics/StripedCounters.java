@@ -0,0 +1,83 @@
+package io.tracee.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A fixed number of counters that are striped over threads, so concurrent updates rarely hit the same cache line.
+ * <p/>
+ * Every stripe keeps one row with all counters in a shared {@link AtomicLongArray}. Rows are separated by
+ * {@value #PADDING} unused slots, which is a cache line of 64 bytes. A thread always updates the row that its id is
+ * hashed to, so an update is a single atomic add and never allocates. A sum adds up the rows without locking and is
+ * no atomic snapshot of concurrent updates.
+ * <p/>
+ * Use it for counters that are updated on every request, e.g. the hit counts of caches, instead of a shared
+ * {@link java.util.concurrent.atomic.AtomicLong}.
+ */
+public final class StripedCounters {
+
+	static final int PADDING = 8;
+
+	static final int MAX_STRIPES = 32;
+
+	private final int rowLength;
+	private final int stripeMask;
+	private final AtomicLongArray cells;
+
+	public StripedCounters(int counters) {
+		this(counters, stripesFor(Runtime.getRuntime().availableProcessors()));
+	}
+
+	/**
+	 * @param stripes the number of rows, must be a power of two
+	 */
+	StripedCounters(int counters, int stripes) {
+		this.rowLength = counters + PADDING;
+		this.stripeMask = stripes - 1;
+		this.cells = new AtomicLongArray(PADDING + stripes * rowLength);
+	}
+
+	/**
+	 * @return the smallest power of two that is at least twice the number of processors, capped by
+	 * {@value #MAX_STRIPES}
+	 */
+	static int stripesFor(int processors) {
+		int stripes = 1;
+		while (stripes < 2 * processors && stripes < MAX_STRIPES) {
+			stripes <<= 1;
+		}
+		return stripes;
+	}
+
+	public void increment(int counter) {
+		add(counter, 1L);
+	}
+
+	public void add(int counter, long delta) {
+		cells.getAndAdd(rowOffset() + counter, delta);
+	}
+
+	public long sum(int counter) {
+		long sum = 0L;
+		for (int index = PADDING + counter; index < cells.length(); index += rowLength) {
+			sum += cells.get(index);
+		}
+		return sum;
+	}
+
+	public void reset() {
+		for (int index = 0; index < cells.length(); index++) {
+			cells.set(index, 0L);
+		}
+	}
+
+	int stripes() {
+		return stripeMask + 1;
+	}
+
+	private int rowOffset() {
+		// thread ids are consecutive, the golden ratio hash spreads them over the stripes
+		int hash = (int) Thread.currentThread().getId() * 0x9E3779B9;
+		hash ^= hash >>> 16;
+		return PADDING + (hash & stripeMask) * rowLength;
+	}
+}
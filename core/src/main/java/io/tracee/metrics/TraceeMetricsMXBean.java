@@ -0,0 +1,49 @@
+package io.tracee.metrics;
+
+import java.util.Map;
+
+/**
+ * JMX view of the {@link DefaultTraceeMetrics}, registered as {@value Metrics#OBJECT_NAME}.
+ * <p/>
+ * Binding maps are keyed by the lower case name of the {@link io.tracee.spi.TraceeMetrics.Binding}. Values are read
+ * without locking, so values of the same read may differ by the updates that happen concurrently.
+ */
+public interface TraceeMetricsMXBean {
+
+	long getHeadersParsed();
+
+	long getBytesIn();
+
+	long getHeadersRendered();
+
+	long getBytesOut();
+
+	long getDeniedKeys();
+
+	long getParseErrors();
+
+	/**
+	 * @return the number of recorded callbacks per binding
+	 */
+	Map<String, Long> getBindingInvocations();
+
+	/**
+	 * @return the total time of all recorded callbacks per binding in nanoseconds
+	 */
+	Map<String, Long> getBindingNanos();
+
+	/**
+	 * @return the exclusive upper bounds of the latency buckets in nanoseconds
+	 */
+	long[] getLatencyBucketBounds();
+
+	/**
+	 * @return the number of callbacks per latency bucket of each binding
+	 */
+	Map<String, long[]> getBindingLatencyHistograms();
+
+	/**
+	 * Resets all counters to zero. Updates that happen concurrently may be kept.
+	 */
+	void reset();
+}
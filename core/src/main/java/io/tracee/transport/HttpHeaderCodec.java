@@ -0,0 +1,242 @@
+package io.tracee.transport;
+
+import io.tracee.TraceeLogger;
+
+import java.nio.charset.Charset;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Single pass encoder and decoder of the TPIC http header format.
+ * <p/>
+ * The format is a comma separated list of {@code key=value} pairs. Keys and values are encoded like
+ * {@link java.net.URLEncoder} does with UTF-8 and surrounding whitespace is trimmed before encoding. Keys and values
+ * without escapes are sliced straight out of the header, percent decoding only happens where a {@code %} or {@code +}
+ * appears.
+ */
+final class HttpHeaderCodec {
+
+	private static final Charset UTF8 = Charset.forName(HttpHeaderTransport.ENCODING_CHARSET);
+
+	private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+	private static final boolean[] UNRESERVED = new boolean[128];
+
+	static {
+		for (char c = 'a'; c <= 'z'; c++) {
+			UNRESERVED[c] = true;
+		}
+		for (char c = 'A'; c <= 'Z'; c++) {
+			UNRESERVED[c] = true;
+		}
+		for (char c = '0'; c <= '9'; c++) {
+			UNRESERVED[c] = true;
+		}
+		UNRESERVED['.'] = true;
+		UNRESERVED['-'] = true;
+		UNRESERVED['*'] = true;
+		UNRESERVED['_'] = true;
+	}
+
+	/**
+	 * Rendered headers rarely exceed this size. Larger builders are not kept for reuse.
+	 */
+	private static final int MAX_REUSED_CAPACITY = 4096;
+
+	private static final ThreadLocal<StringBuilder> RENDER_BUFFER = new ThreadLocal<StringBuilder>() {
+		@Override
+		protected StringBuilder initialValue() {
+			return new StringBuilder(128);
+		}
+	};
+
+	private HttpHeaderCodec() {
+	}
+
+	/**
+	 * Decodes all pairs of the given header into {@code target}. Pairs that are malformed are skipped.
+	 *
+	 * @return the number of skipped pairs
+	 */
+	static int parse(final String header, final Map<String, String> target, final TraceeLogger logger) {
+		int end = header.length();
+		int pos = 0;
+		while (pos < end && header.charAt(pos) <= ' ') {
+			pos++;
+		}
+		while (end > pos && header.charAt(end - 1) <= ' ') {
+			end--;
+		}
+
+		int malformed = 0;
+		while (pos < end) {
+			int pairEnd = header.indexOf(',', pos);
+			if (pairEnd < 0 || pairEnd > end) {
+				pairEnd = end;
+			}
+			if (pairEnd > pos && !parsePair(header, pos, pairEnd, target, logger)) {
+				malformed++;
+			}
+			pos = pairEnd + 1;
+		}
+		return malformed;
+	}
+
+	/**
+	 * A pair is valid if it consists of exactly two parts separated by {@code =}. Like {@link String#split(String)}
+	 * trailing empty parts are ignored, so the value must not be empty but may be followed by further {@code =}.
+	 *
+	 * @return {@code false} if the pair is malformed
+	 */
+	private static boolean parsePair(final String header, final int start, final int end, final Map<String, String> target,
+								  final TraceeLogger logger) {
+		final int keyEnd = indexOf(header, '=', start, end);
+		if (keyEnd < 0) {
+			return false;
+		}
+		final int valueStart = keyEnd + 1;
+		int valueEnd = indexOf(header, '=', valueStart, end);
+		if (valueEnd < 0) {
+			valueEnd = end;
+		}
+		if (valueEnd == valueStart) {
+			return false;
+		}
+		for (int i = valueEnd; i < end; i++) {
+			if (header.charAt(i) != '=') {
+				return false;
+			}
+		}
+
+		final String key = decode(header, start, keyEnd);
+		final String value = decode(header, valueStart, valueEnd);
+		if (key == null || value == null) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Skip TPIC pair with malformed escape sequence: {}", header.substring(start, end));
+			}
+			return false;
+		}
+		target.put(key, value);
+		return true;
+	}
+
+	private static int indexOf(final String header, final char c, final int start, final int end) {
+		for (int i = start; i < end; i++) {
+			if (header.charAt(i) == c) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * @return the decoded substring or {@code null} if the substring contains a malformed escape sequence.
+	 */
+	private static String decode(final String s, final int start, final int end) {
+		int firstEscape = -1;
+		for (int i = start; i < end; i++) {
+			final char c = s.charAt(i);
+			if (c == '%' || c == '+') {
+				firstEscape = i;
+				break;
+			}
+		}
+		if (firstEscape < 0) {
+			return s.substring(start, end);
+		}
+
+		final StringBuilder decoded = new StringBuilder(end - start);
+		decoded.append(s, start, firstEscape);
+		byte[] bytes = null;
+		int i = firstEscape;
+		while (i < end) {
+			final char c = s.charAt(i);
+			if (c == '+') {
+				decoded.append(' ');
+				i++;
+			} else if (c == '%') {
+				if (bytes == null) {
+					bytes = new byte[(end - i) / 3];
+				}
+				int byteCount = 0;
+				while (i < end && s.charAt(i) == '%') {
+					if (i + 2 >= end) {
+						return null;
+					}
+					final int high = Character.digit(s.charAt(i + 1), 16);
+					final int low = Character.digit(s.charAt(i + 2), 16);
+					if (high < 0 || low < 0) {
+						return null;
+					}
+					bytes[byteCount++] = (byte) ((high << 4) + low);
+					i += 3;
+				}
+				decoded.append(new String(bytes, 0, byteCount, UTF8));
+			} else {
+				decoded.append(c);
+				i++;
+			}
+		}
+		return decoded.toString();
+	}
+
+	static String render(final Map<String, String> context) {
+		final StringBuilder sb = RENDER_BUFFER.get();
+		sb.setLength(0);
+		for (Iterator<Map.Entry<String, String>> iterator = context.entrySet().iterator(); iterator.hasNext(); ) {
+			final Map.Entry<String, String> entry = iterator.next();
+			encodeTrimmed(entry.getKey(), sb);
+			sb.append('=');
+			encodeTrimmed(entry.getValue(), sb);
+			if (iterator.hasNext()) {
+				sb.append(',');
+			}
+		}
+		final String rendered = sb.toString();
+		if (sb.capacity() > MAX_REUSED_CAPACITY) {
+			RENDER_BUFFER.remove();
+		}
+		return rendered;
+	}
+
+	private static void encodeTrimmed(final String s, final StringBuilder sb) {
+		int start = 0;
+		int end = s.length();
+		while (start < end && s.charAt(start) <= ' ') {
+			start++;
+		}
+		while (end > start && s.charAt(end - 1) <= ' ') {
+			end--;
+		}
+		for (int i = start; i < end; i++) {
+			final char c = s.charAt(i);
+			if (c < 128 && UNRESERVED[c]) {
+				sb.append(c);
+			} else if (c == ' ') {
+				sb.append('+');
+			} else if (c < 0x80) {
+				appendEscaped(sb, c);
+			} else if (c < 0x800) {
+				appendEscaped(sb, 0xC0 | (c >> 6));
+				appendEscaped(sb, 0x80 | (c & 0x3F));
+			} else if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(s.charAt(i + 1))) {
+				final int codePoint = Character.toCodePoint(c, s.charAt(++i));
+				appendEscaped(sb, 0xF0 | (codePoint >> 18));
+				appendEscaped(sb, 0x80 | ((codePoint >> 12) & 0x3F));
+				appendEscaped(sb, 0x80 | ((codePoint >> 6) & 0x3F));
+				appendEscaped(sb, 0x80 | (codePoint & 0x3F));
+			} else if (Character.isHighSurrogate(c) || Character.isLowSurrogate(c)) {
+				// unpaired surrogates are replaced by '?' like String.getBytes does
+				appendEscaped(sb, '?');
+			} else {
+				appendEscaped(sb, 0xE0 | (c >> 12));
+				appendEscaped(sb, 0x80 | ((c >> 6) & 0x3F));
+				appendEscaped(sb, 0x80 | (c & 0x3F));
+			}
+		}
+	}
+
+	private static void appendEscaped(final StringBuilder sb, final int b) {
+		sb.append('%').append(HEX_DIGITS[(b >> 4) & 0xF]).append(HEX_DIGITS[b & 0xF]);
+	}
+}
@@ -0,0 +1,179 @@
+package io.tracee.transport;
+
+import io.tracee.ContextSnapshot;
+import io.tracee.MDCLikeTraceeBackend;
+import io.tracee.TraceeBackend;
+import io.tracee.configuration.TraceeFilterConfiguration;
+import io.tracee.configuration.TraceeFilterConfiguration.Channel;
+import io.tracee.metrics.Metrics;
+import io.tracee.metrics.StripedCounters;
+import io.tracee.spi.TraceeMetrics;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Caches rendered TPIC headers for outgoing calls.
+ * <p/>
+ * A rendered header is keyed by the version of the current {@link ContextSnapshot}, the filter configuration (and
+ * thereby the profile) and the {@link Channel}. As long as the context does not change, repeated outgoing calls reuse the already encoded header
+ * string. The cache is held per thread, so lookups never contend. Backends that do not provide versioned snapshots
+ * are rendered on every call.
+ * <p/>
+ * Headers that are served from the cache are recorded as rendered headers, too, since they are sent like any other.
+ * Keys that the configuration denied when the header has been rendered are recorded again on every hit.
+ */
+public final class HttpHeaderRenderCache {
+
+	private static final HttpHeaderRenderCache INSTANCE = new HttpHeaderRenderCache();
+
+	private static final int CHANNEL_COUNT = Channel.values().length;
+
+	private static final int HITS = 0;
+	private static final int MISSES = 1;
+
+	private final ThreadLocal<RenderedHeaders> renderedHeaders = new ThreadLocal<RenderedHeaders>() {
+		@Override
+		protected RenderedHeaders initialValue() {
+			return new RenderedHeaders();
+		}
+	};
+
+	private final StripedCounters counters = new StripedCounters(2);
+
+	private final AtomicInteger configurationGeneration = new AtomicInteger();
+
+	private final TraceeMetrics metrics;
+
+	/**
+	 * @return the cache that is shared by all bindings.
+	 */
+	public static HttpHeaderRenderCache getInstance() {
+		return INSTANCE;
+	}
+
+	HttpHeaderRenderCache() {
+		this(Metrics.get());
+	}
+
+	HttpHeaderRenderCache(TraceeMetrics metrics) {
+		this.metrics = metrics;
+	}
+
+	/**
+	 * Renders the current context of the {@code backend}, filtered by the given {@code configuration} for the
+	 * {@code channel}.
+	 *
+	 * @param transport     used to render the header if it is not cached yet
+	 * @param configuration the configuration of the backend for the current profile
+	 * @return the rendered TPIC header value
+	 */
+	public String render(HttpHeaderTransport transport, TraceeBackend backend, TraceeFilterConfiguration configuration,
+						 Channel channel) {
+		if (!(backend instanceof MDCLikeTraceeBackend)) {
+			return transport.render(configuration.filterDeniedParams(backend.copyToMap(), channel));
+		}
+
+		final ContextSnapshot snapshot = ((MDCLikeTraceeBackend) backend).getSnapshot();
+		final RenderedHeaders.Entry entry = renderedHeaders.get().forContext(snapshot.getVersion(),
+				configurationGeneration.get(), configuration);
+		final int slot = channel.ordinal();
+		String header = entry.headers[slot];
+		if (header != null) {
+			counters.increment(HITS);
+			if (entry.deniedKeys[slot] > 0) {
+				metrics.keysDenied(entry.deniedKeys[slot]);
+			}
+			metrics.headerRendered(header.length());
+			return header;
+		}
+		counters.increment(MISSES);
+		final Map<String, String> context = snapshot.asMap();
+		final Map<String, String> filtered = configuration.filterDeniedParams(context, channel);
+		header = transport.render(filtered);
+		entry.deniedKeys[slot] = context.size() - filtered.size();
+		entry.headers[slot] = header;
+		return header;
+	}
+
+	/**
+	 * Drops the rendered headers of all threads, so that headers of replaced configurations are no longer served and
+	 * the replaced configurations are no longer referenced. Called when the configurations have been reloaded.
+	 */
+	public void invalidate() {
+		configurationGeneration.incrementAndGet();
+	}
+
+	/**
+	 * @return the number of renderings that have been served from the cache.
+	 */
+	public long getHitCount() {
+		return counters.sum(HITS);
+	}
+
+	/**
+	 * @return the number of renderings that had to encode the context.
+	 */
+	public long getMissCount() {
+		return counters.sum(MISSES);
+	}
+
+	/**
+	 * Rendered headers of one thread. Only headers of the most recent context version and configuration generation
+	 * are kept, for at most {@value #MAX_CONFIGURATIONS} configurations.
+	 * <p/>
+	 * Backends hand out the same configuration instance for a profile, so configurations are compared by identity.
+	 * They are referenced weakly, so an idle thread does not keep a replaced configuration alive. If all slots are
+	 * taken, the oldest one is reused.
+	 */
+	private static final class RenderedHeaders {
+
+		static final int MAX_CONFIGURATIONS = 8;
+
+		private final Entry[] entries = new Entry[MAX_CONFIGURATIONS];
+		private int nextEvicted;
+		private long version = -1L;
+		private int generation;
+
+		Entry forContext(long contextVersion, int configurationGeneration, TraceeFilterConfiguration configuration) {
+			if (contextVersion != version || configurationGeneration != generation) {
+				version = contextVersion;
+				generation = configurationGeneration;
+				Arrays.fill(entries, null);
+			}
+			int free = -1;
+			for (int i = 0; i < entries.length; i++) {
+				final Entry entry = entries[i];
+				final TraceeFilterConfiguration cached = entry != null ? entry.get() : null;
+				if (cached == configuration) {
+					return entry;
+				}
+				if (cached == null && free < 0) {
+					free = i;
+				}
+			}
+			if (free < 0) {
+				free = nextEvicted;
+				nextEvicted = (nextEvicted + 1) % MAX_CONFIGURATIONS;
+			}
+			final Entry entry = new Entry(configuration);
+			entries[free] = entry;
+			return entry;
+		}
+
+		/**
+		 * Headers and the number of denied keys per channel for one configuration.
+		 */
+		static final class Entry extends WeakReference<TraceeFilterConfiguration> {
+
+			final String[] headers = new String[CHANNEL_COUNT];
+			final int[] deniedKeys = new int[CHANNEL_COUNT];
+
+			Entry(TraceeFilterConfiguration configuration) {
+				super(configuration);
+			}
+		}
+	}
+}
@@ -0,0 +1,209 @@
+package io.tracee;
+
+import io.tracee.configuration.PropertyChain;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Properties;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ContextLeakDetectorTest {
+
+	private final SimpleTraceeBackend backend = SimpleTraceeBackend.createNonLoggingAllPermittingBackend();
+
+	@Test
+	public void disabledDetectorDoesNotCheckTheContext() {
+		final ContextLeakDetector unit = new ContextLeakDetector(ContextLeakDetector.Mode.OFF);
+		backend.put("A", "a");
+		unit.openScope(backend, OuterBinding.class);
+		assertThat(unit.isEnabled(), is(false));
+		assertThat(unit.getLeakCount(), is(0L));
+	}
+
+	@Test
+	public void detectsResidualContextAtStartOfUnitOfWork() {
+		final ContextLeakDetector unit = new ContextLeakDetector(ContextLeakDetector.Mode.LOG);
+		backend.put("A", "ab");
+		unit.openScope(backend, OuterBinding.class);
+		assertThat(unit.getLeakCount(), is(1L));
+		assertThat(unit.getLeakedKeyCount(), is(1L));
+		assertThat(unit.getLeakedBytes(), is(6L));
+		assertThat(backend.get("A"), is("ab"));
+	}
+
+	@Test
+	public void clearsResidualContextInClearMode() {
+		final ContextLeakDetector unit = new ContextLeakDetector(ContextLeakDetector.Mode.CLEAR);
+		backend.put("A", "a");
+		final TraceeScope scope = unit.openScope(backend, OuterBinding.class);
+		assertThat(backend.isEmpty(), is(true));
+		backend.put("B", "b");
+		scope.close();
+		assertThat(backend.isEmpty(), is(true));
+	}
+
+	@Test
+	public void unitOfWorkWithinAnotherOneIsNoLeak() {
+		final ContextLeakDetector unit = new ContextLeakDetector(ContextLeakDetector.Mode.CLEAR);
+		final TraceeScope outer = unit.openScope(backend, OuterBinding.class);
+		backend.put("A", "a");
+		final TraceeScope inner = unit.openScope(backend, InnerBinding.class);
+		assertThat(backend.get("A"), is("a"));
+		inner.close();
+		outer.close();
+		assertThat(unit.getLeakCount(), is(0L));
+	}
+
+	@Test
+	public void closedUnitsOfWorkAreNoLeak() {
+		final ContextLeakDetector unit = new ContextLeakDetector(ContextLeakDetector.Mode.LOG);
+		for (int i = 0; i < 2 * ContextLeakDetector.MAX_OPEN_UNITS; i++) {
+			final TraceeScope scope = unit.openScope(backend, OuterBinding.class);
+			backend.put("A", "a");
+			scope.close();
+		}
+		assertThat(unit.getLeakCount(), is(0L));
+	}
+
+	@Test
+	public void unclosedUnitOfWorkOfSameBindingIsLeak() {
+		final ContextLeakDetector unit = new ContextLeakDetector(ContextLeakDetector.Mode.CLEAR);
+		unit.openScope(backend, OuterBinding.class);
+		backend.put("A", "a");
+		unit.openScope(backend, InnerBinding.class);
+		unit.openScope(backend, OuterBinding.class);
+		assertThat(unit.getLeakCount(), is(1L));
+		assertThat(backend.isEmpty(), is(true));
+	}
+
+	@Test
+	public void disabledDetectorReturnsScopeOfBackend() {
+		final ContextLeakDetector unit = new ContextLeakDetector(ContextLeakDetector.Mode.OFF);
+		final TraceeBackend backend = mock(TraceeBackend.class);
+		final TraceeScope scope = mock(TraceeScope.class);
+		when(backend.openScope()).thenReturn(scope);
+		assertThat(unit.openScope(backend, OuterBinding.class), is(sameInstance(scope)));
+		assertThat(unit.isTracking(), is(false));
+	}
+
+	@Test
+	public void closesLeakedUnitOfWorkOfSameBinding() {
+		final ContextLeakDetector unit = new ContextLeakDetector(ContextLeakDetector.Mode.LOG);
+		unit.openScope(backend, OuterBinding.class);
+		backend.put("A", "a");
+		final TraceeScope scope = unit.openScope(backend, OuterBinding.class);
+		assertThat(backend.isEmpty(), is(true));
+		backend.put("B", "b");
+		scope.close();
+		assertThat(backend.isEmpty(), is(true));
+		assertThat(unit.getLeakCount(), is(1L));
+	}
+
+	@Test
+	public void releasesThreadLocalWhenLastUnitOfWorkIsClosed() {
+		final ContextLeakDetector unit = new ContextLeakDetector(ContextLeakDetector.Mode.LOG);
+		final TraceeScope outer = unit.openScope(backend, OuterBinding.class);
+		final TraceeScope inner = unit.openScope(backend, InnerBinding.class);
+		inner.close();
+		assertThat(unit.isTracking(), is(true));
+		outer.close();
+		assertThat(unit.isTracking(), is(false));
+	}
+
+	@Test
+	public void scopeThatFailsToCloseLeavesConsistentState() {
+		final ContextLeakDetector unit = new ContextLeakDetector(ContextLeakDetector.Mode.LOG);
+		final TraceeBackend failingBackend = mock(TraceeBackend.class);
+		final TraceeScope failingScope = mock(TraceeScope.class);
+		doThrow(new IllegalStateException("close failed")).when(failingScope).close();
+		when(failingBackend.openScope()).thenReturn(failingScope);
+		when(failingBackend.copyToMap()).thenReturn(Collections.<String, String>emptyMap());
+		when(failingBackend.isEmpty()).thenReturn(true);
+
+		final TraceeScope outer = unit.openScope(backend, OuterBinding.class);
+		final TraceeScope inner = unit.openScope(failingBackend, InnerBinding.class);
+		try {
+			outer.close();
+			fail("exception of the failing scope expected");
+		} catch (IllegalStateException expected) {
+			// the inner scope failed, the outer one is still open
+		}
+		inner.close();
+		outer.close();
+		assertThat(unit.isTracking(), is(false));
+		unit.openScope(backend, OuterBinding.class).close();
+		assertThat(unit.isTracking(), is(false));
+	}
+
+	@Test
+	public void scopeOfBackendThatReturnsNoScopeIsNotRecorded() {
+		final ContextLeakDetector unit = new ContextLeakDetector(ContextLeakDetector.Mode.LOG);
+		final TraceeBackend scopelessBackend = mock(TraceeBackend.class);
+		when(scopelessBackend.copyToMap()).thenReturn(Collections.<String, String>emptyMap());
+		assertThat(unit.openScope(scopelessBackend, OuterBinding.class), is(nullValue()));
+		assertThat(unit.isTracking(), is(false));
+	}
+
+	@Test
+	public void closingUnitOfWorkClosesUnclosedUnitsWithinIt() {
+		final ContextLeakDetector unit = new ContextLeakDetector(ContextLeakDetector.Mode.LOG);
+		final TraceeScope outer = unit.openScope(backend, OuterBinding.class);
+		backend.put("A", "a");
+		unit.openScope(backend, InnerBinding.class);
+		backend.put("B", "b");
+		outer.close();
+		assertThat(backend.isEmpty(), is(true));
+		final TraceeScope inner = unit.openScope(backend, InnerBinding.class);
+		backend.put("C", "c");
+		inner.close();
+		assertThat(backend.isEmpty(), is(true));
+	}
+
+	@Test
+	public void unclosedUnitOfWorkWithoutResidualContextIsNoLeak() {
+		final ContextLeakDetector unit = new ContextLeakDetector(ContextLeakDetector.Mode.LOG);
+		unit.openScope(backend, OuterBinding.class);
+		unit.openScope(backend, OuterBinding.class);
+		assertThat(unit.getLeakCount(), is(0L));
+	}
+
+	@Test
+	public void scopeThatIsClosedTwiceKeepsTheFollowingUnitOfWorkOpen() {
+		final ContextLeakDetector unit = new ContextLeakDetector(ContextLeakDetector.Mode.LOG);
+		final TraceeScope first = unit.openScope(backend, OuterBinding.class);
+		first.close();
+		unit.openScope(backend, OuterBinding.class);
+		backend.put("A", "a");
+		first.close();
+		unit.openScope(backend, InnerBinding.class);
+		assertThat(unit.getLeakCount(), is(0L));
+	}
+
+	@Test
+	public void detectionIsOffByDefault() {
+		assertThat(ContextLeakDetector.modeOf(PropertyChain.build(new Properties())), is(ContextLeakDetector.Mode.OFF));
+	}
+
+	@Test
+	public void readsModeFromProperties() {
+		final Properties properties = new Properties();
+		properties.setProperty(ContextLeakDetector.MODE_PROPERTY, " Clear ");
+		assertThat(ContextLeakDetector.modeOf(PropertyChain.build(properties)), is(ContextLeakDetector.Mode.CLEAR));
+		properties.setProperty(ContextLeakDetector.MODE_PROPERTY, "unknown");
+		assertThat(ContextLeakDetector.modeOf(PropertyChain.build(properties)), is(ContextLeakDetector.Mode.OFF));
+	}
+
+	private static final class OuterBinding {
+	}
+
+	private static final class InnerBinding {
+	}
+}
@@ -0,0 +1,127 @@
+package io.tracee;
+
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+public class ContextSnapshotTest {
+
+	@Test
+	public void emptySnapshotHasVersionZero() {
+		assertThat(ContextSnapshot.EMPTY.getVersion(), is(0L));
+		assertThat(ContextSnapshot.EMPTY.isEmpty(), is(true));
+	}
+
+	@Test
+	public void withCreatesNewSnapshotAndKeepsTheOldOneUntouched() {
+		final ContextSnapshot first = ContextSnapshot.EMPTY.with("A", "a");
+		final ContextSnapshot second = first.with("B", "b");
+		assertThat(first.asMap().size(), is(1));
+		assertThat(second.asMap(), allOf(hasEntry("A", "a"), hasEntry("B", "b")));
+	}
+
+	@Test
+	public void everyNewSnapshotGetsANewVersion() {
+		final ContextSnapshot first = ContextSnapshot.EMPTY.with("A", "a");
+		final ContextSnapshot second = first.with("A", "b");
+		assertThat(second.getVersion(), is(not(first.getVersion())));
+	}
+
+	@Test
+	public void withSameValueReturnsSameSnapshot() {
+		final ContextSnapshot snapshot = ContextSnapshot.EMPTY.with("A", "a");
+		assertThat(snapshot.with("A", "a"), is(sameInstance(snapshot)));
+	}
+
+	@Test
+	public void withAllOfKnownEntriesReturnsSameSnapshot() {
+		final Map<String, String> entries = new HashMap<String, String>();
+		entries.put("A", "a");
+		entries.put("B", "b");
+		final ContextSnapshot snapshot = ContextSnapshot.copyOf(entries);
+		assertThat(snapshot.withAll(Collections.singletonMap("B", "b")), is(sameInstance(snapshot)));
+	}
+
+	@Test
+	public void withoutUnknownKeyReturnsSameSnapshot() {
+		final ContextSnapshot snapshot = ContextSnapshot.EMPTY.with("A", "a");
+		assertThat(snapshot.without("B"), is(sameInstance(snapshot)));
+	}
+
+	@Test
+	public void withoutLastKeyReturnsEmptySnapshot() {
+		assertThat(ContextSnapshot.EMPTY.with("A", "a").without("A"), is(sameInstance(ContextSnapshot.EMPTY)));
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void mapViewIsReadOnly() {
+		ContextSnapshot.EMPTY.with("A", "a").asMap().put("B", "b");
+	}
+
+	@Test(expected = NullPointerException.class)
+	public void withAllRejectsNullKeys() {
+		ContextSnapshot.EMPTY.withAll(Collections.singletonMap((String) null, "a"));
+	}
+
+	@Test
+	public void registeredKeyReadsValueThatHasBeenPutByName() {
+		final ContextSnapshot snapshot = ContextSnapshot.EMPTY.with(TraceeConstants.REQUEST_ID_KEY, "abc");
+		assertThat(snapshot.get(ContextKey.REQUEST_ID), is("abc"));
+	}
+
+	@Test
+	public void valuePutByRegisteredKeyIsReadableByName() {
+		final ContextSnapshot snapshot = ContextSnapshot.EMPTY.with(ContextKey.SESSION_ID, "abc");
+		assertThat(snapshot.get(TraceeConstants.SESSION_ID_KEY), is("abc"));
+		assertThat(snapshot.get(ContextKey.SESSION_ID), is("abc"));
+	}
+
+	@Test
+	public void withRegisteredKeyOfSameValueReturnsSameSnapshot() {
+		final ContextSnapshot snapshot = ContextSnapshot.EMPTY.with(ContextKey.REQUEST_ID, "abc");
+		assertThat(snapshot.with(ContextKey.REQUEST_ID, "abc"), is(sameInstance(snapshot)));
+	}
+
+	@Test
+	public void removedRegisteredKeyHasNoValue() {
+		final ContextSnapshot snapshot = ContextSnapshot.EMPTY.with(ContextKey.REQUEST_ID, "abc").with("A", "a");
+		assertThat(snapshot.without(TraceeConstants.REQUEST_ID_KEY).get(ContextKey.REQUEST_ID), is(nullValue()));
+	}
+
+	@Test
+	public void registeredKeysAreFilledByWithAll() {
+		final ContextSnapshot snapshot = ContextSnapshot.EMPTY.withAll(Collections.singletonMap(TraceeConstants.REQUEST_ID_KEY, "abc"));
+		assertThat(snapshot.get(ContextKey.REQUEST_ID), is("abc"));
+	}
+
+	@Test
+	public void keyThatIsRegisteredLaterReadsExistingValue() {
+		final ContextSnapshot snapshot = ContextSnapshot.EMPTY.with(ContextKey.REQUEST_ID, "abc").with("contextSnapshotTest.late", "late");
+		final ContextKey lateKey = ContextKey.register("contextSnapshotTest.late");
+		assertThat(snapshot.get(lateKey), is("late"));
+		assertThat(snapshot.with(ContextKey.REQUEST_ID, "def").get(lateKey), is("late"));
+	}
+
+	@Test
+	public void forEachVisitsAllEntriesWithState() {
+		ContextSnapshot snapshot = ContextSnapshot.EMPTY;
+		final Map<String, String> expected = new HashMap<String, String>();
+		for (int i = 0; i < 20; i++) {
+			snapshot = snapshot.with("key" + i, "value" + i);
+			expected.put("key" + i, "value" + i);
+		}
+		final Map<String, String> visited = new HashMap<String, String>();
+		snapshot.forEach(new ContextSnapshot.EntryVisitor<Map<String, String>>() {
+			@Override
+			public void visit(String key, String value, Map<String, String> state) {
+				state.put(key, value);
+			}
+		}, visited);
+		assertThat(visited, is(equalTo(expected)));
+	}
+}
@@ -0,0 +1,67 @@
+package io.tracee;
+
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class CounterIdGeneratorTest {
+
+	@Test
+	public void shouldStartWithNodePrefix() {
+		final CounterIdGenerator unit = new CounterIdGenerator("ABCDEFGH");
+		assertThat(unit.generate(12), equalTo("ABCDEFGH0001"));
+		assertThat(unit.generate(12), equalTo("ABCDEFGH0002"));
+	}
+
+	@Test
+	public void shouldCountInBase36() {
+		final CounterIdGenerator unit = new CounterIdGenerator("N");
+		for (int i = 1; i < 36; i++) {
+			unit.generate(3);
+		}
+		assertThat(unit.generate(3), equalTo("N10"));
+	}
+
+	@Test
+	public void shouldTruncateNodePrefixForShortIds() {
+		final CounterIdGenerator unit = new CounterIdGenerator("ABCDEFGH");
+		assertThat(unit.generate(4), equalTo("ABCD"));
+	}
+
+	@Test
+	public void shouldCreateIdsOfRequestedLengthWithRandomNodePrefix() {
+		final Pattern alphanumeric = Pattern.compile("[A-Z0-9]{32}");
+		final String id = CounterIdGenerator.INSTANCE.generate(32);
+		assertTrue(alphanumeric.matcher(id).matches());
+	}
+
+	@Test
+	public void shouldCreateUniqueIdsConcurrently() throws InterruptedException {
+		final CounterIdGenerator unit = new CounterIdGenerator();
+		final Set<String> ids = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+		final Thread[] threads = new Thread[4];
+		for (int t = 0; t < threads.length; t++) {
+			threads[t] = new Thread(new Runnable() {
+				@Override
+				public void run() {
+					for (int i = 0; i < 25000; i++) {
+						ids.add(unit.generate(16));
+					}
+				}
+			});
+			threads[t].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		assertThat(ids.size(), equalTo(100000));
+	}
+}
@@ -0,0 +1,155 @@
+package io.tracee;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+public class FlatStringMapTest {
+
+	@Test
+	public void emptyMapContainsNothing() {
+		assertThat(FlatStringMap.EMPTY.isEmpty(), is(true));
+		assertThat(FlatStringMap.EMPTY.get("A"), is(nullValue()));
+		assertThat(FlatStringMap.EMPTY.containsKey("A"), is(false));
+	}
+
+	@Test
+	public void withAddsEntry() {
+		final FlatStringMap map = FlatStringMap.EMPTY.with("A", "a").with("B", "b");
+		assertThat(map.size(), is(2));
+		assertThat(map.get("A"), is("a"));
+		assertThat(map.get("B"), is("b"));
+		assertThat(map.containsKey("C"), is(false));
+	}
+
+	@Test
+	public void withReplacesValueAndKeepsTheOldMapUntouched() {
+		final FlatStringMap first = FlatStringMap.EMPTY.with("A", "a");
+		final FlatStringMap second = first.with("A", "b");
+		assertThat(first.get("A"), is("a"));
+		assertThat(second.get("A"), is("b"));
+		assertThat(second.size(), is(1));
+	}
+
+	@Test
+	public void withSameValueReturnsSameMap() {
+		final FlatStringMap map = FlatStringMap.EMPTY.with("A", "a");
+		assertThat(map.with("A", new String("a")), is(sameInstance(map)));
+	}
+
+	@Test
+	public void findsKeysByEquality() {
+		final FlatStringMap map = FlatStringMap.EMPTY.with("A", "a");
+		assertThat(map.get(new String("A")), is("a"));
+	}
+
+	@Test
+	public void withoutRemovesEntry() {
+		final FlatStringMap map = FlatStringMap.EMPTY.with("A", "a").with("B", "b").with("C", "c");
+		final FlatStringMap removed = map.without("B");
+		assertThat(removed.size(), is(2));
+		assertThat(removed.containsKey("B"), is(false));
+		assertThat(removed.get("A"), is("a"));
+		assertThat(removed.get("C"), is("c"));
+	}
+
+	@Test
+	public void withoutUnknownKeyReturnsSameMap() {
+		final FlatStringMap map = FlatStringMap.EMPTY.with("A", "a");
+		assertThat(map.without("B"), is(sameInstance(map)));
+		assertThat(map.without(null), is(sameInstance(map)));
+	}
+
+	@Test
+	public void withoutLastEntryReturnsEmptyMap() {
+		assertThat(FlatStringMap.EMPTY.with("A", "a").without("A"), is(sameInstance(FlatStringMap.EMPTY)));
+	}
+
+	@Test
+	public void smallMapKeepsInsertionOrder() {
+		final FlatStringMap map = FlatStringMap.EMPTY.with("C", "c").with("A", "a").with("B", "b");
+		final List<String> keys = new ArrayList<String>(map.keySet());
+		assertThat(keys, is(Arrays.asList("C", "A", "B")));
+	}
+
+	@Test
+	public void largeMapBehavesLikeHashMap() {
+		final Map<String, String> expected = new HashMap<String, String>();
+		FlatStringMap map = FlatStringMap.EMPTY;
+		for (int i = 0; i < 40; i++) {
+			expected.put("key" + i, "value" + i);
+			map = map.with("key" + i, "value" + i);
+			assertThat(map, is(equalTo(expected)));
+		}
+		for (int i = 0; i < 40; i += 3) {
+			expected.remove("key" + i);
+			map = map.without("key" + i);
+			assertThat(map, is(equalTo(expected)));
+		}
+		for (String key : expected.keySet()) {
+			assertThat(map.get(key), is(expected.get(key)));
+		}
+		assertThat(map.get("key0"), is(nullValue()));
+	}
+
+	@Test
+	public void shrinksBackToSmallLayout() {
+		FlatStringMap map = FlatStringMap.EMPTY;
+		for (int i = 0; i <= FlatStringMap.LINEAR_THRESHOLD; i++) {
+			map = map.with("key" + i, "value" + i);
+		}
+		map = map.without("key0").without("key1");
+		assertThat(map.size(), is(FlatStringMap.LINEAR_THRESHOLD - 1));
+		assertThat(map.get("key2"), is("value2"));
+		assertThat(map.with("key0", "value0").get("key0"), is("value0"));
+	}
+
+	@Test
+	public void hashCodeAndEqualsMatchHashMap() {
+		final Map<String, String> expected = new HashMap<String, String>();
+		expected.put("A", "a");
+		expected.put("B", "b");
+		final FlatStringMap map = FlatStringMap.EMPTY.with("B", "b").with("A", "a");
+		assertThat(map.equals(expected), is(true));
+		assertThat(expected.equals(map), is(true));
+		assertThat(map.hashCode(), is(expected.hashCode()));
+	}
+
+	@Test(expected = NullPointerException.class)
+	public void withRejectsNullValues() {
+		FlatStringMap.EMPTY.with("A", null);
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void isReadOnly() {
+		FlatStringMap.EMPTY.with("A", "a").put("B", "b");
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void iteratorIsReadOnly() {
+		final Iterator<String> iterator = FlatStringMap.EMPTY.with("A", "a").keySet().iterator();
+		iterator.next();
+		iterator.remove();
+	}
+
+	@Test
+	public void forEachVisitsEntriesInInsertionOrder() {
+		final FlatStringMap map = FlatStringMap.EMPTY.with("C", "c").with("A", "a");
+		final List<String> visited = new ArrayList<String>();
+		map.forEach(new ContextSnapshot.EntryVisitor<List<String>>() {
+			@Override
+			public void visit(String key, String value, List<String> state) {
+				state.add(key + "=" + value);
+			}
+		}, visited);
+		assertThat(visited, is(Arrays.asList("C=c", "A=a")));
+	}
+}
@@ -0,0 +1,79 @@
+package io.tracee;
+
+import io.tracee.spi.IdGenerator;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class IdGeneratorsTest {
+
+	private final TraceeLogger logger = new NoopTraceeLoggerFactory().getLogger(IdGeneratorsTest.class);
+
+	@Test
+	public void shouldUseRandomGeneratorByDefault() {
+		assertThat(IdGenerators.forName(null, logger), sameInstance((IdGenerator) RandomIdGenerator.INSTANCE));
+		assertThat(IdGenerators.forName(" ", logger), sameInstance((IdGenerator) RandomIdGenerator.INSTANCE));
+		assertThat(IdGenerators.forName(IdGenerators.RANDOM, logger), sameInstance((IdGenerator) RandomIdGenerator.INSTANCE));
+	}
+
+	@Test
+	public void shouldResolveBuiltinGenerators() {
+		assertThat(IdGenerators.forName(IdGenerators.COUNTER, logger), sameInstance((IdGenerator) CounterIdGenerator.INSTANCE));
+		assertThat(IdGenerators.forName(" timeOrdered ", logger), sameInstance((IdGenerator) TimeOrderedIdGenerator.INSTANCE));
+	}
+
+	@Test
+	public void shouldInstantiateCustomGenerator() {
+		assertThat(IdGenerators.forName(FixedIdGenerator.class.getName(), logger), instanceOf(FixedIdGenerator.class));
+	}
+
+	@Test
+	public void shouldFallBackToRandomGeneratorIfClassIsUnknown() {
+		assertThat(IdGenerators.forName("io.tracee.DoesNotExist", logger), sameInstance((IdGenerator) RandomIdGenerator.INSTANCE));
+	}
+
+	@Test
+	public void shouldFallBackToRandomGeneratorIfClassIsNoIdGenerator() {
+		assertThat(IdGenerators.forName(String.class.getName(), logger), sameInstance((IdGenerator) RandomIdGenerator.INSTANCE));
+	}
+
+	@Test
+	public void shouldFallBackToRandomGeneratorIfConstructorIsNotPublic() {
+		assertThat(IdGenerators.forName(HiddenIdGenerator.class.getName(), logger), sameInstance((IdGenerator) RandomIdGenerator.INSTANCE));
+	}
+
+	@Test
+	public void shouldFallBackToRandomGeneratorIfConstructorFails() {
+		assertThat(IdGenerators.forName(FailingIdGenerator.class.getName(), logger), sameInstance((IdGenerator) RandomIdGenerator.INSTANCE));
+	}
+
+	public static final class FixedIdGenerator implements IdGenerator {
+		@Override
+		public String generate(int length) {
+			return "FIXED";
+		}
+	}
+
+	public static final class HiddenIdGenerator implements IdGenerator {
+		private HiddenIdGenerator() {
+		}
+
+		@Override
+		public String generate(int length) {
+			return "HIDDEN";
+		}
+	}
+
+	public static final class FailingIdGenerator implements IdGenerator {
+		public FailingIdGenerator() {
+			throw new IllegalStateException("not configured");
+		}
+
+		@Override
+		public String generate(int length) {
+			return "FAILING";
+		}
+	}
+}
@@ -0,0 +1,77 @@
+package io.tracee;
+
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class LogMessageTest {
+
+	private static final Exception EXCEPTION = new RuntimeException("My exception");
+
+	@Test
+	public void replacesPlaceholdersInOrder() {
+		assertThat(LogMessage.format("{} and {}", "A", "B").getMessage(), is("A and B"));
+		assertThat(LogMessage.format("a{}b{}c{}d", 1, 2, 3).getMessage(), is("a1b2c3d"));
+	}
+
+	@Test
+	public void keepsSurplusPlaceholders() {
+		assertThat(LogMessage.format("{} and {}", "A").getMessage(), is("A and {}"));
+	}
+
+	@Test
+	public void ignoresSurplusArguments() {
+		final LogMessage message = LogMessage.format("only {}", "A", "B");
+		assertThat(message.getMessage(), is("only A"));
+		assertThat(message.getThrowable(), is(nullValue()));
+	}
+
+	@Test
+	public void writesNullArguments() {
+		assertThat(LogMessage.format("value: {}", (Object) null).getMessage(), is("value: null"));
+	}
+
+	@Test
+	public void writesArrayArguments() {
+		assertThat(LogMessage.format("values: {}", (Object) new Object[]{"A", new String[]{"B"}}).getMessage(), is("values: [A, [B]]"));
+	}
+
+	@Test
+	public void keepsEscapedPlaceholder() {
+		assertThat(LogMessage.format("\\{} is {}", "A").getMessage(), is("{} is A"));
+	}
+
+	@Test
+	public void replacesPlaceholderAfterEscapedBackslash() {
+		assertThat(LogMessage.format("C:\\\\{}", "A").getMessage(), is("C:\\A"));
+	}
+
+	@Test
+	public void usesUnusedTrailingThrowableAsThrowable() {
+		final LogMessage message = LogMessage.format("Failed {}", "A", EXCEPTION);
+		assertThat(message.getMessage(), is("Failed A"));
+		assertThat(message.getThrowable(), is(sameInstance((Throwable) EXCEPTION)));
+	}
+
+	@Test
+	public void formatsTrailingThrowableWithPlaceholder() {
+		final LogMessage message = LogMessage.format("Failed {}", EXCEPTION);
+		assertThat(message.getMessage(), is("Failed " + EXCEPTION));
+		assertThat(message.getThrowable(), is(nullValue()));
+	}
+
+	@Test
+	public void keepsPatternWithoutArguments() {
+		assertThat(LogMessage.format("{}", new Object[0]).getMessage(), is("{}"));
+	}
+
+	@Test
+	public void formatsNullPatternAsEmptyMessage() {
+		final LogMessage message = LogMessage.format(null, "A", EXCEPTION);
+		assertThat(message.getMessage(), is(""));
+		assertThat(message.getThrowable(), is(sameInstance((Throwable) EXCEPTION)));
+	}
+}
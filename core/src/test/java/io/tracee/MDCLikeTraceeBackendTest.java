@@ -1,16 +1,18 @@
 package io.tracee;
 
+import io.tracee.configuration.PropertyChain;
 import io.tracee.configuration.TraceeFilterConfiguration;
 import io.tracee.configuration.TraceeFilterConfiguration.Channel;
 import org.junit.Before;
 import org.junit.Test;
-import org.mockito.Mockito;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.Properties;
 
 import static io.tracee.configuration.TraceeFilterConfiguration.Profile.DISABLED;
 import static io.tracee.configuration.TraceeFilterConfiguration.Profile.DISABLE_INBOUND;
@@ -21,30 +23,25 @@ import static org.hamcrest.Matchers.*;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class MDCLikeTraceeBackendTest {
 
-	@SuppressWarnings("unchecked")
-	private final ThreadLocal<Set<String>> traceeKeysMock = (ThreadLocal<Set<String>>) mock(ThreadLocal.class);
-
-	private final HashSet<String> traceeKeysSet = Mockito.spy(new HashSet<String>());
+	private final ThreadLocalContext context = new ThreadLocalContext();
 
 	private final TraceeLoggerFactory loggerFactory = mock(TraceeLoggerFactory.class);
 
-	private final TestBackend unit = new TestBackend(traceeKeysMock, loggerFactory);
+	private final TestBackend unit = new TestBackend(context, loggerFactory);
 
 	@Before
 	public void setUpMocks() {
-		when(traceeKeysMock.get()).thenReturn(traceeKeysSet);
 		when(loggerFactory.getLogger(any(Class.class))).thenReturn(mock(TraceeLogger.class));
 	}
 
 	@Test
-	public void putWritesEntryToKeysSet() {
+	public void putWritesEntryToContext() {
 		unit.put("Foo", "bar");
-		verify(traceeKeysSet).add("Foo");
+		assertThat(context.get().asMap(), hasEntry("Foo", "bar"));
 	}
 
 	@Test
@@ -54,13 +51,37 @@ public class MDCLikeTraceeBackendTest {
 	}
 
 	@Test
-	public void putAllWritesEntriesToKeysSet() {
+	public void putReplacesSnapshot() {
+		final ContextSnapshot before = context.get();
+		unit.put("Foo", "bar");
+		assertThat(context.get(), is(not(sameInstance(before))));
+		assertThat(before.asMap(), not(hasKey("Foo")));
+	}
+
+	@Test
+	public void putOfUnchangedValueKeepsSnapshot() {
+		unit.put("Foo", "bar");
+		final ContextSnapshot before = context.get();
+		unit.put("Foo", "bar");
+		assertThat(context.get(), is(sameInstance(before)));
+	}
+
+	@Test
+	public void putOfRegisteredKeyWritesEntryToContextAndMdcLike() {
+		unit.put(ContextKey.REQUEST_ID, "abc");
+		assertThat(unit.get(TraceeConstants.REQUEST_ID_KEY), is("abc"));
+		assertThat(unit.get(ContextKey.REQUEST_ID), is("abc"));
+		assertThat(unit.contextMap, hasEntry(TraceeConstants.REQUEST_ID_KEY, "abc"));
+	}
+
+	@Test
+	public void putAllWritesEntriesToContext() {
 		final Map<String, String> putMap = new HashMap<String, String>();
 		putMap.put("Foo", "bar");
 		putMap.put("Ping", "Pong");
 		unit.putAll(putMap);
-		verify(traceeKeysSet).add("Foo");
-		verify(traceeKeysSet).add("Ping");
+		assertThat(context.get().asMap(), hasEntry("Foo", "bar"));
+		assertThat(context.get().asMap(), hasEntry("Ping", "Pong"));
 	}
 
 	@Test
@@ -75,28 +96,80 @@ public class MDCLikeTraceeBackendTest {
 	}
 
 	@Test
-	public void clearAlsoRemovesTheThreadLocalTraceeKeys() {
-		when(traceeKeysSet.iterator()).thenReturn(Collections.<String>emptyList().iterator());
+	public void putAllWritesOnlyChangedEntriesToMdcLikeAtOnce() {
+		unit.put("Foo", "bar");
+		final Map<String, String> putMap = new HashMap<String, String>();
+		putMap.put("Foo", "bar");
+		putMap.put("Ping", "Pong");
+		unit.putAll(putMap);
+		assertThat(unit.bulkPuts, is(1));
+		assertThat(unit.lastBulkPut, is(Collections.singletonMap("Ping", "Pong")));
+	}
+
+	@Test
+	public void putAllOfUnchangedEntriesDoesNotTouchMdcLike() {
+		unit.put("Foo", "bar");
+		unit.putAll(Collections.singletonMap("Foo", "bar"));
+		assertThat(unit.bulkPuts, is(0));
+	}
+
+	@Test(expected = NullPointerException.class)
+	public void putAllRejectsNullValues() {
+		unit.putAll(Collections.<String, String>singletonMap("Foo", null));
+	}
+
+	@Test
+	public void clearAlsoRemovesTheThreadLocalContext() {
+		unit.put("A", "a");
 		unit.clear();
-		verify(traceeKeysMock).remove();
+		assertThat(context.get(), is(sameInstance(ContextSnapshot.EMPTY)));
 	}
 
 	@Test
 	public void clearRemovesRegisteredKeysFromMdcLike() {
-		traceeKeysSet.add("A");
-		traceeKeysSet.add("B");
-		unit.contextMap.put("A", "a");
-		unit.contextMap.put("B", "b");
+		unit.put("A", "a");
+		unit.put("B", "b");
 		unit.clear();
 		assertThat(unit.contextMap, not(hasEntry("A", "a")));
 		assertThat(unit.contextMap, not(hasEntry("B", "b")));
 	}
 
+	@Test
+	public void clearRemovesAllKeysFromMdcLikeAtOnce() {
+		unit.put("A", "a");
+		unit.put("B", "b");
+		unit.clear();
+		assertThat(unit.bulkRemoves, is(1));
+		assertThat(unit.contextMap.isEmpty(), is(true));
+	}
+
+	@Test
+	public void clearOfEmptyContextDoesNotTouchMdcLike() {
+		unit.clear();
+		assertThat(unit.bulkRemoves, is(0));
+	}
+
+	@Test
+	public void replaceSnapshotUpdatesMdcLikeAtOnce() {
+		unit.put("A", "a");
+		unit.put("B", "b");
+		unit.replaceSnapshot(ContextSnapshot.EMPTY.with("B", "b").with("C", "c"));
+		assertThat(unit.updates, is(1));
+		assertThat(unit.lastUpdateRemovedKeys, is(Collections.singletonList("A")));
+		assertThat(unit.lastUpdateChangedEntries, is(Collections.singletonMap("C", "c")));
+		assertThat(unit.contextMap, is(unit.copyToMap()));
+	}
+
+	@Test
+	public void replaceSnapshotByEqualSnapshotDoesNotTouchMdcLike() {
+		unit.put("A", "a");
+		unit.replaceSnapshot(ContextSnapshot.EMPTY.with("A", "a"));
+		assertThat(unit.updates, is(0));
+	}
+
 	@Test
 	public void removeRemovesRegisteredKeysFromMDC() {
-		when(traceeKeysSet.remove("A")).thenReturn(true);
-		when(traceeKeysSet.contains("A")).thenReturn(true);
-		unit.contextMap.put("A", "a");
+		unit.put("A", "a");
 		unit.remove("A");
 		assertThat(unit.contextMap.isEmpty(), is(true));
 	}
@@ -104,60 +177,68 @@ public class MDCLikeTraceeBackendTest {
 	@Test
 	public void removeDoesNotRemoveUnregisteredKeysFromMDC() {
 		unit.contextMap.put("A", "a");
-		when(traceeKeysSet.remove("A")).thenReturn(false);
-		when(traceeKeysSet.contains("A")).thenReturn(false);
 		unit.remove("A");
 		assertThat(unit.contextMap, hasEntry("A", "a"));
 	}
 
 	@Test
-	public void sizeCorrespondsToStoredKeysSize() {
-		when(traceeKeysSet.size()).thenReturn(42);
-		assertThat(unit.size(), equalTo(42));
+	public void sizeCorrespondsToContextSize() {
+		unit.put("A", "a");
+		unit.put("B", "b");
+		assertThat(unit.size(), equalTo(2));
 	}
 
 	@Test
-	public void getValueFromMdcIfInKeySet() {
-		unit.contextMap.put("A", "hurray");
-		when(traceeKeysSet.contains("A")).thenReturn(true);
+	public void getValueFromContext() {
+		unit.put("A", "hurray");
 		assertThat(unit.get("A"), equalTo("hurray"));
 	}
 
 	@Test
-	public void getDoesNotReadDirectlyFromMdcLike() {
+	public void getDoesNotReadFromMdcLike() {
 		unit.contextMap.put("A", "hurray");
-		when(traceeKeysSet.contains("A")).thenReturn(false);
 		assertThat(unit.get("A"), nullValue());
 	}
 
 	@Test
-	public void containsShouldReturnTrueIfInMDC() {
-		unit.contextMap.put("A", "hurray");
-		when(traceeKeysSet.contains("A")).thenReturn(true);
+	public void containsShouldReturnTrueIfInContext() {
+		unit.put("A", "hurray");
 		assertThat(unit.containsKey("A"), is(true));
 	}
 
 	@Test
-	public void containsShouldReturnFalseIfInKeysetButNotMDC() {
-		when(traceeKeysSet.contains("A")).thenReturn(true);
+	public void containsShouldReturnFalseIfOnlyInMDC() {
+		unit.contextMap.put("A", "hurray");
 		assertThat(unit.containsKey("A"), is(false));
 	}
 
 	@Test
-	public void isEmptyWhenKeySetIsEmpty() {
-		when(traceeKeysSet.isEmpty()).thenReturn(false);
+	public void isEmptyWhenContextIsEmpty() {
+		assertThat(unit.isEmpty(), is(true));
+		unit.put("A", "a");
 		assertThat(unit.isEmpty(), is(false));
 	}
 
 	@Test
 	public void copyToMapShouldCreateACopy() {
-		unit.contextMap.put("A","foo");
-		when(traceeKeysSet.iterator()).thenReturn(Collections.singleton("A").iterator());
+		unit.put("A", "foo");
 		final Map<String, String> copy = unit.copyToMap();
 		unit.remove("A");
 		assertThat(copy, hasEntry("A","foo"));
 	}
 
+	@Test
+	public void copyToMapShouldShareTheSnapshotBetweenCalls() {
+		unit.put("A", "foo");
+		assertThat(unit.copyToMap(), is(sameInstance(unit.copyToMap())));
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void copyToMapShouldBeReadOnly() {
+		unit.put("A", "foo");
+		unit.copyToMap().put("B", "bar");
+	}
+
 	@Test
 	public void requestIdShortcutShouldReturnTheRequestIdIfSet() {
 		unit.put(TraceeConstants.REQUEST_ID_KEY, "ourRequestId");
@@ -185,11 +266,118 @@ public class MDCLikeTraceeBackendTest {
 		assertThat(unit.containsKey("A"), is(false));
 	}
 
+	@Test
+	public void outermostScopeKeepsContextThatHasBeenPutWithoutScope() {
+		unit.put("A", "before");
+		final TraceeScope scope = unit.openScope();
+		assertThat(unit.get("A"), is("before"));
+		unit.put("A", "inner");
+		scope.close();
+		assertThat(unit.copyToMap(), is(Collections.singletonMap("A", "before")));
+		assertThat(unit.contextMap, is(Collections.singletonMap("A", "before")));
+	}
+
+	@Test
+	public void closingOutermostScopeRestoresEmptyContext() {
+		final TraceeScope scope = unit.openScope();
+		unit.put("A", "inner");
+		scope.close();
+		assertThat(unit.isEmpty(), is(true));
+		assertThat(unit.contextMap.isEmpty(), is(true));
+	}
+
+	@Test
+	public void closingScopeRestoresEnclosingContext() {
+		unit.openScope();
+		unit.put("A", "outer");
+		final TraceeScope scope = unit.openScope();
+		unit.put("A", "inner");
+		unit.put("B", "inner");
+		scope.close();
+		assertThat(unit.copyToMap(), is(Collections.singletonMap("A", "outer")));
+		assertThat(unit.contextMap, is(Collections.singletonMap("A", "outer")));
+	}
+
+	@Test
+	public void closingScopeOfUnchangedContextKeepsSnapshot() {
+		unit.openScope();
+		unit.put("A", "outer");
+		final ContextSnapshot before = context.get();
+		unit.openScope().close();
+		assertThat(context.get(), is(sameInstance(before)));
+	}
+
+	@Test
+	public void closingScopeTwiceHasNoEffect() {
+		final TraceeScope scope = unit.openScope();
+		unit.put("A", "inner");
+		scope.close();
+		unit.put("B", "after");
+		scope.close();
+		assertThat(unit.get("B"), is("after"));
+	}
+
+	@Test
+	public void closingNestedScopesRestoresEachEnclosingContext() {
+		final TraceeScope outer = unit.openScope();
+		unit.put("A", "outer");
+		final TraceeScope inner = unit.openScope();
+		unit.remove("A");
+		unit.put("B", "inner");
+		inner.close();
+		assertThat(unit.copyToMap(), is(Collections.singletonMap("A", "outer")));
+		outer.close();
+		assertThat(unit.isEmpty(), is(true));
+		assertThat(unit.contextMap.isEmpty(), is(true));
+	}
+
+	@Test
+	public void closingEnclosingScopeEndsNestedScopes() {
+		final TraceeScope outer = unit.openScope();
+		unit.put("A", "outer");
+		final TraceeScope inner = unit.openScope();
+		unit.put("B", "inner");
+		outer.close();
+		inner.close();
+		assertThat(unit.isEmpty(), is(true));
+		unit.openScope();
+		assertThat(unit.isEmpty(), is(true));
+	}
+
+	@Test
+	public void closingScopeOnAnotherThreadDoesNotTouchThatThread() throws InterruptedException {
+		final TraceeScope scope = unit.openScope();
+		unit.put("A", "outer");
+		final Map<String, String> contextOfOtherThread = new HashMap<String, String>();
+		final Thread thread = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				unit.put("B", "other");
+				scope.close();
+				contextOfOtherThread.putAll(unit.copyToMap());
+			}
+		});
+		thread.start();
+		thread.join();
+		assertThat(contextOfOtherThread, hasEntry("B", "other"));
+		assertThat(unit.copyToMap(), is(Collections.singletonMap("A", "outer")));
+	}
+
 	@Test
 	public void testLoadOverwrittenConfigurationValues() {
 		assertThat(unit.getConfiguration().generatedRequestIdLength(), equalTo(42));
 	}
 
+	@Test
+	public void testReloadReplacesConfigurationsOfUsedProfiles() {
+		final TraceeFilterConfiguration before = unit.getConfiguration();
+		final Properties properties = new Properties();
+		properties.setProperty("tracee.default.requestIdLength", "7");
+		unit.reloadConfiguration(PropertyChain.build(properties));
+		assertThat(unit.getConfiguration(), is(not(sameInstance(before))));
+		assertThat(unit.getConfiguration().generatedRequestIdLength(), equalTo(7));
+	}
+
 	@Test
 	public void testLoadUserDefinedProfileFromProperties() {
 		assertThat(unit.getConfiguration("FOO").shouldProcessParam("ANY", Channel.IncomingRequest), equalTo(true));
@@ -253,14 +441,15 @@ public class MDCLikeTraceeBackendTest {
 	class TestBackend extends MDCLikeTraceeBackend {
 
 		public Map<String, String> contextMap = new HashMap<String, String>();
-
-		protected TestBackend(ThreadLocal<Set<String>> traceeKeys, TraceeLoggerFactory loggerFactory) {
-			super(traceeKeys, loggerFactory);
-		}
-
-		@Override
-		protected String getFromMdc(String key) {
-			return contextMap.get(key);
+		public int bulkPuts;
+		public int bulkRemoves;
+		public Map<String, String> lastBulkPut;
+		public int updates;
+		public List<String> lastUpdateRemovedKeys;
+		public Map<String, String> lastUpdateChangedEntries;
+
+		protected TestBackend(ThreadLocal<ContextSnapshot> context, TraceeLoggerFactory loggerFactory) {
+			super(context, loggerFactory);
 		}
 
 		@Override
@@ -272,5 +461,26 @@ public class MDCLikeTraceeBackendTest {
 		protected void removeFromMdc(String key) {
 			contextMap.remove(key);
 		}
+
+		@Override
+		protected void putAllToMdc(Map<String, String> entries) {
+			bulkPuts++;
+			lastBulkPut = new HashMap<String, String>(entries);
+			super.putAllToMdc(entries);
+		}
+
+		@Override
+		protected void removeAllFromMdc(Collection<String> keys) {
+			bulkRemoves++;
+			super.removeAllFromMdc(keys);
+		}
+
+		@Override
+		protected void updateMdc(Collection<String> removedKeys, Map<String, String> changedEntries) {
+			updates++;
+			lastUpdateRemovedKeys = new ArrayList<String>(removedKeys);
+			lastUpdateChangedEntries = new HashMap<String, String>(changedEntries);
+			super.updateMdc(removedKeys, changedEntries);
+		}
 	}
 }
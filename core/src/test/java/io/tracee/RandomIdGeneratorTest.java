@@ -0,0 +1,52 @@
+package io.tracee;
+
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class RandomIdGeneratorTest {
+
+	private final RandomIdGenerator unit = RandomIdGenerator.INSTANCE;
+
+	@Test
+	public void shouldCreateIdOfRequestedLength() {
+		for (int length = 0; length <= 40; length++) {
+			assertThat(unit.generate(length).length(), equalTo(length));
+		}
+	}
+
+	@Test
+	public void shouldOnlyUseUpperCaseLettersAndDigits() {
+		final Pattern alphanumeric = Pattern.compile("[A-Z0-9]*");
+		for (int i = 0; i < 1000; i++) {
+			assertTrue(alphanumeric.matcher(unit.generate(37)).matches());
+		}
+	}
+
+	@Test
+	public void shouldUseEveryCharacterOnEveryPosition() {
+		final int length = 12;
+		final Set<String> seen = new HashSet<String>();
+		for (int i = 0; i < 5000; i++) {
+			final String id = unit.generate(length);
+			for (int position = 0; position < length; position++) {
+				seen.add(position + ":" + id.charAt(position));
+			}
+		}
+		assertThat(seen.size(), equalTo(36 * length));
+	}
+
+	@Test
+	public void shouldCreateUniqueIds() {
+		final Set<String> ids = new HashSet<String>();
+		for (int i = 0; i < 100000; i++) {
+			assertTrue(ids.add(unit.generate(32)));
+		}
+	}
+}
@@ -0,0 +1,75 @@
+package io.tracee;
+
+import io.tracee.configuration.PropertyChain;
+import org.junit.Test;
+
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+
+public class SessionIdHashCacheTest {
+
+	@Test
+	public void shouldReturnSameHashAsUtilities() {
+		final SessionIdHashCache unit = new SessionIdHashCache(16, 60);
+		assertThat(unit.hash("ABCD", 80), equalTo(Utilities.createAlphanumericHash("ABCD", 80)));
+		assertThat(unit.hash("ABCD", 80), equalTo(Utilities.createAlphanumericHash("ABCD", 80)));
+	}
+
+	@Test
+	public void shouldServeKnownSessionIdsFromCache() {
+		final SessionIdHashCache unit = new SessionIdHashCache(16, 60);
+		unit.hash("session", 32);
+		unit.hash("session", 32);
+		unit.hash("session", 32);
+		assertThat(unit.getMissCount(), equalTo(1L));
+		assertThat(unit.getHitCount(), equalTo(2L));
+	}
+
+	@Test
+	public void shouldHashAgainIfLengthChanges() {
+		final SessionIdHashCache unit = new SessionIdHashCache(16, 60);
+		unit.hash("session", 32);
+		assertThat(unit.hash("session", 20), equalTo(Utilities.createAlphanumericHash("session", 20)));
+		assertThat(unit.getMissCount(), equalTo(2L));
+	}
+
+	@Test
+	public void shouldNotExceedMaximumSize() {
+		final SessionIdHashCache unit = new SessionIdHashCache(100, 60);
+		for (int i = 0; i < 1000; i++) {
+			unit.hash("session" + i, 32);
+		}
+		assertThat(unit.size(), lessThan(101));
+	}
+
+	@Test
+	public void shouldNotCacheIfSizeIsZero() {
+		final SessionIdHashCache unit = new SessionIdHashCache(0, 60);
+		unit.hash("session", 32);
+		unit.hash("session", 32);
+		assertThat(unit.size(), equalTo(0));
+		assertThat(unit.getHitCount(), equalTo(0L));
+	}
+
+	@Test
+	public void shouldHashAgainAfterExpiry() throws InterruptedException {
+		final SessionIdHashCache unit = new SessionIdHashCache(16, 1, TimeUnit.MILLISECONDS);
+		unit.hash("session", 32);
+		Thread.sleep(5);
+		unit.hash("session", 32);
+		assertThat(unit.getMissCount(), equalTo(2L));
+	}
+
+	@Test
+	public void shouldReadSizeAndExpiryFromProperties() {
+		final Properties properties = new Properties();
+		properties.setProperty(SessionIdHashCache.SIZE_PROPERTY, "0");
+		final SessionIdHashCache unit = SessionIdHashCache.fromProperties(PropertyChain.build(properties));
+		unit.hash("session", 32);
+		assertThat(unit.size(), equalTo(0));
+	}
+}
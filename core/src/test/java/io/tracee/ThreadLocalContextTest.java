@@ -0,0 +1,124 @@
+package io.tracee;
+
+import io.tracee.configuration.PropertyChain;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class ThreadLocalContextTest {
+
+	private final ThreadLocalContext unit = new ThreadLocalContext();
+
+	@Test
+	public void testGetInitialValue() {
+		assertThat(unit.get(), is(sameInstance(ContextSnapshot.EMPTY)));
+	}
+
+	@Test
+	public void childThreadSharesTheSnapshotOfItsParent() {
+		final ContextSnapshot parentValue = ContextSnapshot.EMPTY.with("A", "a");
+		assertThat(unit.childValue(parentValue), is(sameInstance(parentValue)));
+	}
+
+	@Test
+	public void createInheritableContext() {
+		assertThat(ThreadLocalContext.create(true), is(instanceOf(ThreadLocalContext.class)));
+	}
+
+	@Test
+	public void createNonInheritableContext() {
+		final ThreadLocal<ContextSnapshot> context = ThreadLocalContext.create(false);
+		assertThat(context, is(not(instanceOf(InheritableThreadLocal.class))));
+		assertThat(context.get(), is(sameInstance(ContextSnapshot.EMPTY)));
+	}
+
+	@Test
+	public void childThreadStartsWithEmptyNonInheritableContext() throws InterruptedException {
+		final ThreadLocal<ContextSnapshot> context = ThreadLocalContext.create(false);
+		context.set(ContextSnapshot.EMPTY.with("A", "a"));
+		final AtomicReference<ContextSnapshot> childValue = new AtomicReference<ContextSnapshot>();
+		final Thread child = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				childValue.set(context.get());
+			}
+		});
+		child.start();
+		child.join();
+		assertThat(childValue.get(), is(sameInstance(ContextSnapshot.EMPTY)));
+	}
+
+	@Test
+	public void contextIsInheritableByDefault() {
+		assertThat(ThreadLocalContext.isInheritable(PropertyChain.build(new Properties())), is(true));
+	}
+
+	@Test
+	public void contextIsNotInheritableIfDisabled() {
+		final Properties properties = new Properties();
+		properties.setProperty(ThreadLocalContext.INHERITABLE_PROPERTY, " FALSE ");
+		assertThat(ThreadLocalContext.isInheritable(PropertyChain.build(properties)), is(false));
+	}
+
+	@Test
+	public void defaultPropertiesKeepTheContextInheritable() {
+		assertThat(unit.getClass() == ThreadLocalContext.create().getClass(), is(true));
+	}
+
+	@Test
+	public void contextIsNotReusedByDefault() {
+		assertThat(ThreadLocalContext.isReused(PropertyChain.build(new Properties())), is(false));
+	}
+
+	@Test
+	public void contextIsReusedIfEnabled() {
+		final Properties properties = new Properties();
+		properties.setProperty(ThreadLocalContext.REUSE_PROPERTY, " TRUE ");
+		assertThat(ThreadLocalContext.isReused(PropertyChain.build(properties)), is(true));
+	}
+
+	@Test
+	public void removeDropsTheThreadLocalEntryByDefault() throws Exception {
+		for (boolean inheritable : new boolean[]{true, false}) {
+			final ThreadLocal<ContextSnapshot> context = ThreadLocalContext.create(inheritable);
+			context.set(ContextSnapshot.EMPTY.with("A", "a"));
+			context.remove();
+			assertThat(hasEntry(context), is(false));
+			assertThat(context.get(), is(sameInstance(ContextSnapshot.EMPTY)));
+		}
+	}
+
+	@Test
+	public void removeKeepsAnEmptiedThreadLocalEntryInReuseMode() throws Exception {
+		for (boolean inheritable : new boolean[]{true, false}) {
+			final ThreadLocal<ContextSnapshot> context = ThreadLocalContext.create(inheritable, true);
+			context.set(ContextSnapshot.EMPTY.with("A", "a"));
+			context.remove();
+			assertThat(hasEntry(context), is(true));
+			assertThat(context.get(), is(sameInstance(ContextSnapshot.EMPTY)));
+			context.set(ContextSnapshot.EMPTY);
+		}
+	}
+
+	private static boolean hasEntry(ThreadLocal<?> threadLocal) throws Exception {
+		final Field mapField = Thread.class.getDeclaredField(threadLocal instanceof InheritableThreadLocal
+				? "inheritableThreadLocals" : "threadLocals");
+		mapField.setAccessible(true);
+		final Object map = mapField.get(Thread.currentThread());
+		if (map == null) {
+			return false;
+		}
+		final Method getEntry = map.getClass().getDeclaredMethod("getEntry", ThreadLocal.class);
+		getEntry.setAccessible(true);
+		return getEntry.invoke(map, threadLocal) != null;
+	}
+}
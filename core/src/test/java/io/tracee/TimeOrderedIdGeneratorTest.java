@@ -0,0 +1,48 @@
+package io.tracee;
+
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class TimeOrderedIdGeneratorTest {
+
+	private final TimeOrderedIdGenerator unit = TimeOrderedIdGenerator.INSTANCE;
+
+	@Test
+	public void shouldCreateIdOfRequestedLength() {
+		for (int length = 0; length <= 40; length++) {
+			assertThat(unit.generate(length).length(), equalTo(length));
+		}
+	}
+
+	@Test
+	public void shouldOnlyUseCrockfordBase32Characters() {
+		final Pattern crockford = Pattern.compile("[0-9A-HJKMNP-TV-Z]*");
+		for (int i = 0; i < 1000; i++) {
+			assertTrue(crockford.matcher(unit.generate(32)).matches());
+		}
+	}
+
+	@Test
+	public void shouldOrderIdsByCreationTime() throws InterruptedException {
+		final String earlier = unit.generate(32);
+		Thread.sleep(5);
+		final String later = unit.generate(32);
+		assertThat(earlier.compareTo(later), lessThan(0));
+	}
+
+	@Test
+	public void shouldCreateUniqueIds() {
+		final Set<String> ids = new HashSet<String>();
+		for (int i = 0; i < 100000; i++) {
+			assertTrue(ids.add(unit.generate(32)));
+		}
+	}
+}
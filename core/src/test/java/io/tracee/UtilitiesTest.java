@@ -60,6 +60,12 @@ public class UtilitiesTest {
 		assertThat(hashA, not(equalTo(hashB)));
 	}
 
+	@Test
+	public void shouldCreateSameHashAsEarlierVersions() {
+		final String hash = Utilities.createAlphanumericHash("ABCD", 80);
+		assertThat(hash, equalTo("0e12e115a0cf45520b25608b550e93c0bd39394c4e0f81c082447f0af0c90970882a020d236770e1"));
+	}
+
 	@Test
 	public void shouldCreateHashInCorrectLength() {
 		final String hash = Utilities.createAlphanumericHash("ABCE", 25);
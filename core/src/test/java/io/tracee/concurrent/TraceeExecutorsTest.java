@@ -0,0 +1,238 @@
+package io.tracee.concurrent;
+
+import io.tracee.ContextSnapshot;
+import io.tracee.MDCLikeTraceeBackend;
+import io.tracee.NoopTraceeLoggerFactory;
+import io.tracee.ThreadLocalContext;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class TraceeExecutorsTest {
+
+	private final TestBackend backend = new TestBackend();
+
+	private ScheduledExecutorService pool;
+
+	@Before
+	public void createPoolWithStaleContext() throws Exception {
+		// the worker thread inherits the context of the thread that creates it
+		backend.put("request", "A");
+		pool = Executors.newSingleThreadScheduledExecutor();
+		pool.submit(new Runnable() {
+			@Override
+			public void run() {
+				// start the worker
+			}
+		}).get();
+		backend.put("request", "B");
+	}
+
+	@After
+	public void shutdownPool() {
+		pool.shutdownNow();
+		backend.clear();
+	}
+
+	@Test
+	public void unwrappedPoolRunsWithStaleContext() throws Exception {
+		assertThat(pool.submit(readRequest()).get(), is("A"));
+	}
+
+	@Test
+	public void wrappedPoolRunsWithContextOfSubmitter() throws Exception {
+		final ExecutorService unit = TraceeExecutors.wrap((ExecutorService) pool, backend);
+		assertThat(unit.submit(readRequest()).get(), is("B"));
+	}
+
+	@Test
+	public void wrappedPoolRestoresContextOfWorkerAfterTask() throws Exception {
+		TraceeExecutors.wrap((ExecutorService) pool, backend).submit(readRequest()).get();
+		assertThat(pool.submit(readRequest()).get(), is("A"));
+		assertThat(pool.submit(readMdcRequest()).get(), is("A"));
+	}
+
+	@Test
+	public void wrappedPoolCapturesContextOnSubmit() throws Exception {
+		final CountDownLatch blocker = new CountDownLatch(1);
+		final ExecutorService unit = TraceeExecutors.wrap((ExecutorService) pool, backend);
+		unit.execute(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					blocker.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		});
+		final Future<String> result = unit.submit(readRequest());
+		backend.put("request", "C");
+		blocker.countDown();
+		assertThat(result.get(), is("B"));
+	}
+
+	@Test
+	public void wrappedPoolMirrorsContextToMdc() throws Exception {
+		final ExecutorService unit = TraceeExecutors.wrap((ExecutorService) pool, backend);
+		assertThat(unit.submit(readMdcRequest()).get(), is("B"));
+	}
+
+	@Test
+	public void wrappedPoolRunsEmptyContextOfSubmitter() throws Exception {
+		backend.clear();
+		final ExecutorService unit = TraceeExecutors.wrap((ExecutorService) pool, backend);
+		assertThat(unit.submit(readRequest()).get(), is(nullValue()));
+		assertThat(pool.submit(readRequest()).get(), is("A"));
+	}
+
+	@Test
+	public void wrappedExecutorRunsWithContextOfSubmitter() throws Exception {
+		final AtomicReference<String> request = new AtomicReference<String>();
+		final CountDownLatch done = new CountDownLatch(1);
+		TraceeExecutors.wrap((Executor) pool, backend).execute(new Runnable() {
+			@Override
+			public void run() {
+				request.set(backend.get("request"));
+				done.countDown();
+			}
+		});
+		done.await(5, TimeUnit.SECONDS);
+		assertThat(request.get(), is("B"));
+	}
+
+	@Test
+	public void invokeAllRunsAllTasksWithContextOfSubmitter() throws Exception {
+		final ExecutorService unit = TraceeExecutors.wrap((ExecutorService) pool, backend);
+		final List<Future<String>> results = unit.invokeAll(Arrays.asList(readRequest(), readRequest()));
+		assertThat(results.get(0).get(), is("B"));
+		assertThat(results.get(1).get(), is("B"));
+	}
+
+	@Test
+	public void invokeAnyRunsWithContextOfSubmitter() throws Exception {
+		final ExecutorService unit = TraceeExecutors.wrap((ExecutorService) pool, backend);
+		assertThat(unit.invokeAny(Arrays.asList(readRequest())), is("B"));
+	}
+
+	@Test
+	public void scheduledTaskRunsWithContextOfSubmitter() throws Exception {
+		final ScheduledExecutorService unit = TraceeExecutors.wrap(pool, backend);
+		assertThat(unit.schedule(readRequest(), 1, TimeUnit.MILLISECONDS).get(), is("B"));
+		assertThat(pool.submit(readRequest()).get(), is("A"));
+	}
+
+	@Test
+	public void shutdownIsDelegated() {
+		TraceeExecutors.wrap(pool, backend).shutdown();
+		assertThat(pool.isShutdown(), is(true));
+	}
+
+	@Test
+	public void wrappedTaskRunsWithContextOfCreatorInNonInheritingThread() throws Exception {
+		final TestBackend nonInheritingBackend = new TestBackend(ThreadLocalContext.create(false));
+		nonInheritingBackend.put("request", "B");
+		final AtomicReference<String> request = new AtomicReference<String>();
+		final Thread thread = new Thread(TraceeExecutors.wrapTask(new Runnable() {
+			@Override
+			public void run() {
+				request.set(nonInheritingBackend.get("request"));
+			}
+		}, nonInheritingBackend));
+		thread.start();
+		thread.join();
+		assertThat(request.get(), is("B"));
+	}
+
+	@Test
+	public void wrappedCallableRunsWithContextOfCreator() throws Exception {
+		final Callable<String> task = TraceeExecutors.wrapTask(readRequest(), backend);
+		backend.put("request", "C");
+		assertThat(pool.submit(task).get(), is("B"));
+	}
+
+	@Test
+	public void wrappedThreadFactoryStartsThreadsWithContextOfCreator() throws Exception {
+		final TestBackend nonInheritingBackend = new TestBackend(ThreadLocalContext.create(false));
+		nonInheritingBackend.put("request", "B");
+		final ExecutorService unwrappedPool = Executors.newSingleThreadExecutor(
+				TraceeExecutors.wrapThreadFactory(Executors.defaultThreadFactory(), nonInheritingBackend));
+		try {
+			assertThat(unwrappedPool.submit(new Callable<String>() {
+				@Override
+				public String call() {
+					return nonInheritingBackend.get("request");
+				}
+			}).get(), is("B"));
+		} finally {
+			unwrappedPool.shutdownNow();
+		}
+	}
+
+	private Callable<String> readRequest() {
+		return new Callable<String>() {
+			@Override
+			public String call() {
+				return backend.get("request");
+			}
+		};
+	}
+
+	private Callable<String> readMdcRequest() {
+		return new Callable<String>() {
+			@Override
+			public String call() {
+				return backend.mdc.get().get("request");
+			}
+		};
+	}
+
+	private static final class TestBackend extends MDCLikeTraceeBackend {
+
+		/**
+		 * A per thread MDC-like structure that is not inherited by child threads.
+		 */
+		private final ThreadLocal<Map<String, String>> mdc = new ThreadLocal<Map<String, String>>() {
+			@Override
+			protected Map<String, String> initialValue() {
+				return new HashMap<String, String>();
+			}
+		};
+
+		private TestBackend() {
+			this(new ThreadLocalContext());
+		}
+
+		private TestBackend(ThreadLocal<ContextSnapshot> context) {
+			super(context, NoopTraceeLoggerFactory.INSTANCE);
+		}
+
+		@Override
+		protected void putToMdc(String key, String value) {
+			mdc.get().put(key, value);
+		}
+
+		@Override
+		protected void removeFromMdc(String key) {
+			mdc.get().remove(key);
+		}
+	}
+}
@@ -0,0 +1,102 @@
+package io.tracee.configuration;
+
+import io.tracee.TraceeLogger;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class ParamFilterTest {
+
+	private final TraceeLogger logger = mock(TraceeLogger.class);
+
+	private static final List<String> PARAM_NAMES = Arrays.asList("", "foo", "foobar", "fo", "foo.bar", "fooXbar",
+			"bar", "baab", "bab", "b", "x-request", "session.id", "session", "sessionid", "a1a", "aa");
+
+	@Test
+	public void shouldDecideLikeRegularExpressions() {
+		for (String propertyValue : Arrays.asList("foo", "foo,bar", "foo.*", "foo\\..*", "foo\\.bar", "b[oa]+b",
+				"foo.*,session\\.id,b[oa]+b", "fo.*,foo.*", "x-request,(a)\\1", ".*bar", "session.*,b.*,foo")) {
+			final ParamFilter unit = ParamFilter.compile(propertyValue, logger);
+			for (String paramName : PARAM_NAMES) {
+				assertThat(propertyValue + " / " + paramName, unit.accepts(paramName), is(anyPatternMatches(propertyValue, paramName)));
+			}
+		}
+	}
+
+	@Test
+	public void shouldAcceptEverythingForMatchAllPattern() {
+		final ParamFilter unit = ParamFilter.compile("foo, .* ", logger);
+		assertThat(unit.accepts("anything"), is(true));
+	}
+
+	@Test
+	public void shouldDenyEverythingWithoutPatterns() {
+		assertThat(ParamFilter.compile(null, logger).accepts("foo"), is(false));
+		assertThat(ParamFilter.compile(" , ", logger).accepts("foo"), is(false));
+	}
+
+	@Test
+	public void shouldIgnoreInvalidPatterns() {
+		final ParamFilter unit = ParamFilter.compile("foo,b[a", logger);
+		assertThat(unit.accepts("foo"), is(true));
+		verify(logger).error(anyString(), eq("b[a"), anyString());
+	}
+
+	@Test
+	public void shouldReturnGivenMapIfAllParamsAreAccepted() {
+		final Map<String, String> unfiltered = new HashMap<String, String>();
+		unfiltered.put("foo", "1");
+		unfiltered.put("foobar", "2");
+		assertThat(ParamFilter.compile("foo.*", logger).filter(unfiltered), sameInstance(unfiltered));
+	}
+
+	@Test
+	public void shouldCopyAcceptedParamsIfSomeAreDenied() {
+		final Map<String, String> unfiltered = new HashMap<String, String>();
+		final Map<String, String> expected = new HashMap<String, String>();
+		for (String paramName : PARAM_NAMES) {
+			unfiltered.put(paramName, "v" + paramName);
+			if (paramName.startsWith("s")) {
+				expected.put(paramName, "v" + paramName);
+			}
+		}
+		assertThat(ParamFilter.compile("s.*", logger).filter(unfiltered), equalTo(expected));
+	}
+
+	@Test
+	public void shouldReturnEmptyMapIfAllParamsAreDenied() {
+		assertThat(ParamFilter.compile("foo", logger).filter(Collections.singletonMap("bar", "1")),
+				equalTo(Collections.<String, String>emptyMap()));
+	}
+
+	@Test
+	public void shouldStillDecideBeyondVerdictCacheBound() {
+		final ParamFilter unit = ParamFilter.compile("k1.*", logger);
+		for (int i = 0; i < ParamFilter.MAX_CACHED_VERDICTS * 2; i++) {
+			assertThat(unit.accepts("k" + i), is(String.valueOf(i).startsWith("1")));
+		}
+	}
+
+	private static boolean anyPatternMatches(String propertyValue, String paramName) {
+		for (String pattern : propertyValue.split(",")) {
+			if (Pattern.compile(pattern.trim()).matcher(paramName).matches()) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
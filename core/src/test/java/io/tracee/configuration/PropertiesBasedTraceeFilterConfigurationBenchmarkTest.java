@@ -34,6 +34,7 @@ public class PropertiesBasedTraceeFilterConfigurationBenchmarkTest {
 	private final TraceeBackend backend = SimpleTraceeBackend.createNonLoggingAllPermittingBackend();
 
 	public static final TraceeFilterConfiguration.Channel CHANNEL = TraceeFilterConfiguration.Channel.IncomingRequest;
+	private PropertyChain propertyChain;
 	private PropertiesBasedTraceeFilterConfiguration unit;
 
 	private Map<String, String> propertyMap;
@@ -42,7 +43,7 @@ public class PropertiesBasedTraceeFilterConfigurationBenchmarkTest {
 	public void before() throws IOException {
 		final Properties traceeDefaultFileProperties = new TraceePropertiesFileLoader().loadTraceeProperties(TraceePropertiesFileLoader.TRACEE_DEFAULT_PROPERTIES_FILE);
 		final Properties traceeFileProperties = new TraceePropertiesFileLoader().loadTraceeProperties(TraceePropertiesFileLoader.TRACEE_PROPERTIES_FILE);
-		final PropertyChain propertyChain = PropertyChain.build(System.getProperties(), traceeFileProperties, traceeDefaultFileProperties);
+		propertyChain = PropertyChain.build(System.getProperties(), traceeFileProperties, traceeDefaultFileProperties);
 
 		unit = new PropertiesBasedTraceeFilterConfiguration(backend.getLoggerFactory(), propertyChain);
 		generateTestPropertyMap();
@@ -73,6 +74,7 @@ public class PropertiesBasedTraceeFilterConfigurationBenchmarkTest {
 	@Ignore
 	public void shouldAllowTraceePrefixedParameters() {
 		System.setProperty(PropertiesBasedTraceeFilterConfiguration.TRACEE_DEFAULT_PROFILE_PREFIX + CHANNEL, "tracee.*");
+		unit = new PropertiesBasedTraceeFilterConfiguration(backend.getLoggerFactory(), propertyChain);
 
 		for (int i = 0; i < 2000000; i++) {
 			final Map<String, String> filteredProperties = unit.filterDeniedParams(propertyMap, CHANNEL);
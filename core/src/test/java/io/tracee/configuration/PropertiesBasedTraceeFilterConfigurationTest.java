@@ -1,17 +1,21 @@
 package io.tracee.configuration;
 
+import io.tracee.IdGenerators;
 import io.tracee.SimpleTraceeBackend;
 import io.tracee.TraceeBackend;
+import io.tracee.metrics.DefaultTraceeMetrics;
 import org.junit.Test;
 import org.mockito.Mockito;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 
 import static io.tracee.configuration.PropertiesBasedTraceeFilterConfiguration.*;
 import static io.tracee.configuration.TraceeFilterConfiguration.Channel.AsyncDispatch;
 import static io.tracee.configuration.TraceeFilterConfiguration.Channel.IncomingRequest;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
@@ -21,72 +25,147 @@ public class PropertiesBasedTraceeFilterConfigurationTest {
 
 	private PropertyChain propertyChain = Mockito.mock(PropertyChain.class);
 	private TraceeBackend backend = SimpleTraceeBackend.createNonLoggingAllPermittingBackend();
-	private PropertiesBasedTraceeFilterConfiguration unit = new PropertiesBasedTraceeFilterConfiguration(backend.getLoggerFactory(), propertyChain);
 
 	@Test
 	public void testShouldPropagatePositive() {
 		when(propertyChain.getProperty(TRACEE_DEFAULT_PROFILE_PREFIX + AsyncDispatch.name())).thenReturn(".*");
-		assertTrue(unit.shouldProcessParam("foo", AsyncDispatch));
+		assertTrue(unit().shouldProcessParam("foo", AsyncDispatch));
 	}
 
 	@Test
 	public void testShouldPropagateNegative() {
 		when(propertyChain.getProperty(TRACEE_DEFAULT_PROFILE_PREFIX + AsyncDispatch.name())).thenReturn("a,b,c");
-		assertFalse(unit.shouldProcessParam("foo", AsyncDispatch));
+		assertFalse(unit().shouldProcessParam("foo", AsyncDispatch));
 	}
 
 	@Test
 	public void testShouldAllowRegexInPatterns() {
 		when(propertyChain.getProperty(TRACEE_DEFAULT_PROFILE_PREFIX + AsyncDispatch.name())).thenReturn("b[oa]+b");
-		assertTrue(unit.shouldProcessParam("baab", AsyncDispatch));
-		assertTrue(unit.shouldProcessParam("boob", AsyncDispatch));
+		assertTrue(unit().shouldProcessParam("baab", AsyncDispatch));
+		assertTrue(unit().shouldProcessParam("boob", AsyncDispatch));
 	}
 
 	@Test
 	public void testShouldNotPropagateIfNothingIsConfigured() {
-		assertFalse(unit.shouldProcessParam("foo", AsyncDispatch));
+		assertFalse(unit().shouldProcessParam("foo", AsyncDispatch));
 	}
 
 	@Test
 	public void testShouldProcessIfDisabledByConfiguration() {
 		when(propertyChain.getProperty(TRACEE_DEFAULT_PROFILE_PREFIX + AsyncDispatch.name())).thenReturn(" \t\n");
-		assertFalse(unit.shouldProcessContext(AsyncDispatch));
+		assertFalse(unit().shouldProcessContext(AsyncDispatch));
 	}
 
 	@Test
 	public void testShouldProcessIfAnyPatternIsGiven() {
 		when(propertyChain.getProperty(TRACEE_DEFAULT_PROFILE_PREFIX + AsyncDispatch.name())).thenReturn("a");
-		assertTrue(unit.shouldProcessContext(AsyncDispatch));
+		assertTrue(unit().shouldProcessContext(AsyncDispatch));
 	}
 
 	@Test
 	public void testGeneratedRequestIdLength() {
 		when(propertyChain.getProperty(TRACEE_DEFAULT_PROFILE_PREFIX + GENERATE_REQUEST_ID)).thenReturn("1");
-		assertThat(unit.generatedRequestIdLength(), equalTo(1));
+		assertThat(unit().generatedRequestIdLength(), equalTo(1));
 	}
 
 	@Test
 	public void testGeneratedRequestIdNonNumericMeansZero() {
 		when(propertyChain.getProperty(TRACEE_DEFAULT_PROFILE_PREFIX + GENERATE_REQUEST_ID)).thenReturn("false");
-		assertThat(unit.generatedRequestIdLength(), equalTo(0));
+		assertThat(unit().generatedRequestIdLength(), equalTo(0));
+	}
+
+	@Test
+	public void testRequestIdGeneratorIsRandomByDefault() {
+		assertThat(unit().requestIdGenerator(), sameInstance(IdGenerators.random()));
+	}
+
+	@Test
+	public void testRequestIdGeneratorIsResolvedByName() {
+		when(propertyChain.getProperty(TRACEE_DEFAULT_PROFILE_PREFIX + REQUEST_ID_GENERATOR)).thenReturn(IdGenerators.TIME_ORDERED);
+		assertThat(unit().requestIdGenerator(), sameInstance(IdGenerators.forName(IdGenerators.TIME_ORDERED, null)));
 	}
 
 	@Test
 	public void testGeneratedSessionIdLength() {
 		when(propertyChain.getProperty((TRACEE_DEFAULT_PROFILE_PREFIX + GENERATE_SESSION_ID))).thenReturn("42");
-		assertThat(unit.generatedSessionIdLength(), equalTo(42));
+		assertThat(unit().generatedSessionIdLength(), equalTo(42));
 	}
 
 	@Test
 	public void testFilterDeniedParamsFiltersEverythingWithoutConfiguration() {
 		final Map<String, String> unfiltered = Collections.singletonMap("Foo", "Bar");
-		assertThat(unit.filterDeniedParams(unfiltered,Channel.IncomingRequest), equalTo(Collections.<String,String>emptyMap()));
+		assertThat(unit().filterDeniedParams(unfiltered,Channel.IncomingRequest), equalTo(Collections.<String,String>emptyMap()));
 	}
 
 	@Test
 	public void testFilterDeniedParamsPassesWhitelisted() {
 		when(propertyChain.getProperty(TRACEE_DEFAULT_PROFILE_PREFIX + IncomingRequest.name())).thenReturn("Foo");
 		final Map<String, String> unfiltered = Collections.singletonMap("Foo", "Bar");
-		assertThat(unit.filterDeniedParams(unfiltered,Channel.IncomingRequest), equalTo(unfiltered));
+		assertThat(unit().filterDeniedParams(unfiltered,Channel.IncomingRequest), equalTo(unfiltered));
+	}
+
+	@Test
+	public void testFilterDeniedParamsReturnsUnfilteredMapIfEverythingIsAllowed() {
+		when(propertyChain.getProperty(TRACEE_DEFAULT_PROFILE_PREFIX + IncomingRequest.name())).thenReturn("Foo,Ba.*");
+		final Map<String, String> unfiltered = new HashMap<String, String>();
+		unfiltered.put("Foo", "1");
+		unfiltered.put("Bar", "2");
+		assertThat(unit().filterDeniedParams(unfiltered, Channel.IncomingRequest), sameInstance(unfiltered));
+	}
+
+	@Test
+	public void testFilterDeniedParamsRemovesDeniedKeys() {
+		when(propertyChain.getProperty(TRACEE_DEFAULT_PROFILE_PREFIX + IncomingRequest.name())).thenReturn("Foo");
+		final Map<String, String> unfiltered = new HashMap<String, String>();
+		unfiltered.put("Foo", "1");
+		unfiltered.put("Bar", "2");
+		assertThat(unit().filterDeniedParams(unfiltered, Channel.IncomingRequest), equalTo(Collections.singletonMap("Foo", "1")));
+		assertThat(unfiltered.size(), equalTo(2));
+	}
+
+	@Test
+	public void testFilterDeniedParamsRecordsDeniedKeys() {
+		when(propertyChain.getProperty(TRACEE_DEFAULT_PROFILE_PREFIX + IncomingRequest.name())).thenReturn("Foo");
+		final DefaultTraceeMetrics metrics = new DefaultTraceeMetrics();
+		final PropertiesBasedTraceeFilterConfiguration configuration =
+				new PropertiesBasedTraceeFilterConfiguration(backend.getLoggerFactory(), propertyChain, null, metrics);
+		final Map<String, String> unfiltered = new HashMap<String, String>();
+		unfiltered.put("Foo", "1");
+		unfiltered.put("Bar", "2");
+		unfiltered.put("Baz", "3");
+		configuration.filterDeniedParams(unfiltered, Channel.IncomingRequest);
+		configuration.filterDeniedParams(Collections.singletonMap("Foo", "1"), Channel.IncomingRequest);
+		assertThat(metrics.getDeniedKeys(), equalTo(2L));
+	}
+
+	@Test
+	public void testShouldReadPropertiesOnlyOnCreation() {
+		when(propertyChain.getProperty(TRACEE_DEFAULT_PROFILE_PREFIX + AsyncDispatch.name())).thenReturn("foo");
+		when(propertyChain.getProperty(TRACEE_DEFAULT_PROFILE_PREFIX + GENERATE_REQUEST_ID)).thenReturn("12");
+		final PropertiesBasedTraceeFilterConfiguration configuration = unit();
+		Mockito.reset(propertyChain);
+
+		assertTrue(configuration.shouldProcessParam("foo", AsyncDispatch));
+		assertTrue(configuration.shouldProcessContext(AsyncDispatch));
+		assertThat(configuration.filterDeniedParams(Collections.singletonMap("foo", "bar"), AsyncDispatch).size(), equalTo(1));
+		assertThat(configuration.generatedRequestIdLength(), equalTo(12));
+		assertTrue(configuration.shouldGenerateRequestId());
+		configuration.generatedSessionIdLength();
+		configuration.requestIdGenerator();
+		Mockito.verifyZeroInteractions(propertyChain);
+	}
+
+	@Test
+	public void testShouldResolveProfiledProperties() {
+		when(propertyChain.getProperty(TRACEE_DEFAULT_PROFILE_PREFIX + AsyncDispatch.name())).thenReturn("foo");
+		when(propertyChain.getProperty(PROFILED_PREFIX + "custom." + AsyncDispatch.name())).thenReturn("bar");
+		final PropertiesBasedTraceeFilterConfiguration configuration =
+				new PropertiesBasedTraceeFilterConfiguration(backend.getLoggerFactory(), propertyChain, "custom");
+		assertFalse(configuration.shouldProcessParam("foo", AsyncDispatch));
+		assertTrue(configuration.shouldProcessParam("bar", AsyncDispatch));
+	}
+
+	private PropertiesBasedTraceeFilterConfiguration unit() {
+		return new PropertiesBasedTraceeFilterConfiguration(backend.getLoggerFactory(), propertyChain);
 	}
 }
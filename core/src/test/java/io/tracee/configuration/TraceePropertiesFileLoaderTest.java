@@ -2,9 +2,13 @@ package io.tracee.configuration;
 
 import org.junit.Test;
 
+import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Properties;
 
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.isEmptyOrNullString;
 import static org.hamcrest.Matchers.isEmptyString;
 import static org.hamcrest.Matchers.not;
@@ -69,4 +73,24 @@ public class TraceePropertiesFileLoaderTest {
 		assertThat("property tracee.profile.Disabled.AsyncProcess", properties.getProperty("tracee.profile.Disabled.AsyncProcess"), isEmptyString());
 	}
 
+	@Test
+	public void testLoadExternalProperties() throws IOException {
+		final File file = File.createTempFile("tracee", ".properties");
+		try {
+			final OutputStream stream = new FileOutputStream(file);
+			try {
+				stream.write("tracee.default.requestIdLength=12".getBytes("ISO-8859-1"));
+			} finally {
+				stream.close();
+			}
+			assertThat(unit.loadExternalProperties(file).getProperty("tracee.default.requestIdLength"), equalTo("12"));
+		} finally {
+			file.delete();
+		}
+	}
+
+	@Test
+	public void testLoadMissingExternalPropertiesAsEmptyProperties() throws IOException {
+		assertThat(unit.loadExternalProperties(new File("does-not-exist.properties")).isEmpty(), equalTo(true));
+	}
 }
@@ -0,0 +1,142 @@
+package io.tracee.configuration;
+
+import io.tracee.TraceeLogger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class TraceePropertiesWatcherTest {
+
+	private final TraceeLogger logger = Mockito.mock(TraceeLogger.class);
+	private final CountingListener listener = new CountingListener();
+
+	private File propertiesFile;
+	private TraceePropertiesWatcher unit;
+
+	@Before
+	public void setUp() throws IOException {
+		propertiesFile = File.createTempFile("tracee", ".properties");
+		write(propertiesFile, "tracee.default.requestIdLength=1");
+		unit = new TraceePropertiesWatcher(Collections.singletonList(propertiesFile), listener, logger, 1, TimeUnit.HOURS);
+	}
+
+	@After
+	public void tearDown() {
+		unit.stop();
+		propertiesFile.delete();
+	}
+
+	@Test
+	public void shouldNotNotifyWithoutChanges() {
+		unit.checkForChanges();
+		assertThat(listener.notifications, equalTo(0));
+	}
+
+	@Test
+	public void shouldNotifyOnceAboutChangedFile() throws IOException {
+		write(propertiesFile, "tracee.default.requestIdLength=12");
+		propertiesFile.setLastModified(propertiesFile.lastModified() + 2000);
+		unit.checkForChanges();
+		unit.checkForChanges();
+		assertThat(listener.notifications, equalTo(1));
+		assertThat(listener.propertyChain, notNullValue());
+	}
+
+	@Test
+	public void shouldNotifyAboutDeletedFile() {
+		propertiesFile.delete();
+		unit.checkForChanges();
+		assertThat(listener.notifications, equalTo(1));
+	}
+
+	@Test
+	public void shouldNotStartIfReloadingIsDisabled() {
+		assertThat(TraceePropertiesWatcher.startIfEnabled(PropertyChain.build(new Properties()), listener, logger), nullValue());
+		final Properties properties = new Properties();
+		properties.setProperty(TraceePropertiesWatcher.RELOAD_INTERVAL_PROPERTY, "0");
+		assertThat(TraceePropertiesWatcher.startIfEnabled(PropertyChain.build(properties), listener, logger), nullValue());
+	}
+
+	@Test
+	public void shouldStartIfReloadIntervalIsSet() {
+		final Properties properties = new Properties();
+		properties.setProperty(TraceePropertiesWatcher.RELOAD_INTERVAL_PROPERTY, "60");
+		final TraceePropertiesWatcher watcher = TraceePropertiesWatcher.startIfEnabled(PropertyChain.build(properties), listener, logger);
+		assertThat(watcher, notNullValue());
+		watcher.stop();
+	}
+
+	@Test
+	public void shouldShareWatcherOfSameFiles() {
+		final Properties properties = new Properties();
+		properties.setProperty(TraceePropertiesWatcher.RELOAD_INTERVAL_PROPERTY, "60");
+		final CountingListener otherListener = new CountingListener();
+		final TraceePropertiesWatcher watcher = TraceePropertiesWatcher.startIfEnabled(PropertyChain.build(properties), listener, logger);
+		final TraceePropertiesWatcher otherWatcher = TraceePropertiesWatcher.startIfEnabled(PropertyChain.build(properties), otherListener, logger);
+		try {
+			assertThat(otherWatcher, sameInstance(watcher));
+		} finally {
+			watcher.stop();
+		}
+	}
+
+	@Test
+	public void shouldStartNewWatcherAfterLastListenerIsRemoved() {
+		final Properties properties = new Properties();
+		properties.setProperty(TraceePropertiesWatcher.RELOAD_INTERVAL_PROPERTY, "60");
+		final TraceePropertiesWatcher watcher = TraceePropertiesWatcher.startIfEnabled(PropertyChain.build(properties), listener, logger);
+		watcher.removeListener(listener);
+		final TraceePropertiesWatcher otherWatcher = TraceePropertiesWatcher.startIfEnabled(PropertyChain.build(properties), listener, logger);
+		try {
+			assertThat(otherWatcher, not(sameInstance(watcher)));
+		} finally {
+			TraceePropertiesWatcher.stopAll();
+		}
+	}
+
+	@Test
+	public void shouldNotifyAllListeners() {
+		final CountingListener otherListener = new CountingListener();
+		unit.addListener(otherListener);
+		propertiesFile.delete();
+		unit.checkForChanges();
+		assertThat(listener.notifications, equalTo(1));
+		assertThat(otherListener.notifications, equalTo(1));
+	}
+
+	private static void write(File file, String content) throws IOException {
+		final OutputStream stream = new FileOutputStream(file);
+		try {
+			stream.write(content.getBytes("ISO-8859-1"));
+		} finally {
+			stream.close();
+		}
+	}
+
+	private static final class CountingListener implements TraceePropertiesWatcher.Listener {
+		private int notifications;
+		private PropertyChain propertyChain;
+
+		@Override
+		public void propertiesChanged(PropertyChain propertyChain) {
+			notifications++;
+			this.propertyChain = propertyChain;
+		}
+	}
+}
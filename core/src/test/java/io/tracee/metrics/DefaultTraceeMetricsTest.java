@@ -0,0 +1,54 @@
+package io.tracee.metrics;
+
+import io.tracee.spi.TraceeMetrics;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class DefaultTraceeMetricsTest {
+
+	private final DefaultTraceeMetrics unit = new DefaultTraceeMetrics();
+
+	@Test
+	public void countsHeadersAndBytes() {
+		unit.headerParsed(10);
+		unit.headerParsed(5);
+		unit.headerRendered(7);
+		assertThat(unit.getHeadersParsed(), is(2L));
+		assertThat(unit.getBytesIn(), is(15L));
+		assertThat(unit.getHeadersRendered(), is(1L));
+		assertThat(unit.getBytesOut(), is(7L));
+	}
+
+	@Test
+	public void countsDeniedKeysAndParseErrors() {
+		unit.keysDenied(3);
+		unit.parseError();
+		assertThat(unit.getDeniedKeys(), is(3L));
+		assertThat(unit.getParseErrors(), is(1L));
+	}
+
+	@Test
+	public void recordsTimePerBinding() {
+		unit.bindingTime(TraceeMetrics.Binding.SERVLET, 200L);
+		unit.bindingTime(TraceeMetrics.Binding.SERVLET, 300L);
+		unit.bindingTime(TraceeMetrics.Binding.JMS, 50L);
+		assertThat(unit.getBindingInvocations(), hasEntry("servlet", 2L));
+		assertThat(unit.getBindingInvocations(), hasEntry("jms", 1L));
+		assertThat(unit.getBindingInvocations(), hasEntry("cxf", 0L));
+		assertThat(unit.getBindingNanos(), hasEntry("servlet", 500L));
+		assertThat(unit.getBindingLatencyHistograms().get("jms")[0], is(1L));
+		assertThat(unit.getBindingInvocations().size(), is(TraceeMetrics.Binding.values().length));
+	}
+
+	@Test
+	public void resetsAllMetrics() {
+		unit.headerParsed(10);
+		unit.bindingTime(TraceeMetrics.Binding.CXF, 100L);
+		unit.reset();
+		assertThat(unit.getBytesIn(), is(0L));
+		assertThat(unit.getBindingInvocations(), hasEntry("cxf", 0L));
+	}
+}
@@ -0,0 +1,50 @@
+package io.tracee.metrics;
+
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class LatencyHistogramTest {
+
+	private final LatencyHistogram unit = new LatencyHistogram();
+
+	@Test
+	public void bucketsDoubleTheirBounds() {
+		assertThat(LatencyHistogram.bucketOf(0L), is(0));
+		assertThat(LatencyHistogram.bucketOf(127L), is(0));
+		assertThat(LatencyHistogram.bucketOf(128L), is(1));
+		assertThat(LatencyHistogram.bucketOf(255L), is(1));
+		assertThat(LatencyHistogram.bucketOf(256L), is(2));
+		assertThat(LatencyHistogram.bucketOf(Long.MAX_VALUE), is(LatencyHistogram.BUCKET_COUNT - 1));
+	}
+
+	@Test
+	public void boundsMatchBuckets() {
+		final long[] bounds = LatencyHistogram.bucketBounds();
+		for (int bucket = 0; bucket < LatencyHistogram.BUCKET_COUNT - 1; bucket++) {
+			assertThat(LatencyHistogram.bucketOf(bounds[bucket] - 1), is(bucket));
+			assertThat(LatencyHistogram.bucketOf(bounds[bucket]), is(bucket + 1));
+		}
+		assertThat(bounds[LatencyHistogram.BUCKET_COUNT - 1], is(Long.MAX_VALUE));
+	}
+
+	@Test
+	public void countsLatenciesAndTotal() {
+		unit.record(100L);
+		unit.record(1000L);
+		unit.record(1000L);
+		final long[] counts = unit.getBucketCounts();
+		assertThat(counts[0], is(1L));
+		assertThat(counts[LatencyHistogram.bucketOf(1000L)], is(2L));
+		assertThat(unit.getCount(), is(3L));
+		assertThat(unit.getTotalNanos(), is(2100L));
+	}
+
+	@Test
+	public void negativeLatenciesCountWithoutTime() {
+		unit.record(-5L);
+		assertThat(unit.getCount(), is(1L));
+		assertThat(unit.getTotalNanos(), is(0L));
+	}
+}
@@ -0,0 +1,73 @@
+package io.tracee.metrics;
+
+import io.tracee.configuration.PropertyChain;
+import org.junit.Test;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Properties;
+
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class MetricsTest {
+
+	@Test
+	public void fallsBackToDefaultMetrics() {
+		assertThat(Metrics.get(), instanceOf(DefaultTraceeMetrics.class));
+	}
+
+	@Test
+	public void findsNoRegisteredImplementation() {
+		assertThat(Metrics.lookup(MetricsTest.class.getClassLoader()), is(nullValue()));
+	}
+
+	@Test
+	public void publishesMetricsAsMXBean() throws Exception {
+		final MBeanServer server = MBeanServerFactory.newMBeanServer();
+		final DefaultTraceeMetrics metrics = new DefaultTraceeMetrics();
+		metrics.headerParsed(12);
+		final ObjectName name = Metrics.register(server, metrics);
+		assertThat(name, is(new ObjectName(Metrics.OBJECT_NAME)));
+		assertThat((Long) server.getAttribute(name, "BytesIn"), is(12L));
+		assertThat(server.getAttribute(name, "BindingLatencyHistograms"), is(not(nullValue())));
+	}
+
+	@Test
+	public void qualifiesNameIfTaken() throws Exception {
+		final MBeanServer server = MBeanServerFactory.newMBeanServer();
+		Metrics.register(server, new DefaultTraceeMetrics());
+		final ObjectName name = Metrics.register(server, new DefaultTraceeMetrics());
+		assertThat(name.getKeyProperty("loader"), is(not(nullValue())));
+	}
+
+	@Test
+	public void unregistersMetrics() throws Exception {
+		final MBeanServer server = MBeanServerFactory.newMBeanServer();
+		final ObjectName name = Metrics.register(server, new DefaultTraceeMetrics());
+		Metrics.unregister(server, name);
+		assertThat(server.isRegistered(name), is(false));
+		Metrics.unregister(server, name);
+	}
+
+	@Test
+	public void shutdownUnregistersFromPlatformServer() throws Exception {
+		Metrics.get();
+		Metrics.shutdown();
+		assertThat(ManagementFactory.getPlatformMBeanServer().isRegistered(new ObjectName(Metrics.OBJECT_NAME)), is(false));
+		Metrics.shutdown();
+	}
+
+	@Test
+	public void jmxIsEnabledByDefault() {
+		final Properties properties = new Properties();
+		assertThat(Metrics.isJmxEnabled(PropertyChain.build(properties)), is(true));
+		properties.setProperty(Metrics.JMX_PROPERTY, " False ");
+		assertThat(Metrics.isJmxEnabled(PropertyChain.build(properties)), is(false));
+	}
+}
@@ -0,0 +1,71 @@
+package io.tracee.metrics;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class StripedCountersTest {
+
+	@Test
+	public void sumsUpdatesOfAllThreads() throws InterruptedException {
+		final StripedCounters unit = new StripedCounters(2, 4);
+		final CountDownLatch start = new CountDownLatch(1);
+		final List<Thread> threads = new ArrayList<Thread>();
+		for (int i = 0; i < 8; i++) {
+			final Thread thread = new Thread(new Runnable() {
+				@Override
+				public void run() {
+					try {
+						start.await();
+					} catch (InterruptedException e) {
+						return;
+					}
+					for (int j = 0; j < 1000; j++) {
+						unit.increment(0);
+						unit.add(1, 3L);
+					}
+				}
+			});
+			thread.start();
+			threads.add(thread);
+		}
+		start.countDown();
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		assertThat(unit.sum(0), is(8000L));
+		assertThat(unit.sum(1), is(24000L));
+	}
+
+	@Test
+	public void keepsCountersApart() {
+		final StripedCounters unit = new StripedCounters(3, 2);
+		unit.add(0, 1L);
+		unit.add(2, 5L);
+		assertThat(unit.sum(0), is(1L));
+		assertThat(unit.sum(1), is(0L));
+		assertThat(unit.sum(2), is(5L));
+	}
+
+	@Test
+	public void resetsAllCounters() {
+		final StripedCounters unit = new StripedCounters(2);
+		unit.increment(0);
+		unit.increment(1);
+		unit.reset();
+		assertThat(unit.sum(0), is(0L));
+		assertThat(unit.sum(1), is(0L));
+	}
+
+	@Test
+	public void usesPowerOfTwoStripesForProcessors() {
+		assertThat(StripedCounters.stripesFor(1), is(2));
+		assertThat(StripedCounters.stripesFor(3), is(8));
+		assertThat(StripedCounters.stripesFor(256), is(StripedCounters.MAX_STRIPES));
+	}
+}
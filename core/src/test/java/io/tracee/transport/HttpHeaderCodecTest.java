@@ -0,0 +1,158 @@
+package io.tracee.transport;
+
+import io.tracee.TraceeLogger;
+import org.junit.Test;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.StringTokenizer;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Compares the codec with the former {@link StringTokenizer} and {@link URLEncoder} based implementation.
+ */
+public class HttpHeaderCodecTest {
+
+	private static final int RUNS = 20000;
+
+	private static final String HEADER_ALPHABET = "ab=,%+ 2Fc3\tä€";
+	private static final String CONTEXT_ALPHABET = "aZ09.-*_ +%=,;/\täß€\ud83d\ude00\u0000";
+
+	private final TraceeLogger logger = mock(TraceeLogger.class);
+	private final Random random = new Random(4711L);
+
+	@Test
+	public void shouldRenderLikeUrlEncoder() throws UnsupportedEncodingException {
+		for (int run = 0; run < RUNS; run++) {
+			final Map<String, String> context = randomContext();
+			assertThat(context.toString(), HttpHeaderCodec.render(context), equalTo(legacyRender(context)));
+		}
+	}
+
+	@Test
+	public void shouldParseLikeUrlDecoder() throws UnsupportedEncodingException {
+		for (int run = 0; run < RUNS; run++) {
+			final String header = randomString(HEADER_ALPHABET, 12);
+			if (header.contains("%+")) {
+				// URLDecoder accepts a signed hex number like '%+3' since Java 7, the codec treats it as malformed
+				continue;
+			}
+			final Map<String, String> legacy;
+			try {
+				legacy = legacyParse(header);
+			} catch (IllegalArgumentException malformedEscape) {
+				// the former implementation failed on malformed escapes, the codec skips those pairs
+				continue;
+			}
+			assertThat(header, parse(header), equalTo(legacy));
+		}
+	}
+
+	@Test
+	public void shouldParseWhatWasRendered() {
+		for (int run = 0; run < RUNS; run++) {
+			final Map<String, String> context = new HashMap<String, String>();
+			for (Map.Entry<String, String> entry : randomContext().entrySet()) {
+				final String key = entry.getKey().trim();
+				final String value = entry.getValue().trim();
+				// unpaired surrogates can not be represented in UTF-8
+				if (!value.isEmpty() && !containsSurrogate(key) && !containsSurrogate(value)) {
+					context.put(key, value);
+				}
+			}
+			assertThat(parse(HttpHeaderCodec.render(context)), equalTo(context));
+		}
+	}
+
+	@Test
+	public void shouldSkipPairsWithMalformedEscapes() {
+		final Map<String, String> context = parse("a=%2,b=%zz,c=d%,e=f");
+		assertThat(context, hasEntry("e", "f"));
+		assertThat(context.size(), is(1));
+	}
+
+	@Test
+	public void shouldAcceptTrailingEqualSigns() {
+		assertThat(parse("a=b=="), equalTo(legacyParseUnchecked("a=b==")));
+		assertThat(parse("=b"), equalTo(legacyParseUnchecked("=b")));
+	}
+
+	private static boolean containsSurrogate(String s) {
+		for (int i = 0; i < s.length(); i++) {
+			if (Character.isHighSurrogate(s.charAt(i)) || Character.isLowSurrogate(s.charAt(i))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private Map<String, String> parse(String header) {
+		final Map<String, String> context = new HashMap<String, String>();
+		HttpHeaderCodec.parse(header, context, logger);
+		return context;
+	}
+
+	private Map<String, String> randomContext() {
+		final Map<String, String> context = new LinkedHashMap<String, String>();
+		final int size = random.nextInt(4);
+		for (int i = 0; i < size; i++) {
+			context.put(randomString(CONTEXT_ALPHABET, 6), randomString(CONTEXT_ALPHABET, 6));
+		}
+		return context;
+	}
+
+	private String randomString(String alphabet, int maxLength) {
+		final int length = random.nextInt(maxLength + 1);
+		final StringBuilder sb = new StringBuilder(length);
+		for (int i = 0; i < length; i++) {
+			sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+		}
+		return sb.toString();
+	}
+
+	private static Map<String, String> legacyParseUnchecked(String serialized) {
+		try {
+			return legacyParse(serialized);
+		} catch (UnsupportedEncodingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static Map<String, String> legacyParse(String serialized) throws UnsupportedEncodingException {
+		final StringTokenizer pairTokenizer = new StringTokenizer(serialized.trim(), ",");
+		final Map<String, String> context = new HashMap<String, String>();
+		while (pairTokenizer.hasMoreTokens()) {
+			final String pairStr = pairTokenizer.nextToken();
+			final String[] keyValuePair = pairStr.split("=");
+			if (keyValuePair.length != 2) {
+				continue;
+			}
+			context.put(URLDecoder.decode(keyValuePair[0], "UTF-8"), URLDecoder.decode(keyValuePair[1], "UTF-8"));
+		}
+		return context;
+	}
+
+	private static String legacyRender(Map<String, String> context) throws UnsupportedEncodingException {
+		final StringBuilder sb = new StringBuilder(128);
+		for (Iterator<Map.Entry<String, String>> iterator = context.entrySet().iterator(); iterator.hasNext(); ) {
+			Map.Entry<String, String> entry = iterator.next();
+			sb.append(URLEncoder.encode(entry.getKey().trim(), "UTF-8")).append('=')
+					.append(URLEncoder.encode(entry.getValue().trim(), "UTF-8"));
+			if (iterator.hasNext()) {
+				sb.append(',');
+			}
+		}
+		return sb.toString();
+	}
+}
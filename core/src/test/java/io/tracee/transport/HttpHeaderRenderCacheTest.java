@@ -0,0 +1,171 @@
+package io.tracee.transport;
+
+import io.tracee.MDCLikeTraceeBackend;
+import io.tracee.SimpleTraceeBackend;
+import io.tracee.ThreadLocalContext;
+import io.tracee.TraceeBackend;
+import io.tracee.TraceeLogger;
+import io.tracee.TraceeLoggerFactory;
+import io.tracee.configuration.TraceeFilterConfiguration;
+import io.tracee.metrics.DefaultTraceeMetrics;
+import io.tracee.metrics.Metrics;
+import io.tracee.metrics.TraceeMetricsMXBean;
+import org.junit.Before;
+import org.junit.Test;
+
+import static io.tracee.configuration.TraceeFilterConfiguration.Channel.OutgoingRequest;
+import static io.tracee.configuration.TraceeFilterConfiguration.Channel.OutgoingResponse;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyMapOf;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class HttpHeaderRenderCacheTest {
+
+	private final TraceeLoggerFactory loggerFactory = mock(TraceeLoggerFactory.class);
+	private final HttpHeaderRenderCache unit = new HttpHeaderRenderCache();
+	private HttpHeaderTransport transport;
+	private TestBackend backend;
+	private TraceeFilterConfiguration configuration;
+
+	@Before
+	public void setUp() {
+		when(loggerFactory.getLogger(any(Class.class))).thenReturn(mock(TraceeLogger.class));
+		transport = spy(new HttpHeaderTransport(loggerFactory));
+		backend = new TestBackend(loggerFactory);
+		configuration = backend.getConfiguration();
+		backend.put("foo", "bar");
+	}
+
+	@Test
+	public void rendersContextOfBackend() {
+		assertThat(unit.render(transport, backend, configuration, OutgoingRequest), is("foo=bar"));
+	}
+
+	@Test
+	public void reusesRenderedHeaderForUnchangedContext() {
+		final String first = unit.render(transport, backend, configuration, OutgoingRequest);
+		final String second = unit.render(transport, backend, configuration, OutgoingRequest);
+		assertThat(second, is(sameInstance(first)));
+		verify(transport, times(1)).render(anyMapOf(String.class, String.class));
+		assertThat(unit.getMissCount(), is(1L));
+		assertThat(unit.getHitCount(), is(1L));
+	}
+
+	@Test
+	public void recordsCachedHeadersAsRendered() {
+		final DefaultTraceeMetrics metrics = new DefaultTraceeMetrics();
+		final HttpHeaderRenderCache cache = new HttpHeaderRenderCache(metrics);
+		final HttpHeaderTransport recordingTransport = new HttpHeaderTransport(loggerFactory, metrics);
+		cache.render(recordingTransport, backend, configuration, OutgoingRequest);
+		cache.render(recordingTransport, backend, configuration, OutgoingRequest);
+		assertThat(metrics.getHeadersRendered(), is(2L));
+		assertThat(metrics.getBytesOut(), is(14L));
+	}
+
+	@Test
+	public void recordsDeniedKeysOfCachedHeaders() {
+		final TraceeMetricsMXBean metrics = (TraceeMetricsMXBean) Metrics.get();
+		final TraceeFilterConfiguration hidingConfiguration = backend.getConfiguration(TraceeFilterConfiguration.Profile.HIDE_OUTBOUND);
+		final long deniedKeysBefore = metrics.getDeniedKeys();
+		unit.render(transport, backend, hidingConfiguration, OutgoingRequest);
+		unit.render(transport, backend, hidingConfiguration, OutgoingRequest);
+		assertThat(unit.getHitCount(), is(1L));
+		assertThat(metrics.getDeniedKeys(), is(deniedKeysBefore + 2));
+	}
+
+	@Test
+	public void rendersAgainAfterInvalidation() {
+		unit.render(transport, backend, configuration, OutgoingRequest);
+		unit.invalidate();
+		unit.render(transport, backend, configuration, OutgoingRequest);
+		assertThat(unit.getMissCount(), is(2L));
+		assertThat(unit.getHitCount(), is(0L));
+	}
+
+	@Test
+	public void keepsHeadersOfRecentConfigurationsIfLimitIsExceeded() {
+		for (int i = 0; i <= 8; i++) {
+			unit.render(transport, backend, backend.getConfiguration("profile" + i), OutgoingRequest);
+		}
+		unit.render(transport, backend, backend.getConfiguration("profile8"), OutgoingRequest);
+		assertThat(unit.getHitCount(), is(1L));
+		unit.render(transport, backend, backend.getConfiguration("profile0"), OutgoingRequest);
+		assertThat(unit.getMissCount(), is(10L));
+	}
+
+	@Test
+	public void rendersAgainAfterContextChanged() {
+		unit.render(transport, backend, configuration, OutgoingRequest);
+		backend.put("foo", "baz");
+		assertThat(unit.render(transport, backend, configuration, OutgoingRequest), is("foo=baz"));
+		assertThat(unit.getMissCount(), is(2L));
+		assertThat(unit.getHitCount(), is(0L));
+	}
+
+	@Test
+	public void keepsRenderedHeaderIfUnchangedValueIsPut() {
+		unit.render(transport, backend, configuration, OutgoingRequest);
+		backend.put("foo", "bar");
+		unit.render(transport, backend, configuration, OutgoingRequest);
+		assertThat(unit.getHitCount(), is(1L));
+	}
+
+	@Test
+	public void cachesEachChannelSeparately() {
+		unit.render(transport, backend, configuration, OutgoingRequest);
+		unit.render(transport, backend, configuration, OutgoingResponse);
+		assertThat(unit.getMissCount(), is(2L));
+	}
+
+	@Test
+	public void cachesEachConfigurationSeparately() {
+		unit.render(transport, backend, configuration, OutgoingRequest);
+		assertThat(unit.render(transport, backend, backend.getConfiguration(TraceeFilterConfiguration.Profile.HIDE_OUTBOUND),
+				OutgoingRequest), is(""));
+		assertThat(unit.getMissCount(), is(2L));
+	}
+
+	@Test
+	public void rendersAgainAfterContextChangedWithManyConfigurations() {
+		for (int i = 0; i <= 8; i++) {
+			unit.render(transport, backend, backend.getConfiguration("profile" + i), OutgoingRequest);
+		}
+		backend.put("foo", "baz");
+		assertThat(unit.render(transport, backend, backend.getConfiguration("profile0"), OutgoingRequest), is("foo=baz"));
+		assertThat(unit.render(transport, backend, backend.getConfiguration("profile0"), OutgoingRequest), is("foo=baz"));
+		assertThat(unit.getMissCount(), is(10L));
+		assertThat(unit.getHitCount(), is(1L));
+	}
+
+	@Test
+	public void rendersEveryCallForBackendsWithoutSnapshots() {
+		final TraceeBackend simpleBackend = SimpleTraceeBackend.createNonLoggingAllPermittingBackend();
+		simpleBackend.put("foo", "bar");
+		unit.render(transport, simpleBackend, simpleBackend.getConfiguration(), OutgoingRequest);
+		assertThat(unit.render(transport, simpleBackend, simpleBackend.getConfiguration(), OutgoingRequest), is("foo=bar"));
+		verify(transport, times(2)).render(anyMapOf(String.class, String.class));
+		assertThat(unit.getHitCount(), is(0L));
+	}
+
+	private static final class TestBackend extends MDCLikeTraceeBackend {
+
+		TestBackend(TraceeLoggerFactory loggerFactory) {
+			super(new ThreadLocalContext(), loggerFactory);
+		}
+
+		@Override
+		protected void putToMdc(String key, String value) {
+		}
+
+		@Override
+		protected void removeFromMdc(String key) {
+		}
+	}
+}
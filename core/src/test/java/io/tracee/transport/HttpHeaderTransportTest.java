@@ -2,6 +2,7 @@ package io.tracee.transport;
 
 import io.tracee.SimpleTraceeBackend;
 import io.tracee.TraceeBackend;
+import io.tracee.metrics.DefaultTraceeMetrics;
 import org.junit.Test;
 
 import java.util.Arrays;
@@ -21,7 +22,23 @@ import static org.junit.Assert.assertThat;
 public class HttpHeaderTransportTest {
 
 	final TraceeBackend backend = SimpleTraceeBackend.createNonLoggingAllPermittingBackend();
-	final HttpHeaderTransport UNIT = new HttpHeaderTransport(backend.getLoggerFactory());
+	final DefaultTraceeMetrics metrics = new DefaultTraceeMetrics();
+	final HttpHeaderTransport UNIT = new HttpHeaderTransport(backend.getLoggerFactory(), metrics);
+
+	@Test
+	public void recordsParsedHeadersAndParseErrors() {
+		UNIT.parse(Arrays.asList("a=1,b", "c=%zz"));
+		assertThat(metrics.getHeadersParsed(), is(2L));
+		assertThat(metrics.getBytesIn(), is(10L));
+		assertThat(metrics.getParseErrors(), is(2L));
+	}
+
+	@Test
+	public void recordsRenderedHeaders() {
+		UNIT.render(Collections.singletonMap("key", "value"));
+		assertThat(metrics.getHeadersRendered(), is(1L));
+		assertThat(metrics.getBytesOut(), is(9L));
+	}
 
 	@Test
 	public void renderKeyValueWithEqualSignAndConcatWithComma() {
@@ -18,6 +18,21 @@ public class NoopTraceeLoggerFactory implements TraceeLoggerFactory {
 
 			}
 
+			@Override
+			public void debug(String format, Object argument) {
+
+			}
+
+			@Override
+			public void debug(String format, Object argument1, Object argument2) {
+
+			}
+
+			@Override
+			public void debug(String format, Object... arguments) {
+
+			}
+
 			@Override
 			public boolean isDebugEnabled() {
 				return false;
@@ -33,6 +48,21 @@ public class NoopTraceeLoggerFactory implements TraceeLoggerFactory {
 
 			}
 
+			@Override
+			public void error(String format, Object argument) {
+
+			}
+
+			@Override
+			public void error(String format, Object argument1, Object argument2) {
+
+			}
+
+			@Override
+			public void error(String format, Object... arguments) {
+
+			}
+
 			@Override
 			public boolean isErrorEnabled() {
 				return false;
@@ -48,6 +78,21 @@ public class NoopTraceeLoggerFactory implements TraceeLoggerFactory {
 
 			}
 
+			@Override
+			public void info(String format, Object argument) {
+
+			}
+
+			@Override
+			public void info(String format, Object argument1, Object argument2) {
+
+			}
+
+			@Override
+			public void info(String format, Object... arguments) {
+
+			}
+
 			@Override
 			public boolean isInfoEnabled() {
 				return false;
@@ -63,6 +108,21 @@ public class NoopTraceeLoggerFactory implements TraceeLoggerFactory {
 
 			}
 
+			@Override
+			public void warn(String format, Object argument) {
+
+			}
+
+			@Override
+			public void warn(String format, Object argument1, Object argument2) {
+
+			}
+
+			@Override
+			public void warn(String format, Object... arguments) {
+
+			}
+
 			@Override
 			public boolean isWarnEnabled() {
 				return false;
@@ -1,13 +1,28 @@
 package io.tracee;
 
 import io.tracee.configuration.TraceeFilterConfiguration;
+import io.tracee.spi.IdGenerator;
 
 import java.util.Map;
+import java.util.Random;
 
 public class PermitAllTraceeFilterConfiguration implements TraceeFilterConfiguration {
 
 	public static final int ARBITRARY_NUMBER = 32;
 
+	private static final IdGenerator RANDOM_ID_GENERATOR = new IdGenerator() {
+		private final Random random = new Random();
+
+		@Override
+		public String generate(int length) {
+			final char[] chars = new char[length];
+			for (int i = 0; i < length; i++) {
+				chars[i] = Character.forDigit(random.nextInt(36), 36);
+			}
+			return new String(chars);
+		}
+	};
+
 	@Override
 	public final boolean shouldProcessParam(String paramName, Channel channel) {
 		return true;
@@ -33,6 +48,11 @@ public class PermitAllTraceeFilterConfiguration implements TraceeFilterConfigura
 		return ARBITRARY_NUMBER;
 	}
 
+	@Override
+	public final IdGenerator requestIdGenerator() {
+		return RANDOM_ID_GENERATOR;
+	}
+
 	@Override
 	public final boolean shouldGenerateSessionId() {
 		return true;
@@ -58,6 +58,11 @@ public class SimpleTraceeBackend implements TraceeBackend {
 		return backendValues.get(key);
 	}
 
+	@Override
+	public String get(ContextKey key) {
+		return get(key.getName());
+	}
+
 	@Override
 	public int size() {
 		return backendValues.size();
@@ -69,6 +74,27 @@ public class SimpleTraceeBackend implements TraceeBackend {
 		backendValues.clear();
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * <br /><strong>Closing the scope records the values that are replaced like {@link #clear()} does.</strong>
+	 */
+	@Override
+	public TraceeScope openScope() {
+		final Map<String, String> enclosingValues = copyToMap();
+		return new TraceeScope() {
+			private boolean closed;
+
+			@Override
+			public void close() {
+				if (!closed) {
+					closed = true;
+					clear();
+					backendValues.putAll(enclosingValues);
+				}
+			}
+		};
+	}
+
 	@Override
 	public boolean isEmpty() {
 		return backendValues.isEmpty();
@@ -79,6 +105,11 @@ public class SimpleTraceeBackend implements TraceeBackend {
 		backendValues.put(key, value);
 	}
 
+	@Override
+	public void put(ContextKey key, String value) {
+		put(key.getName(), value);
+	}
+
 	@Override
 	public void putAll(Map<? extends String, ? extends String> m) {
 		backendValues.putAll(m);
@@ -104,6 +135,9 @@ public class SimpleTraceeBackend implements TraceeBackend {
 		return get(TraceeConstants.SESSION_ID_KEY);
 	}
 
+	/**
+	 * @return the values before the last {@link #clear()} or before the last close of a scope.
+	 */
 	public Map<String, String> getValuesBeforeLastClear() {
 		return valuesBeforeLastClear;
 	}
@@ -48,6 +48,11 @@ public class PermitAllTraceeFilterConfigurationTest {
 		assertThat(unit.generatedRequestIdLength(), equalTo(32));
 	}
 
+	@Test
+	public void testRequestIdGeneratorCreatesIdsOfRequestedLength() {
+		assertThat(unit.requestIdGenerator().generate(32).length(), equalTo(32));
+	}
+
 	@Test
 	public void testShouldAlwaysGenerateSessionId() {
 		assertThat(unit.shouldGenerateSessionId(), equalTo(true));